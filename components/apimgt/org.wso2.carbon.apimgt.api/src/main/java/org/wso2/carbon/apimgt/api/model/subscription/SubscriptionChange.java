@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.api.model.subscription;
+
+/**
+ * Entry of the subscription change log. It only identifies the changed entity; the current state of the entity is
+ * resolved when the change is delivered to the gateways.
+ */
+public class SubscriptionChange {
+
+    /**
+     * Type of the changed entity.
+     */
+    public enum EntityType {
+        SUBSCRIPTION,
+        APPLICATION,
+        KEY_MAPPING,
+        /**
+         * Marks that changes of the organization could not be recorded. Gateways synchronizing from before it have
+         * to reload the organization fully.
+         */
+        GAP
+    }
+
+    private long changeId;
+    private String organization;
+    private EntityType entityType;
+    private int applicationId;
+    private int apiId;
+    private String consumerKey;
+    private String keyManager;
+
+    public long getChangeId() {
+
+        return changeId;
+    }
+
+    public void setChangeId(long changeId) {
+
+        this.changeId = changeId;
+    }
+
+    public String getOrganization() {
+
+        return organization;
+    }
+
+    public void setOrganization(String organization) {
+
+        this.organization = organization;
+    }
+
+    public EntityType getEntityType() {
+
+        return entityType;
+    }
+
+    public void setEntityType(EntityType entityType) {
+
+        this.entityType = entityType;
+    }
+
+    public int getApplicationId() {
+
+        return applicationId;
+    }
+
+    public void setApplicationId(int applicationId) {
+
+        this.applicationId = applicationId;
+    }
+
+    public int getApiId() {
+
+        return apiId;
+    }
+
+    public void setApiId(int apiId) {
+
+        this.apiId = apiId;
+    }
+
+    public String getConsumerKey() {
+
+        return consumerKey;
+    }
+
+    public void setConsumerKey(String consumerKey) {
+
+        this.consumerKey = consumerKey;
+    }
+
+    public String getKeyManager() {
+
+        return keyManager;
+    }
+
+    public void setKeyManager(String keyManager) {
+
+        this.keyManager = keyManager;
+    }
+
+    /**
+     * Returns a key which identifies the changed entity, so that changes of the same entity have the same key
+     * regardless of the change id.
+     */
+    public String getEntityKey() {
+
+        switch (entityType) {
+            case SUBSCRIPTION:
+                return entityType + ":" + applicationId + ":" + apiId;
+            case KEY_MAPPING:
+                return entityType + ":" + consumerKey + ":" + keyManager;
+            default:
+                return entityType + ":" + applicationId;
+        }
+    }
+
+    @Override
+    public String toString() {
+
+        return "SubscriptionChange{" +
+                "changeId=" + changeId +
+                ", organization='" + organization + '\'' +
+                ", entityType=" + entityType +
+                ", applicationId=" + applicationId +
+                ", apiId=" + apiId +
+                ", consumerKey='" + consumerKey + '\'' +
+                ", keyManager='" + keyManager + '\'' +
+                '}';
+    }
+}
@@ -41,4 +41,11 @@ public class Constants {
     public static final String AUTH_API_URL = "auth.api.url";
 
     public static final String CHOREO_REPORTER_NAME = "choreo";
+
+    public static final String ASYNC_PUBLISHING_ENABLED = "publisher.async.enabled";
+    public static final String ASYNC_PUBLISHING_QUEUE_SIZE = "publisher.async.queue.size";
+    public static final String ASYNC_PUBLISHING_WORKER_COUNT = "publisher.async.worker.count";
+    public static final String ASYNC_PUBLISHING_BATCH_SIZE = "publisher.async.batch.size";
+    public static final String ASYNC_PUBLISHING_SAMPLING_THRESHOLD = "publisher.async.sampling.threshold";
+    public static final String ASYNC_PUBLISHING_SAMPLING_RATE = "publisher.async.sampling.rate";
 }
@@ -17,8 +17,6 @@
 
 package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.am.analytics.publisher.exception.MetricReportingException;
@@ -34,28 +32,37 @@ import java.util.Map;
  */
 public abstract class AbstractRequestDataPublisher implements RequestDataPublisher {
 
-    protected static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-    protected static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
-            new TypeReference<Map<String, Object>>() {
-            };
     private static final Log log = LogFactory.getLog(AbstractRequestDataPublisher.class);
 
     @Override
     public void publish(Event analyticsEvent) {
 
-        Map<String, Object> dataMap = OBJECT_MAPPER.convertValue(analyticsEvent, MAP_TYPE_REFERENCE);
+        AnalyticsEventPipeline eventPipeline = AnalyticsDataPublisher.getInstance().getEventPipeline();
+        if (eventPipeline != null) {
+            eventPipeline.submit(this, analyticsEvent);
+        } else {
+            publishEvent(analyticsEvent);
+        }
+    }
+
+    /**
+     * Publishes an event to the metric reporters on the calling thread.
+     *
+     * @param analyticsEvent analytics event
+     */
+    void publishEvent(Event analyticsEvent) {
+
         List<CounterMetric> multipleCounterMetrics = this.getMultipleCounterMetrics();
         if (multipleCounterMetrics == null) {
             log.error("All the counterMetrics are invalid. Event will be dropped.");
             return;
         }
+        Map<String, Object> dataMap = EventDataMapper.toMap(analyticsEvent);
 
         for (CounterMetric counterMetric : multipleCounterMetrics) {
             if (counterMetric == null) {
                 log.error("counterMetric cannot be null.");
             } else {
-                String counterMetricClassName = counterMetric.getClass().toString().
-                        replaceAll("[\r\n]", "").split(" ")[1];
                 boolean caughtException = false;
                 MetricEventBuilder builder = counterMetric.getEventBuilder();
                 for (Map.Entry<String, Object> entry : dataMap.entrySet()) {
@@ -63,8 +70,8 @@ public abstract class AbstractRequestDataPublisher implements RequestDataPublish
                         builder.addAttribute(entry.getKey(), entry.getValue());
                     } catch (MetricReportingException e) {
                         caughtException = true;
-                        log.error("Error adding data to the event stream. counterMetric: " + counterMetricClassName
-                                , e);
+                        log.error("Error adding data to the event stream. counterMetric: "
+                                + counterMetric.getClass().getName(), e);
                         break;
                     }
                 }
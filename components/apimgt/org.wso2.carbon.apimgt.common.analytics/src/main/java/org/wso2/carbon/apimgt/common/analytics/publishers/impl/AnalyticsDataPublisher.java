@@ -46,6 +46,7 @@ public class AnalyticsDataPublisher {
 
     private List<CounterMetric> successMetricReporters;
     private List<CounterMetric> faultyMetricReporters;
+    private volatile AnalyticsEventPipeline eventPipeline;
 
     private AnalyticsDataPublisher() {
 
@@ -175,11 +176,26 @@ public class AnalyticsDataPublisher {
 
             // not necessary to handle IllegalArgumentException here
             // since we are handling it in getSuccessOrFaultyCounterMetrics method
+
+            if (eventPipeline != null) {
+                eventPipeline.shutdown();
+            }
+            eventPipeline = AnalyticsEventPipeline.fromConfigurations(configs);
         } catch (MetricCreationException e) {
             log.error("Error while creating the metric reporter", e);
         }
     }
 
+    /**
+     * Returns the pipeline publishing the events asynchronously.
+     *
+     * @return event pipeline, or null if the events are published on the request threads
+     */
+    public AnalyticsEventPipeline getEventPipeline() {
+
+        return eventPipeline;
+    }
+
     public List<CounterMetric> getSuccessMetricReporters() throws MetricCreationException {
 
         if (this.successMetricReporters.isEmpty()) {
@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.analytics.Constants;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Publishes analytics events to the metric reporters on dedicated worker threads, so that a slow reporter does not
+ * add to the latency of the requests. Events are queued in a bounded queue, which the workers drain in batches. When
+ * the queue fills up beyond the sampling threshold only one in every sampling rate events is queued, and when the
+ * queue is full events are dropped, so that analytics never blocks the request threads or exhausts the memory.
+ */
+public class AnalyticsEventPipeline {
+
+    private static final Log log = LogFactory.getLog(AnalyticsEventPipeline.class);
+
+    static final int DEFAULT_QUEUE_SIZE = 10000;
+    static final int DEFAULT_WORKER_COUNT = 1;
+    static final int DEFAULT_BATCH_SIZE = 100;
+    static final int DEFAULT_SAMPLING_THRESHOLD_PERCENTAGE = 80;
+    static final int DEFAULT_SAMPLING_RATE = 10;
+    private static final long DROPPED_EVENTS_LOG_INTERVAL = 10000;
+
+    private final BlockingQueue<PendingEvent> queue;
+    private final int batchSize;
+    private final int samplingThreshold;
+    private final int samplingRate;
+    private final ExecutorService workers;
+    private final AtomicLong sampledEvents = new AtomicLong();
+    private final AtomicLong sampledOutEventCount = new AtomicLong();
+    private final AtomicLong droppedEventCount = new AtomicLong();
+    private final AtomicLong publishedEventCount = new AtomicLong();
+    private volatile boolean running = true;
+
+    /**
+     * @param queueSize                   maximum number of events waiting to be published
+     * @param workerCount                 number of threads publishing the events
+     * @param batchSize                   maximum number of events a worker takes from the queue at once
+     * @param samplingThresholdPercentage percentage of the queue size beyond which the events are sampled
+     * @param samplingRate                one in this many events is queued while sampling
+     */
+    public AnalyticsEventPipeline(int queueSize, int workerCount, int batchSize, int samplingThresholdPercentage,
+                                  int samplingRate) {
+
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.batchSize = batchSize;
+        this.samplingThreshold = (int) ((long) queueSize * samplingThresholdPercentage / 100);
+        this.samplingRate = samplingRate;
+        AtomicInteger workerIndex = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "AnalyticsEventPipeline-" + workerIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::publishEvents);
+        }
+    }
+
+    /**
+     * Creates the pipeline from the analytics configurations, if asynchronous publishing is enabled.
+     *
+     * @param configurations analytics configurations
+     * @return pipeline, or null if events are to be published on the request threads
+     */
+    public static AnalyticsEventPipeline fromConfigurations(Map<String, String> configurations) {
+
+        if (configurations == null
+                || !Boolean.parseBoolean(configurations.get(Constants.ASYNC_PUBLISHING_ENABLED))) {
+            return null;
+        }
+        int queueSize = getPositiveInt(configurations, Constants.ASYNC_PUBLISHING_QUEUE_SIZE, DEFAULT_QUEUE_SIZE);
+        int workerCount = getPositiveInt(configurations, Constants.ASYNC_PUBLISHING_WORKER_COUNT,
+                DEFAULT_WORKER_COUNT);
+        int batchSize = getPositiveInt(configurations, Constants.ASYNC_PUBLISHING_BATCH_SIZE, DEFAULT_BATCH_SIZE);
+        int samplingThreshold = Math.min(100, getPositiveInt(configurations,
+                Constants.ASYNC_PUBLISHING_SAMPLING_THRESHOLD, DEFAULT_SAMPLING_THRESHOLD_PERCENTAGE));
+        int samplingRate = getPositiveInt(configurations, Constants.ASYNC_PUBLISHING_SAMPLING_RATE,
+                DEFAULT_SAMPLING_RATE);
+        log.info("Publishing analytics events asynchronously with " + workerCount + " workers and a queue of "
+                + queueSize + " events");
+        return new AnalyticsEventPipeline(queueSize, workerCount, batchSize, samplingThreshold, samplingRate);
+    }
+
+    private static int getPositiveInt(Map<String, String> configurations, String name, int defaultValue) {
+
+        String value = configurations.get(name);
+        if (value == null || value.trim().isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            if (intValue > 0) {
+                return intValue;
+            }
+        } catch (NumberFormatException e) {
+            // falls back to the default below
+        }
+        log.warn("Invalid value " + value + " for analytics configuration " + name + ". Using the default value "
+                + defaultValue);
+        return defaultValue;
+    }
+
+    /**
+     * Queues an event to be published by the given publisher. This never blocks.
+     *
+     * @param publisher publisher of the event
+     * @param event     analytics event
+     * @return whether the event was queued, as opposed to being sampled out or dropped
+     */
+    public boolean submit(AbstractRequestDataPublisher publisher, Event event) {
+
+        if (queue.size() >= samplingThreshold && sampledEvents.getAndIncrement() % samplingRate != 0) {
+            sampledOutEventCount.incrementAndGet();
+            return false;
+        }
+        if (!queue.offer(new PendingEvent(publisher, event))) {
+            long dropped = droppedEventCount.incrementAndGet();
+            if (dropped % DROPPED_EVENTS_LOG_INTERVAL == 1) {
+                log.warn("Analytics event queue is full. " + dropped + " analytics events were dropped so far.");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private void publishEvents() {
+
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            for (PendingEvent pendingEvent : batch) {
+                try {
+                    pendingEvent.publisher.publishEvent(pendingEvent.event);
+                    publishedEventCount.incrementAndGet();
+                } catch (RuntimeException e) {
+                    log.error("Error while publishing analytics event", e);
+                }
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * Stops the workers. Events which are still queued are not published.
+     */
+    public void shutdown() {
+
+        running = false;
+        workers.shutdownNow();
+    }
+
+    /**
+     * @return number of events waiting to be published
+     */
+    public int getQueueDepth() {
+
+        return queue.size();
+    }
+
+    /**
+     * @return number of events dropped as the queue was full
+     */
+    public long getDroppedEventCount() {
+
+        return droppedEventCount.get();
+    }
+
+    /**
+     * @return number of events left out by sampling as the queue was filling up
+     */
+    public long getSampledOutEventCount() {
+
+        return sampledOutEventCount.get();
+    }
+
+    /**
+     * @return number of events handed to the metric reporters
+     */
+    public long getPublishedEventCount() {
+
+        return publishedEventCount.get();
+    }
+
+    private static final class PendingEvent {
+
+        private final AbstractRequestDataPublisher publisher;
+        private final Event event;
+
+        private PendingEvent(AbstractRequestDataPublisher publisher, Event event) {
+
+            this.publisher = publisher;
+            this.event = event;
+        }
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Converts analytics events to the attribute map published to the analytics reporters. The attributes of each DTO
+ * are listed once with their accessors, so an event is converted by calling its getters instead of walking it
+ * reflectively through Jackson for each request. The map is the same as the one Jackson produces, including the
+ * unwrapped DTOs, enum names and nested lists of maps. Events of types this does not know, such as subclasses of the
+ * DTOs, are still converted through Jackson.
+ */
+final class EventDataMapper {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+    private static final int EXPECTED_ATTRIBUTE_COUNT = 40;
+
+    private static final Schema<OperationPolicy> OPERATION_POLICY_SCHEMA = new Schema<OperationPolicy>()
+            .add("policyId", OperationPolicy::getPolicyId)
+            .add("policyName", OperationPolicy::getPolicyName)
+            .add("policyVersion", OperationPolicy::getPolicyVersion)
+            .add("direction", OperationPolicy::getDirection)
+            .add("order", OperationPolicy::getOrder);
+    private static final Schema<URITemplate> URI_TEMPLATE_SCHEMA = new Schema<URITemplate>()
+            .add("operationPolicies", uriTemplate -> toMaps(uriTemplate.getOperationPolicies(),
+                    OperationPolicy.class, OPERATION_POLICY_SCHEMA))
+            .add("httpVerb", URITemplate::getHttpVerb)
+            .add("uriTemplate", URITemplate::getUriTemplate)
+            .add("resourceURI", URITemplate::getResourceURI)
+            .add("resourceSandboxURI", URITemplate::getResourceSandboxURI)
+            .add("authScheme", URITemplate::getAuthScheme);
+    private static final Schema<API> API_SCHEMA = new Schema<API>()
+            .add("apiId", API::getApiId)
+            .add("apiType", API::getApiType)
+            .add("apiName", API::getApiName)
+            .add("apiVersion", API::getApiVersion)
+            .add("apiCreator", API::getApiCreator)
+            .add("apiCreatorTenantDomain", API::getApiCreatorTenantDomain)
+            .add("uriTemplates", api -> toMaps(api.getUriTemplates(), URITemplate.class, URI_TEMPLATE_SCHEMA))
+            .add("apiPolicies", api -> toMaps(api.getApiPolicies(), OperationPolicy.class,
+                    OPERATION_POLICY_SCHEMA));
+    private static final Schema<ExtendedAPI> EXTENDED_API_SCHEMA = new Schema<ExtendedAPI>()
+            .add("organizationId", ExtendedAPI::getOrganizationId)
+            .add("apiContext", ExtendedAPI::getApiContext);
+    private static final Schema<Operation> OPERATION_SCHEMA = new Schema<Operation>()
+            .add("apiMethod", Operation::getApiMethod)
+            .add("apiResourceTemplate", Operation::getApiResourceTemplate);
+    private static final Schema<Target> TARGET_SCHEMA = new Schema<Target>()
+            .add("targetResponseCode", Target::getTargetResponseCode)
+            .add("responseCacheHit", Target::isResponseCacheHit)
+            .add("destination", Target::getDestination);
+    private static final Schema<Application> APPLICATION_SCHEMA = new Schema<Application>()
+            .add("keyType", Application::getKeyType)
+            .add("applicationId", Application::getApplicationId)
+            .add("applicationName", Application::getApplicationName)
+            .add("applicationOwner", Application::getApplicationOwner);
+    private static final Schema<Latencies> LATENCIES_SCHEMA = new Schema<Latencies>()
+            .add("responseLatency", Latencies::getResponseLatency)
+            .add("backendLatency", Latencies::getBackendLatency)
+            .add("requestMediationLatency", Latencies::getRequestMediationLatency)
+            .add("responseMediationLatency", Latencies::getResponseMediationLatency);
+    private static final Schema<MetaInfo> META_INFO_SCHEMA = new Schema<MetaInfo>()
+            .add("correlationId", MetaInfo::getCorrelationId)
+            .add("regionId", MetaInfo::getRegionId)
+            .add("gatewayType", MetaInfo::getGatewayType);
+    private static final Schema<Error> ERROR_SCHEMA = new Schema<Error>()
+            .add("errorCode", Error::getErrorCode)
+            .add("errorMessage", error -> error.getErrorMessage() instanceof Enum
+                    ? ((Enum<?>) error.getErrorMessage()).name()
+                    : OBJECT_MAPPER.convertValue(error.getErrorMessage(), Object.class));
+    private static final Schema<Event> EVENT_SCHEMA = new Schema<Event>()
+            .add("proxyResponseCode", Event::getProxyResponseCode)
+            .add("requestTimestamp", Event::getRequestTimestamp)
+            .add("userAgentHeader", Event::getUserAgentHeader)
+            .add("userName", Event::getUserName)
+            .add("userIp", Event::getUserIp)
+            .add("errorType", Event::getErrorType)
+            .add("properties", event -> copyProperties(event.getProperties()));
+
+    private EventDataMapper() {
+    }
+
+    /**
+     * Converts an event to its attribute map.
+     *
+     * @param event analytics event
+     * @return attributes of the event by their names
+     */
+    static Map<String, Object> toMap(Event event) {
+
+        if (!isKnownType(event)) {
+            return OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE);
+        }
+        Map<String, Object> dataMap = new LinkedHashMap<>(EXPECTED_ATTRIBUTE_COUNT * 4 / 3 + 1);
+        API api = event.getApi();
+        if (api != null) {
+            API_SCHEMA.write(api, dataMap);
+            if (api instanceof ExtendedAPI) {
+                EXTENDED_API_SCHEMA.write((ExtendedAPI) api, dataMap);
+            }
+        }
+        writeUnwrapped(event.getOperation(), OPERATION_SCHEMA, dataMap);
+        writeUnwrapped(event.getTarget(), TARGET_SCHEMA, dataMap);
+        writeUnwrapped(event.getApplication(), APPLICATION_SCHEMA, dataMap);
+        writeUnwrapped(event.getLatencies(), LATENCIES_SCHEMA, dataMap);
+        writeUnwrapped(event.getMetaInfo(), META_INFO_SCHEMA, dataMap);
+        writeUnwrapped(event.getError(), ERROR_SCHEMA, dataMap);
+        EVENT_SCHEMA.write(event, dataMap);
+        return dataMap;
+    }
+
+    private static boolean isKnownType(Event event) {
+
+        API api = event.getApi();
+        return event.getClass() == Event.class
+                && (api == null || api.getClass() == API.class || api.getClass() == ExtendedAPI.class)
+                && isOfType(event.getOperation(), Operation.class)
+                && isOfType(event.getTarget(), Target.class)
+                && isOfType(event.getApplication(), Application.class)
+                && isOfType(event.getLatencies(), Latencies.class)
+                && isOfType(event.getMetaInfo(), MetaInfo.class)
+                && isOfType(event.getError(), Error.class);
+    }
+
+    private static boolean isOfType(Object value, Class<?> type) {
+
+        return value == null || value.getClass() == type;
+    }
+
+    private static <T> void writeUnwrapped(T value, Schema<T> schema, Map<String, Object> dataMap) {
+
+        // an unwrapped DTO which is null adds no attributes
+        if (value != null) {
+            schema.write(value, dataMap);
+        }
+    }
+
+    private static <T> List<Object> toMaps(List<T> values, Class<T> type, Schema<T> schema) {
+
+        if (values == null) {
+            return null;
+        }
+        List<Object> maps = new ArrayList<>(values.size());
+        for (T value : values) {
+            if (value == null) {
+                maps.add(null);
+            } else if (value.getClass() == type) {
+                Map<String, Object> map = new LinkedHashMap<>();
+                schema.write(value, map);
+                maps.add(map);
+            } else {
+                maps.add(OBJECT_MAPPER.convertValue(value, MAP_TYPE_REFERENCE));
+            }
+        }
+        return maps;
+    }
+
+    /**
+     * Copies the custom properties of an event. Values which Jackson would convert, such as nested objects, are left
+     * to Jackson.
+     */
+    private static Map<String, Object> copyProperties(Map<String, Object> properties) {
+
+        if (properties == null) {
+            return null;
+        }
+        for (Object value : properties.values()) {
+            if (!isPlainValue(value)) {
+                return OBJECT_MAPPER.convertValue(properties, MAP_TYPE_REFERENCE);
+            }
+        }
+        return new LinkedHashMap<>(properties);
+    }
+
+    private static boolean isPlainValue(Object value) {
+
+        return value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Boolean || value instanceof Double;
+    }
+
+    /**
+     * Attributes of a DTO with their accessors.
+     *
+     * @param <T> DTO type
+     */
+    private static final class Schema<T> {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Function<? super T, Object>> accessors = new ArrayList<>();
+
+        private Schema<T> add(String name, Function<? super T, Object> accessor) {
+
+            names.add(name);
+            accessors.add(accessor);
+            return this;
+        }
+
+        private void write(T value, Map<String, Object> dataMap) {
+
+            for (int i = 0; i < names.size(); i++) {
+                dataMap.put(names.get(i), accessors.get(i).apply(value));
+            }
+        }
+    }
+}
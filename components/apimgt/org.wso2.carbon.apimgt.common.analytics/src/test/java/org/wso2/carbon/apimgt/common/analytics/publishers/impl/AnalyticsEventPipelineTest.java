@@ -0,0 +1,230 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.am.analytics.publisher.reporter.CounterMetric;
+import org.wso2.carbon.apimgt.common.analytics.Constants;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class AnalyticsEventPipelineTest {
+
+    private AnalyticsEventPipeline eventPipeline;
+
+    @After
+    public void tearDown() {
+
+        if (eventPipeline != null) {
+            eventPipeline.shutdown();
+        }
+    }
+
+    @Test
+    public void testWorkersPublishSubmittedEvents() throws InterruptedException {
+
+        eventPipeline = new AnalyticsEventPipeline(100, 2, 10, 100, 1);
+        RecordingPublisher publisher = new RecordingPublisher(50);
+        List<Event> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            Event event = new Event();
+            event.setRequestTimestamp(String.valueOf(i));
+            events.add(event);
+            Assert.assertTrue(eventPipeline.submit(publisher, event));
+        }
+
+        Assert.assertTrue(publisher.published.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(50, publisher.getEvents().size());
+        Assert.assertTrue(publisher.getEvents().containsAll(events));
+        // the count is updated after the publisher returns
+        long deadline = System.currentTimeMillis() + 10000;
+        while (eventPipeline.getPublishedEventCount() < 50 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(50, eventPipeline.getPublishedEventCount());
+        Assert.assertEquals(0, eventPipeline.getQueueDepth());
+        Assert.assertEquals(0, eventPipeline.getDroppedEventCount());
+        Assert.assertEquals(0, eventPipeline.getSampledOutEventCount());
+    }
+
+    @Test
+    public void testEventsAreDroppedWhenQueueIsFull() throws InterruptedException {
+
+        eventPipeline = new AnalyticsEventPipeline(5, 1, 10, 100, 1);
+        BlockingPublisher publisher = new BlockingPublisher(6);
+        Assert.assertTrue(eventPipeline.submit(publisher, new Event()));
+        Assert.assertTrue(publisher.started.await(10, TimeUnit.SECONDS));
+
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(eventPipeline.submit(publisher, new Event()));
+        }
+        for (int i = 0; i < 3; i++) {
+            Assert.assertFalse(eventPipeline.submit(publisher, new Event()));
+        }
+        Assert.assertEquals(5, eventPipeline.getQueueDepth());
+        Assert.assertEquals(3, eventPipeline.getDroppedEventCount());
+        Assert.assertEquals(0, eventPipeline.getSampledOutEventCount());
+
+        publisher.release.countDown();
+        Assert.assertTrue(publisher.published.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(6, publisher.getEvents().size());
+    }
+
+    @Test
+    public void testEventsAreSampledBeyondThreshold() throws InterruptedException {
+
+        eventPipeline = new AnalyticsEventPipeline(10, 1, 10, 50, 3);
+        BlockingPublisher publisher = new BlockingPublisher(9);
+        Assert.assertTrue(eventPipeline.submit(publisher, new Event()));
+        Assert.assertTrue(publisher.started.await(10, TimeUnit.SECONDS));
+
+        // the queue is below the threshold of 5 events, so every event is queued
+        for (int i = 0; i < 5; i++) {
+            Assert.assertTrue(eventPipeline.submit(publisher, new Event()));
+        }
+        // beyond the threshold only the first of every 3 events is queued
+        int queued = 0;
+        for (int i = 0; i < 9; i++) {
+            if (eventPipeline.submit(publisher, new Event())) {
+                queued++;
+            }
+        }
+        Assert.assertEquals(3, queued);
+        Assert.assertEquals(8, eventPipeline.getQueueDepth());
+        Assert.assertEquals(6, eventPipeline.getSampledOutEventCount());
+        Assert.assertEquals(0, eventPipeline.getDroppedEventCount());
+
+        publisher.release.countDown();
+        Assert.assertTrue(publisher.published.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(9, publisher.getEvents().size());
+    }
+
+    @Test
+    public void testFailingEventDoesNotStopWorker() throws InterruptedException {
+
+        eventPipeline = new AnalyticsEventPipeline(10, 1, 10, 100, 1);
+        Event failingEvent = new Event();
+        RecordingPublisher publisher = new RecordingPublisher(2) {
+            @Override
+            void publishEvent(Event analyticsEvent) {
+
+                if (analyticsEvent == failingEvent) {
+                    throw new IllegalStateException("Reporter failure");
+                }
+                super.publishEvent(analyticsEvent);
+            }
+        };
+        eventPipeline.submit(publisher, new Event());
+        eventPipeline.submit(publisher, failingEvent);
+        eventPipeline.submit(publisher, new Event());
+
+        Assert.assertTrue(publisher.published.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, publisher.getEvents().size());
+        Assert.assertFalse(publisher.getEvents().contains(failingEvent));
+    }
+
+    @Test
+    public void testFromConfigurations() {
+
+        Assert.assertNull(AnalyticsEventPipeline.fromConfigurations(null));
+        Map<String, String> configurations = new HashMap<>();
+        Assert.assertNull(AnalyticsEventPipeline.fromConfigurations(configurations));
+        configurations.put(Constants.ASYNC_PUBLISHING_ENABLED, "false");
+        Assert.assertNull(AnalyticsEventPipeline.fromConfigurations(configurations));
+
+        configurations.put(Constants.ASYNC_PUBLISHING_ENABLED, "true");
+        configurations.put(Constants.ASYNC_PUBLISHING_QUEUE_SIZE, "-1");
+        configurations.put(Constants.ASYNC_PUBLISHING_WORKER_COUNT, "invalid");
+        eventPipeline = AnalyticsEventPipeline.fromConfigurations(configurations);
+        Assert.assertNotNull(eventPipeline);
+        Assert.assertEquals(0, eventPipeline.getQueueDepth());
+    }
+
+    private static class RecordingPublisher extends AbstractRequestDataPublisher {
+
+        private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch published;
+
+        RecordingPublisher(int expectedEvents) {
+
+            this.published = new CountDownLatch(expectedEvents);
+        }
+
+        @Override
+        void publishEvent(Event analyticsEvent) {
+
+            events.add(analyticsEvent);
+            published.countDown();
+        }
+
+        List<Event> getEvents() {
+
+            synchronized (events) {
+                return new ArrayList<>(events);
+            }
+        }
+
+        @Override
+        public CounterMetric getCounterMetric() {
+
+            return null;
+        }
+
+        @Override
+        public List<CounterMetric> getMultipleCounterMetrics() {
+
+            return null;
+        }
+    }
+
+    /**
+     * Holds the worker on the first event until released, so that the test controls the queue.
+     */
+    private static class BlockingPublisher extends RecordingPublisher {
+
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingPublisher(int expectedEvents) {
+
+            super(expectedEvents);
+        }
+
+        @Override
+        void publishEvent(Event analyticsEvent) {
+
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            super.publishEvent(analyticsEvent);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.analytics.publishers.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.API;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Application;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Error;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Event;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.ExtendedAPI;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Latencies;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.MetaInfo;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Operation;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.OperationPolicy;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.Target;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.URITemplate;
+import org.wso2.carbon.apimgt.common.analytics.publishers.dto.enums.FaultSubCategories;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class EventDataMapperTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<Map<String, Object>> MAP_TYPE_REFERENCE =
+            new TypeReference<Map<String, Object>>() {
+            };
+
+    @Test
+    public void testFaultEventMatchesJackson() {
+
+        Event event = createEvent(createExtendedAPI());
+        Error error = new Error();
+        error.setErrorCode(900910);
+        error.setErrorMessage(FaultSubCategories.Throttling.API_LEVEL_LIMIT_EXCEEDED);
+        event.setError(error);
+        event.setErrorType("THROTTLED");
+
+        assertSameAsJackson(event);
+        Assert.assertEquals("API_LEVEL_LIMIT_EXCEEDED", EventDataMapper.toMap(event).get("errorMessage"));
+    }
+
+    @Test
+    public void testSuccessEventMatchesJackson() {
+
+        Event event = createEvent(createExtendedAPI());
+        assertSameAsJackson(event);
+    }
+
+    @Test
+    public void testEventWithoutOptionalPartsMatchesJackson() {
+
+        API api = new API();
+        api.setApiId("api-2");
+        Event event = new Event();
+        event.setApi(api);
+        event.setProxyResponseCode(404);
+        Error error = new Error();
+        error.setErrorCode(404);
+        event.setError(error);
+
+        assertSameAsJackson(event);
+    }
+
+    @Test
+    public void testNestedCustomPropertiesMatchJackson() {
+
+        Event event = createEvent(createExtendedAPI());
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("plain", "value");
+        properties.put("count", 3);
+        properties.put("headers", Collections.singletonMap("x-custom", Arrays.asList("a", "b")));
+        properties.put("policy", createOperationPolicy("policy-3", 3));
+        event.setProperties(properties);
+
+        assertSameAsJackson(event);
+    }
+
+    private static void assertSameAsJackson(Event event) {
+
+        Map<String, Object> expected = OBJECT_MAPPER.convertValue(event, MAP_TYPE_REFERENCE);
+        Map<String, Object> actual = EventDataMapper.toMap(event);
+        Assert.assertEquals(expected, actual);
+        // the attributes are added to the metric events in this order
+        Assert.assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(actual.keySet()));
+    }
+
+    private static ExtendedAPI createExtendedAPI() {
+
+        ExtendedAPI api = new ExtendedAPI();
+        api.setApiId("api-1");
+        api.setApiType("HTTP");
+        api.setApiName("PizzaShack");
+        api.setApiVersion("1.0.0");
+        api.setApiCreator("admin");
+        api.setApiCreatorTenantDomain("carbon.super");
+        api.setOrganizationId("org-1");
+        api.setApiContext("/pizzashack/1.0.0");
+        URITemplate uriTemplate = new URITemplate();
+        uriTemplate.setHttpVerb("GET");
+        uriTemplate.setUriTemplate("/menu");
+        uriTemplate.setResourceURI("https://backend/menu");
+        uriTemplate.setAuthScheme("Any");
+        uriTemplate.setOperationPolicies(new ArrayList<>(Collections.singletonList(
+                createOperationPolicy("policy-1", 1))));
+        URITemplate emptyUriTemplate = new URITemplate();
+        emptyUriTemplate.setHttpVerb("POST");
+        api.setUriTemplates(Arrays.asList(uriTemplate, emptyUriTemplate));
+        api.setApiPolicies(new ArrayList<>(Collections.singletonList(createOperationPolicy("policy-2", 2))));
+        return api;
+    }
+
+    private static OperationPolicy createOperationPolicy(String policyId, int order) {
+
+        OperationPolicy operationPolicy = new OperationPolicy();
+        operationPolicy.setPolicyId(policyId);
+        operationPolicy.setPolicyName("addHeader");
+        operationPolicy.setPolicyVersion("v1");
+        operationPolicy.setDirection("request");
+        operationPolicy.setOrder(order);
+        return operationPolicy;
+    }
+
+    private static Event createEvent(API api) {
+
+        Event event = new Event();
+        event.setApi(api);
+        Operation operation = new Operation();
+        operation.setApiMethod("GET");
+        operation.setApiResourceTemplate("/menu");
+        event.setOperation(operation);
+        Target target = new Target();
+        target.setTargetResponseCode(200);
+        target.setResponseCacheHit(true);
+        target.setDestination("https://backend/menu");
+        event.setTarget(target);
+        Application application = new Application();
+        application.setKeyType("PRODUCTION");
+        application.setApplicationId("app-1");
+        application.setApplicationName("DefaultApplication");
+        application.setApplicationOwner("admin");
+        event.setApplication(application);
+        Latencies latencies = new Latencies();
+        latencies.setResponseLatency(120L);
+        latencies.setBackendLatency(100L);
+        latencies.setRequestMediationLatency(12L);
+        latencies.setResponseMediationLatency(3_000_000_000L);
+        event.setLatencies(latencies);
+        MetaInfo metaInfo = new MetaInfo();
+        metaInfo.setCorrelationId("correlation-1");
+        metaInfo.setRegionId("default");
+        metaInfo.setGatewayType("SYNAPSE");
+        event.setMetaInfo(metaInfo);
+        event.setProxyResponseCode(200);
+        event.setRequestTimestamp("2026-01-01T00:00:00.000Z");
+        event.setUserAgentHeader("curl/8.0");
+        event.setUserName("admin@carbon.super");
+        event.setUserIp("127.0.0.1");
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("apiContext", "/pizzashack/1.0.0");
+        properties.put("userName", "admin");
+        properties.put("isEgress", false);
+        properties.put("requestSize", 1024L);
+        properties.put("absent", null);
+        event.setProperties(properties);
+        return event;
+    }
+}
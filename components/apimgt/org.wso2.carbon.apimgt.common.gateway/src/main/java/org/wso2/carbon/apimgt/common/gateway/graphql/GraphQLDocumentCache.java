@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.common.gateway.graphql;
+
+import graphql.language.Document;
+import graphql.parser.InvalidSyntaxException;
+import graphql.parser.Parser;
+import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationError;
+import graphql.validation.Validator;
+import org.apache.commons.codec.digest.DigestUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Bounded cache of GraphQL queries parsed and validated against the schema of an API, so that a query which is sent
+ * again is neither parsed nor validated again. Queries are kept per schema instance, so a redeployed API with a new
+ * schema starts with an empty cache and the queries of the old schema are released along with it. Within a schema,
+ * queries are keyed by their SHA-256 hash, which also serves the hash-only requests of automatic persisted queries,
+ * and the least recently used query is evicted when the cache is full.
+ */
+public class GraphQLDocumentCache {
+
+    private static final Log log = LogFactory.getLog(GraphQLDocumentCache.class);
+    public static final int DEFAULT_MAX_QUERIES_PER_SCHEMA = 1000;
+    private static final GraphQLDocumentCache instance = new GraphQLDocumentCache(DEFAULT_MAX_QUERIES_PER_SCHEMA);
+
+    private final int maxQueriesPerSchema;
+    private final Map<GraphQLSchema, Map<String, ParsedGraphQLQuery>> queriesBySchema =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private final Validator validator = new Validator();
+
+    public GraphQLDocumentCache(int maxQueriesPerSchema) {
+
+        this.maxQueriesPerSchema = maxQueriesPerSchema;
+    }
+
+    public static GraphQLDocumentCache getInstance() {
+
+        return instance;
+    }
+
+    /**
+     * Returns the parsed and validated query, parsing and validating it if it is not cached.
+     *
+     * @param schema GraphQL schema of the API
+     * @param query  GraphQL query
+     * @return parsed query with its validation errors
+     * @throws InvalidSyntaxException if the query cannot be parsed. Such queries are not cached.
+     */
+    public ParsedGraphQLQuery getOrParse(GraphQLSchema schema, String query) {
+
+        String queryHash = hash(query);
+        Map<String, ParsedGraphQLQuery> queries = getQueries(schema);
+        ParsedGraphQLQuery parsedQuery;
+        synchronized (queries) {
+            parsedQuery = queries.get(queryHash);
+        }
+        if (parsedQuery != null && parsedQuery.getQuery().equals(query)) {
+            return parsedQuery;
+        }
+        Document document = new Parser().parseDocument(query);
+        List<ValidationError> validationErrors = validator.validateDocument(schema, document, Locale.ENGLISH);
+        parsedQuery = new ParsedGraphQLQuery(query, queryHash, document, validationErrors);
+        if (log.isDebugEnabled()) {
+            log.debug("Parsed GraphQL query " + queryHash + (validationErrors == null || validationErrors.isEmpty()
+                    ? "" : " with validation errors"));
+        }
+        synchronized (queries) {
+            queries.put(queryHash, parsedQuery);
+        }
+        return parsedQuery;
+    }
+
+    /**
+     * Returns a cached query by its hash, for the requests of automatic persisted queries which only send the hash.
+     *
+     * @param schema    GraphQL schema of the API
+     * @param queryHash hex encoded SHA-256 hash of the query
+     * @return parsed query, or null if the query is not cached
+     */
+    public ParsedGraphQLQuery getByHash(GraphQLSchema schema, String queryHash) {
+
+        Map<String, ParsedGraphQLQuery> queries = getQueries(schema);
+        synchronized (queries) {
+            return queries.get(queryHash.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    private Map<String, ParsedGraphQLQuery> getQueries(GraphQLSchema schema) {
+
+        return queriesBySchema.computeIfAbsent(schema,
+                key -> new LinkedHashMap<String, ParsedGraphQLQuery>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<String, ParsedGraphQLQuery> eldest) {
+                        return size() > maxQueriesPerSchema;
+                    }
+                });
+    }
+
+    /**
+     * @param query GraphQL query
+     * @return hex encoded SHA-256 hash of the query
+     */
+    public static String hash(String query) {
+
+        return DigestUtils.sha256Hex(query);
+    }
+}
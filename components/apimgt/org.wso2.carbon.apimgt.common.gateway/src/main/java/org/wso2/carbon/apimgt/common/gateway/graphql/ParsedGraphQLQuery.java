@@ -0,0 +1,144 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.common.gateway.graphql;
+
+import graphql.language.Document;
+import graphql.validation.ValidationError;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A GraphQL query parsed and validated against the schema of an API. Instances are shared between the requests
+ * sending the same query through {@link GraphQLDocumentCache}, so they are immutable apart from the memoized result
+ * of the query analysis.
+ */
+public final class ParsedGraphQLQuery {
+
+    private final String query;
+    private final String queryHash;
+    private final Document document;
+    private final List<ValidationError> validationErrors;
+    private final String validationErrorMessage;
+    private volatile QueryMetrics metrics;
+
+    ParsedGraphQLQuery(String query, String queryHash, Document document, List<ValidationError> validationErrors) {
+
+        this.query = query;
+        this.queryHash = queryHash;
+        this.document = document;
+        this.validationErrors = validationErrors == null ? Collections.emptyList()
+                : Collections.unmodifiableList(new ArrayList<>(validationErrors));
+        if (this.validationErrors.isEmpty()) {
+            this.validationErrorMessage = null;
+        } else {
+            List<String> validationErrorMessageList = new ArrayList<>(this.validationErrors.size());
+            for (ValidationError error : this.validationErrors) {
+                validationErrorMessageList.add(error.getDescription());
+            }
+            this.validationErrorMessage = String.join(",", validationErrorMessageList);
+        }
+    }
+
+    public String getQuery() {
+
+        return query;
+    }
+
+    /**
+     * @return hex encoded SHA-256 hash of the query, as used by automatic persisted queries
+     */
+    public String getQueryHash() {
+
+        return queryHash;
+    }
+
+    public Document getDocument() {
+
+        return document;
+    }
+
+    public List<ValidationError> getValidationErrors() {
+
+        return validationErrors;
+    }
+
+    /**
+     * @return validation errors of the query joined in the format of {@link QueryValidator}, or null if the query is
+     * valid
+     */
+    public String getValidationErrorMessage() {
+
+        return validationErrorMessage;
+    }
+
+    QueryMetrics getMetrics() {
+
+        return metrics;
+    }
+
+    void setMetrics(QueryMetrics metrics) {
+
+        this.metrics = metrics;
+    }
+
+    /**
+     * Depth and complexity of a query measured in a single traversal, with the complexity policy the complexity was
+     * measured with.
+     */
+    static final class QueryMetrics {
+
+        private final boolean complexityPolicyKnown;
+        private final String complexityPolicy;
+        private final int depth;
+        private final int complexity;
+
+        QueryMetrics(boolean complexityPolicyKnown, String complexityPolicy, int depth, int complexity) {
+
+            this.complexityPolicyKnown = complexityPolicyKnown;
+            this.complexityPolicy = complexityPolicy;
+            this.depth = depth;
+            this.complexity = complexity;
+        }
+
+        /**
+         * @return whether the complexity was measured with the complexity policy, as opposed to a calculator which
+         * cannot be identified
+         */
+        boolean isComplexityPolicyKnown() {
+
+            return complexityPolicyKnown;
+        }
+
+        String getComplexityPolicy() {
+
+            return complexityPolicy;
+        }
+
+        int getDepth() {
+
+            return depth;
+        }
+
+        int getComplexity() {
+
+            return complexity;
+        }
+    }
+}
@@ -18,21 +18,30 @@
  */
 package org.wso2.carbon.apimgt.common.gateway.graphql;
 
-import graphql.ExecutionResult;
-import graphql.GraphQL;
-import graphql.GraphQLError;
+import graphql.GraphQLException;
 import graphql.analysis.FieldComplexityCalculator;
-import graphql.analysis.MaxQueryComplexityInstrumentation;
-import graphql.analysis.MaxQueryDepthInstrumentation;
+import graphql.analysis.FieldComplexityEnvironment;
+import graphql.analysis.QueryTraverser;
+import graphql.analysis.QueryVisitorFieldEnvironment;
+import graphql.analysis.QueryVisitorStub;
+import graphql.execution.CoercedVariables;
+import graphql.parser.InvalidSyntaxException;
 import graphql.schema.GraphQLSchema;
+import graphql.validation.ValidationError;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
-import java.util.List;
+import org.wso2.carbon.apimgt.common.gateway.graphql.ParsedGraphQLQuery.QueryMetrics;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
- * This class contains methods using for Graphql query depth and complexity analysis.
+ * This class contains methods using for Graphql query depth and complexity analysis. Queries are taken from
+ * {@link GraphQLDocumentCache}, and their depth and complexity are measured together in a single traversal whose
+ * result is kept with the cached query, so a query which is sent again is not analysed again.
  */
 public class QueryAnalyzer {
 
@@ -55,37 +64,52 @@ public class QueryAnalyzer {
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query depth for " + payload + " and max query depth:" + maxQueryDepth);
         }
-        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
-
         // If maxQueryDepth is a positive value, perform the depth limitation check. Otherwise, bypass the check.
-        if (maxQueryDepth > 0) {
-            MaxQueryDepthInstrumentation maxQueryDepthInstrumentation =
-                    new MaxQueryDepthInstrumentation(maxQueryDepth);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryDepthInstrumentation).build();
-
-            ExecutionResult executionResult = runtime.execute(payload);
-            List<GraphQLError> errors = executionResult.getErrors();
-            if (errors.size() > 0) {
-                for (GraphQLError error : errors) {
-                    queryAnalyzerResponseDTO.addErrorToList((error.getMessage()));
-                }
-                // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
-                queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
-                if (queryAnalyzerResponseDTO.getErrorList().size() == 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Maximum query depth of " + maxQueryDepth + " was not exceeded");
-                    }
-                    queryAnalyzerResponseDTO.setSuccess(true);
-                    return queryAnalyzerResponseDTO;
-                }
-                log.error(queryAnalyzerResponseDTO.getErrorList().toString());
-                queryAnalyzerResponseDTO.setSuccess(false);
-                return queryAnalyzerResponseDTO;
-            }
+        if (maxQueryDepth <= 0) {
+            return successResponse();
         }
+        try {
+            return analyseQueryDepth(maxQueryDepth, GraphQLDocumentCache.getInstance().getOrParse(schema, payload));
+        } catch (InvalidSyntaxException e) {
+            return failureResponse(e.getMessage());
+        }
+    }
 
-        queryAnalyzerResponseDTO.setSuccess(true);
-        return queryAnalyzerResponseDTO;
+    /**
+     * This method analyses the depth of a parsed query.
+     *
+     * @param maxQueryDepth maximum query depth
+     * @param parsedQuery   query of the request, parsed against the schema of this analyzer
+     * @return true, if the query depth does not exceed the maximum value or false, if query depth exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryDepth(int maxQueryDepth, ParsedGraphQLQuery parsedQuery) {
+
+        if (maxQueryDepth <= 0) {
+            return successResponse();
+        }
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = getValidationFailure(parsedQuery);
+        if (queryAnalyzerResponseDTO != null) {
+            return queryAnalyzerResponseDTO;
+        }
+        // the depth does not depend on the complexity policy, so the metrics measured with any policy will do
+        QueryMetrics metrics = parsedQuery.getMetrics();
+        try {
+            if (metrics == null) {
+                metrics = measure(parsedQuery, (environment, childComplexity) -> 0, null, false);
+            }
+        } catch (GraphQLException e) {
+            return failureResponse(e.getMessage());
+        }
+        if (metrics.getDepth() > maxQueryDepth) {
+            queryAnalyzerResponseDTO = failureResponse(
+                    "maximum query depth exceeded " + metrics.getDepth() + " > " + maxQueryDepth);
+            log.error(queryAnalyzerResponseDTO.getErrorList().toString());
+            return queryAnalyzerResponseDTO;
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Maximum query depth of " + maxQueryDepth + " was not exceeded");
+        }
+        return successResponse();
     }
 
     /**
@@ -102,40 +126,19 @@ public class QueryAnalyzer {
         if (log.isDebugEnabled()) {
             log.debug("Analyzing query complexity for " + payload + " and max complexity: " + maxQueryComplexity);
         }
-        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
-
         // If maxQueryComplexity is a positive value, perform the complexity limitation check.
         // Otherwise, bypass the check.
-        if (maxQueryComplexity > 0) {
-            MaxQueryComplexityInstrumentation maxQueryComplexityInstrumentation =
-                    new MaxQueryComplexityInstrumentation(maxQueryComplexity, fieldComplexityCalculator);
-            GraphQL runtime = GraphQL.newGraphQL(schema).instrumentation(maxQueryComplexityInstrumentation).build();
-
-            ExecutionResult executionResult = runtime.execute(payload);
-            List<GraphQLError> errors = executionResult.getErrors();
-            if (errors.size() > 0) {
-                for (GraphQLError error : errors) {
-                    queryAnalyzerResponseDTO.addErrorToList((error.getMessage()));
-                }
-                // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
-                queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
-                if (queryAnalyzerResponseDTO.getErrorList().size() == 0) {
-                    if (log.isDebugEnabled()) {
-                        log.debug("Maximum query complexity was not exceeded");
-                    }
-                    queryAnalyzerResponseDTO.setSuccess(true);
-                } else {
-                    log.error(queryAnalyzerResponseDTO.getErrorList());
-                    queryAnalyzerResponseDTO.getErrorList().clear();
-                    queryAnalyzerResponseDTO.addErrorToList("maximum query complexity exceeded");
-                }
-                queryAnalyzerResponseDTO.setSuccess(false);
-                return queryAnalyzerResponseDTO;
-            }
+        if (maxQueryComplexity <= 0) {
+            return successResponse();
         }
-
-        queryAnalyzerResponseDTO.setSuccess(true);
-        return queryAnalyzerResponseDTO;
+        ParsedGraphQLQuery parsedQuery;
+        try {
+            parsedQuery = GraphQLDocumentCache.getInstance().getOrParse(schema, payload);
+        } catch (InvalidSyntaxException e) {
+            return complexityFailureResponse(e.getMessage());
+        }
+        // the complexity of an arbitrary calculator is not memoized, as there is no key to memoize it by
+        return analyseQueryComplexity(maxQueryComplexity, parsedQuery, fieldComplexityCalculator, null, false);
     }
 
     /**
@@ -147,9 +150,184 @@ public class QueryAnalyzer {
      */
     public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(String payload, int maxQueryComplexity,
                                                                    String complexityInfoJson) throws ParseException {
+
+        if (log.isDebugEnabled()) {
+            log.debug("Analyzing query complexity for " + payload + " and max complexity: " + maxQueryComplexity);
+        }
+        if (maxQueryComplexity <= 0) {
+            return successResponse();
+        }
+        ParsedGraphQLQuery parsedQuery;
+        try {
+            parsedQuery = GraphQLDocumentCache.getInstance().getOrParse(schema, payload);
+        } catch (InvalidSyntaxException e) {
+            return complexityFailureResponse(e.getMessage());
+        }
+        return analyseQueryMutationComplexity(parsedQuery, maxQueryComplexity, complexityInfoJson);
+    }
+
+    /**
+     * This method analyses the complexity of a parsed query.
+     *
+     * @param parsedQuery        query of the request, parsed against the schema of this analyzer
+     * @param maxQueryComplexity maximum query complexity value
+     * @param complexityInfoJson gql complexity info in json string format
+     * @return true, if query complexity does not exceed the maximum or false, if query complexity exceeds the maximum
+     */
+    public QueryAnalyzerResponseDTO analyseQueryMutationComplexity(ParsedGraphQLQuery parsedQuery,
+                                                                   int maxQueryComplexity, String complexityInfoJson)
+            throws ParseException {
+
+        if (maxQueryComplexity <= 0) {
+            return successResponse();
+        }
+        QueryMetrics metrics = parsedQuery.getMetrics();
+        if (metrics != null && metrics.isComplexityPolicyKnown()
+                && Objects.equals(metrics.getComplexityPolicy(), complexityInfoJson)) {
+            QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = getValidationFailure(parsedQuery);
+            if (queryAnalyzerResponseDTO != null) {
+                return complexityFailure(queryAnalyzerResponseDTO);
+            }
+            return checkComplexity(metrics.getComplexity(), maxQueryComplexity);
+        }
         FieldComplexityCalculatorImpl fieldComplexityCalculator = new FieldComplexityCalculatorImpl();
         fieldComplexityCalculator.parseAccessControlPolicy(complexityInfoJson);
-        return analyseQueryComplexity(maxQueryComplexity, payload, fieldComplexityCalculator);
+        return analyseQueryComplexity(maxQueryComplexity, parsedQuery, fieldComplexityCalculator,
+                complexityInfoJson, true);
+    }
+
+    private QueryAnalyzerResponseDTO analyseQueryComplexity(int maxQueryComplexity, ParsedGraphQLQuery parsedQuery,
+                                                            FieldComplexityCalculator fieldComplexityCalculator,
+                                                            String complexityPolicy, boolean complexityPolicyKnown) {
+
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = getValidationFailure(parsedQuery);
+        if (queryAnalyzerResponseDTO != null) {
+            return complexityFailure(queryAnalyzerResponseDTO);
+        }
+        QueryMetrics metrics;
+        try {
+            metrics = measure(parsedQuery, fieldComplexityCalculator, complexityPolicy, complexityPolicyKnown);
+        } catch (GraphQLException e) {
+            return complexityFailureResponse(e.getMessage());
+        }
+        return checkComplexity(metrics.getComplexity(), maxQueryComplexity);
+    }
+
+    private QueryAnalyzerResponseDTO checkComplexity(int complexity, int maxQueryComplexity) {
+
+        if (complexity > maxQueryComplexity) {
+            return complexityFailureResponse(
+                    "maximum query complexity exceeded " + complexity + " > " + maxQueryComplexity);
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Maximum query complexity was not exceeded");
+        }
+        return successResponse();
+    }
+
+    /**
+     * Measures the depth and the complexity of a query in a single traversal, in the same way as
+     * MaxQueryDepthInstrumentation and MaxQueryComplexityInstrumentation do, and memoizes them with the query.
+     * Metrics measured without a known complexity policy only replace metrics which are not memoized yet, as only
+     * their depth can be reused.
+     */
+    private QueryMetrics measure(ParsedGraphQLQuery parsedQuery, FieldComplexityCalculator fieldComplexityCalculator,
+                                 String complexityPolicy, boolean complexityPolicyKnown) {
+
+        QueryTraverser queryTraverser = QueryTraverser.newQueryTraverser()
+                .schema(schema)
+                .document(parsedQuery.getDocument())
+                .coercedVariables(CoercedVariables.emptyVariables())
+                .build();
+        Map<QueryVisitorFieldEnvironment, Integer> complexityByParent = new HashMap<>();
+        int[] depth = new int[1];
+        queryTraverser.visitPostOrder(new QueryVisitorStub() {
+            @Override
+            public void visitField(QueryVisitorFieldEnvironment environment) {
+
+                depth[0] = Math.max(depth[0], getPathLength(environment.getParentEnvironment()));
+                int childComplexity = complexityByParent.getOrDefault(environment, 0);
+                int complexity = environment.isTypeNameIntrospectionField() ? 0
+                        : fieldComplexityCalculator.calculate(toComplexityEnvironment(environment), childComplexity);
+                complexityByParent.merge(environment.getParentEnvironment(), complexity, Integer::sum);
+            }
+        });
+        QueryMetrics metrics = new QueryMetrics(complexityPolicyKnown, complexityPolicy, depth[0],
+                complexityByParent.getOrDefault(null, 0));
+        if (complexityPolicyKnown || parsedQuery.getMetrics() == null) {
+            parsedQuery.setMetrics(metrics);
+        }
+        return metrics;
+    }
+
+    private static int getPathLength(QueryVisitorFieldEnvironment environment) {
+
+        int length = 1;
+        while (environment != null) {
+            environment = environment.getParentEnvironment();
+            length++;
+        }
+        return length;
+    }
+
+    private static FieldComplexityEnvironment toComplexityEnvironment(QueryVisitorFieldEnvironment environment) {
+
+        if (environment == null) {
+            return null;
+        }
+        return new FieldComplexityEnvironment(environment.getField(), environment.getFieldDefinition(),
+                environment.getFieldsContainer(), environment.getArguments(),
+                toComplexityEnvironment(environment.getParentEnvironment()));
+    }
+
+    /**
+     * Returns the failure for a query which is not valid against the schema, as executing the query did before the
+     * analysis was done on cached queries.
+     */
+    private static QueryAnalyzerResponseDTO getValidationFailure(ParsedGraphQLQuery parsedQuery) {
+
+        if (parsedQuery.getValidationErrors().isEmpty()) {
+            return null;
+        }
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
+        for (ValidationError error : parsedQuery.getValidationErrors()) {
+            queryAnalyzerResponseDTO.addErrorToList(error.getMessage());
+        }
+        // TODO: https://github.com/wso2/carbon-apimgt/issues/8147
+        queryAnalyzerResponseDTO.getErrorList().removeIf(s -> s.contains("non-nullable"));
+        if (queryAnalyzerResponseDTO.getErrorList().isEmpty()) {
+            return null;
+        }
+        log.error(queryAnalyzerResponseDTO.getErrorList().toString());
+        return queryAnalyzerResponseDTO;
+    }
+
+    private static QueryAnalyzerResponseDTO complexityFailure(QueryAnalyzerResponseDTO queryAnalyzerResponseDTO) {
+
+        queryAnalyzerResponseDTO.getErrorList().clear();
+        queryAnalyzerResponseDTO.addErrorToList("maximum query complexity exceeded");
+        return queryAnalyzerResponseDTO;
+    }
+
+    private static QueryAnalyzerResponseDTO complexityFailureResponse(String error) {
+
+        log.error(error);
+        return complexityFailure(failureResponse(error));
+    }
+
+    private static QueryAnalyzerResponseDTO failureResponse(String error) {
+
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
+        queryAnalyzerResponseDTO.addErrorToList(error);
+        queryAnalyzerResponseDTO.setSuccess(false);
+        return queryAnalyzerResponseDTO;
+    }
+
+    private static QueryAnalyzerResponseDTO successResponse() {
+
+        QueryAnalyzerResponseDTO queryAnalyzerResponseDTO = new QueryAnalyzerResponseDTO();
+        queryAnalyzerResponseDTO.setSuccess(true);
+        return queryAnalyzerResponseDTO;
     }
 
     public GraphQLSchema getSchema() {
@@ -40,6 +40,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -49,6 +50,8 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
     private static final Log log = LogFactory.getLog(AbstractAPIMgtGatewayJWTGenerator.class);
     public static final String NONE = "NONE";
     public static final String SHA256_WITH_RSA = "SHA256withRSA";
+    public static final String SHA256_WITH_EC = "SHA256withEC";
+    public static final String ED25519 = "Ed25519";
     public static final String API_GATEWAY_ID = "wso2.org/products/am";
     protected JWTConfigurationDto jwtConfigurationDto;
 
@@ -59,6 +62,17 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
 
     private boolean useSHA256Hash = false;
 
+    /**
+     * Headers of the signed JWTs by the public certificate they refer to, as the certificate thumbprint in them is
+     * costly to compute for each JWT.
+     */
+    private final Map<Certificate, String> certHeaders = new ConcurrentHashMap<>();
+    /**
+     * Last header encoded by {@link #generateToken(JWTInfoDto)} with its encoding, which is reused as long as the
+     * header does not change.
+     */
+    private volatile EncodedHeader encodedHeader;
+
     public AbstractAPIMgtGatewayJWTGenerator() {
     }
 
@@ -68,12 +82,11 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         if (dialectURI == null) {
             dialectURI = "http://wso2.org/claims";
         }
-        signatureAlgorithm = jwtConfigurationDto.getSignatureAlgorithm();
-        if (signatureAlgorithm == null || !(NONE.equals(signatureAlgorithm)
-                || SHA256_WITH_RSA.equals(signatureAlgorithm))) {
-            signatureAlgorithm = SHA256_WITH_RSA;
-        }
+        JWTSignatureAlg alg = JWTSignatureAlg.fromName(jwtConfigurationDto.getSignatureAlgorithm());
+        signatureAlgorithm = alg != null ? alg.getName() : SHA256_WITH_RSA;
         useSHA256Hash = jwtConfigurationDto.useSHA256Hash();
+        certHeaders.clear();
+        encodedHeader = null;
 
     }
 
@@ -83,7 +96,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         String jwtBody = buildBody(jwtInfoDto);
         String base64UrlEncodedHeader = "";
         if (jwtHeader != null) {
-            base64UrlEncodedHeader = encode(jwtHeader.getBytes(Charset.defaultCharset()));
+            base64UrlEncodedHeader = encodeHeader(jwtHeader);
         }
         String base64UrlEncodedBody = "";
         try {
@@ -91,7 +104,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         } catch (UnsupportedEncodingException e) {
             log.debug("Error in encoding jwt body", e);
         }
-        if (SHA256_WITH_RSA.equals(signatureAlgorithm)) {
+        if (!NONE.equals(signatureAlgorithm)) {
             String assertion = base64UrlEncodedHeader + '.' + base64UrlEncodedBody;
 
             //get the assertion signed
@@ -121,7 +134,7 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
                     jwtHeaderBuilder.put("kid", JWTUtil.getKID(x509Certificate));
                 }
                 jwtHeader = jwtHeaderBuilder.toJSONString();
-            } else if (SHA256_WITH_RSA.equals(signatureAlgorithm)) {
+            } else {
                 jwtHeader = addCertToHeader();
             }
         } catch (JSONException e) {
@@ -130,6 +143,17 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
         return jwtHeader;
     }
 
+    private String encodeHeader(String jwtHeader) throws JWTGeneratorException {
+
+        EncodedHeader lastEncodedHeader = encodedHeader;
+        if (lastEncodedHeader != null && lastEncodedHeader.header.equals(jwtHeader)) {
+            return lastEncodedHeader.encoded;
+        }
+        String encoded = encode(jwtHeader.getBytes(Charset.defaultCharset()));
+        encodedHeader = new EncodedHeader(jwtHeader, encoded);
+        return encoded;
+    }
+
     public byte[] signJWT(String assertion) throws JWTGeneratorException {
 
         try {
@@ -149,8 +173,13 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
 
         try {
             Certificate publicCert = jwtConfigurationDto.getPublicCert();
-            return JWTUtil.generateHeader(publicCert, signatureAlgorithm, jwtConfigurationDto.useKid(),
-                    useSHA256Hash, jwtConfigurationDto.isEncodeX5tWithoutPadding());
+            String header = certHeaders.get(publicCert);
+            if (header == null) {
+                header = JWTUtil.generateHeader(publicCert, signatureAlgorithm, jwtConfigurationDto.useKid(),
+                        useSHA256Hash, jwtConfigurationDto.isEncodeX5tWithoutPadding());
+                certHeaders.put(publicCert, header);
+            }
+            return header;
         } catch (Exception e) {
             String error = "Error in obtaining keystore";
             throw new JWTGeneratorException(error, e);
@@ -232,5 +261,17 @@ public abstract class AbstractAPIMgtGatewayJWTGenerator {
     public abstract Map<String, Object> populateStandardClaims(JWTInfoDto jwtInfoDto);
 
     public abstract Map<String, Object> populateCustomClaims(JWTInfoDto jwtInfoDto);
+
+    private static final class EncodedHeader {
+
+        private final String header;
+        private final String encoded;
+
+        private EncodedHeader(String header, String encoded) {
+
+            this.header = header;
+            this.encoded = encoded;
+        }
+    }
 }
 
@@ -22,15 +22,58 @@ package org.wso2.carbon.apimgt.common.gateway.jwtgenerator;
  * Enum for the jwt signature algorithm.
  */
 public enum JWTSignatureAlg {
-    SHA256_WITH_RSA("RS256"), NONE("none");
+    SHA256_WITH_RSA("RS256", "SHA256withRSA", "SHA256withRSA", "RS256"),
+    // JWS signatures of ECDSA are the concatenated R and S values rather than the DER encoding of the JCA default
+    SHA256_WITH_EC("ES256", "SHA256withECDSAinP1363Format", "SHA256withEC", "SHA256withECDSA", "ES256"),
+    ED25519("EdDSA", "Ed25519", "Ed25519", "EdDSA"),
+    NONE("none", null, "NONE");
 
     private String jwsCompliantCode;
+    private String jcaAlgorithm;
+    private String[] names;
 
-    JWTSignatureAlg(String s) {
+    JWTSignatureAlg(String s, String jcaAlgorithm, String... names) {
         jwsCompliantCode = s;
+        this.jcaAlgorithm = jcaAlgorithm;
+        this.names = names;
     }
 
     public String getJwsCompliantCode() {
         return jwsCompliantCode;
     }
+
+    /**
+     * @return name of the algorithm for {@link java.security.Signature#getInstance(String)}, or null for NONE
+     */
+    public String getJcaAlgorithm() {
+        return jcaAlgorithm;
+    }
+
+    /**
+     * @return name of the algorithm in the JWT configuration
+     */
+    public String getName() {
+        return names[0];
+    }
+
+    /**
+     * Finds the algorithm of a signature algorithm name of the JWT configuration, which may also be the JWS
+     * compliant code of the algorithm.
+     *
+     * @param signatureAlgorithm signature algorithm name
+     * @return the algorithm, or null if the name is not known
+     */
+    public static JWTSignatureAlg fromName(String signatureAlgorithm) {
+        if (signatureAlgorithm == null) {
+            return null;
+        }
+        for (JWTSignatureAlg alg : values()) {
+            for (String name : alg.names) {
+                if (name.equals(signatureAlgorithm)) {
+                    return alg;
+                }
+            }
+        }
+        return null;
+    }
 }
@@ -58,7 +58,11 @@ public final class JWTUtil {
 
     private static final Log log = LogFactory.getLog(JWTUtil.class);
     private static final String NONE = "NONE";
-    private static final String SHA256_WITH_RSA = "SHA256withRSA";
+    /**
+     * Signature instances of each thread by their algorithm, which are reused across the JWTs signed by the thread
+     * instead of being looked up from the security providers for each JWT.
+     */
+    private static final ThreadLocal<Map<String, CachedSignature>> signatures = ThreadLocal.withInitial(HashMap::new);
 
     /**
      * Get the JWS compliant signature algorithm code of the algorithm used to sign the JWT.
@@ -70,11 +74,9 @@ public final class JWTUtil {
 
         if (signatureAlgorithm == null || NONE.equals(signatureAlgorithm)) {
             return JWTSignatureAlg.NONE.getJwsCompliantCode();
-        } else if (SHA256_WITH_RSA.equals(signatureAlgorithm)) {
-            return JWTSignatureAlg.SHA256_WITH_RSA.getJwsCompliantCode();
-        } else {
-            return signatureAlgorithm;
         }
+        JWTSignatureAlg alg = JWTSignatureAlg.fromName(signatureAlgorithm);
+        return alg != null ? alg.getJwsCompliantCode() : signatureAlgorithm;
     }
 
     public static String generateHeader(Certificate publicCert, String signatureAlgorithm)
@@ -175,7 +177,8 @@ public final class JWTUtil {
     }
 
     /**
-     * Utility method to sign a JWT assertion with a particular signature algorithm.
+     * Utility method to sign a JWT assertion with a particular signature algorithm. The signature algorithm is either
+     * one of the names of {@link JWTSignatureAlg}, or an algorithm name of the security providers.
      *
      * @param assertion          valid JWT assertion
      * @param privateKey         private key which use to sign the JWT assertion
@@ -186,29 +189,63 @@ public final class JWTUtil {
     public static byte[] signJwt(String assertion, PrivateKey privateKey, String signatureAlgorithm) throws
             JWTGeneratorException {
 
+        JWTSignatureAlg alg = JWTSignatureAlg.fromName(signatureAlgorithm);
+        String jcaAlgorithm = alg != null && alg.getJcaAlgorithm() != null ? alg.getJcaAlgorithm()
+                : signatureAlgorithm;
+        Map<String, CachedSignature> threadSignatures = signatures.get();
         try {
-            //initialize signature with private key and algorithm
-            Signature signature = Signature.getInstance(signatureAlgorithm);
-            signature.initSign(privateKey);
+            //initialize signature with private key and algorithm, unless the signature of the thread already is
+            CachedSignature cachedSignature = threadSignatures.get(jcaAlgorithm);
+            if (cachedSignature == null) {
+                cachedSignature = new CachedSignature(Signature.getInstance(jcaAlgorithm));
+                threadSignatures.put(jcaAlgorithm, cachedSignature);
+            }
+            Signature signature = cachedSignature.initSign(privateKey);
 
             //update signature with data to be signed
             byte[] dataInBytes = assertion.getBytes(Charset.defaultCharset());
             signature.update(dataInBytes);
 
-            //sign the assertion and return the signature
+            //sign the assertion and return the signature, which leaves the signature initialized with the key
             return signature.sign();
         } catch (NoSuchAlgorithmException e) {
             //do not log
             throw new JWTGeneratorException("Signature algorithm not found", e);
         } catch (InvalidKeyException e) {
             //do not log
+            threadSignatures.remove(jcaAlgorithm);
             throw new JWTGeneratorException("Invalid private key provided for signing", e);
         } catch (SignatureException e) {
             //do not log
+            threadSignatures.remove(jcaAlgorithm);
             throw new JWTGeneratorException("Error while signing JWT", e);
         }
     }
 
+    /**
+     * Signature instance of a thread, with the private key it was last initialized with.
+     */
+    private static final class CachedSignature {
+
+        private final Signature signature;
+        private PrivateKey privateKey;
+
+        private CachedSignature(Signature signature) {
+
+            this.signature = signature;
+        }
+
+        private Signature initSign(PrivateKey privateKey) throws InvalidKeyException {
+
+            if (this.privateKey != privateKey) {
+                this.privateKey = null;
+                signature.initSign(privateKey);
+                this.privateKey = privateKey;
+            }
+            return signature;
+        }
+    }
+
     /**
      * Parse a jwt assertion provided in string format and returns set of claims
      * defined in the assertion.
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.common.gateway;
+
+import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
+
+import java.nio.charset.Charset;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Signature;
+import java.security.spec.ECGenParameterSpec;
+
+/**
+ * Compares the throughput of signing backend JWTs with RS256, ES256 and EdDSA, and of signing them through
+ * {@link JWTUtil#signJwt(String, PrivateKey, String)}, which reuses the signature of the thread, with looking up and
+ * initializing a signature for each JWT.
+ */
+public class JWTSigningBenchmark {
+
+    private static final int WARMUP_SIGNATURES = 2000;
+    private static final int SIGNATURES = 5000;
+    private static final String ASSERTION = "eyJ0eXAiOiJKV1QiLCJhbGciOiJSUzI1NiJ9.eyJpc3MiOiJ3c28yLm9yZy9wcm9kdWN0cy"
+            + "9hbSIsImV4cCI6MTc2MDAwMDAwMCwiaHR0cDovL3dzbzIub3JnL2NsYWltcy9hcGluYW1lIjoiUGl6emFTaGFja0FQSSJ9";
+
+    public static void main(String[] args) throws Exception {
+
+        KeyPairGenerator rsaGenerator = KeyPairGenerator.getInstance("RSA");
+        rsaGenerator.initialize(2048);
+        run("SHA256withRSA", "SHA256withRSA", rsaGenerator.generateKeyPair());
+
+        KeyPairGenerator ecGenerator = KeyPairGenerator.getInstance("EC");
+        ecGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        run("SHA256withEC", "SHA256withECDSAinP1363Format", ecGenerator.generateKeyPair());
+
+        try {
+            run("Ed25519", "Ed25519", KeyPairGenerator.getInstance("Ed25519").generateKeyPair());
+        } catch (NoSuchAlgorithmException e) {
+            System.out.println("Ed25519 is not supported by this Java version");
+        }
+    }
+
+    private static void run(String signatureAlgorithm, String jcaAlgorithm, KeyPair keyPair) throws Exception {
+
+        PrivateKey privateKey = keyPair.getPrivate();
+        for (int i = 0; i < WARMUP_SIGNATURES; i++) {
+            signWithNewSignature(jcaAlgorithm, privateKey);
+            JWTUtil.signJwt(ASSERTION, privateKey, signatureAlgorithm);
+        }
+
+        long newSignatureStart = System.nanoTime();
+        for (int i = 0; i < SIGNATURES; i++) {
+            signWithNewSignature(jcaAlgorithm, privateKey);
+        }
+        long newSignatureTime = System.nanoTime() - newSignatureStart;
+
+        long reusedSignatureStart = System.nanoTime();
+        for (int i = 0; i < SIGNATURES; i++) {
+            JWTUtil.signJwt(ASSERTION, privateKey, signatureAlgorithm);
+        }
+        long reusedSignatureTime = System.nanoTime() - reusedSignatureStart;
+
+        System.out.printf("%-13s: new signature %9.0f JWTs/s, reused signature %9.0f JWTs/s%n", signatureAlgorithm,
+                SIGNATURES * 1e9 / newSignatureTime, SIGNATURES * 1e9 / reusedSignatureTime);
+    }
+
+    private static byte[] signWithNewSignature(String jcaAlgorithm, PrivateKey privateKey) throws Exception {
+
+        Signature signature = Signature.getInstance(jcaAlgorithm);
+        signature.initSign(privateKey);
+        signature.update(ASSERTION.getBytes(Charset.defaultCharset()));
+        return signature.sign();
+    }
+}
@@ -19,15 +19,23 @@
 package org.wso2.carbon.apimgt.common.gateway;
 
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 
+import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.Signature;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
+import java.security.spec.ECGenParameterSpec;
 
 /**
  * Test cases for {@link JWTUtil}
@@ -84,6 +92,70 @@ public class JWTUtilTestCase {
         Assert.assertTrue(jwt.contains("x5t"));
     }
 
+    @Test
+    public void testJWSCompliantAlgorithmCode() {
+        Assert.assertEquals("none", JWTUtil.getJWSCompliantAlgorithmCode("NONE"));
+        Assert.assertEquals("RS256", JWTUtil.getJWSCompliantAlgorithmCode("SHA256withRSA"));
+        Assert.assertEquals("ES256", JWTUtil.getJWSCompliantAlgorithmCode("SHA256withEC"));
+        Assert.assertEquals("ES256", JWTUtil.getJWSCompliantAlgorithmCode("ES256"));
+        Assert.assertEquals("EdDSA", JWTUtil.getJWSCompliantAlgorithmCode("Ed25519"));
+    }
+
+    @Test
+    public void testSignJwtWithEC() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("EC");
+        keyPairGenerator.initialize(new ECGenParameterSpec("secp256r1"));
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        KeyPair otherKeyPair = keyPairGenerator.generateKeyPair();
+
+        byte[] signature = JWTUtil.signJwt("header.body", keyPair.getPrivate(), "SHA256withEC");
+        // JWS signatures of ES256 are the 32 byte R and S values
+        Assert.assertEquals(64, signature.length);
+        Assert.assertTrue(verify("SHA256withECDSAinP1363Format", keyPair.getPublic(), "header.body", signature));
+
+        // the signature of the thread is reused, and initialized again when the key changes
+        signature = JWTUtil.signJwt("header.other", otherKeyPair.getPrivate(), "SHA256withEC");
+        Assert.assertTrue(verify("SHA256withECDSAinP1363Format", otherKeyPair.getPublic(), "header.other",
+                signature));
+        signature = JWTUtil.signJwt("header.body", keyPair.getPrivate(), "SHA256withEC");
+        Assert.assertTrue(verify("SHA256withECDSAinP1363Format", keyPair.getPublic(), "header.body", signature));
+    }
+
+    @Test
+    public void testSignJwtWithRSA() throws Exception {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        for (int i = 0; i < 3; i++) {
+            byte[] signature = JWTUtil.signJwt("header.body" + i, keyPair.getPrivate(), "SHA256withRSA");
+            Assert.assertTrue(verify("SHA256withRSA", keyPair.getPublic(), "header.body" + i, signature));
+        }
+    }
+
+    @Test
+    public void testSignJwtWithEd25519() throws Exception {
+        KeyPairGenerator keyPairGenerator;
+        try {
+            keyPairGenerator = KeyPairGenerator.getInstance("Ed25519");
+        } catch (NoSuchAlgorithmException e) {
+            // Ed25519 is only available from Java 15
+            Assume.assumeNoException(e);
+            return;
+        }
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        byte[] signature = JWTUtil.signJwt("header.body", keyPair.getPrivate(), "Ed25519");
+        Assert.assertEquals(64, signature.length);
+        Assert.assertTrue(verify("Ed25519", keyPair.getPublic(), "header.body", signature));
+    }
+
+    private boolean verify(String algorithm, PublicKey publicKey, String assertion, byte[] signature)
+            throws Exception {
+        Signature verifier = Signature.getInstance(algorithm);
+        verifier.initVerify(publicKey);
+        verifier.update(assertion.getBytes(Charset.defaultCharset()));
+        return verifier.verify(signature);
+    }
+
     private String generateCertThumbprint(Certificate cert, String hashingAlgorithm) throws Exception {
         //Get the public certificate's thumbprint and base64url encode it
         byte[] der = cert.getEncoded();
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.common.gateway.graphql;
+
+import graphql.parser.InvalidSyntaxException;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for {@link GraphQLDocumentCache} and the analysis of cached queries.
+ */
+public class GraphQLDocumentCacheTest {
+
+    private final String schemaRelativePath = File.separator + "graphQL" + File.separator
+            + "schema_with_subscriptions.graphql";
+    private GraphQLSchema schema;
+
+    @Before
+    public void setup() throws Exception {
+        schema = createSchema();
+    }
+
+    private GraphQLSchema createSchema() throws Exception {
+        String schemaString = IOUtils.toString(this.getClass().getResourceAsStream(schemaRelativePath),
+                StandardCharsets.UTF_8);
+        TypeDefinitionRegistry registry = new SchemaParser().parse(schemaString);
+        return UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+    }
+
+    @Test
+    public void testQueryIsParsedOncePerSchema() throws Exception {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(10);
+        String query = "{allLifts{name}}";
+        ParsedGraphQLQuery parsedQuery = cache.getOrParse(schema, query);
+        Assert.assertNull(parsedQuery.getValidationErrorMessage());
+        Assert.assertSame(parsedQuery, cache.getOrParse(schema, query));
+        Assert.assertSame(parsedQuery, cache.getByHash(schema, GraphQLDocumentCache.hash(query)));
+        Assert.assertSame(parsedQuery, cache.getByHash(schema, GraphQLDocumentCache.hash(query).toUpperCase()));
+
+        // a redeployed API has a new schema, against which the query has to be validated again
+        GraphQLSchema newSchema = createSchema();
+        Assert.assertNull(cache.getByHash(newSchema, GraphQLDocumentCache.hash(query)));
+        Assert.assertNotSame(parsedQuery, cache.getOrParse(newSchema, query));
+    }
+
+    @Test
+    public void testValidationErrorsAreCached() {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(10);
+        ParsedGraphQLQuery parsedQuery = cache.getOrParse(schema, "{allLifts{unknownField}}");
+        Assert.assertNotNull(parsedQuery.getValidationErrorMessage());
+        Assert.assertFalse(parsedQuery.getValidationErrors().isEmpty());
+    }
+
+    @Test
+    public void testInvalidSyntaxIsNotCached() {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(10);
+        String query = "{allLifts{name}";
+        try {
+            cache.getOrParse(schema, query);
+            Assert.fail("Query with invalid syntax was parsed");
+        } catch (InvalidSyntaxException e) {
+            Assert.assertNull(cache.getByHash(schema, GraphQLDocumentCache.hash(query)));
+        }
+    }
+
+    @Test
+    public void testLeastRecentlyUsedQueryIsEvicted() {
+        GraphQLDocumentCache cache = new GraphQLDocumentCache(2);
+        String first = "{allLifts{name}}";
+        String second = "{allLifts{id}}";
+        String third = "{allTrails{name}}";
+        cache.getOrParse(schema, first);
+        cache.getOrParse(schema, second);
+        cache.getByHash(schema, GraphQLDocumentCache.hash(first));
+        cache.getOrParse(schema, third);
+        Assert.assertNotNull(cache.getByHash(schema, GraphQLDocumentCache.hash(first)));
+        Assert.assertNull(cache.getByHash(schema, GraphQLDocumentCache.hash(second)));
+        Assert.assertNotNull(cache.getByHash(schema, GraphQLDocumentCache.hash(third)));
+    }
+
+    @Test
+    public void testAnalysisOfCachedQuery() throws Exception {
+        QueryAnalyzer queryAnalyzer = new QueryAnalyzer(schema);
+        String complexityPolicy = "{\"complexity\":{\"Subscription\":{\"liftStatusChange\":3},"
+                + "\"Lift\":{\"night\":1,\"name\":1,\"elevationGain\":1,\"id\":1,\"capacity\":1}}}";
+        ParsedGraphQLQuery parsedQuery = new GraphQLDocumentCache(10).getOrParse(schema,
+                "subscription {\n  liftStatusChange {\n    name\n    id\n  }\n}\n");
+
+        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(1, parsedQuery);
+        Assert.assertFalse(responseDTO.isSuccess());
+        Assert.assertTrue(responseDTO.getErrorList().toString().contains("maximum query depth exceeded 2 > 1"));
+        Assert.assertTrue(queryAnalyzer.analyseQueryDepth(2, parsedQuery).isSuccess());
+
+        // liftStatusChange costs 3 and each of its two fields 1
+        Assert.assertTrue(queryAnalyzer.analyseQueryMutationComplexity(parsedQuery, 5, complexityPolicy)
+                .isSuccess());
+        responseDTO = queryAnalyzer.analyseQueryMutationComplexity(parsedQuery, 4, complexityPolicy);
+        Assert.assertFalse(responseDTO.isSuccess());
+        Assert.assertTrue(responseDTO.getErrorList().toString().contains("maximum query complexity exceeded"));
+
+        // the depth and complexity measured with the policy are reused
+        Assert.assertEquals(complexityPolicy, parsedQuery.getMetrics().getComplexityPolicy());
+        Assert.assertTrue(queryAnalyzer.analyseQueryDepth(2, parsedQuery).isSuccess());
+        Assert.assertEquals(complexityPolicy, parsedQuery.getMetrics().getComplexityPolicy());
+    }
+}
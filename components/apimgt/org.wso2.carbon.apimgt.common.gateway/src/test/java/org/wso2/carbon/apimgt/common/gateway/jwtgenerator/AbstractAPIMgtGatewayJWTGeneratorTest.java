@@ -47,4 +47,24 @@ public class AbstractAPIMgtGatewayJWTGeneratorTest {
             Assert.fail("JWTGeneratorException thrown");
         }
     }
+
+    @Test
+    public void testSignatureAlgorithm() {
+        AbstractAPIMgtGatewayJWTGenerator apiMgtGatewayJWTGenerator = new APIMgtGatewayJWTGeneratorImpl();
+        jwtConfigurationDto.setSignatureAlgorithm("ES256");
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        Assert.assertEquals(AbstractAPIMgtGatewayJWTGenerator.SHA256_WITH_EC,
+                apiMgtGatewayJWTGenerator.getSignatureAlgorithm());
+
+        jwtConfigurationDto.setSignatureAlgorithm("EdDSA");
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        Assert.assertEquals(AbstractAPIMgtGatewayJWTGenerator.ED25519,
+                apiMgtGatewayJWTGenerator.getSignatureAlgorithm());
+
+        // unknown algorithms fall back to RS256
+        jwtConfigurationDto.setSignatureAlgorithm("SHA1withDSA");
+        apiMgtGatewayJWTGenerator.setJWTConfigurationDto(jwtConfigurationDto);
+        Assert.assertEquals(AbstractAPIMgtGatewayJWTGenerator.SHA256_WITH_RSA,
+                apiMgtGatewayJWTGenerator.getSignatureAlgorithm());
+    }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import com.google.gson.Gson;
+import graphql.schema.GraphQLSchema;
+import graphql.schema.idl.SchemaParser;
+import graphql.schema.idl.TypeDefinitionRegistry;
+import graphql.schema.idl.UnExecutableSchemaGenerator;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Prepares the runtime artifacts of a tenant for deployment at gateway startup.
+ * <p>
+ * The artifacts are parsed in parallel by a bounded number of threads of the tenant, and ordered so that the APIs
+ * with priority contexts are deployed first, in the order of their contexts, followed by the other APIs in the order
+ * of their artifacts. The GraphQL schemas of the ordered APIs are then parsed in the background in the same order,
+ * while the APIs are deployed one by one, as the Synapse configuration is not meant to be deployed to concurrently.
+ */
+final class APIDeploymentPipeline implements AutoCloseable {
+
+    private static final Log log = LogFactory.getLog(APIDeploymentPipeline.class);
+
+    private final ExecutorService executor;
+    private final Map<String, Integer> contextPriorities = new HashMap<>();
+    private final AtomicLong parseTime = new AtomicLong();
+    private final AtomicLong schemaParseTime = new AtomicLong();
+    private int parseFailures;
+
+    /**
+     * @param tenantDomain        tenant domain of the artifacts
+     * @param concurrency         number of threads which prepare the artifacts
+     * @param priorityApiContexts contexts of the APIs which are deployed first, in the order they are deployed
+     */
+    APIDeploymentPipeline(String tenantDomain, int concurrency, Collection<String> priorityApiContexts) {
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency), runnable -> {
+            Thread thread = new Thread(runnable, "APIDeployment-" + tenantDomain + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        int priority = 0;
+        for (String context : priorityApiContexts) {
+            contextPriorities.putIfAbsent(context, priority++);
+        }
+    }
+
+    /**
+     * Parses the runtime artifacts and orders them for deployment, and starts parsing the GraphQL schemas of the
+     * ordered APIs. Empty artifacts are skipped, and artifacts which cannot be parsed are logged and counted in
+     * {@link #getParseFailures()}.
+     *
+     * @param runtimeArtifacts runtime artifacts of the APIs
+     * @return the APIs in the order they are to be deployed
+     * @throws InterruptedException if interrupted while waiting for the artifacts to be parsed
+     */
+    List<PreparedAPI> prepare(List<String> runtimeArtifacts) throws InterruptedException {
+
+        List<Callable<GatewayAPIDTO>> parseTasks = new ArrayList<>(runtimeArtifacts.size());
+        for (String runtimeArtifact : runtimeArtifacts) {
+            if (StringUtils.isNotEmpty(runtimeArtifact)) {
+                parseTasks.add(() -> {
+                    long start = System.nanoTime();
+                    try {
+                        return new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
+                    } finally {
+                        parseTime.addAndGet(System.nanoTime() - start);
+                    }
+                });
+            }
+        }
+        List<GatewayAPIDTO> gatewayAPIDTOs = new ArrayList<>(parseTasks.size());
+        for (Future<GatewayAPIDTO> future : executor.invokeAll(parseTasks)) {
+            try {
+                GatewayAPIDTO gatewayAPIDTO = future.get();
+                if (gatewayAPIDTO != null) {
+                    gatewayAPIDTOs.add(gatewayAPIDTO);
+                }
+            } catch (ExecutionException e) {
+                log.error("Error while parsing a runtime artifact", e.getCause());
+                parseFailures++;
+            }
+        }
+        // the sort is stable, so APIs without priority keep the order of their artifacts
+        gatewayAPIDTOs.sort(Comparator.comparingInt(this::getPriority));
+
+        List<PreparedAPI> preparedAPIs = new ArrayList<>(gatewayAPIDTOs.size());
+        for (GatewayAPIDTO gatewayAPIDTO : gatewayAPIDTOs) {
+            Future<GraphQLSchemaDTO> graphQLSchema = null;
+            if (gatewayAPIDTO.getGraphQLSchema() != null) {
+                graphQLSchema = executor.submit(() -> parseGraphQLSchema(gatewayAPIDTO.getGraphQLSchema()));
+            }
+            preparedAPIs.add(new PreparedAPI(gatewayAPIDTO, graphQLSchema));
+        }
+        return preparedAPIs;
+    }
+
+    private int getPriority(GatewayAPIDTO gatewayAPIDTO) {
+
+        Integer priority = gatewayAPIDTO.getApiContext() == null ? null
+                : contextPriorities.get(gatewayAPIDTO.getApiContext());
+        return priority != null ? priority : Integer.MAX_VALUE;
+    }
+
+    private GraphQLSchemaDTO parseGraphQLSchema(String graphQLSchema) {
+
+        long start = System.nanoTime();
+        try {
+            TypeDefinitionRegistry registry = new SchemaParser().parse(graphQLSchema);
+            GraphQLSchema schema = UnExecutableSchemaGenerator.makeUnExecutableSchema(registry);
+            return new GraphQLSchemaDTO(schema, registry);
+        } finally {
+            schemaParseTime.addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * @return number of artifacts which could not be parsed
+     */
+    int getParseFailures() {
+
+        return parseFailures;
+    }
+
+    /**
+     * @return time spent parsing artifacts in nanoseconds, summed over the threads
+     */
+    long getParseTime() {
+
+        return parseTime.get();
+    }
+
+    /**
+     * @return time spent parsing GraphQL schemas in nanoseconds, summed over the threads
+     */
+    long getSchemaParseTime() {
+
+        return schemaParseTime.get();
+    }
+
+    @Override
+    public void close() {
+
+        executor.shutdownNow();
+    }
+
+    /**
+     * An API parsed from its runtime artifact, with its GraphQL schema if it is a GraphQL API.
+     */
+    static final class PreparedAPI {
+
+        private final GatewayAPIDTO gatewayAPIDTO;
+        private final Future<GraphQLSchemaDTO> graphQLSchema;
+
+        private PreparedAPI(GatewayAPIDTO gatewayAPIDTO, Future<GraphQLSchemaDTO> graphQLSchema) {
+
+            this.gatewayAPIDTO = gatewayAPIDTO;
+            this.graphQLSchema = graphQLSchema;
+        }
+
+        GatewayAPIDTO getGatewayAPIDTO() {
+
+            return gatewayAPIDTO;
+        }
+
+        /**
+         * Waits for the GraphQL schema of the API to be parsed.
+         *
+         * @return parsed GraphQL schema, or null if the API has no GraphQL schema
+         * @throws InterruptedException if interrupted while waiting for the schema to be parsed
+         * @throws ExecutionException   if the schema could not be parsed
+         */
+        GraphQLSchemaDTO getGraphQLSchema() throws InterruptedException, ExecutionException {
+
+            return graphQLSchema != null ? graphQLSchema.get() : null;
+        }
+    }
+}
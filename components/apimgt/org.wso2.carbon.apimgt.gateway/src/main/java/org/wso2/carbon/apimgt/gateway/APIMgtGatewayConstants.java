@@ -80,6 +80,17 @@ public class APIMgtGatewayConstants {
     public static final String TRANSPORT_HEADERS = "TRANSPORT_HEADERS";
     public static final String REGEX_THREAT_PROTECTOR_ENABLED_TENANTS = "regexThreatProtectorEnabledTenants";
     public static final String PAYLOAD_SIZE_LIMIT_FOR_REGEX_TREAT_PROTECTOR = "payloadSizeLimitForRegexThreatProtector";
+    public static final String REGEX_THREAT_PROTECTOR_SCAN_CHUNK_SIZE = "regexThreatProtectorScanChunkSize";
+    public static final String REGEX_THREAT_PROTECTOR_SCAN_OVERLAP = "regexThreatProtectorScanOverlap";
+    public static final String REGEX_THREAT_PROTECTOR_MAX_SCAN_SIZE = "regexThreatProtectorMaxScanSize";
+    public static final int DEFAULT_REGEX_THREAT_PROTECTOR_SCAN_OVERLAP = 1024;
+    public static final String GATEWAY_NEAR_CACHE_ENABLED = "gatewayNearCacheEnabled";
+    public static final String GATEWAY_NEAR_CACHE_MAX_ENTRIES = "gatewayNearCacheMaxEntries";
+    // an entry removed from the gateway caches on another node is seen by the near cache of this node only after it
+    // expires, unless the removal is also notified to this node, such as on token revocation
+    public static final String GATEWAY_NEAR_CACHE_EXPIRY = "gatewayNearCacheExpiry";
+    public static final int DEFAULT_GATEWAY_NEAR_CACHE_MAX_ENTRIES = 10000;
+    public static final int DEFAULT_GATEWAY_NEAR_CACHE_EXPIRY = 60;
 
     /**
      * Constants for handling threat protection exceptions.
@@ -26,11 +26,14 @@ import org.apache.synapse.commons.throttle.core.internal.ThrottleServiceDataHold
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.throttling.util.ThrottleUtils;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
-import redis.clients.jedis.JedisPubSub;
-import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -47,161 +50,187 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
     private static Log log = LogFactory.getLog(HybridThrottleProcessor.class.getName());
     private static final String WSO2_SYNC_MODE_INIT_CHANNEL = "wso2_sync_mode_init_channel";
     /**
-     * callerContextId to nextTimeWindow mapping
+     * Maximum number of callers tracked as notified to be in sync mode. Notifications beyond this are dropped, in
+     * which case the caller switches to sync mode on its own once its local quota is reached.
      */
-    ConcurrentHashMap<String, String> syncModeNotifiedMap = new ConcurrentHashMap<>();
+    static final int MAX_SYNC_MODE_NOTIFIED_CALLERS = 100000;
+    private static final long GATEWAY_COUNT_CHECKING_FREQUENCY = 10000;
+    private static final String SYNC_MODE_SWITCHES = "SyncModeSwitches";
+    private static final String SYNC_MODE_NOTIFICATIONS = "SyncModeNotifications";
+    private static final String DROPPED_SYNC_MODE_NOTIFICATIONS = "DroppedSyncModeNotifications";
+    private static final String SYNC_MODE_CHANNEL_RECONNECTIONS = "SyncModeChannelReconnections";
+    /**
+     * callerContextId to nextTimeWindow mapping. Entries are removed once their time window is over.
+     */
+    ConcurrentHashMap<String, Long> syncModeNotifiedMap = new ConcurrentHashMap<>();
     JedisPool redisPool;
     private ThrottleDataHolder dataHolder;
     private String gatewayId;
     private static final String SYNC_MODE_MSG_PART_DELIMITER = "___";
+    private RedisChannelSubscriber syncModeInitChannelSubscriber;
+    private ScheduledExecutorService maintenanceExecutor;
 
     public HybridThrottleProcessor() {
-        redisPool = ServiceReferenceHolder.getInstance().getRedisPool();
-        RedisConfig redisConfig = org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
-                .getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig();
-        gatewayId = redisConfig.getGatewayId();
-
-        ScheduledExecutorService syncModeInitChannelSubscriptionExecutor = Executors.newScheduledThreadPool(1);
-        syncModeInitChannelSubscriptionExecutor.scheduleAtFixedRate(new SyncModeInitChannelSubscription(), 0, 1,
+        this(ServiceReferenceHolder.getInstance().getRedisPool(),
+                org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.getInstance()
+                        .getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig()
+                        .getGatewayId());
+
+        syncModeInitChannelSubscriber = new RedisChannelSubscriber(redisPool, WSO2_SYNC_MODE_INIT_CHANNEL,
+                this::onSyncModeInitMessage,
+                () -> getCounter(SYNC_MODE_CHANNEL_RECONNECTIONS).inc());
+        syncModeInitChannelSubscriber.start();
+
+        maintenanceExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "HybridThrottleProcessorMaintenance");
+            thread.setDaemon(true);
+            return thread;
+        });
+        maintenanceExecutor.scheduleWithFixedDelay(new ChannelSubscriptionCounterTask(), 15000,
+                GATEWAY_COUNT_CHECKING_FREQUENCY, TimeUnit.MILLISECONDS);
+        maintenanceExecutor.scheduleWithFixedDelay(() -> removeExpiredSyncModeNotifications(
+                System.currentTimeMillis()), GATEWAY_COUNT_CHECKING_FREQUENCY, GATEWAY_COUNT_CHECKING_FREQUENCY,
                 TimeUnit.MILLISECONDS);
+    }
 
-        ScheduledExecutorService channelSubscriptionCounterExecutor = Executors.newScheduledThreadPool(1);
-        int gatewayCountCheckingFrequency = 10000;
-        channelSubscriptionCounterExecutor.scheduleAtFixedRate(new ChannelSubscriptionCounterTask(), 15000,
-                gatewayCountCheckingFrequency, TimeUnit.MILLISECONDS);
+    HybridThrottleProcessor(JedisPool redisPool, String gatewayId) {
+        this.redisPool = redisPool;
+        this.gatewayId = gatewayId;
     }
 
-    private class SyncModeInitChannelSubscription implements Runnable {
-        private static final int initialRedisConnectionRetryInterval = 5000;
-        long redisConnectionRetryInterval = initialRedisConnectionRetryInterval;
+    /**
+     * Stops listening to sync mode changes of the other gateways and the periodic maintenance tasks.
+     */
+    public void shutdown() {
+        if (syncModeInitChannelSubscriber != null) {
+            syncModeInitChannelSubscriber.stop();
+        }
+        if (maintenanceExecutor != null) {
+            maintenanceExecutor.shutdownNow();
+        }
+    }
 
-        public void run() {
+    /**
+     * Handles a message of another gateway notifying that a caller switched to sync mode. The message is in the
+     * format gatewayId___callerContextId___nextTimeWindow.
+     */
+    void onSyncModeInitMessage(String syncModeInitMsg) {
+        if (log.isTraceEnabled()) {
+            log.trace("Sync mode changed message received to this node " + gatewayId + ". Msg : " + syncModeInitMsg);
+        }
+        int callerContextIdStart = syncModeInitMsg.indexOf(SYNC_MODE_MSG_PART_DELIMITER);
+        int nextTimeWindowStart = syncModeInitMsg.lastIndexOf(SYNC_MODE_MSG_PART_DELIMITER);
+        if (callerContextIdStart < 0 || nextTimeWindowStart <= callerContextIdStart) {
+            log.warn("Ignoring malformed sync mode changed message: " + syncModeInitMsg);
+            return;
+        }
+        if (gatewayId != null && gatewayId.length() == callerContextIdStart
+                && syncModeInitMsg.startsWith(gatewayId)) {
             if (log.isTraceEnabled()) {
-                log.trace("SyncModeInitChannelSubscription Thread Running");
+                log.trace("Ignoring as message received to own node ! ");
+            }
+            return;
+        }
+        String callerContextId = syncModeInitMsg.substring(
+                callerContextIdStart + SYNC_MODE_MSG_PART_DELIMITER.length(), nextTimeWindowStart);
+        long nextTimeWindow;
+        try {
+            nextTimeWindow = Long.parseLong(
+                    syncModeInitMsg.substring(nextTimeWindowStart + SYNC_MODE_MSG_PART_DELIMITER.length()));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring sync mode changed message with an invalid time window: " + syncModeInitMsg);
+            return;
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Going to put callerContextId " + callerContextId
+                    + " into syncModeNotifiedSet with nextTimeWindow " + nextTimeWindow);
+        }
+        getCounter(SYNC_MODE_NOTIFICATIONS).inc();
+        if (!putSyncModeNotification(callerContextId, nextTimeWindow)) {
+            return;
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Caller " + callerContextId + " SWITCHED TO SYNC MODE by message received ! :");
+        }
+        // sync throttle params to redis to consider local unpublished request counts in distributed counters
+        if (dataHolder != null) {
+            if (log.isTraceEnabled()) {
+                log.trace("DataHolder is not null so running syncing tasks." + " message:" + syncModeInitMsg);
             }
-            JedisPubSub jedisPubSub = new JedisPubSub() {
-                @Override
-                public void onSubscribe(String channel, int subscribedChannels) {
-                    super.onSubscribe(channel, subscribedChannels);
-                    if (log.isTraceEnabled()) {
-                        log.trace("Gateway is Subscribed to " + channel);
-                    }
-                    redisConnectionRetryInterval = initialRedisConnectionRetryInterval;
-                }
 
-                @Override
-                public void onUnsubscribe(String channel, int subscribedChannels) {
-                    super.onUnsubscribe(channel, subscribedChannels);
-                    if (log.isWarnEnabled()) {
-                        log.warn("Gateway client is Unsubscribed from channel: " + channel);
-                    }
+            CallerContext callerContext = dataHolder.getCallerContext(callerContextId);
+            if (callerContext != null) {
+                if (log.isTraceEnabled()) {
+                    log.trace("Running forced syncing tasks for callerContext: " + callerContext.getId()
+                            + " message:" + syncModeInitMsg);
                 }
-
-                @Override
-                public void onMessage(String channel, String syncModeInitMsg) {
-                    super.onMessage(channel, syncModeInitMsg);
-                    if (log.isTraceEnabled()) {
-                        log.trace("Sync mode changed message received to this node " + gatewayId + ". Channel: "
-                                + channel + " " + "Msg : " + syncModeInitMsg);
-                    }
-                    if (syncModeInitMsg.startsWith(gatewayId)) {
-                        if (log.isTraceEnabled()) {
-                            log.trace("Ignoring as message received to own node ! ");
-                        }
-                        return;
-                    }
-                    if (log.isTraceEnabled()) {
-                        log.trace("Message received from channel: " + channel + " Message: " + syncModeInitMsg);
-                    }
-                    String[] messageParts = syncModeInitMsg.split(SYNC_MODE_MSG_PART_DELIMITER);
-                    // messageParts[0] = gatewayId , messageParts[1] = callerContextId , messageParts[2] = nextTimeWindow
-                    String callerContextId = messageParts[1];
-                    String nextTimeWindow = messageParts[2];
-                    if (log.isTraceEnabled()) {
-                        log.trace("Going to put callerContextId " + callerContextId
-                                + " into syncModeNotifiedSet with nextTimeWindow " + nextTimeWindow);
-                    }
-
-                    syncModeNotifiedMap.put(callerContextId, nextTimeWindow);
-                    if (log.isTraceEnabled()) {
-                        log.trace("Caller " + callerContextId + " SWITCHED TO SYNC MODE by message received ! :");
-                    }
-                    // sync throttle params to redis to consider local unpublished request counts in distributed counters
-                    if (dataHolder != null) {
-                        if (log.isTraceEnabled()) {
-                            log.trace(
-                                    "DataHolder is not null so running syncing tasks." + " message:" + syncModeInitMsg);
+                synchronized (callerContext.getId().intern()) {
+                    if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
+                        long syncingStartTime = System.currentTimeMillis();
+                        syncThrottleWindowParams(callerContext, false);
+                        syncThrottleCounterParams(callerContext, false,
+                                new RequestContext(System.currentTimeMillis()));
+                        SharedParamManager.releaseSharedKeys(callerContext.getId());
+                        long timeNow = System.currentTimeMillis();
+                        if (log.isDebugEnabled()) {
+                            log.debug("Current time:" + timeNow + "In force syncing process, Lock released in "
+                                    + (timeNow - syncingStartTime) + " ms for callerContext: "
+                                    + callerContext.getId());
                         }
 
-                        CallerContext callerContext = dataHolder.getCallerContext(callerContextId);
-                        if (callerContext != null) {
-                            if (log.isTraceEnabled()) {
-                                log.trace("Running forced syncing tasks for callerContext: " + callerContext.getId()
-                                        + " message:" + syncModeInitMsg);
-                            }
-                            synchronized (callerContext.getId().intern()) {
-                                if (SharedParamManager.lockSharedKeys(callerContext.getId(), gatewayId)) {
-                                    long syncingStartTime = System.currentTimeMillis();
-                                    syncThrottleWindowParams(callerContext, false);
-                                    syncThrottleCounterParams(callerContext, false,
-                                            new RequestContext(System.currentTimeMillis()));
-                                    SharedParamManager.releaseSharedKeys(callerContext.getId());
-                                    long timeNow = System.currentTimeMillis();
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Current time:" + timeNow
-                                                + "In force syncing process, Lock released in " + (timeNow
-                                                - syncingStartTime) + " ms for callerContext: "
-                                                + callerContext.getId());
-                                    }
-
-                                } else {
-                                    if (log.isTraceEnabled()) {
-                                        log.trace("Current time:" + System.currentTimeMillis()
-                                                + " Failed to acquire lock for callerContext: " + callerContext.getId()
-                                                + " message:" + syncModeInitMsg);
-                                    }
-                                }
-                            }
-                        } else {
-                            if (log.isTraceEnabled()) {
-                                log.trace("CallerContext is null so not running syncing tasks. message:"
-                                        + syncModeInitMsg);
-                            }
-                        }
                     } else {
                         if (log.isTraceEnabled()) {
-                            log.trace(
-                                    "DataHolder is null so not running syncing tasks. message:" + syncModeInitMsg);
+                            log.trace("Current time:" + System.currentTimeMillis()
+                                    + " Failed to acquire lock for callerContext: " + callerContext.getId()
+                                    + " message:" + syncModeInitMsg);
                         }
                     }
                 }
-            };
-            subscribeWithRetry(jedisPubSub);
+            } else {
+                if (log.isTraceEnabled()) {
+                    log.trace("CallerContext is null so not running syncing tasks. message:" + syncModeInitMsg);
+                }
+            }
+        } else {
+            if (log.isTraceEnabled()) {
+                log.trace("DataHolder is null so not running syncing tasks. message:" + syncModeInitMsg);
+            }
         }
+    }
 
-        /**
-         * This method is used to subscribe to the channel in Redis with reconnection tries if connection was broken.
-         */
-        private void subscribeWithRetry(JedisPubSub jedisPubSub) {
-            try (Jedis jedis = redisPool.getResource()) {
-                jedis.subscribe(jedisPubSub, WSO2_SYNC_MODE_INIT_CHANNEL);
-            } catch (JedisConnectionException e) {
-                log.error("Could not establish connection by retrieving a resource from the redis pool. So error "
-                        + "occurred while subscribing to channel: " + WSO2_SYNC_MODE_INIT_CHANNEL, e);
-                log.info("Next retry to subscribe to channel " + WSO2_SYNC_MODE_INIT_CHANNEL + " in "
-                        + redisConnectionRetryInterval + " seconds");
-                try {
-                    // sleep for given duration before retrying to subscribe, if the redis channel
-                    // subscription failed
-                    Thread.sleep(redisConnectionRetryInterval);
-                    redisConnectionRetryInterval *= 2;
-                } catch (InterruptedException ex) {
-                    log.error("Error while sleeping before retrying to subscribe to channel: "
-                            + WSO2_SYNC_MODE_INIT_CHANNEL, ex);
-                }
-                subscribeWithRetry(jedisPubSub);
+    /**
+     * Records that a caller is in sync mode until the given time window is over, unless the maximum number of
+     * callers are already tracked.
+     *
+     * @return whether the caller was recorded
+     */
+    boolean putSyncModeNotification(String callerContextId, long nextTimeWindow) {
+        if (syncModeNotifiedMap.size() >= MAX_SYNC_MODE_NOTIFIED_CALLERS
+                && !syncModeNotifiedMap.containsKey(callerContextId)) {
+            removeExpiredSyncModeNotifications(System.currentTimeMillis());
+            if (syncModeNotifiedMap.size() >= MAX_SYNC_MODE_NOTIFIED_CALLERS) {
+                getCounter(DROPPED_SYNC_MODE_NOTIFICATIONS).inc();
+                if (log.isDebugEnabled()) {
+                    log.debug("Dropped sync mode notification of caller " + callerContextId + " as "
+                            + MAX_SYNC_MODE_NOTIFIED_CALLERS + " callers are already in sync mode");
+                }
+                return false;
             }
         }
+        syncModeNotifiedMap.put(callerContextId, nextTimeWindow);
+        return true;
+    }
+
+    /**
+     * Removes the callers whose sync mode time window is over, as they switch back to async mode anyway.
+     */
+    void removeExpiredSyncModeNotifications(long currentTime) {
+        syncModeNotifiedMap.values().removeIf(nextTimeWindow -> nextTimeWindow < currentTime);
+    }
+
+    protected Counter getCounter(String name) {
+        return MetricManager.counter(Level.INFO,
+                MetricManager.name(APIConstants.METRICS_PREFIX, this.getClass().getSimpleName(), name));
     }
 
     /**
@@ -213,6 +242,10 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
             Map<String, String> channelCountMap;
             try (Jedis jedis = redisPool.getResource()) {
                 channelCountMap = jedis.pubsubNumSub(WSO2_SYNC_MODE_INIT_CHANNEL);
+            } catch (JedisException e) {
+                log.error("Error while counting the gateways subscribed to channel: " + WSO2_SYNC_MODE_INIT_CHANNEL,
+                        e);
+                return;
             }
             for (Map.Entry<String, String> entry : channelCountMap.entrySet()) {
                 String channel = entry.getKey();
@@ -314,7 +347,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
                                 + ", localQuota = " + callerContext.getLocalQuota());
             }
 
-            syncModeNotifiedMap.put(callerContext.getId(), String.valueOf(callerContext.getNextTimeWindow()));
+            putSyncModeNotification(callerContext.getId(), callerContext.getNextTimeWindow());
+            getCounter(SYNC_MODE_SWITCHES).inc();
             try (Jedis jedis = redisPool.getResource()) {
                 if (log.isTraceEnabled()) {
                     log.trace("Publishing message to channel. message: " + message);
@@ -721,8 +755,8 @@ public class HybridThrottleProcessor implements DistributedThrottleProcessor {
             }
         } else {
             // if a sync mode switching msg has been received or own node exceeded local quota
-            if (syncModeNotifiedMap.containsKey(callerContext.getId())) {
-                long nextTimeWindowOfSyncMessage = Long.parseLong(syncModeNotifiedMap.get(callerContext.getId()));
+            Long nextTimeWindowOfSyncMessage = syncModeNotifiedMap.get(callerContext.getId());
+            if (nextTimeWindowOfSyncMessage != null) {
                 // still within the time window that the sync message was sent by some other GW node or mode switched by own node
                 if (nextTimeWindowOfSyncMessage >= requestContext.getRequestTime()) {
                     callerContext.setIsThrottleParamSyncingModeSync(true);
@@ -41,7 +41,9 @@ import org.wso2.carbon.apimgt.api.model.APIIdentifier;
 import org.wso2.carbon.apimgt.api.model.APIProductIdentifier;
 import org.wso2.carbon.apimgt.common.gateway.constants.HealthCheckConstants;
 import org.wso2.carbon.apimgt.common.gateway.constants.JWTConstants;
+import org.wso2.carbon.apimgt.gateway.dto.APIDeploymentProgress;
 import org.wso2.carbon.apimgt.gateway.handlers.analytics.Constants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.OpenAPIValidatorCache;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.service.APIGatewayAdmin;
@@ -59,6 +61,9 @@ import org.wso2.carbon.apimgt.impl.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
 
 import java.io.File;
 import java.io.IOException;
@@ -69,6 +74,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class contains the methods used to retrieve artifacts from a storage and deploy and undeploy the API in gateway.
@@ -76,6 +83,10 @@ import java.util.UUID;
 public class InMemoryAPIDeployer {
 
     private static final Log log = LogFactory.getLog(InMemoryAPIDeployer.class);
+    private static final String FETCH_STAGE = "ArtifactFetch";
+    private static final String PARSE_STAGE = "ArtifactParse";
+    private static final String SCHEMA_PARSE_STAGE = "GraphQLSchemaParse";
+    private static final String DEPLOY_STAGE = "SynapseDeploy";
     ArtifactRetriever artifactRetriever;
     GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     DeploymentStatusNotifier deploymentStatusNotifier;
@@ -242,8 +253,11 @@ public class InMemoryAPIDeployer {
                     PrivilegedCarbonContext.startTenantFlow();
                     PrivilegedCarbonContext.getThreadLocalCarbonContext()
                             .setTenantDomain(tenantDomain, true);
+                    long fetchStart = System.nanoTime();
                     List<String> gatewayRuntimeArtifacts = ServiceReferenceHolder.getInstance().getArtifactRetriever()
                             .retrieveAllArtifacts(encodedString, tenantDomain);
+                    long fetchTime = System.nanoTime() - fetchStart;
+                    getStageTimer(FETCH_STAGE).update(fetchTime, TimeUnit.NANOSECONDS);
                     if (gatewayRuntimeArtifacts.isEmpty()) {
                         return true;
                     }
@@ -251,22 +265,58 @@ public class InMemoryAPIDeployer {
                         DataHolder dataHolder = DataHolder.getInstance();
                         apiMap = dataHolder.getTenantAPIMap().get(tenantDomain);
                     }
-                    for (String runtimeArtifact : gatewayRuntimeArtifacts) {
-                        GatewayAPIDTO gatewayAPIDTO = null;
-                        try {
-                            if (StringUtils.isNotEmpty(runtimeArtifact)) {
-                                gatewayAPIDTO = new Gson().fromJson(runtimeArtifact, GatewayAPIDTO.class);
+                    try (APIDeploymentPipeline pipeline = new APIDeploymentPipeline(tenantDomain,
+                            gatewayArtifactSynchronizerProperties.getDeploymentConcurrency(),
+                            gatewayArtifactSynchronizerProperties.getPriorityApiContexts())) {
+                        List<APIDeploymentPipeline.PreparedAPI> preparedAPIs =
+                                pipeline.prepare(gatewayRuntimeArtifacts);
+                        errorCount += pipeline.getParseFailures();
+                        APIDeploymentProgress progress = new APIDeploymentProgress(preparedAPIs.size());
+                        DataHolder.getInstance().setAPIDeploymentProgress(tenantDomain, progress);
+                        long deployTime = 0;
+                        for (APIDeploymentPipeline.PreparedAPI preparedAPI : preparedAPIs) {
+                            GatewayAPIDTO gatewayAPIDTO = preparedAPI.getGatewayAPIDTO();
+                            long deployStart = System.nanoTime();
+                            try {
+                                GraphQLSchemaDTO graphQLSchemaDTO = preparedAPI.getGraphQLSchema();
                                 if (redeployChangedAPIs && apiMap != null) {
-                                    reDeployAPIs(gatewayAPIDTO, apiMap, assignedGatewayLabels, tenantDomain, apiGatewayAdmin);
+                                    reDeployAPIs(gatewayAPIDTO, graphQLSchemaDTO, apiMap, assignedGatewayLabels,
+                                            tenantDomain, apiGatewayAdmin);
                                 } else {
-                                    deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                                    deployAPIFromDTO(gatewayAPIDTO, graphQLSchemaDTO, apiGatewayAdmin);
                                     syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
                                 }
+                                logDeploymentProgress(tenantDomain, progress, progress.apiDeployed());
+                            } catch (AxisFault axisFault) {
+                                log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ",
+                                        axisFault);
+                                errorCount++;
+                                progress.apiFailed();
+                            } catch (ExecutionException e) {
+                                log.error("Error in parsing the GraphQL schema of " + gatewayAPIDTO.getName(),
+                                        e.getCause());
+                                errorCount++;
+                                progress.apiFailed();
                             }
-                        } catch (AxisFault axisFault) {
-                            log.error("Error in deploying " + gatewayAPIDTO.getName() + " to the Gateway ", axisFault);
-                            errorCount++;
+                            deployTime += System.nanoTime() - deployStart;
                         }
+                        getStageTimer(PARSE_STAGE).update(pipeline.getParseTime(), TimeUnit.NANOSECONDS);
+                        getStageTimer(SCHEMA_PARSE_STAGE).update(pipeline.getSchemaParseTime(),
+                                TimeUnit.NANOSECONDS);
+                        getStageTimer(DEPLOY_STAGE).update(deployTime, TimeUnit.NANOSECONDS);
+                        log.info(String.format("Deployed %d of %d APIs of tenant %s. Fetched artifacts in %d ms, "
+                                        + "parsed artifacts in %d ms and GraphQL schemas in %d ms over %d threads, "
+                                        + "deployed in %d ms", progress.getDeployedAPIs(),
+                                gatewayRuntimeArtifacts.size(), tenantDomain,
+                                TimeUnit.NANOSECONDS.toMillis(fetchTime),
+                                TimeUnit.NANOSECONDS.toMillis(pipeline.getParseTime()),
+                                TimeUnit.NANOSECONDS.toMillis(pipeline.getSchemaParseTime()),
+                                gatewayArtifactSynchronizerProperties.getDeploymentConcurrency(),
+                                TimeUnit.NANOSECONDS.toMillis(deployTime)));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        log.error("Interrupted while deploying APIs of tenant " + tenantDomain, e);
+                        return false;
                     }
                     // reload dynamic profiles to avoid delays in loading certs in mutual ssl enabled APIs upon
                     // server restart
@@ -301,13 +351,14 @@ public class InMemoryAPIDeployer {
      * and not synced with the gateway due to connection issues.
      *
      * @param gatewayAPIDTO         The GatewayAPIDTO containing API information
+     * @param graphQLSchemaDTO      Parsed GraphQL schema of the API, or null to parse it if it has one
      * @param apiMap                Map of existing APIs
      * @param assignedGatewayLabels Gateway labels assigned to this instance
      * @param tenantDomain          Tenant domain
      * @param apiGatewayAdmin       API Gateway Admin instance
      * @throws AxisFault if error occurs during deployment
      */
-    private void reDeployAPIs(GatewayAPIDTO gatewayAPIDTO,
+    private void reDeployAPIs(GatewayAPIDTO gatewayAPIDTO, GraphQLSchemaDTO graphQLSchemaDTO,
                               Map<String, org.wso2.carbon.apimgt.keymgt.model.entity.API> apiMap,
                               Set<String> assignedGatewayLabels, String tenantDomain,
                               APIGatewayAdmin apiGatewayAdmin) throws AxisFault, ArtifactSynchronizerException {
@@ -328,7 +379,7 @@ public class InMemoryAPIDeployer {
                                                     api.getApiProvider(), api.getApiType(),
                                                     api.getContext());
                 unDeployAPI(deployAPIInGatewayEvent);
-                deployAPIFromDTO(gatewayAPIDTO, apiGatewayAdmin);
+                deployAPIFromDTO(gatewayAPIDTO, graphQLSchemaDTO, apiGatewayAdmin);
                 syncAPIPropertiesAcrossComponents(gatewayAPIDTO);
             } else if (DataHolder.getInstance().getGatewayRegistrationResponse()
                     != APIConstants.GatewayNotification.GatewayRegistrationResponse.ACKNOWLEDGED) {
@@ -344,20 +395,44 @@ public class InMemoryAPIDeployer {
         }
     }
 
-    private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, APIGatewayAdmin apiGatewayAdmin) throws AxisFault {
+    private void deployAPIFromDTO(GatewayAPIDTO gatewayAPIDTO, GraphQLSchemaDTO graphQLSchemaDTO,
+                                  APIGatewayAdmin apiGatewayAdmin) throws AxisFault {
         log.info("Deploying synapse artifacts of API ID: " + gatewayAPIDTO.getApiId() +
                 " and Context: " + gatewayAPIDTO.getApiContext());
         apiGatewayAdmin.deployAPI(gatewayAPIDTO);
         addDeployedCertificatesToAPIAssociation(gatewayAPIDTO);
-        addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+        if (graphQLSchemaDTO != null) {
+            DataHolder.getInstance().addApiToGraphQLSchemaDTO(gatewayAPIDTO.getApiId(), graphQLSchemaDTO);
+        } else {
+            addDeployedGraphqlQLToAPI(gatewayAPIDTO);
+        }
         DataHolder.getInstance().addKeyManagerToAPIMapping(gatewayAPIDTO.getApiId(),
                 gatewayAPIDTO.getKeyManagers());
         DataHolder.getInstance().markAPIAsDeployed(gatewayAPIDTO);
     }
 
 
+    /**
+     * Logs the progress of deploying the APIs of a tenant at each tenth of the APIs.
+     */
+    private void logDeploymentProgress(String tenantDomain, APIDeploymentProgress progress, int deployedAPIs) {
+
+        int step = Math.max(1, progress.getTotalAPIs() / 10);
+        if (deployedAPIs % step == 0) {
+            log.info("Deployed " + deployedAPIs + " of " + progress.getTotalAPIs() + " APIs of tenant "
+                    + tenantDomain);
+        }
+    }
+
+    private Timer getStageTimer(String stage) {
+
+        return MetricManager.timer(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                InMemoryAPIDeployer.class.getSimpleName(), stage));
+    }
+
     private void unDeployAPI(APIGatewayAdmin apiGatewayAdmin, DeployAPIInGatewayEvent gatewayEvent)
             throws AxisFault {
+            OpenAPIValidatorCache.getInstance().invalidate(gatewayEvent.getUuid());
             if (gatewayArtifactSynchronizerProperties.isRetrieveFromStorageEnabled()) {
                 GatewayAPIDTO gatewayAPIDTO = new GatewayAPIDTO();
                 gatewayAPIDTO.setName(gatewayEvent.getName());
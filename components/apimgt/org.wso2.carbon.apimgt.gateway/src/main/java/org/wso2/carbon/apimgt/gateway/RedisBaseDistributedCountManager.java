@@ -38,9 +38,12 @@ public class RedisBaseDistributedCountManager implements DistributedCounterManag
     long keyLockRetrievalTimeout;
 
     public RedisBaseDistributedCountManager(JedisPool redisPool) {
+        this(redisPool, org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.
+                getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig());
+    }
+
+    public RedisBaseDistributedCountManager(JedisPool redisPool, RedisConfig redisConfig) {
         this.redisPool = redisPool;
-        RedisConfig redisConfig = org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder.
-                getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration().getRedisConfig();
         keyLockRetrievalTimeout = redisConfig.getKeyLockRetrievalTimeout();
     }
 
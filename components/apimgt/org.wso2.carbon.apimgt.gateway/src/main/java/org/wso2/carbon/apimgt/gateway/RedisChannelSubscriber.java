@@ -0,0 +1,160 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPubSub;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.function.Consumer;
+
+/**
+ * Keeps a single long-lived subscription to a Redis channel on a dedicated thread. A subscription blocks its
+ * connection until it ends, so the thread waits on the connection instead of polling. When the connection is broken
+ * the channel is subscribed again, backing off exponentially between the attempts until a subscription succeeds.
+ */
+final class RedisChannelSubscriber implements Runnable {
+
+    private static final Log log = LogFactory.getLog(RedisChannelSubscriber.class);
+
+    static final long INITIAL_RETRY_INTERVAL = 1000;
+    static final long MAX_RETRY_INTERVAL = 60000;
+
+    private final JedisPool redisPool;
+    private final String channel;
+    private final Consumer<String> messageHandler;
+    private final Runnable reconnectListener;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile JedisPubSub jedisPubSub;
+    private long retryInterval = INITIAL_RETRY_INTERVAL;
+
+    /**
+     * @param redisPool         pool to take the connection of the subscription from
+     * @param channel           channel to subscribe to
+     * @param messageHandler    handles the messages published to the channel
+     * @param reconnectListener notified each time the channel is subscribed again after the connection was lost
+     */
+    RedisChannelSubscriber(JedisPool redisPool, String channel, Consumer<String> messageHandler,
+                           Runnable reconnectListener) {
+
+        this.redisPool = redisPool;
+        this.channel = channel;
+        this.messageHandler = messageHandler;
+        this.reconnectListener = reconnectListener;
+        this.thread = new Thread(this, "RedisChannelSubscriber-" + channel);
+        this.thread.setDaemon(true);
+    }
+
+    void start() {
+
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+
+        boolean reconnecting = false;
+        while (running) {
+            jedisPubSub = new ChannelListener(reconnecting);
+            try (Jedis jedis = redisPool.getResource()) {
+                jedis.subscribe(jedisPubSub, channel);
+            } catch (JedisException e) {
+                if (!running) {
+                    return;
+                }
+                log.error("Error occurred while subscribing to channel: " + channel + ". Next retry in "
+                        + retryInterval + " ms", e);
+            }
+            if (!running) {
+                return;
+            }
+            reconnecting = true;
+            try {
+                Thread.sleep(retryInterval);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            retryInterval = Math.min(retryInterval * 2, MAX_RETRY_INTERVAL);
+        }
+    }
+
+    /**
+     * Ends the subscription and stops the thread.
+     */
+    void stop() {
+
+        running = false;
+        JedisPubSub subscription = jedisPubSub;
+        if (subscription != null && subscription.isSubscribed()) {
+            try {
+                subscription.unsubscribe();
+            } catch (JedisException e) {
+                log.debug("Error while unsubscribing from channel: " + channel, e);
+            }
+        }
+        thread.interrupt();
+    }
+
+    private class ChannelListener extends JedisPubSub {
+
+        private final boolean reconnecting;
+
+        private ChannelListener(boolean reconnecting) {
+
+            this.reconnecting = reconnecting;
+        }
+
+        @Override
+        public void onSubscribe(String channel, int subscribedChannels) {
+
+            if (log.isTraceEnabled()) {
+                log.trace("Gateway is Subscribed to " + channel);
+            }
+            retryInterval = INITIAL_RETRY_INTERVAL;
+            if (reconnecting) {
+                log.info("Gateway is subscribed again to channel: " + channel);
+                reconnectListener.run();
+            }
+        }
+
+        @Override
+        public void onUnsubscribe(String channel, int subscribedChannels) {
+
+            if (running && log.isWarnEnabled()) {
+                log.warn("Gateway client is Unsubscribed from channel: " + channel);
+            }
+        }
+
+        @Override
+        public void onMessage(String channel, String message) {
+
+            try {
+                messageHandler.accept(message);
+            } catch (RuntimeException e) {
+                // the subscription must outlive a failing message handler
+                log.error("Error occurred while handling message: " + message + " of channel: " + channel, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.Pipeline;
+import redis.clients.jedis.Response;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces the increments of distributed counters made by concurrent requests within a short window. The increments
+ * of a key are summed up and the increments of all the keys are sent to Redis in a single pipelined round trip. Each
+ * caller gets the value the counter would have had if the increments were applied one after the other, so the
+ * coalescing is not visible to the throttling logic other than by the added latency of the window.
+ */
+final class RedisCounterBatcher {
+
+    private static final Log log = LogFactory.getLog(RedisCounterBatcher.class);
+    private static final long SHUTDOWN_TIMEOUT = 5000;
+
+    private final JedisPool redisPool;
+    private final long window;
+    private final ScheduledExecutorService flushExecutor;
+    private final Object lock = new Object();
+    private Map<String, PendingIncrement> pendingIncrements = new HashMap<>();
+
+    RedisCounterBatcher(JedisPool redisPool, long window) {
+
+        this.redisPool = redisPool;
+        this.window = window;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "RedisCounterBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Increments the counter of the given key by the given value.
+     *
+     * @param key   key of the counter
+     * @param value value to add
+     * @return value of the counter after this increment
+     */
+    long addAndGet(String key, long value) {
+
+        PendingIncrement pendingIncrement;
+        long offset;
+        synchronized (lock) {
+            pendingIncrement = pendingIncrements.get(key);
+            if (pendingIncrement == null) {
+                pendingIncrement = new PendingIncrement();
+                if (pendingIncrements.isEmpty()) {
+                    flushExecutor.schedule(this::flush, window, TimeUnit.MILLISECONDS);
+                }
+                pendingIncrements.put(key, pendingIncrement);
+            }
+            offset = pendingIncrement.total;
+            pendingIncrement.total += value;
+        }
+        long valueAfterBatch = await(key, pendingIncrement.result);
+        return valueAfterBatch - pendingIncrement.total + offset + value;
+    }
+
+    private long await(String key, CompletableFuture<Long> result) {
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new JedisException("Interrupted while incrementing counter " + key, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof JedisException) {
+                throw (JedisException) e.getCause();
+            }
+            throw new JedisException("Error while incrementing counter " + key, e.getCause());
+        }
+    }
+
+    private void flush() {
+
+        Map<String, PendingIncrement> increments;
+        synchronized (lock) {
+            increments = pendingIncrements;
+            pendingIncrements = new HashMap<>();
+        }
+        if (increments.isEmpty()) {
+            return;
+        }
+        List<Response<Long>> responses = new ArrayList<>(increments.size());
+        try (Jedis jedis = redisPool.getResource()) {
+            Pipeline pipeline = jedis.pipelined();
+            for (Map.Entry<String, PendingIncrement> increment : increments.entrySet()) {
+                responses.add(pipeline.incrBy(increment.getKey(), increment.getValue().total));
+            }
+            pipeline.sync();
+        } catch (RuntimeException e) {
+            log.error("Error while incrementing " + increments.size() + " distributed counters", e);
+            for (PendingIncrement increment : increments.values()) {
+                increment.result.completeExceptionally(e);
+            }
+            return;
+        }
+        int i = 0;
+        for (PendingIncrement increment : increments.values()) {
+            try {
+                increment.result.complete(responses.get(i++).get());
+            } catch (JedisException e) {
+                // e.g. the key holds a value which is not an integer
+                increment.result.completeExceptionally(e);
+            }
+        }
+        if (log.isTraceEnabled()) {
+            log.trace("Incremented " + increments.size() + " distributed counters in a single round trip");
+        }
+    }
+
+    void shutdown() {
+
+        flushExecutor.shutdown();
+        try {
+            if (!flushExecutor.awaitTermination(window + SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+                log.warn("Timed out while sending the pending distributed counter increments to Redis");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Increments of a key which are yet to be sent to Redis.
+     */
+    private static final class PendingIncrement {
+
+        private long total;
+        private final CompletableFuture<Long> result = new CompletableFuture<>();
+    }
+}
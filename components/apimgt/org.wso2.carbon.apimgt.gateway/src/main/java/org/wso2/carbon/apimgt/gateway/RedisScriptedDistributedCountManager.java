@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisNoScriptException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Redis Base Distributed Counter Manager which performs each counter operation in a single round trip. Operations of a
+ * single command are sent without wrapping them in a transaction, operations of several commands run atomically as
+ * server side Lua scripts, and concurrent increments can be coalesced into pipelined batches.
+ */
+public class RedisScriptedDistributedCountManager extends RedisBaseDistributedCountManager {
+
+    private static final Log log = LogFactory.getLog(RedisScriptedDistributedCountManager.class);
+
+    static final String GET_ALTER_AND_SET_EXPIRY_SCRIPT =
+            "local current = redis.call('GETSET', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIREAT', KEYS[1], ARGV[2]) " +
+            "return current";
+    static final String SET_WITH_EXPIRY_SCRIPT =
+            "redis.call('SET', KEYS[1], ARGV[1]) " +
+            "return redis.call('PEXPIREAT', KEYS[1], ARGV[2])";
+    static final String SET_LOCK_WITH_EXPIRY_SCRIPT =
+            "redis.call('SETNX', KEYS[1], ARGV[1]) " +
+            "return redis.call('PEXPIREAT', KEYS[1], ARGV[2])";
+
+    private final String getAlterAndSetExpirySha = sha1Hex(GET_ALTER_AND_SET_EXPIRY_SCRIPT);
+    private final String setWithExpirySha = sha1Hex(SET_WITH_EXPIRY_SCRIPT);
+    private final String setLockWithExpirySha = sha1Hex(SET_LOCK_WITH_EXPIRY_SCRIPT);
+    private final RedisCounterBatcher counterBatcher;
+
+    public RedisScriptedDistributedCountManager(JedisPool redisPool, RedisConfig redisConfig) {
+
+        super(redisPool, redisConfig);
+        if (redisConfig.getCounterBatchWindow() > 0) {
+            counterBatcher = new RedisCounterBatcher(redisPool, redisConfig.getCounterBatchWindow());
+        } else {
+            counterBatcher = null;
+        }
+    }
+
+    @Override
+    public long getCounter(String key) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            return parseLong(jedis.get(key));
+        }
+    }
+
+    @Override
+    public long addAndGetCounter(String key, long value) {
+
+        return incrementAndGet(key, value);
+    }
+
+    @Override
+    public void removeCounter(String key) {
+
+        delete(key);
+    }
+
+    @Override
+    public long asyncGetAndAddCounter(String key, long value) {
+
+        // the value before the increment, as GET followed by INCRBY would have returned
+        return incrementAndGet(key, value) - value;
+    }
+
+    @Override
+    public long asyncAddCounter(String key, long value) {
+
+        return incrementAndGet(key, value);
+    }
+
+    @Override
+    public long asyncGetAndAlterCounter(String key, long value) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            // GETSET replaces the value and drops the expiry, as DEL followed by INCRBY would have done
+            return parseLong(jedis.getSet(key, String.valueOf(value)));
+        }
+    }
+
+    @Override
+    public long asyncGetAlterAndSetExpiryOfCounter(String key, long value, long expiryTimeStamp) {
+
+        Object current = evalScript(GET_ALTER_AND_SET_EXPIRY_SCRIPT, getAlterAndSetExpirySha, key,
+                String.valueOf(value), String.valueOf(expiryTimeStamp));
+        return parseLong((String) current);
+    }
+
+    @Override
+    public long getTimestamp(String key) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            return parseLong(jedis.get(key));
+        }
+    }
+
+    @Override
+    public void setTimestamp(String key, long timeStamp) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            jedis.set(key, String.valueOf(timeStamp));
+        }
+    }
+
+    @Override
+    public void setTimestampWithExpiry(String key, long timeStamp, long expiryTime) {
+
+        evalScript(SET_WITH_EXPIRY_SCRIPT, setWithExpirySha, key, String.valueOf(timeStamp),
+                String.valueOf(expiryTime));
+    }
+
+    @Override
+    public void removeTimestamp(String key) {
+
+        delete(key);
+    }
+
+    @Override
+    public void setExpiry(String key, long expiryTimeStamp) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            jedis.pexpireAt(key, expiryTimeStamp);
+        }
+    }
+
+    @Override
+    public long getTtl(String key) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            return jedis.pttl(key);
+        }
+    }
+
+    @Override
+    public long setLock(String key, String value) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            return jedis.setnx(key, value);
+        }
+    }
+
+    @Override
+    public boolean setLockWithExpiry(String key, String value, long expiryTimeStamp) {
+
+        Object expirySet = evalScript(SET_LOCK_WITH_EXPIRY_SCRIPT, setLockWithExpirySha, key, value,
+                String.valueOf(expiryTimeStamp));
+        return Long.valueOf(1).equals(expirySet);
+    }
+
+    @Override
+    public void removeLock(String key) {
+
+        delete(key);
+    }
+
+    /**
+     * Stops coalescing increments. Increments which are already pending are sent to Redis before this returns, so
+     * this must be called before the Redis pool is closed.
+     */
+    public void shutdown() {
+
+        if (counterBatcher != null) {
+            counterBatcher.shutdown();
+        }
+    }
+
+    private long incrementAndGet(String key, long value) {
+
+        if (counterBatcher != null) {
+            return counterBatcher.addAndGet(key, value);
+        }
+        try (Jedis jedis = redisPool.getResource()) {
+            return jedis.incrBy(key, value);
+        }
+    }
+
+    private void delete(String key) {
+
+        try (Jedis jedis = redisPool.getResource()) {
+            jedis.del(key);
+        }
+    }
+
+    /**
+     * Runs a script by its SHA1 digest, which Redis caches once the script was run. The script itself is only sent
+     * when Redis does not know it yet, e.g. after Redis was restarted.
+     */
+    private Object evalScript(String script, String sha, String key, String... args) {
+
+        List<String> keys = Collections.singletonList(key);
+        List<String> argList = Arrays.asList(args);
+        try (Jedis jedis = redisPool.getResource()) {
+            try {
+                return jedis.evalsha(sha, keys, argList);
+            } catch (JedisNoScriptException e) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Script " + sha + " is not cached by Redis. Sending the script.");
+                }
+                return jedis.eval(script, keys, argList);
+            }
+        }
+    }
+
+    private static long parseLong(String value) {
+
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    static String sha1Hex(String script) {
+
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(script.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported by the JVM", e);
+        }
+    }
+}
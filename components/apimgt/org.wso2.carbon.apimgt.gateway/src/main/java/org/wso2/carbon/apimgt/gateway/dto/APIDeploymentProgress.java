@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.gateway.dto;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of deploying the APIs of a tenant at gateway startup, which is reported while the gateway is not ready.
+ */
+public class APIDeploymentProgress {
+
+    private final int totalAPIs;
+    private final AtomicInteger deployedAPIs = new AtomicInteger();
+    private final AtomicInteger failedAPIs = new AtomicInteger();
+
+    public APIDeploymentProgress(int totalAPIs) {
+
+        this.totalAPIs = totalAPIs;
+    }
+
+    public int getTotalAPIs() {
+
+        return totalAPIs;
+    }
+
+    public int getDeployedAPIs() {
+
+        return deployedAPIs.get();
+    }
+
+    public int getFailedAPIs() {
+
+        return failedAPIs.get();
+    }
+
+    public int apiDeployed() {
+
+        return deployedAPIs.incrementAndGet();
+    }
+
+    public int apiFailed() {
+
+        return failedAPIs.incrementAndGet();
+    }
+
+    public boolean isCompleted() {
+
+        return deployedAPIs.get() + failedAPIs.get() >= totalAPIs;
+    }
+}
@@ -54,6 +54,7 @@ import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.throttling.APIThrottleConstants;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayNearCaches;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
@@ -381,6 +382,7 @@ public class Utils {
      * @param key Access token which should be removed from the cache
      */
     public static void removeCacheEntryFromGatewayCache(String key) {
+        GatewayNearCaches.invalidateToken(key);
         Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).getCache(APIConstants.GATEWAY_TOKEN_CACHE_NAME)
                 .remove(key);
     }
@@ -402,6 +404,7 @@ public class Utils {
      * @param tenantDomain Tenant domain of the token
      */
     public static void putInvalidTokenEntryIntoInvalidTokenCache(String cachedToken, String tenantDomain) {
+        GatewayNearCaches.invalidateToken(cachedToken);
         Caching.getCacheManager(APIConstants.API_MANAGER_CACHE_MANAGER).getCache(APIConstants
                 .GATEWAY_INVALID_TOKEN_CACHE_NAME).put(cachedToken, tenantDomain);
     }
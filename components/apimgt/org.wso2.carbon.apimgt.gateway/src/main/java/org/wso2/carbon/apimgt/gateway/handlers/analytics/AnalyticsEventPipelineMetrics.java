@@ -0,0 +1,65 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.analytics;
+
+import org.wso2.carbon.apimgt.common.analytics.publishers.impl.AnalyticsDataPublisher;
+import org.wso2.carbon.apimgt.common.analytics.publishers.impl.AnalyticsEventPipeline;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the state of the asynchronous analytics event pipeline as carbon metrics. The gauges read the pipeline
+ * of the analytics data publisher each time they are reported, so they follow the pipeline when the publisher is
+ * initialized again, and report 0 while events are published on the request threads.
+ */
+public final class AnalyticsEventPipelineMetrics {
+
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    private AnalyticsEventPipelineMetrics() {
+
+    }
+
+    /**
+     * Registers the gauges of the analytics event pipeline, unless they are already registered.
+     */
+    public static void register() {
+
+        if (!registered.compareAndSet(false, true)) {
+            return;
+        }
+        registerGauge("QueueDepth", AnalyticsEventPipeline::getQueueDepth);
+        registerGauge("DroppedEvents", AnalyticsEventPipeline::getDroppedEventCount);
+        registerGauge("SampledOutEvents", AnalyticsEventPipeline::getSampledOutEventCount);
+        registerGauge("PublishedEvents", AnalyticsEventPipeline::getPublishedEventCount);
+    }
+
+    private static void registerGauge(String name, ToLongFunction<AnalyticsEventPipeline> value) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                AnalyticsEventPipeline.class.getSimpleName(), name), (Gauge<Long>) () -> {
+            AnalyticsEventPipeline eventPipeline = AnalyticsDataPublisher.getInstance().getEventPipeline();
+            return eventPipeline != null ? value.applyAsLong(eventPipeline) : 0L;
+        });
+    }
+}
@@ -19,7 +19,11 @@
 package org.wso2.carbon.apimgt.gateway.handlers.common;
 
 import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.ECKey;
+import com.nimbusds.jose.jwk.JWK;
 import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.OctetKeyPair;
 import com.nimbusds.jose.jwk.RSAKey;
 import com.nimbusds.jose.util.Base64;
 import com.nimbusds.jose.util.Base64URL;
@@ -47,12 +51,16 @@ import org.wso2.carbon.core.util.KeyStoreManager;
 
 import java.security.KeyStore;
 import java.security.KeyStoreException;
+import java.security.PublicKey;
 import java.security.cert.Certificate;
 import java.security.cert.CertificateEncodingException;
 import java.security.cert.X509Certificate;
+import java.security.interfaces.ECPublicKey;
 import java.security.interfaces.RSAPublicKey;
 import java.text.ParseException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -68,6 +76,8 @@ public class JwksHandler extends AbstractHandler {
     private static final Log log = LogFactory.getLog(JwksHandler.class);
     private static final String KEY_USE = "sig";
     private static final String KEYS = "keys";
+    private static final int ED25519_KEY_LENGTH = 32;
+    private static final int ED25519_X509_KEY_LENGTH = 44;
     private final Map<String, Set<CertificateInfo>> certificateMap = new HashMap<>();
     ExtendedJWTConfigurationDto jwtConfigurationDto;
 
@@ -141,20 +151,38 @@ public class JwksHandler extends AbstractHandler {
         List<JWSAlgorithm> diffAlgorithms = findDifferentAlgorithms(accessTokenSignAlgorithm);
 
         for (CertificateInfo certificateInfo : certificates) {
-            for (JWSAlgorithm algorithm : diffAlgorithms) {
-                String alias = certificateInfo.getCertificateAlias();
-                X509Certificate x509Certificate = (X509Certificate) certificateInfo.getCertificate();
-                RSAPublicKey publicKey = (RSAPublicKey) x509Certificate.getPublicKey();
-                RSAKey.Builder jwk = new RSAKey.Builder(publicKey);
-
+            String alias = certificateInfo.getCertificateAlias();
+            X509Certificate x509Certificate = (X509Certificate) certificateInfo.getCertificate();
+            PublicKey publicKey = x509Certificate.getPublicKey();
+            // EC and EdDSA keys can only be used with the algorithm of their curve
+            List<JWSAlgorithm> algorithms;
+            if (publicKey instanceof ECPublicKey) {
+                Curve curve = Curve.forECParameterSpec(((ECPublicKey) publicKey).getParams());
+                if (curve == null || curve.getStdName() == null) {
+                    log.warn("Unsupported elliptic curve of the certificate with alias: " + alias);
+                    continue;
+                }
+                algorithms = new ArrayList<>(JWSAlgorithm.Family.EC.size());
+                for (JWSAlgorithm algorithm : JWSAlgorithm.Family.EC) {
+                    if (Curve.forJWSAlgorithm(algorithm).contains(curve)) {
+                        algorithms.add(algorithm);
+                    }
+                }
+            } else if (isEd25519Key(publicKey)) {
+                algorithms = Collections.singletonList(JWSAlgorithm.EdDSA);
+            } else if (publicKey instanceof RSAPublicKey) {
+                algorithms = diffAlgorithms;
+            } else {
+                log.warn("Unsupported public key algorithm " + publicKey.getAlgorithm()
+                        + " of the certificate with alias: " + alias);
+                continue;
+            }
+            for (JWSAlgorithm algorithm : algorithms) {
                 Certificate[] certChain = certificateInfo.getCertificateChain();
                 List<Base64> encodedCertList = generateEncodedCertList(certChain, alias);
-                jwk.keyID(JWTUtil.getKID(x509Certificate));
-                jwk.algorithm(algorithm);
-                jwk.keyUse(KeyUse.parse(KEY_USE));
-                jwk.x509CertChain(encodedCertList);
-                jwk.x509CertSHA256Thumbprint(new Base64URL(GatewayUtils.getThumbPrint(x509Certificate, alias)));
-                jwksArray.add(jwk.build().toJSONObject());
+                JWK jwk = buildJWK(publicKey, JWTUtil.getKID(x509Certificate), algorithm, encodedCertList,
+                        new Base64URL(GatewayUtils.getThumbPrint(x509Certificate, alias)));
+                jwksArray.add(jwk.toJSONObject());
             }
         }
 
@@ -162,6 +190,43 @@ public class JwksHandler extends AbstractHandler {
         return jwksJson.toString();
     }
 
+    /**
+     * Builds the JWK of the public key of a certificate, which is either an RSA, an EC or an Ed25519 key.
+     *
+     * @param publicKey       public key
+     * @param keyID           key ID
+     * @param algorithm       algorithm the key is used with
+     * @param encodedCertList base64 encoded certificate chain
+     * @param thumbprint      SHA-256 thumbprint of the certificate
+     * @return JWK of the key
+     */
+    private static JWK buildJWK(PublicKey publicKey, String keyID, JWSAlgorithm algorithm,
+                                List<Base64> encodedCertList, Base64URL thumbprint) throws ParseException {
+
+        KeyUse keyUse = KeyUse.parse(KEY_USE);
+        if (publicKey instanceof ECPublicKey) {
+            ECPublicKey ecPublicKey = (ECPublicKey) publicKey;
+            return new ECKey.Builder(Curve.forECParameterSpec(ecPublicKey.getParams()), ecPublicKey).keyID(keyID)
+                    .algorithm(algorithm).keyUse(keyUse).x509CertChain(encodedCertList)
+                    .x509CertSHA256Thumbprint(thumbprint).build();
+        } else if (isEd25519Key(publicKey)) {
+            // the raw key is the end of the X.509 encoding of the key
+            byte[] encoded = publicKey.getEncoded();
+            byte[] rawKey = Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_LENGTH, encoded.length);
+            return new OctetKeyPair.Builder(Curve.Ed25519, Base64URL.encode(rawKey)).keyID(keyID)
+                    .algorithm(algorithm).keyUse(keyUse).x509CertChain(encodedCertList)
+                    .x509CertSHA256Thumbprint(thumbprint).build();
+        }
+        return new RSAKey.Builder((RSAPublicKey) publicKey).keyID(keyID).algorithm(algorithm).keyUse(keyUse)
+                .x509CertChain(encodedCertList).x509CertSHA256Thumbprint(thumbprint).build();
+    }
+
+    private static boolean isEd25519Key(PublicKey publicKey) {
+
+        return "Ed25519".equals(publicKey.getAlgorithm()) || ("EdDSA".equals(publicKey.getAlgorithm())
+                && publicKey.getEncoded().length == ED25519_X509_KEY_LENGTH);
+    }
+
     /**
      * This method read identity.xml and find different signing algorithms
      *
@@ -282,6 +347,8 @@ public class JwksHandler extends AbstractHandler {
             return JWSAlgorithm.ES384;
         } else if ("SHA512withEC".equals(signatureAlgorithm)) {
             return JWSAlgorithm.ES512;
+        } else if ("Ed25519".equals(signatureAlgorithm) || "EdDSA".equals(signatureAlgorithm)) {
+            return JWSAlgorithm.EdDSA;
         } else if (!"SHA256withPS".equals(signatureAlgorithm) && !"PS256".equals(signatureAlgorithm)) {
             log.error("Unsupported Signature Algorithm in identity.xml");
             throw new APIManagementException("Unsupported Signature Algorithm in identity.xml");
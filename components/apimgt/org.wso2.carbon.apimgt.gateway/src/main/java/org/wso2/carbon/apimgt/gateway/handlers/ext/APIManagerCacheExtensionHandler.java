@@ -8,6 +8,7 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.AbstractHandler;
 import org.apache.synapse.rest.RESTConstants;
 import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayNearCaches;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.caching.CacheProvider;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
@@ -159,6 +160,7 @@ public class APIManagerCacheExtensionHandler extends AbstractHandler {
     }
 
     protected void removeCacheEntryFromGatewayCache(String key) {
+        GatewayNearCaches.invalidateToken(key);
         CacheProvider.getGatewayTokenCache().remove(key);
     }
 
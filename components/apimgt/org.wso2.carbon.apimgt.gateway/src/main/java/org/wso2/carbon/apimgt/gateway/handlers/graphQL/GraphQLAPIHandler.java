@@ -17,28 +17,33 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import graphql.language.Definition;
 import graphql.language.Document;
 import graphql.language.OperationDefinition;
 import graphql.parser.InvalidSyntaxException;
-import graphql.parser.Parser;
 import graphql.schema.GraphQLFieldDefinition;
 import graphql.schema.GraphQLObjectType;
 import graphql.schema.GraphQLType;
-import graphql.validation.Validator;
 import org.apache.axiom.om.OMElement;
+import org.apache.axis2.AxisFault;
+import org.apache.axis2.Constants;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.apache.http.HttpStatus;
 import org.apache.synapse.Mediator;
 import org.apache.synapse.MessageContext;
 import org.apache.synapse.SynapseConstants;
+import org.apache.synapse.commons.json.JsonUtil;
 import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.apache.synapse.rest.AbstractHandler;
 import org.apache.synapse.transport.passthru.util.RelayUtils;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
-import org.wso2.carbon.apimgt.common.gateway.graphql.QueryValidator;
+import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLDocumentCache;
+import org.wso2.carbon.apimgt.common.gateway.graphql.ParsedGraphQLQuery;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLProcessorUtil;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
@@ -63,15 +68,15 @@ public class GraphQLAPIHandler extends AbstractHandler {
     private static final String GRAPHQL_API = "GRAPHQL";
     private static final String HTTP_VERB = "HTTP_VERB";
     private static final String UNICODE_TRANSFORMATION_FORMAT = "UTF-8";
+    private static final String EXTENSIONS_PAYLOAD_STRING = "extensions";
+    private static final String PERSISTED_QUERY_PAYLOAD_STRING = "persistedQuery";
+    private static final String SHA256_HASH_PAYLOAD_STRING = "sha256Hash";
+    private static final String PERSISTED_QUERY_NOT_FOUND = "PersistedQueryNotFound";
+    private static final String PERSISTED_QUERY_NOT_FOUND_CODE = "PERSISTED_QUERY_NOT_FOUND";
+    private static final String PERSISTED_QUERY_HASH_MISMATCH = "provided sha does not match query";
     private static final Log log = LogFactory.getLog(GraphQLAPIHandler.class);
     private GraphQLSchemaDTO graphQLSchemaDTO;
     private String apiUUID;
-    private QueryValidator queryValidator;
-
-    public GraphQLAPIHandler() {
-
-        queryValidator = new QueryValidator(new Validator());
-    }
 
     public String getApiUUID() {
 
@@ -92,7 +97,7 @@ public class GraphQLAPIHandler extends AbstractHandler {
                 return true;
             }
             String payload;
-            Parser parser = new Parser();
+            String persistedQueryHash = null;
             org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
                     getAxis2MessageContext();
             String requestPath = messageContext.getProperty(REST_SUB_REQUEST_PATH).toString();
@@ -104,8 +109,12 @@ public class GraphQLAPIHandler extends AbstractHandler {
                 } else {
                     RelayUtils.buildMessage(axis2MC);
                     OMElement body = axis2MC.getEnvelope().getBody().getFirstElement();
+                    persistedQueryHash = getPersistedQueryHash(body);
                     if (body != null && body.getFirstChildWithName(QName.valueOf(QUERY_PAYLOAD_STRING)) != null){
                         payload = body.getFirstChildWithName(QName.valueOf(QUERY_PAYLOAD_STRING)).getText();
+                    } else if (persistedQueryHash != null) {
+                        // an automatic persisted query which only sends the hash of the query
+                        payload = null;
                     } else {
                         if (log.isDebugEnabled()) {
                             log.debug("Invalid query parameter " + queryParams[0]);
@@ -114,16 +123,23 @@ public class GraphQLAPIHandler extends AbstractHandler {
                         return false;
                     }
                 }
-                messageContext.setProperty(APIConstants.GRAPHQL_PAYLOAD, payload);
             } else {
                 handleFailure(messageContext, "Request path cannot be empty");
                 return false;
             }
 
-            // Validate payload with graphQLSchema
-            Document document = parser.parseDocument(payload);
+            // Get GraphQL schema data from gateway internal data holder
+            graphQLSchemaDTO = DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().get(apiUUID);
+            ParsedGraphQLQuery parsedQuery = getParsedQuery(messageContext, payload, persistedQueryHash);
+            if (parsedQuery == null) {
+                return false;
+            }
+            messageContext.setProperty(APIConstants.GRAPHQL_PAYLOAD, parsedQuery.getQuery());
+            messageContext.setProperty(APIConstants.GRAPHQL_PARSED_QUERY, parsedQuery);
+            Document document = parsedQuery.getDocument();
 
-            if (validatePayloadWithSchema(messageContext, document)) {
+            // Validate payload with graphQLSchema
+            if (validatePayloadWithSchema(messageContext, parsedQuery)) {
                 supportForBasicAndAuthentication(messageContext);
 
                 // Extract the operation type and operations from the payload
@@ -159,6 +175,97 @@ public class GraphQLAPIHandler extends AbstractHandler {
         return false;
     }
 
+    /**
+     * Returns the parsed query of the request from the GraphQL document cache, parsing it if it is not cached. For
+     * automatic persisted queries, a request which only sends the hash of the query is served with the cached query,
+     * which is also added to the payload for the backend, and a request which sends both the query and its hash is
+     * checked to have the right hash.
+     *
+     * @param messageContext     message context of the request
+     * @param payload            query of the request, or null if the request only sends the hash of the query
+     * @param persistedQueryHash SHA-256 hash of the query sent for automatic persisted queries, or null
+     * @return parsed query, or null if the request failed
+     */
+    private ParsedGraphQLQuery getParsedQuery(MessageContext messageContext, String payload,
+                                              String persistedQueryHash) throws AxisFault {
+
+        GraphQLDocumentCache documentCache = GraphQLDocumentCache.getInstance();
+        if (payload == null) {
+            ParsedGraphQLQuery parsedQuery = documentCache.getByHash(graphQLSchemaDTO.getGraphQLSchema(),
+                    persistedQueryHash);
+            if (parsedQuery == null) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Persisted query " + persistedQueryHash + " is not cached");
+                }
+                sendPersistedQueryNotFound(messageContext);
+                return null;
+            }
+            org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
+                    getAxis2MessageContext();
+            JsonObject jsonPayload = JsonParser.parseString(JsonUtil.jsonPayloadToString(axis2MC)).getAsJsonObject();
+            jsonPayload.addProperty(QUERY_PAYLOAD_STRING, parsedQuery.getQuery());
+            JsonUtil.removeJsonPayload(axis2MC);
+            JsonUtil.getNewJsonPayload(axis2MC, jsonPayload.toString(), true, true);
+            return parsedQuery;
+        }
+        ParsedGraphQLQuery parsedQuery = documentCache.getOrParse(graphQLSchemaDTO.getGraphQLSchema(), payload);
+        if (persistedQueryHash != null && !persistedQueryHash.equalsIgnoreCase(parsedQuery.getQueryHash())) {
+            handleFailure(messageContext, PERSISTED_QUERY_HASH_MISMATCH);
+            return null;
+        }
+        return parsedQuery;
+    }
+
+    /**
+     * Responds to an automatic persisted query which is not cached with the error defined by the protocol, so that the
+     * client retries the request with the query.
+     *
+     * @param messageContext message context of the request
+     */
+    private void sendPersistedQueryNotFound(MessageContext messageContext) throws AxisFault {
+
+        JsonObject extensions = new JsonObject();
+        extensions.addProperty("code", PERSISTED_QUERY_NOT_FOUND_CODE);
+        JsonObject error = new JsonObject();
+        error.addProperty("message", PERSISTED_QUERY_NOT_FOUND);
+        error.add(EXTENSIONS_PAYLOAD_STRING, extensions);
+        JsonArray errors = new JsonArray();
+        errors.add(error);
+        JsonObject response = new JsonObject();
+        response.add("errors", errors);
+
+        org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext) messageContext).
+                getAxis2MessageContext();
+        JsonUtil.removeJsonPayload(axis2MC);
+        JsonUtil.getNewJsonPayload(axis2MC, response.toString(), true, true);
+        axis2MC.setProperty(Constants.Configuration.MESSAGE_TYPE, APIConstants.APPLICATION_JSON_MEDIA_TYPE);
+        axis2MC.removeProperty(APIConstants.NO_ENTITY_BODY);
+        Utils.send(messageContext, HttpStatus.SC_OK);
+    }
+
+    /**
+     * Returns the hash of the query sent in the extensions of the payload for automatic persisted queries.
+     *
+     * @param body payload of the request
+     * @return SHA-256 hash of the query, or null if the request does not send one
+     */
+    private String getPersistedQueryHash(OMElement body) {
+
+        if (body == null) {
+            return null;
+        }
+        OMElement extensions = body.getFirstChildWithName(QName.valueOf(EXTENSIONS_PAYLOAD_STRING));
+        if (extensions == null) {
+            return null;
+        }
+        OMElement persistedQuery = extensions.getFirstChildWithName(QName.valueOf(PERSISTED_QUERY_PAYLOAD_STRING));
+        if (persistedQuery == null) {
+            return null;
+        }
+        OMElement sha256Hash = persistedQuery.getFirstChildWithName(QName.valueOf(SHA256_HASH_PAYLOAD_STRING));
+        return sha256Hash != null ? sha256Hash.getText() : null;
+    }
+
     /**
      * Support GraphQL APIs for basic,JWT  authentication, this method extract the scopes and operations from
      * local Entry and set them to properties. If the operations have scopes, scopes operation mapping and scope
@@ -260,16 +367,16 @@ public class GraphQLAPIHandler extends AbstractHandler {
      * This method validate the payload
      *
      * @param messageContext message context of the request
-     * @param document       graphQL schema of the request
+     * @param parsedQuery    query of the request, parsed and validated against the graphQL schema
      * @return true or false
      */
-    private boolean validatePayloadWithSchema(MessageContext messageContext, Document document) {
+    private boolean validatePayloadWithSchema(MessageContext messageContext, ParsedGraphQLQuery parsedQuery) {
 
-        String validationErrorMessage;
-        // Get GraphQL schema data from gateway internal data holder
-        graphQLSchemaDTO = DataHolder.getInstance().getApiToGraphQLSchemaDTOMap().get(apiUUID);
-        validationErrorMessage = queryValidator.validatePayload(graphQLSchemaDTO.getGraphQLSchema(), document);
+        String validationErrorMessage = parsedQuery.getValidationErrorMessage();
         if (validationErrorMessage != null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Validation failed for " + parsedQuery.getDocument());
+            }
             handleFailure(messageContext, validationErrorMessage);
             return false;
         }
@@ -17,6 +17,7 @@
  */
 package org.wso2.carbon.apimgt.gateway.handlers.graphQL;
 
+import graphql.parser.InvalidSyntaxException;
 import graphql.schema.GraphQLSchema;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -28,6 +29,8 @@ import org.apache.synapse.rest.AbstractHandler;
 import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.common.gateway.constants.GraphQLConstants;
 import org.wso2.carbon.apimgt.common.gateway.dto.QueryAnalyzerResponseDTO;
+import org.wso2.carbon.apimgt.common.gateway.graphql.GraphQLDocumentCache;
+import org.wso2.carbon.apimgt.common.gateway.graphql.ParsedGraphQLQuery;
 import org.wso2.carbon.apimgt.common.gateway.graphql.QueryAnalyzer;
 import org.wso2.carbon.apimgt.gateway.handlers.Utils;
 import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityConstants;
@@ -53,8 +56,21 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         if (queryAnalyzer == null) {
             queryAnalyzer = new QueryAnalyzer(schema);
         }
-        String payload = messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD).toString();
-        if (!isDepthAndComplexityValid(messageContext, payload)) {
+        // the query parsed by GraphQLAPIHandler, unless that handler is not engaged
+        ParsedGraphQLQuery parsedQuery =
+                (ParsedGraphQLQuery) messageContext.getProperty(APIConstants.GRAPHQL_PARSED_QUERY);
+        if (parsedQuery == null) {
+            String payload = messageContext.getProperty(APIConstants.GRAPHQL_PAYLOAD).toString();
+            try {
+                parsedQuery = GraphQLDocumentCache.getInstance().getOrParse(queryAnalyzer.getSchema(), payload);
+            } catch (InvalidSyntaxException e) {
+                log.error(e.getMessage());
+                handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext,
+                        GraphQLConstants.GRAPHQL_INVALID_QUERY_MESSAGE, e.getMessage());
+                return false;
+            }
+        }
+        if (!isDepthAndComplexityValid(messageContext, parsedQuery)) {
             log.debug("Query was blocked by the static query analyser");
             return false;
         }
@@ -65,12 +81,12 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
      * This method analyses the query.
      *
      * @param messageContext message context of the request
-     * @param payload        payload of the request
+     * @param parsedQuery    parsed query of the request
      * @return true, if the query is not blocked or false, if the query is blocked
      */
-    private boolean isDepthAndComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isDepthAndComplexityValid(MessageContext messageContext, ParsedGraphQLQuery parsedQuery) {
         try {
-            return isDepthValid(messageContext, payload) && isComplexityValid(messageContext, payload);
+            return isDepthValid(messageContext, parsedQuery) && isComplexityValid(messageContext, parsedQuery);
         } catch (Exception e) {
             String errorMessage = "Policy definition parsing failed. ";
             log.error(errorMessage, e);
@@ -79,12 +95,12 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         }
     }
 
-    private boolean isDepthValid(MessageContext messageContext, String payload) {
+    private boolean isDepthValid(MessageContext messageContext, ParsedGraphQLQuery parsedQuery) {
         int maxQueryDepth = -1;
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_DEPTH)) {
             maxQueryDepth = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_DEPTH);
         }
-        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, payload);
+        QueryAnalyzerResponseDTO responseDTO = queryAnalyzer.analyseQueryDepth(maxQueryDepth, parsedQuery);
         if (!responseDTO.isSuccess() && !responseDTO.getErrorList().isEmpty()) {
             handleFailure(GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP, messageContext,
                     GraphQLConstants.GRAPHQL_QUERY_TOO_DEEP_MESSAGE, responseDTO.getErrorList().toString());
@@ -94,7 +110,7 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
         return true;
     }
 
-    private boolean isComplexityValid(MessageContext messageContext, String payload) {
+    private boolean isComplexityValid(MessageContext messageContext, ParsedGraphQLQuery parsedQuery) {
         int queryComplexity = -1;
         if (messageContext.getPropertyKeySet().contains(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY)) {
             queryComplexity = (int) messageContext.getProperty(GraphQLConstants.MAXIMUM_QUERY_COMPLEXITY);
@@ -103,7 +119,8 @@ public class GraphQLQueryAnalysisHandler extends AbstractHandler {
                 .getProperty(APIConstants.GRAPHQL_ACCESS_CONTROL_POLICY);
         QueryAnalyzerResponseDTO responseDTO = null;
         try {
-            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(payload, queryComplexity, complexityInfoJson);
+            responseDTO = queryAnalyzer.analyseQueryMutationComplexity(parsedQuery, queryComplexity,
+                    complexityInfoJson);
         } catch (ParseException e) {
             String errorMessage = "Policy definition parsing failed. ";
             handleFailure(GraphQLConstants.GRAPHQL_INVALID_QUERY, messageContext, errorMessage, errorMessage);
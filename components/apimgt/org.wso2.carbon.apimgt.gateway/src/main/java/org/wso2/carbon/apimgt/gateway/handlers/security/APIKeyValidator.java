@@ -58,14 +58,17 @@ import org.wso2.carbon.context.PrivilegedCarbonContext;
 import org.wso2.carbon.identity.oauth.config.OAuthServerConfiguration;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.cache.Cache;
 
@@ -89,6 +92,8 @@ public class APIKeyValidator {
 
     private ArrayList<URITemplate> uriTemplates = null;
 
+    private final Map<String, ResourceRouteIndex> resourceRouteIndexes = new ConcurrentHashMap<>();
+
     public APIKeyValidator() {
 
         this.dataStore = new WSAPIKeyDataStore();
@@ -534,38 +539,31 @@ public class APIKeyValidator {
                 getResourceCache().put(apiCacheKey, apiInfoDTO);
             }
         }
-        if (apiInfoDTO.getResources() != null) {
-            for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
-                Set<VerbInfoDTO> verbDTOList = resourceInfoDTO.getHttpVerbs();
-                for (VerbInfoDTO verb : verbDTOList) {
-                    //mcp direct_endpoint scenario
-                    String httpVerb = verb.getHttpVerb();
-                    if (verb.getBackendAPIOperationMapping() != null) {
-                        BackendOperation backendOperation = verb.getBackendAPIOperationMapping().getBackendOperation();
-                        if (backendOperation != null) {
-                            httpVerb = backendOperation.getVerb().toString();
-                        }
-                    }
-                    if (httpVerb.equals(httpMethod)) {
-                        for (String resourceString : resourceArray) {
-                            if (isResourcePathMatching(resourceString, resourceInfoDTO)) {
-                                resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion,
-                                        resourceString, httpMethod);
-                                verb.setRequestKey(resourceCacheKey);
-                                verbInfoList.add(verb);
-                                if (isGatewayAPIResourceValidationEnabled) {
-                                    //Store verb in cache
-                                    //Set cache key in the message c\ontext so that it can be used by the subsequent handlers.
-                                    if (log.isDebugEnabled()) {
-                                        log.debug("Putting resource object in cache with key: " + resourceCacheKey);
-                                    }
-                                    getResourceCache().put(resourceCacheKey, verb);
-                                    synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
-                                }
-                            }
-                        }
-                    }
+        List<Map.Entry<ResourceRouteIndex.Route, String>> matchingRoutes = new ArrayList<>();
+        ResourceRouteIndex routeIndex = getResourceRouteIndex(apiCacheKey, apiInfoDTO);
+        for (String resourceString : resourceArray) {
+            for (ResourceRouteIndex.Route route : routeIndex.getTemplateRoutes(resourceString, httpMethod)) {
+                matchingRoutes.add(new AbstractMap.SimpleImmutableEntry<>(route, resourceString));
+            }
+        }
+        if (resourceArray.size() > 1) {
+            // Keep the resource definition order of the API, as subsequent handlers consume the list in that order
+            matchingRoutes.sort(Comparator.comparingInt(entry -> entry.getKey().getOrder()));
+        }
+        for (Map.Entry<ResourceRouteIndex.Route, String> matchingRoute : matchingRoutes) {
+            VerbInfoDTO verb = matchingRoute.getKey().getVerbInfoDTO();
+            resourceCacheKey = APIUtil.getResourceInfoDTOCacheKey(apiContext, apiVersion,
+                    matchingRoute.getValue(), httpMethod);
+            verb.setRequestKey(resourceCacheKey);
+            verbInfoList.add(verb);
+            if (isGatewayAPIResourceValidationEnabled) {
+                //Store verb in cache
+                //Set cache key in the message c\ontext so that it can be used by the subsequent handlers.
+                if (log.isDebugEnabled()) {
+                    log.debug("Putting resource object in cache with key: " + resourceCacheKey);
                 }
+                getResourceCache().put(resourceCacheKey, verb);
+                synCtx.setProperty(APIConstants.API_RESOURCE_CACHE_KEY, resourceCacheKey);
             }
         }
         if (verbInfoList.size() == 0) {
@@ -588,36 +586,6 @@ public class APIKeyValidator {
         return requestPath;
     }
 
-    private boolean isResourcePathMatching(String resourceString, ResourceInfoDTO resourceInfoDTO) {
-        String resource = resourceString.trim();
-        String urlPattern = resourceInfoDTO.getUrlPattern().trim();
-
-        //MCP direct_ep
-        if (resourceInfoDTO.getHttpVerbs() != null && !resourceInfoDTO.getHttpVerbs().isEmpty()) {
-            VerbInfoDTO verbInfoDTO = (VerbInfoDTO) resourceInfoDTO.getHttpVerbs().toArray()[0];
-            BackendOperationMapping backendAPIOperationMapping = verbInfoDTO.getBackendAPIOperationMapping();
-            if (backendAPIOperationMapping != null) {
-                BackendOperation backendOperation = backendAPIOperationMapping.getBackendOperation();
-                if (backendOperation != null) {
-                    urlPattern = backendOperation.getTarget();
-                }
-            }
-        }
-
-        if (resource.equalsIgnoreCase(urlPattern)) {
-            return true;
-        }
-
-        // If the urlPattern is only one character longer than the resource and the urlPattern ends with a '/'
-        if (resource.length() + 1 == urlPattern.length() && urlPattern.endsWith("/")) {
-            // Check if resource is equal to urlPattern if the trailing '/' of the urlPattern is ignored
-            String urlPatternWithoutSlash = urlPattern.substring(0, urlPattern.length() - 1);
-            return resource.equalsIgnoreCase(urlPatternWithoutSlash);
-        }
-
-        return false;
-    }
-
     @MethodStats
     private APIInfoDTO doGetAPIInfo(MessageContext messageContext, String context, String apiVersion) throws APISecurityException {
         ArrayList<URITemplate> uriTemplates = getAllURITemplates(messageContext, context, apiVersion);
@@ -699,95 +667,29 @@ public class APIKeyValidator {
             }
         }
 
-        //Match the case where the direct api context is matched
-        if ("/".equals(requestPath)) {
-            String requestCacheKey = context + '/' + apiVersion + requestPath + ':' + httpMethod;
-
-            //Get decision from cache.
-            VerbInfoDTO matchingVerb = null;
-            if (isGatewayAPIResourceValidationEnabled) {
-                matchingVerb = (VerbInfoDTO) getResourceCache().get(requestCacheKey);
-            }
-            //On a cache hit
-            if (matchingVerb != null) {
-                matchingVerb.setRequestKey(requestCacheKey);
-                return matchingVerb;
-            } else {
-                if (apiInfoDTO.getResources() != null) {
-                    for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
-                        String urlPattern = resourceInfoDTO.getUrlPattern();
-
-                        //If the request patch is '/', it can only be matched with a resource whose url-context is '/*'
-                        if ("/*".equals(urlPattern)) {
-                            for (VerbInfoDTO verbDTO : resourceInfoDTO.getHttpVerbs()) {
-                                if (verbDTO.getHttpVerb().equals(httpMethod)) {
-                                    //Store verb in cache
-                                    if (isGatewayAPIResourceValidationEnabled) {
-                                        getResourceCache().put(requestCacheKey, verbDTO);
-                                    }
-                                    verbDTO.setRequestKey(requestCacheKey);
-                                    return verbDTO;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-
-        //Remove the ending '/' from request
-        requestPath = RESTUtils.trimTrailingSlashes(requestPath);
-
-        while (requestPath.length() > 1) {
-
-            String requestCacheKey = context + '/' + apiVersion + requestPath + ':' + httpMethod;
-
-            //Get decision from cache.
-            VerbInfoDTO matchingVerb = null;
-            if (isGatewayAPIResourceValidationEnabled) {
-                matchingVerb = (VerbInfoDTO) getResourceCache().get(requestCacheKey);
-            }
-
-            //On a cache hit
-            if (matchingVerb != null) {
-                matchingVerb.setRequestKey(requestCacheKey);
-                return matchingVerb;
-            }
-            //On a cache miss
-            else {
-                for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
-                    String urlPattern = resourceInfoDTO.getUrlPattern();
-                    if (urlPattern.endsWith("/*")) {
-                        //Remove the ending '/*'
-                        urlPattern = urlPattern.substring(0, urlPattern.length() - 2);
-                    }
-                    //If the urlPattern ends with a '/', remove that as well.
-                    urlPattern = RESTUtils.trimTrailingSlashes(urlPattern);
-
-                    if (requestPath.endsWith(urlPattern)) {
-
-                        for (VerbInfoDTO verbDTO : resourceInfoDTO.getHttpVerbs()) {
-                            if (verbDTO.getHttpVerb().equals(httpMethod)) {
-                                //Store verb in cache
-                                if (isGatewayAPIResourceValidationEnabled) {
-                                    getResourceCache().put(requestCacheKey, verbDTO);
-                                }
-                                verbDTO.setRequestKey(requestCacheKey);
-                                return verbDTO;
-                            }
-                        }
-                    }
-                }
-            }
-
-            //Remove the section after the last occurrence of the '/' character
-            int index = requestPath.lastIndexOf('/');
-            requestPath = requestPath.substring(0, index <= 0 ? 0 : index);
+        ResourceRouteIndex.Route route = getResourceRouteIndex(cacheKey, apiInfoDTO)
+                .match(RESTUtils.trimTrailingSlashes(requestPath), httpMethod);
+        if (route == null) {
+            //nothing found. return the highest level of security
+            return null;
         }
-        //nothing found. return the highest level of security
-        return null;
+        VerbInfoDTO matchingVerb = route.getVerbInfoDTO();
+        matchingVerb.setRequestKey(APIUtil.getResourceInfoDTOCacheKey(context, apiVersion, route.getUrlPattern(),
+                httpMethod));
+        return matchingVerb;
     }
 
+    /**
+     * Returns the route index of the given API, compiling it on first use. Since an instance of this class serves a
+     * single deployed API revision, the index is compiled once per deployment.
+     *
+     * @param apiCacheKey cache key of the API
+     * @param apiInfoDTO  resources of the API
+     * @return compiled route index
+     */
+    protected ResourceRouteIndex getResourceRouteIndex(String apiCacheKey, APIInfoDTO apiInfoDTO) {
+        return resourceRouteIndexes.computeIfAbsent(apiCacheKey, key -> ResourceRouteIndex.compile(apiInfoDTO));
+    }
 
     @MethodStats
     protected ArrayList<URITemplate> getAllURITemplates(MessageContext messageContext, String context, String apiVersion)
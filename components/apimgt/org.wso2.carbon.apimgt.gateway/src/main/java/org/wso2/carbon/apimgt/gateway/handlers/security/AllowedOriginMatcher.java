@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.utils.LRUCache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matches request origins against the allowed origins of a {@link CORSRequestHandler}.
+ * <p>
+ * The allowed origins are split and the wildcard origins compiled once, when the allowed origins are set, instead of
+ * on every request. An origin is allowed if it is one of the allowed origins, or if one of the wildcard origins, with
+ * each {@code *} replaced by {@code .*}, is found in it. The decisions made for wildcard origins are cached, so an
+ * origin seen before costs a lookup instead of a regular expression match per wildcard origin.
+ */
+final class AllowedOriginMatcher {
+
+    private static final Log log = LogFactory.getLog(AllowedOriginMatcher.class);
+    private static final String WILDCARD = "*";
+    private static final int MAX_CACHED_ORIGINS = 1000;
+
+    private final Set<String> allowedOrigins;
+    private final boolean allowAll;
+    private final Pattern wildcardOrigins;
+    private final Map<String, Boolean> wildcardDecisions = new LRUCache<>(MAX_CACHED_ORIGINS);
+
+    /**
+     * @param allowedOrigins comma separated allowed origins
+     */
+    AllowedOriginMatcher(String allowedOrigins) {
+
+        this.allowedOrigins = new HashSet<>(Arrays.asList(allowedOrigins.split(",")));
+        allowAll = this.allowedOrigins.contains(WILDCARD);
+        List<String> wildcardPatterns = new ArrayList<>();
+        for (String allowedOrigin : this.allowedOrigins) {
+            if (allowedOrigin.contains(WILDCARD)) {
+                String regex = allowedOrigin.replace(WILDCARD, ".*");
+                try {
+                    Pattern.compile(regex);
+                    wildcardPatterns.add("(?:" + regex + ")");
+                } catch (PatternSyntaxException e) {
+                    log.error("Ignoring allowed origin " + allowedOrigin + " as it is not a valid pattern", e);
+                }
+            }
+        }
+        // a single alternation is found in an origin if any of the wildcard origins is found in it
+        wildcardOrigins = wildcardPatterns.isEmpty() ? null : Pattern.compile(String.join("|", wildcardPatterns));
+    }
+
+    /**
+     * @param origin origin of the request
+     * @return value of the Access-Control-Allow-Origin header for the origin, or null if the origin is not allowed
+     */
+    String getAllowedOrigin(String origin) {
+
+        if (allowAll) {
+            return WILDCARD;
+        } else if (origin == null) {
+            return null;
+        } else if (allowedOrigins.contains(origin)) {
+            return origin;
+        } else if (wildcardOrigins == null) {
+            return null;
+        }
+        Boolean allowed = wildcardDecisions.get(origin);
+        if (allowed == null) {
+            allowed = wildcardOrigins.matcher(origin).find();
+            wildcardDecisions.put(origin, allowed);
+        }
+        return allowed ? origin : null;
+    }
+}
@@ -49,13 +49,10 @@ import org.wso2.carbon.metrics.manager.MetricManager;
 import org.wso2.carbon.metrics.manager.Timer;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public class CORSRequestHandler extends AbstractHandler implements ManagedLifecycle {
 
@@ -64,7 +61,7 @@ public class CORSRequestHandler extends AbstractHandler implements ManagedLifecy
     private String allowHeaders;
     private String exposeHeaders;
     private String allowCredentials;
-    private Set<String> allowedOrigins;
+    private AllowedOriginMatcher allowedOriginMatcher;
     private boolean initializeHeaderValues;
     private String allowedMethods;
     private List<String> allowedMethodList;
@@ -100,10 +97,10 @@ public class CORSRequestHandler extends AbstractHandler implements ManagedLifecy
         if (apiKeyHeader != null) {
             allowHeaders += APIConstants.MULTI_ATTRIBUTE_SEPARATOR_DEFAULT + apiKeyHeader;
         }
-        if (allowedOrigins == null) {
+        if (allowedOriginMatcher == null) {
             String allowedOriginsList = APIUtil.getAllowedOrigins();
             if (!allowedOriginsList.isEmpty()) {
-                allowedOrigins = new HashSet<String>(Arrays.asList(allowedOriginsList.split(",")));
+                allowedOriginMatcher = new AllowedOriginMatcher(allowedOriginsList);
             }
         }
         if (allowCredentials == null) {
@@ -385,26 +382,14 @@ public class CORSRequestHandler extends AbstractHandler implements ManagedLifecy
     }
 
     public String getAllowedOrigins(String origin) {
-        if (allowedOrigins.contains("*")) {
-            return "*";
-        } else if (allowedOrigins.contains(origin)) {
-            return origin;
-        } else if (origin != null) {
-            for (String allowedOrigin : allowedOrigins) {
-                if (allowedOrigin.contains("*")) {
-                    Pattern pattern = Pattern.compile(allowedOrigin.replace("*", ".*"));
-                    Matcher matcher = pattern.matcher(origin);
-                    if (matcher.find()) {
-                        return origin;
-                    }
-                }
-            }
+        if (allowedOriginMatcher == null) {
+            return null;
         }
-        return null;
+        return allowedOriginMatcher.getAllowedOrigin(origin);
     }
 
     public void setAllowedOrigins(String allowedOrigins) {
-        this.allowedOrigins = new HashSet<String>(Arrays.asList(allowedOrigins.split(",")));
+        this.allowedOriginMatcher = new AllowedOriginMatcher(allowedOrigins);
     }
 
     public String getApiImplementationType() {
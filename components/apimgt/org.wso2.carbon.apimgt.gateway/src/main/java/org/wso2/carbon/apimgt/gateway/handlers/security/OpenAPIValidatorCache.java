@@ -0,0 +1,194 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import com.atlassian.oai.validator.report.LevelResolver;
+import com.atlassian.oai.validator.report.ValidationReport;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Holds the {@link OpenApiInteractionValidator}s of the deployed APIs so that they are built once per API revision
+ * instead of once per message. Validators are compiled lazily per operation: the first message of an operation builds
+ * a validator for an OpenAPI definition which only contains that operation, so large definitions only pay for the
+ * operations that are actually invoked. Entries are evicted when the API is redeployed or undeployed.
+ */
+public class OpenAPIValidatorCache {
+
+    private static final Log log = LogFactory.getLog(OpenAPIValidatorCache.class);
+    private static final OpenAPIValidatorCache instance = new OpenAPIValidatorCache();
+
+    private final Map<String, APIValidators> apiValidators = new ConcurrentHashMap<>();
+
+    private OpenAPIValidatorCache() {
+    }
+
+    public static OpenAPIValidatorCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the validator of the given operation of an API. If the operation is not defined in the OpenAPI
+     * definition, a validator for the complete definition is returned.
+     *
+     * @param apiUUID      UUID of the API
+     * @param revision     deployed revision of the API, if known
+     * @param openAPI      parsed OpenAPI definition of the deployed API
+     * @param resourcePath elected resource of the request
+     * @param httpMethod   HTTP method of the request
+     * @return OpenApiInteractionValidator for the operation
+     */
+    public OpenApiInteractionValidator getValidator(String apiUUID, String revision, OpenAPI openAPI,
+                                                    String resourcePath, String httpMethod) {
+        if (apiUUID == null) {
+            return buildValidator(openAPI);
+        }
+        APIValidators validators = apiValidators.get(apiUUID);
+        if (validators == null || !validators.isFor(openAPI, revision)) {
+            validators = new APIValidators(openAPI, revision);
+            apiValidators.put(apiUUID, validators);
+        }
+        return validators.getValidator(resourcePath, httpMethod);
+    }
+
+    /**
+     * Evicts the validators of an API. This is called when the API is redeployed or undeployed.
+     *
+     * @param apiUUID UUID of the API
+     */
+    public void invalidate(String apiUUID) {
+        if (apiUUID != null && apiValidators.remove(apiUUID) != null && log.isDebugEnabled()) {
+            log.debug("Evicted schema validators of API: " + apiUUID);
+        }
+    }
+
+    public void invalidateAll() {
+        apiValidators.clear();
+    }
+
+    public int size() {
+        return apiValidators.size();
+    }
+
+    /**
+     * Method to generate OpenApiInteractionValidator when the openAPI is provided.
+     *
+     * @param openAPI openAPI
+     * @return OpenApiInteractionValidator object for the provided swagger.
+     */
+    static OpenApiInteractionValidator buildValidator(OpenAPI openAPI) {
+
+        return OpenApiInteractionValidator
+                .createFor(openAPI)
+                .withLevelResolver(
+                        LevelResolver.create()
+                                .withLevel("validation.schema.required", ValidationReport.Level.INFO)
+                                .withLevel("validation.response.body.missing", ValidationReport.Level.INFO)
+                                .withLevel("validation.schema.additionalProperties", ValidationReport.Level.IGNORE)
+                                .build())
+                .build();
+    }
+
+    /**
+     * Builds an OpenAPI definition which only contains the given operation, sharing the components and the other
+     * top level elements of the original definition.
+     */
+    static OpenAPI getOperationOpenAPI(OpenAPI openAPI, String resourcePath, PathItem.HttpMethod httpMethod,
+                                       PathItem pathItem, Operation operation) {
+        PathItem operationPathItem = new PathItem();
+        operationPathItem.setParameters(pathItem.getParameters());
+        operationPathItem.setServers(pathItem.getServers());
+        operationPathItem.set$ref(pathItem.get$ref());
+        operationPathItem.operation(httpMethod, operation);
+
+        OpenAPI operationOpenAPI = new OpenAPI();
+        operationOpenAPI.setOpenapi(openAPI.getOpenapi());
+        operationOpenAPI.setInfo(openAPI.getInfo());
+        operationOpenAPI.setServers(openAPI.getServers());
+        operationOpenAPI.setSecurity(openAPI.getSecurity());
+        operationOpenAPI.setComponents(openAPI.getComponents());
+        operationOpenAPI.setExtensions(openAPI.getExtensions());
+        operationOpenAPI.setPaths(new Paths().addPathItem(resourcePath, operationPathItem));
+        return operationOpenAPI;
+    }
+
+    private static final class APIValidators {
+
+        private final OpenAPI openAPI;
+        private final String revision;
+        private final Map<String, OpenApiInteractionValidator> operationValidators = new ConcurrentHashMap<>();
+        private volatile OpenApiInteractionValidator apiValidator;
+
+        private APIValidators(OpenAPI openAPI, String revision) {
+            this.openAPI = openAPI;
+            this.revision = revision;
+        }
+
+        private boolean isFor(OpenAPI openAPI, String revision) {
+            return this.openAPI == openAPI && Objects.equals(this.revision, revision);
+        }
+
+        private OpenApiInteractionValidator getValidator(String resourcePath, String httpMethod) {
+            if (resourcePath != null && httpMethod != null && openAPI.getPaths() != null) {
+                String operationKey = httpMethod.toUpperCase(Locale.ENGLISH) + ' ' + resourcePath;
+                OpenApiInteractionValidator operationValidator = operationValidators.get(operationKey);
+                if (operationValidator != null) {
+                    return operationValidator;
+                }
+                PathItem pathItem = openAPI.getPaths().get(resourcePath);
+                if (pathItem != null) {
+                    PathItem.HttpMethod method;
+                    try {
+                        method = PathItem.HttpMethod.valueOf(httpMethod.toUpperCase(Locale.ENGLISH));
+                    } catch (IllegalArgumentException e) {
+                        method = null;
+                    }
+                    Operation operation = method != null ? pathItem.readOperationsMap().get(method) : null;
+                    if (operation != null) {
+                        final PathItem.HttpMethod operationMethod = method;
+                        return operationValidators.computeIfAbsent(operationKey,
+                                key -> buildValidator(getOperationOpenAPI(openAPI, resourcePath, operationMethod,
+                                        pathItem, operation)));
+                    }
+                }
+            }
+            OpenApiInteractionValidator validator = apiValidator;
+            if (validator == null) {
+                synchronized (this) {
+                    validator = apiValidator;
+                    if (validator == null) {
+                        validator = buildValidator(openAPI);
+                        apiValidator = validator;
+                    }
+                }
+            }
+            return validator;
+        }
+    }
+}
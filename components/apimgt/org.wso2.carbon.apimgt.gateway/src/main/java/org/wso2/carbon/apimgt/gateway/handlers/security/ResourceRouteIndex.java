@@ -0,0 +1,267 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.wso2.carbon.apimgt.api.model.BackendOperation;
+import org.wso2.carbon.apimgt.api.model.BackendOperationMapping;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable route index compiled from the resources of a single API revision. It answers two kinds of lookups
+ * without scanning the resource list:
+ * <ul>
+ * <li>resolving the verbs of an already elected resource template (hash lookup), and</li>
+ * <li>resolving a concrete request path against the resource templates using a segment trie with literal, path
+ * parameter and trailing wildcard nodes. Literal segments take precedence over path parameters, which take precedence
+ * over wildcards.</li>
+ * </ul>
+ */
+public final class ResourceRouteIndex {
+
+    private static final String WILDCARD_SEGMENT = "*";
+
+    private final Map<String, List<Route>> templateRoutes = new HashMap<>();
+    private final Node root = new Node();
+    private final int routeCount;
+
+    private ResourceRouteIndex(APIInfoDTO apiInfoDTO) {
+        int order = 0;
+        if (apiInfoDTO != null && apiInfoDTO.getResources() != null) {
+            for (ResourceInfoDTO resourceInfoDTO : apiInfoDTO.getResources()) {
+                if (resourceInfoDTO.getUrlPattern() == null || resourceInfoDTO.getHttpVerbs() == null) {
+                    continue;
+                }
+                String urlPattern = getEffectiveUrlPattern(resourceInfoDTO);
+                for (VerbInfoDTO verbInfoDTO : resourceInfoDTO.getHttpVerbs()) {
+                    String httpVerb = getEffectiveHttpVerb(verbInfoDTO);
+                    if (httpVerb == null) {
+                        continue;
+                    }
+                    Route route = new Route(resourceInfoDTO.getUrlPattern(), verbInfoDTO, order++);
+                    addTemplateRoute(urlPattern, httpVerb, route);
+                    addTrieRoute(urlPattern, httpVerb, route);
+                }
+            }
+        }
+        this.routeCount = order;
+    }
+
+    /**
+     * Compiles the route index for the given API.
+     *
+     * @param apiInfoDTO API resources
+     * @return compiled route index
+     */
+    public static ResourceRouteIndex compile(APIInfoDTO apiInfoDTO) {
+        return new ResourceRouteIndex(apiInfoDTO);
+    }
+
+    /**
+     * Returns the routes registered for the given resource template and HTTP method, in resource definition order.
+     * A template matches when it is equal to the given resource ignoring case, or when it only differs by a trailing
+     * '/'.
+     *
+     * @param resourceString elected resource template
+     * @param httpMethod     HTTP method of the request
+     * @return matching routes, or an empty list
+     */
+    public List<Route> getTemplateRoutes(String resourceString, String httpMethod) {
+        if (resourceString == null || httpMethod == null) {
+            return Collections.emptyList();
+        }
+        List<Route> routes = templateRoutes.get(getTemplateKey(resourceString.trim(), httpMethod));
+        return routes != null ? routes : Collections.<Route>emptyList();
+    }
+
+    /**
+     * Resolves a concrete request path, relative to the API context and version, to the best matching route.
+     *
+     * @param requestPath request path
+     * @param httpMethod  HTTP method of the request
+     * @return matching route or null if no resource matches
+     */
+    public Route match(String requestPath, String httpMethod) {
+        if (requestPath == null || httpMethod == null) {
+            return null;
+        }
+        return find(root, splitPath(requestPath), 0, httpMethod);
+    }
+
+    public int getRouteCount() {
+        return routeCount;
+    }
+
+    private Route find(Node node, List<String> segments, int index, String httpMethod) {
+        if (index == segments.size()) {
+            Route route = node.routes.get(httpMethod);
+            if (route != null) {
+                return route;
+            }
+        } else {
+            Node literal = node.literals.get(segments.get(index));
+            if (literal != null) {
+                Route route = find(literal, segments, index + 1, httpMethod);
+                if (route != null) {
+                    return route;
+                }
+            }
+            if (node.parameter != null) {
+                Route route = find(node.parameter, segments, index + 1, httpMethod);
+                if (route != null) {
+                    return route;
+                }
+            }
+        }
+        return node.wildcardRoutes.get(httpMethod);
+    }
+
+    private void addTemplateRoute(String urlPattern, String httpVerb, Route route) {
+        String pattern = urlPattern.trim();
+        addTemplateRoute(getTemplateKey(pattern, httpVerb), route);
+        if (pattern.endsWith("/")) {
+            addTemplateRoute(getTemplateKey(pattern.substring(0, pattern.length() - 1), httpVerb), route);
+        }
+    }
+
+    private void addTemplateRoute(String key, Route route) {
+        List<Route> routes = templateRoutes.get(key);
+        if (routes == null) {
+            routes = new ArrayList<>(1);
+            templateRoutes.put(key, routes);
+        }
+        routes.add(route);
+    }
+
+    private void addTrieRoute(String urlPattern, String httpVerb, Route route) {
+        String pattern = urlPattern.trim();
+        int queryIndex = pattern.indexOf('?');
+        if (queryIndex >= 0) {
+            pattern = pattern.substring(0, queryIndex);
+        }
+        List<String> segments = splitPath(pattern);
+        Node node = root;
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (WILDCARD_SEGMENT.equals(segment) && i == segments.size() - 1) {
+                node.wildcardRoutes.putIfAbsent(httpVerb, route);
+                return;
+            }
+            if (segment.indexOf('{') >= 0 || WILDCARD_SEGMENT.equals(segment)) {
+                if (node.parameter == null) {
+                    node.parameter = new Node();
+                }
+                node = node.parameter;
+            } else {
+                node = node.literals.computeIfAbsent(segment, key -> new Node());
+            }
+        }
+        node.routes.putIfAbsent(httpVerb, route);
+    }
+
+    private static String getTemplateKey(String urlPattern, String httpVerb) {
+        return httpVerb + ' ' + urlPattern.toLowerCase(Locale.ENGLISH);
+    }
+
+    private static List<String> splitPath(String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int length = path.length();
+        for (int i = 0; i <= length; i++) {
+            if (i == length || path.charAt(i) == '/') {
+                if (i > start) {
+                    segments.add(path.substring(start, i));
+                }
+                start = i + 1;
+            }
+        }
+        return segments;
+    }
+
+    private static String getEffectiveUrlPattern(ResourceInfoDTO resourceInfoDTO) {
+        // MCP direct endpoint operations are matched against the backend operation target
+        if (!resourceInfoDTO.getHttpVerbs().isEmpty()) {
+            BackendOperation backendOperation = getBackendOperation(resourceInfoDTO.getHttpVerbs().iterator().next());
+            if (backendOperation != null && backendOperation.getTarget() != null) {
+                return backendOperation.getTarget();
+            }
+        }
+        return resourceInfoDTO.getUrlPattern();
+    }
+
+    private static String getEffectiveHttpVerb(VerbInfoDTO verbInfoDTO) {
+        BackendOperation backendOperation = getBackendOperation(verbInfoDTO);
+        if (backendOperation != null && backendOperation.getVerb() != null) {
+            return backendOperation.getVerb().toString();
+        }
+        return verbInfoDTO.getHttpVerb();
+    }
+
+    private static BackendOperation getBackendOperation(VerbInfoDTO verbInfoDTO) {
+        BackendOperationMapping backendOperationMapping = verbInfoDTO.getBackendAPIOperationMapping();
+        return backendOperationMapping != null ? backendOperationMapping.getBackendOperation() : null;
+    }
+
+    /**
+     * A resource template and verb pair of the API.
+     */
+    public static final class Route {
+
+        private final String urlPattern;
+        private final VerbInfoDTO verbInfoDTO;
+        private final int order;
+
+        private Route(String urlPattern, VerbInfoDTO verbInfoDTO, int order) {
+            this.urlPattern = urlPattern;
+            this.verbInfoDTO = verbInfoDTO;
+            this.order = order;
+        }
+
+        public String getUrlPattern() {
+            return urlPattern;
+        }
+
+        public VerbInfoDTO getVerbInfoDTO() {
+            return verbInfoDTO;
+        }
+
+        /**
+         * Position of the route in the resource definition order of the API.
+         */
+        public int getOrder() {
+            return order;
+        }
+    }
+
+    private static final class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private final Map<String, Route> routes = new HashMap<>();
+        private final Map<String, Route> wildcardRoutes = new HashMap<>();
+        private Node parameter;
+    }
+}
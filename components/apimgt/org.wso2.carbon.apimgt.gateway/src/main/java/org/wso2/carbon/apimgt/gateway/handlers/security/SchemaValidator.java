@@ -17,7 +17,6 @@
 package org.wso2.carbon.apimgt.gateway.handlers.security;
 
 import com.atlassian.oai.validator.OpenApiInteractionValidator;
-import com.atlassian.oai.validator.report.LevelResolver;
 import com.atlassian.oai.validator.report.ValidationReport;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.swagger.util.Json;
@@ -30,6 +29,7 @@ import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.handlers.security.model.OpenAPIRequest;
 import org.wso2.carbon.apimgt.gateway.handlers.security.model.OpenAPIResponse;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.keymgt.model.entity.API;
 
 /**
  * This SchemaValidator handler validates the request/response messages against schema defined in the swagger.
@@ -42,22 +42,23 @@ public class SchemaValidator extends AbstractHandler {
     public static final String REG_TIME_MODULE = "register.timeModule";
 
     /**
-     * Method to generate OpenApiInteractionValidator when the openAPI is provided.
+     * Returns the cached OpenApiInteractionValidator of the operation invoked by the given message.
      *
-     * @param openAPI openAPI
+     * @param messageContext message context
+     * @param openAPI        openAPI of the API
      * @return OpenApiInteractionValidator object for the provided swagger.
      */
-    private static OpenApiInteractionValidator getOpenAPIValidator(OpenAPI openAPI) {
+    private static OpenApiInteractionValidator getOpenAPIValidator(MessageContext messageContext, OpenAPI openAPI) {
 
-        return OpenApiInteractionValidator
-                .createFor(openAPI)
-                .withLevelResolver(
-                        LevelResolver.create()
-                                .withLevel("validation.schema.required", ValidationReport.Level.INFO)
-                                .withLevel("validation.response.body.missing", ValidationReport.Level.INFO)
-                                .withLevel("validation.schema.additionalProperties", ValidationReport.Level.IGNORE)
-                                .build())
-                .build();
+        String apiUUID = (String) messageContext.getProperty(APIMgtGatewayConstants.API_UUID_PROPERTY);
+        String revision = null;
+        Object api = messageContext.getProperty(APIMgtGatewayConstants.API_OBJECT);
+        if (api instanceof API) {
+            revision = ((API) api).getRevisionId();
+        }
+        return OpenAPIValidatorCache.getInstance().getValidator(apiUUID, revision, openAPI,
+                (String) messageContext.getProperty(APIMgtGatewayConstants.API_ELECTED_RESOURCE),
+                (String) messageContext.getProperty(APIMgtGatewayConstants.HTTP_METHOD));
     }
 
     @Override
@@ -70,7 +71,7 @@ public class SchemaValidator extends AbstractHandler {
         logger.debug("Validating the API request Body content..");
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIRequest request = new OpenAPIRequest(messageContext);
 
             ValidationReport validationReport = validator.validateRequest(request);
@@ -97,7 +98,7 @@ public class SchemaValidator extends AbstractHandler {
 
         OpenAPI openAPI = (OpenAPI) messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
         if (openAPI != null) {
-            OpenApiInteractionValidator validator = getOpenAPIValidator(openAPI);
+            OpenApiInteractionValidator validator = getOpenAPIValidator(messageContext, openAPI);
             OpenAPIResponse response = new OpenAPIResponse(messageContext);
 
             ValidationReport validationReport = validator.validateResponse(response.getPath(), response.getMethod(),
@@ -44,6 +44,7 @@ import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.handlers.streaming.websocket.WebSocketApiConstants;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTDataHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayNearCaches;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
@@ -763,6 +764,7 @@ public class JWTValidator {
         Date exp = new Date(payload.getExpiryTime());
         if (!DateUtils.isAfter(exp, now, timestampSkew)) {
             if (isGatewayTokenCacheEnabled) {
+                GatewayNearCaches.invalidateToken(tokenIdentifier);
                 getGatewayTokenCache().remove(tokenIdentifier);
                 getGatewayJWTTokenCache().remove(tokenIdentifier);
                 getInvalidTokenCache().put(tokenIdentifier, tenantDomain);
@@ -798,11 +800,25 @@ public class JWTValidator {
         JWTValidationInfo jwtValidationInfo = null;
         if (isGatewayTokenCacheEnabled &&
                 !SignedJWTInfo.ValidationStatus.NOT_VALIDATED.equals(signedJWTInfo.getValidationStatus())) {
-            String cacheToken = (String) getGatewayTokenCache().get(jti);
+            // the near cache is looked up first, as it holds the valid tokens found in the token and key caches
+            JWTValidationInfo nearCachedJWTValidationInfo = null;
+            if (GatewayNearCaches.isEnabled()
+                    && SignedJWTInfo.ValidationStatus.VALID.equals(signedJWTInfo.getValidationStatus())) {
+                nearCachedJWTValidationInfo = GatewayNearCaches.getJWTValidationInfoCache().get(jti, tenantDomain);
+            }
+            String cacheToken = nearCachedJWTValidationInfo != null ? tenantDomain
+                    : (String) getGatewayTokenCache().get(jti);
             if (SignedJWTInfo.ValidationStatus.VALID.equals(signedJWTInfo.getValidationStatus())
                     && cacheToken != null) {
-                if (getGatewayKeyCache().get(jti) != null) {
-                    JWTValidationInfo tempJWTValidationInfo = (JWTValidationInfo) getGatewayKeyCache().get(jti);
+                Object cachedJWTValidationInfo = nearCachedJWTValidationInfo != null ? nearCachedJWTValidationInfo
+                        : getGatewayKeyCache().get(jti);
+                if (cachedJWTValidationInfo != null) {
+                    JWTValidationInfo tempJWTValidationInfo = (JWTValidationInfo) cachedJWTValidationInfo;
+                    if (nearCachedJWTValidationInfo != null) {
+                        // the near cached instance is shared by all the requests of the token, so a request must not
+                        // invalidate it for the others
+                        tempJWTValidationInfo = new JWTValidationInfo(tempJWTValidationInfo);
+                    }
                     checkTokenExpiration(jti, tempJWTValidationInfo, tenantDomain);
                                         /* Only when cnf validation fails the validation info is updated when it passes the other
                      validations are performed */
@@ -816,6 +832,9 @@ public class JWTValidator {
                         throw new APISecurityException(APISecurityConstants.API_AUTH_GENERAL_ERROR,
                                 APISecurityConstants.API_AUTH_GENERAL_ERROR_MESSAGE, e);
                     }
+                    if (nearCachedJWTValidationInfo == null && tempJWTValidationInfo.isValid()) {
+                        putInNearCache(jti, tenantDomain, tempJWTValidationInfo);
+                    }
                     jwtValidationInfo = tempJWTValidationInfo;
                 }
             } else if (getInvalidTokenCache().get(jti) != null) {
@@ -842,6 +861,7 @@ public class JWTValidator {
                     if (jwtValidationInfo.isValid()) {
                         getGatewayTokenCache().put(jti, tenantDomain);
                         getGatewayKeyCache().put(jti, jwtValidationInfo);
+                        putInNearCache(jti, tenantDomain, jwtValidationInfo);
                     } else {
                         getInvalidTokenCache().put(jti, tenantDomain);
                     }
@@ -876,6 +896,18 @@ public class JWTValidator {
         return jwtValidationInfo;
     }
 
+    /**
+     * Puts a copy of the validation info of a valid token in the near cache, so that the instance returned to the
+     * caller can still be modified for the current request only.
+     */
+    private void putInNearCache(String jti, String tenantDomain, JWTValidationInfo jwtValidationInfo) {
+
+        if (GatewayNearCaches.isEnabled()) {
+            GatewayNearCaches.getJWTValidationInfoCache().put(jti, tenantDomain,
+                    new JWTValidationInfo(jwtValidationInfo), jwtValidationInfo.getExpiryTime());
+        }
+    }
+
     private String getJWTTokenIdentifier(SignedJWTInfo signedJWTInfo) {
 
         JWTClaimsSet jwtClaimsSet = signedJWTInfo.getJwtClaimsSet();
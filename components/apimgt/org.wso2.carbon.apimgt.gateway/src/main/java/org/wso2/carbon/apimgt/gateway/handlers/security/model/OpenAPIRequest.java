@@ -53,6 +53,7 @@ public class OpenAPIRequest implements Request {
 
     private static final Log logger = LogFactory.getLog(OpenAPIRequest.class);
     private static final String REST_SUB_REQUEST_PATH = "REST_SUB_REQUEST_PATH";
+    private static final Pattern RESOURCE_PATTERN = Pattern.compile(APIMgtGatewayConstants.RESOURCE_PATTERN);
     private Request.Method method;
     private String path;
     private Multimap<String, String> headers = ArrayListMultimap.create();
@@ -74,13 +75,18 @@ public class OpenAPIRequest implements Request {
         //Set Request path
         path = SchemaValidationUtils.getRestSubRequestPath(
                 messageContext.getProperty(REST_SUB_REQUEST_PATH).toString());
-        String swagger = messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_STRING).toString();
-        if (swagger != null) {
-            OpenAPIParser openAPIParser = new OpenAPIParser();
-            SwaggerParseResult swaggerParseResult =
-                    openAPIParser.readContents(swagger, new ArrayList<>(), new ParseOptions());
-            OpenAPI openAPI = swaggerParseResult.getOpenAPI();
-            validatePath(openAPI);
+        // Reuse the definition parsed when the API was invoked instead of parsing the swagger for every request
+        Object openAPIObject = messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_OBJECT);
+        if (openAPIObject instanceof OpenAPI) {
+            validatePath((OpenAPI) openAPIObject);
+        } else {
+            Object swagger = messageContext.getProperty(APIMgtGatewayConstants.OPEN_API_STRING);
+            if (swagger != null) {
+                OpenAPIParser openAPIParser = new OpenAPIParser();
+                SwaggerParseResult swaggerParseResult =
+                        openAPIParser.readContents(swagger.toString(), new ArrayList<>(), new ParseOptions());
+                validatePath(swaggerParseResult.getOpenAPI());
+            }
         }
         //extract transport headers
         Map<String, String> transportHeaders = (Map<String, String>)
@@ -107,8 +113,7 @@ public class OpenAPIRequest implements Request {
             headers.put(headerKey, value);
         }
         String apiResource = "/";
-        Pattern pattern = Pattern.compile(APIMgtGatewayConstants.RESOURCE_PATTERN);
-        Matcher matcher = pattern.matcher((String) messageContext.getProperty(RESTConstants.REST_FULL_REQUEST_PATH));
+        Matcher matcher = RESOURCE_PATTERN.matcher((String) messageContext.getProperty(RESTConstants.REST_FULL_REQUEST_PATH));
         if (matcher.find()) {
             apiResource = matcher.group(1);
         }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Condition groups of an advanced throttling policy compiled for evaluation.
+ * <p>
+ * The condition types are resolved, the regular expressions compiled and the IP ranges parsed once, when the groups
+ * are compiled. The conditions of a group are all required to match, so they are evaluated from the cheapest to the
+ * most expensive one and the evaluation stops at the first one which does not match: IPs first, then headers and
+ * query parameters, and JWT claims last, as the JWT has to be decoded to check them.
+ */
+final class CompiledConditionGroups {
+
+    // the groups are referred to by their index, so that the compiled groups can be evaluated for any array of
+    // condition groups with the same contents as the one they were compiled from
+    private final int defaultGroup;
+    private final List<Integer> groups = new ArrayList<>();
+    private final List<Condition[]> groupConditions = new ArrayList<>();
+
+    CompiledConditionGroups(ConditionGroupDTO[] conditionGroups) {
+
+        int defaultConditionGroup = -1;
+        for (int index = 0; index < conditionGroups.length; index++) {
+            ConditionGroupDTO conditionGroup = conditionGroups[index];
+            if (APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId())) {
+                defaultConditionGroup = index;
+            } else if (conditionGroup.getConditions().length > 0) {
+                // a group without conditions is never applicable
+                Condition[] conditions = new Condition[conditionGroup.getConditions().length];
+                for (int i = 0; i < conditions.length; i++) {
+                    conditions[i] = compile(conditionGroup.getConditions()[i]);
+                }
+                Arrays.sort(conditions, Comparator.comparingInt(condition -> condition.cost));
+                groups.add(index);
+                groupConditions.add(conditions);
+            }
+        }
+        defaultGroup = defaultConditionGroup;
+    }
+
+    /**
+     * @param request         attributes of the request
+     * @param conditionGroups condition groups the groups were compiled from, or an array with the same contents
+     * @return condition groups applicable for the request, or the default group if none of the others are
+     */
+    List<ConditionGroupDTO> getApplicableConditions(ThrottleConditionRequest request,
+                                                    ConditionGroupDTO[] conditionGroups) {
+
+        List<ConditionGroupDTO> matchingConditions = new ArrayList<>(groups.size() + 1);
+        for (int i = 0; i < groups.size(); i++) {
+            if (isApplicable(request, groupConditions.get(i))) {
+                matchingConditions.add(conditionGroups[groups.get(i)]);
+            }
+        }
+        if (matchingConditions.isEmpty()) {
+            matchingConditions.add(defaultGroup >= 0 ? conditionGroups[defaultGroup] : null);
+        }
+        return matchingConditions;
+    }
+
+    private static boolean isApplicable(ThrottleConditionRequest request, Condition[] conditions) {
+
+        for (Condition condition : conditions) {
+            if (condition.matcher.matches(request) == condition.inverted) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Condition compile(ConditionDTO condition) {
+
+        String name = condition.getConditionName();
+        String value = condition.getConditionValue();
+        switch (condition.getConditionType()) {
+            case PolicyConstants.IP_SPECIFIC_TYPE: {
+                return new Condition(0, condition.isInverted(), request -> request.getIp().equals(value));
+            }
+            case PolicyConstants.IP_RANGE_TYPE: {
+                // For an IP Range Condition, starting IP is set as a the name, ending IP as the value.
+                BigInteger startIp = APIUtil.ipToBigInteger(name);
+                BigInteger endIp = APIUtil.ipToBigInteger(value);
+                return new Condition(1, condition.isInverted(), request -> {
+                    if (request.getIp().isEmpty()) {
+                        return false;
+                    }
+                    BigInteger currentIp = request.getIpValue();
+                    return startIp.compareTo(currentIp) <= 0 && endIp.compareTo(currentIp) >= 0;
+                });
+            }
+            case PolicyConstants.HEADER_TYPE: {
+                Pattern pattern = CompiledThrottleConditions.compilePattern(value);
+                return new Condition(2, condition.isInverted(),
+                        request -> matches(request.getHeaders(), name, pattern));
+            }
+            case PolicyConstants.QUERY_PARAMETER_TYPE: {
+                Pattern pattern = CompiledThrottleConditions.compilePattern(value);
+                return new Condition(3, condition.isInverted(),
+                        request -> matches(request.getQueryParams(), name, pattern));
+            }
+            case PolicyConstants.JWT_CLAIMS_TYPE: {
+                Pattern pattern = CompiledThrottleConditions.compilePattern(value);
+                return new Condition(4, condition.isInverted(),
+                        request -> matches(request.getJwtClaims(), name, pattern));
+            }
+            default: {
+                return new Condition(0, condition.isInverted(), request -> false);
+            }
+        }
+    }
+
+    private static boolean matches(Map<String, String> attributes, String name, Pattern pattern) {
+
+        if (attributes == null) {
+            return false;
+        }
+        String value = attributes.get(name);
+        return value != null && CompiledThrottleConditions.find(pattern, value);
+    }
+
+    private interface ConditionMatcher {
+
+        boolean matches(ThrottleConditionRequest request);
+    }
+
+    private static final class Condition {
+
+        // relative cost of evaluating the condition, which the conditions of a group are ordered by
+        private final int cost;
+        private final boolean inverted;
+        private final ConditionMatcher matcher;
+
+        private Condition(int cost, boolean inverted, ConditionMatcher matcher) {
+
+            this.cost = cost;
+            this.inverted = inverted;
+            this.matcher = matcher;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Conditions of a throttled key, as received from the traffic manager, compiled for evaluation.
+ * <p>
+ * The regular expressions of the conditions are compiled once, when the conditions are received, instead of on
+ * every request. The conditions of a key are evaluated in the order they were received, and
+ * within a condition the IP is checked first, then the headers and query parameters, and the JWT claims last, as the
+ * JWT has to be decoded to check them.
+ */
+public final class CompiledThrottleConditions {
+
+    private static final Log log = LogFactory.getLog(CompiledThrottleConditions.class);
+    private static final String DEFAULT_CONDITION = "default";
+
+    private final List<String> conditionKeys = new ArrayList<>();
+    private final List<Condition[]> conditions = new ArrayList<>();
+    private final boolean hasDefaultCondition;
+    private final Condition[] defaultConditions;
+
+    private CompiledThrottleConditions(Map<String, List<ConditionDto>> conditionDtoMap) {
+
+        for (Map.Entry<String, List<ConditionDto>> entry : conditionDtoMap.entrySet()) {
+            if (!DEFAULT_CONDITION.equals(entry.getKey())) {
+                conditionKeys.add(entry.getKey());
+                conditions.add(compile(entry.getValue()));
+            }
+        }
+        hasDefaultCondition = conditionDtoMap.containsKey(DEFAULT_CONDITION);
+        List<ConditionDto> defaultConditionDtos = conditionDtoMap.get(DEFAULT_CONDITION);
+        defaultConditions = defaultConditionDtos == null ? new Condition[0] : compile(defaultConditionDtos);
+    }
+
+    /**
+     * Compiles the conditions of a throttled key.
+     *
+     * @param conditionDtoMap conditions of the key by their condition keys
+     * @return compiled conditions
+     */
+    public static CompiledThrottleConditions compile(Map<String, List<ConditionDto>> conditionDtoMap) {
+
+        return new CompiledThrottleConditions(conditionDtoMap);
+    }
+
+    /**
+     * @return number of condition keys, including the default one
+     */
+    public int size() {
+
+        return conditionKeys.size() + (hasDefaultCondition ? 1 : 0);
+    }
+
+    /**
+     * Finds the condition key a request is throttled in. The first key with a condition matching the request is
+     * returned, and if there is none, the default key is returned if none of its conditions match the request.
+     *
+     * @return condition key, or null if the request is not throttled in any of them
+     */
+    String getThrottledInCondition(ThrottleConditionRequest request, ThrottleProperties throttleProperties) {
+
+        for (int i = 0; i < conditionKeys.size(); i++) {
+            if (isThrottledWithinCondition(request, throttleProperties, conditions.get(i))) {
+                return conditionKeys.get(i);
+            }
+        }
+        if (hasDefaultCondition && (defaultConditions.length == 0
+                || !isThrottledWithinCondition(request, throttleProperties, defaultConditions))) {
+            return DEFAULT_CONDITION;
+        }
+        return null;
+    }
+
+    private static boolean isThrottledWithinCondition(ThrottleConditionRequest request,
+                                                      ThrottleProperties throttleProperties, Condition[] conditions) {
+
+        if (conditions.length == 0) {
+            return true;
+        }
+        for (Condition condition : conditions) {
+            if (condition.matches(request, throttleProperties)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Condition[] compile(List<ConditionDto> conditionDtos) {
+
+        Condition[] compiledConditions = new Condition[conditionDtos.size()];
+        for (int i = 0; i < compiledConditions.length; i++) {
+            compiledConditions[i] = new Condition(conditionDtos.get(i));
+        }
+        return compiledConditions;
+    }
+
+    /**
+     * Compiles the regular expression of a condition. An invalid expression is logged once and does not match any
+     * value, as it can never be evaluated.
+     */
+    static Pattern compilePattern(String regex) {
+
+        try {
+            return Pattern.compile(regex);
+        } catch (PatternSyntaxException e) {
+            log.error("Invalid regular expression " + regex + " in throttling condition. The condition will not match"
+                    + " any request.", e);
+            return null;
+        }
+    }
+
+    static boolean find(Pattern pattern, String value) {
+
+        return pattern != null && pattern.matcher(value).find();
+    }
+
+    /**
+     * A condition of a key, which matches a request if all of its parts match it.
+     */
+    private static final class Condition {
+
+        private final ConditionDto.IPCondition ipCondition;
+        private final ConditionDto.IPCondition ipRangeCondition;
+        private final AttributeCondition headerCondition;
+        private final AttributeCondition queryParamCondition;
+        private final AttributeCondition jwtClaimCondition;
+
+        private Condition(ConditionDto conditionDto) {
+
+            ipCondition = conditionDto.getIpCondition();
+            ipRangeCondition = ipCondition == null ? conditionDto.getIpRangeCondition() : null;
+            ConditionDto.HeaderConditions headerConditions = conditionDto.getHeaderConditions();
+            headerCondition = headerConditions == null ? null
+                    : AttributeCondition.compile(headerConditions.getValues(), headerConditions.isInvert());
+            ConditionDto.QueryParamConditions queryParamConditions = conditionDto.getQueryParameterConditions();
+            queryParamCondition = queryParamConditions == null ? null
+                    : AttributeCondition.compile(queryParamConditions.getValues(), queryParamConditions.isInvert());
+            ConditionDto.JWTClaimConditions jwtClaimConditions = conditionDto.getJwtClaimConditions();
+            jwtClaimCondition = jwtClaimConditions == null ? null
+                    : AttributeCondition.compile(jwtClaimConditions.getValues(), jwtClaimConditions.isInvert());
+        }
+
+        private boolean matches(ThrottleConditionRequest request, ThrottleProperties throttleProperties) {
+
+            if (ipCondition != null) {
+                if (request.getIpValue().equals(ipCondition.getSpecificIp()) == ipCondition.isInvert()) {
+                    return false;
+                }
+            } else if (ipRangeCondition != null) {
+                if (StringUtils.isEmpty(request.getIp())) {
+                    return false;
+                }
+                BigInteger ip = request.getIpValue();
+                boolean withinRange = ipRangeCondition.getStartingIp().compareTo(ip) <= 0
+                        && ipRangeCondition.getEndingIp().compareTo(ip) >= 0;
+                if (withinRange == ipRangeCondition.isInvert()) {
+                    return false;
+                }
+            }
+            if (headerCondition != null && throttleProperties.isEnableHeaderConditions()) {
+                Map<String, String> headers = request.getHeaders();
+                // the header conditions are not checked on a request without headers, but the inverted ones fail
+                if (headers == null ? headerCondition.inverted : !headerCondition.matches(headers, true)) {
+                    return false;
+                }
+            }
+            if (queryParamCondition != null && throttleProperties.isEnableQueryParamConditions()
+                    && !queryParamCondition.matches(request.getQueryParams(), false)) {
+                return false;
+            }
+            if (jwtClaimCondition != null && throttleProperties.isEnableJwtConditions()) {
+                Map<String, String> jwtClaims = request.getJwtClaims();
+                // a request without a JWT does not match the claim conditions, even if they are inverted
+                return jwtClaims != null && jwtClaimCondition.matches(jwtClaims, false);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Header, query parameter or JWT claim conditions of a condition, which match if every named attribute of the
+     * request matches its regular expression.
+     */
+    private static final class AttributeCondition {
+
+        private final String[] names;
+        private final Pattern[] patterns;
+        private final boolean inverted;
+
+        private AttributeCondition(String[] names, Pattern[] patterns, boolean inverted) {
+
+            this.names = names;
+            this.patterns = patterns;
+            this.inverted = inverted;
+        }
+
+        private static AttributeCondition compile(Map<String, String> values, boolean inverted) {
+
+            if (values == null || values.isEmpty()) {
+                return null;
+            }
+            String[] names = new String[values.size()];
+            Pattern[] patterns = new Pattern[values.size()];
+            int i = 0;
+            for (Map.Entry<String, String> value : values.entrySet()) {
+                names[i] = value.getKey();
+                patterns[i] = compilePattern(value.getValue());
+                i++;
+            }
+            return new AttributeCondition(names, patterns, inverted);
+        }
+
+        private boolean matches(Map<String, String> attributes, boolean emptyIsMissing) {
+
+            boolean status = attributes != null;
+            for (int i = 0; status && i < names.length; i++) {
+                String value = attributes.get(names[i]);
+                status = value != null && !(emptyIsMissing && value.isEmpty()) && find(patterns[i], value);
+            }
+            return status != inverted;
+        }
+    }
+}
@@ -20,27 +20,17 @@
 
 package org.wso2.carbon.apimgt.gateway.handlers.throttling;
 
-import org.apache.axis2.context.MessageContext;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.synapse.core.axis2.Axis2MessageContext;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
 import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
-import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
-import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
 import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
-import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
-import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
-import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
-import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 
-import java.math.BigInteger;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Objects;
 
 /**
  * This class is used by {@code ThrottleHandler} to determine Applicability of Throttling Conditions.
@@ -51,9 +41,21 @@ import java.util.regex.Pattern;
  * Mozilla. Decision Engine keeps a track of which attributes are present in the request and which keys have been
  * throttled out. In order to see if those keys are applicable for the request, GW too should run some checks by
  * going through the attributes used for those conditions. What this class does is performing those checks.
+ * <p>
+ * The condition groups of a resource are compiled once, the first time they are evaluated. The compiled groups are
+ * looked up by the contents of the condition groups, so they are reused even when the condition groups are rebuilt
+ * for every request, as they are when the resource cache is disabled or distributed. The attributes of a request are
+ * extracted at most once per evaluation, and only if a condition uses them.
  */
 public class ThrottleConditionEvaluator {
 
+    private static final int MAX_COMPILED_CONDITION_GROUPS = 10000;
+
+    // compiled condition groups by the contents of the condition groups of the resources. The lookups do not lock, so
+    // the requests of different resources do not contend on the cache
+    private final Cache<ConditionGroupsKey, CompiledConditionGroups> compiledConditionGroups =
+            CacheBuilder.newBuilder().maximumSize(MAX_COMPILED_CONDITION_GROUPS).build();
+
     private ThrottleConditionEvaluator() {
 
     }
@@ -80,331 +82,116 @@ public class ThrottleConditionEvaluator {
                                                            AuthenticationContext authenticationContext,
                                                            ConditionGroupDTO[] inputConditionGroups) {
 
-        ArrayList<ConditionGroupDTO> matchingConditions = new ArrayList<>(inputConditionGroups.length);
-        ConditionGroupDTO defaultGroup = null;
-
-        for (ConditionGroupDTO conditionGroup : inputConditionGroups) {
-            if (APIConstants.THROTTLE_POLICY_DEFAULT.equals(conditionGroup.getConditionGroupId())) {
-                defaultGroup = conditionGroup;
-            } else if (isConditionGroupApplicable(synapseContext, authenticationContext, conditionGroup)) {
-                matchingConditions.add(conditionGroup);
-            }
+        ConditionGroupsKey key = new ConditionGroupsKey(inputConditionGroups);
+        CompiledConditionGroups conditionGroups = compiledConditionGroups.getIfPresent(key);
+        if (conditionGroups == null) {
+            // compiling the same groups twice in parallel is harmless, so the compilation is not serialized
+            conditionGroups = new CompiledConditionGroups(inputConditionGroups);
+            compiledConditionGroups.put(key, conditionGroups);
         }
-
-        // If no matching ConditionGroups are present, apply the default group.
-        if (matchingConditions.isEmpty()) {
-            matchingConditions.add(defaultGroup);
-        }
-
-        return matchingConditions;
+        return conditionGroups.getApplicableConditions(
+                new ThrottleConditionRequest(synapseContext, authenticationContext), inputConditionGroups);
     }
 
-    private boolean isConditionGroupApplicable(org.apache.synapse.MessageContext synapseContext,
-                                               AuthenticationContext authenticationContext,
-                                               ConditionGroupDTO conditionGroup) {
-
-        ConditionDTO[] conditions = conditionGroup.getConditions();
-
-        boolean evaluationState = true;
-
-        if (conditions.length == 0) {
-            evaluationState = false;
-        }
-
-        // When multiple conditions have been specified, all the conditions should occur.
-        for (ConditionDTO condition : conditions) {
-            evaluationState = evaluationState & isConditionApplicable(synapseContext, authenticationContext, condition);
+    public String getThrottledInCondition(org.apache.synapse.MessageContext synCtx, AuthenticationContext authContext,
+                                          Map<String, List<ConditionDto>> conditionDtoMap) {
 
-            // If one of the conditions are false, rest will evaluate to false. So no need to check the rest.
-            if (!evaluationState) {
-                return false;
-            }
-        }
-        return evaluationState;
+        return getThrottledInCondition(synCtx, authContext, CompiledThrottleConditions.compile(conditionDtoMap));
     }
 
-    private boolean isConditionApplicable(org.apache.synapse.MessageContext synapseContext,
-                                          AuthenticationContext authenticationContext,
-                                          ConditionDTO condition) {
-
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synapseContext)
-                .getAxis2MessageContext();
-
-        boolean state = false;
-        switch (condition.getConditionType()) {
-            case PolicyConstants.IP_RANGE_TYPE: {
-                state = isWithinIP(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.IP_SPECIFIC_TYPE: {
-                state = isMatchingIP(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.QUERY_PARAMETER_TYPE: {
-                state = isQueryParamPresent(axis2MessageContext, condition);
-                break;
-            }
-            case PolicyConstants.JWT_CLAIMS_TYPE: {
-                state = isJWTClaimPresent(authenticationContext, condition);
-                break;
-            }
-            case PolicyConstants.HEADER_TYPE: {
-                state = isHeaderPresent(axis2MessageContext, condition);
-                break;
-            }
-        }
-
-        if (condition.isInverted()) {
-            state = !state;
-        }
+    /**
+     * Finds the condition a throttled key is throttled in for the current request.
+     *
+     * @param synCtx             Message Context of the incoming request.
+     * @param authContext        AuthenticationContext populated by {@code APIAuthenticationHandler}
+     * @param throttleConditions Compiled conditions of the throttled key.
+     * @return Key of the condition the request is throttled in, or null if it is not throttled in any of them.
+     */
+    public String getThrottledInCondition(org.apache.synapse.MessageContext synCtx, AuthenticationContext authContext,
+                                          CompiledThrottleConditions throttleConditions) {
 
-        return state;
+        return throttleConditions.getThrottledInCondition(new ThrottleConditionRequest(synCtx, authContext),
+                ServiceReferenceHolder.getInstance().getThrottleProperties());
     }
 
-    private boolean isHeaderPresent(MessageContext messageContext, ConditionDTO condition) {
+    /**
+     * Key of compiled condition groups, made of the contents of the condition groups they were compiled from.
+     */
+    private static final class ConditionGroupsKey {
 
-        Map<String, String> transportHeaderMap = (Map<String, String>) messageContext
-                .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-        if (transportHeaderMap != null) {
-            String value = transportHeaderMap.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
-            Matcher matcher = pattern.matcher(value);
-            return matcher.find();
-        }
-        return false;
-    }
+        private final ConditionGroupDTO[] conditionGroups;
+        private final int hashCode;
 
-    private boolean isHeaderPresent(MessageContext messageContext, ConditionDto.HeaderConditions condition) {
+        private ConditionGroupsKey(ConditionGroupDTO[] conditionGroups) {
 
-        Map<String, String> transportHeaderMap = (Map<String, String>) messageContext
-                .getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-        boolean status = true;
-        for (Map.Entry<String, String> headerEntry : condition.getValues().entrySet()) {
-            if (transportHeaderMap != null) {
-                String value = transportHeaderMap.get(headerEntry.getKey());
-                if (StringUtils.isEmpty(value)) {
-                    status = false;
-                    break;
-                } else {
-                    Pattern pattern = Pattern.compile(headerEntry.getValue());
-                    Matcher matcher = pattern.matcher(value);
-                    status = status && matcher.find();
+            this.conditionGroups = conditionGroups;
+            int result = 1;
+            for (ConditionGroupDTO conditionGroup : conditionGroups) {
+                result = 31 * result + Objects.hashCode(conditionGroup.getConditionGroupId());
+                if (conditionGroup.getConditions() != null) {
+                    for (ConditionDTO condition : conditionGroup.getConditions()) {
+                        result = 31 * result + Objects.hash(condition.getConditionType(),
+                                condition.getConditionName(), condition.getConditionValue(), condition.isInverted());
+                    }
                 }
             }
+            hashCode = result;
         }
 
-        if (condition.isInvert()) {
-            return !status;
-        } else {
-            return status;
-        }
-    }
-
-    private boolean isJWTClaimPresent(AuthenticationContext authenticationContext, ConditionDTO condition) {
-
-        Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-        if (assertions != null) {
-            String value = assertions.get(condition.getConditionName());
-            if (value == null) {
-                return false;
-            } else {
-                Pattern pattern = Pattern.compile(condition.getConditionValue());
-                Matcher matcher = pattern.matcher(value);
-                return matcher.find();
-            }
-        }
-        return false;
-    }
-
-    private boolean isJWTClaimPresent(AuthenticationContext authenticationContext, ConditionDto.JWTClaimConditions
-            condition) {
-                
-        if (authenticationContext.getCallerToken() == null) {
-            return false;
-        }
-
-        Map<String, String> assertions = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
-        boolean status = true;
+        @Override
+        public boolean equals(Object o) {
 
-        for (Map.Entry<String, String> jwtClaim : condition.getValues().entrySet()) {
-            String value = assertions.get(jwtClaim.getKey());
-            if (value == null) {
-                status = false;
-                break;
-            } else {
-                Pattern pattern = Pattern.compile(jwtClaim.getValue());
-                Matcher matcher = pattern.matcher(value);
-                status = status && matcher.find();
+            if (this == o) {
+                return true;
             }
-        }
-        if (condition.isInvert()) {
-            return !status;
-        } else {
-            return status;
-        }
-    }
-
-    private boolean isQueryParamPresent(MessageContext messageContext, ConditionDto.QueryParamConditions condition) {
-
-        Map<String, String> queryParamMap = GatewayUtils.getQueryParams(messageContext);
-        boolean status = true;
-
-        for (Map.Entry<String, String> queryParam : condition.getValues().entrySet()) {
-            if (queryParamMap == null || queryParamMap.get(queryParam.getKey()) == null) {
-                status = false;
-                break;
-            } else {
-                Pattern pattern = Pattern.compile(queryParam.getValue());
-                Matcher matcher = pattern.matcher(queryParamMap.get(queryParam.getKey()));
-                status = status && matcher.find();
+            if (!(o instanceof ConditionGroupsKey)) {
+                return false;
             }
-        }
-        if (condition.isInvert()) {
-            return !status;
-        } else {
-            return status;
-        }
-    }
-
-    private boolean isQueryParamPresent(MessageContext messageContext, ConditionDTO condition) {
-
-        Map<String, String> queryParamMap = GatewayUtils.getQueryParams(messageContext);
-
-        if (queryParamMap != null) {
-            String value = queryParamMap.get(condition.getConditionName());
-            if (value == null) {
+            ConditionGroupsKey that = (ConditionGroupsKey) o;
+            if (hashCode != that.hashCode || conditionGroups.length != that.conditionGroups.length) {
                 return false;
             }
-            Pattern pattern = Pattern.compile(condition.getConditionValue());
-            Matcher matcher = pattern.matcher(value);
-            return matcher.find();
-        }
-        return false;
-    }
-
-    private boolean isMatchingIP(MessageContext messageContext, ConditionDTO condition) {
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        return currentIpString.equals(condition.getConditionValue());
-    }
-
-    private boolean isWithinIP(MessageContext messageContext, ConditionDTO condition) {
-        // For an IP Range Condition, starting IP is set as a the name, ending IP as the value.
-        BigInteger startIp = APIUtil.ipToBigInteger(condition.getConditionName());
-        BigInteger endIp = APIUtil.ipToBigInteger(condition.getConditionValue());
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        if (!currentIpString.isEmpty()) {
-            BigInteger currentIp = APIUtil.ipToBigInteger(currentIpString);
-
-            return startIp.compareTo(currentIp) <= 0 && endIp.compareTo(currentIp) >= 0;
-        }
-        return false;
-    }
-
-    private boolean isWithinIP(MessageContext messageContext, ConditionDto.IPCondition ipCondition) {
-
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        boolean status;
-        if (StringUtils.isNotEmpty(currentIpString)) {
-            BigInteger currentIp = APIUtil.ipToBigInteger(currentIpString);
-            status = ipCondition.getStartingIp().compareTo(currentIp) <= 0
-                    && ipCondition.getEndingIp().compareTo(currentIp) >= 0;
-        } else {
-            return false;
-        }
-        if (ipCondition.isInvert()) {
-            return !status;
-        } else {
-            return status;
+            for (int i = 0; i < conditionGroups.length; i++) {
+                if (!equals(conditionGroups[i], that.conditionGroups[i])) {
+                    return false;
+                }
+            }
+            return true;
         }
-    }
-
-    private boolean isMatchingIP(MessageContext messageContext, ConditionDto.IPCondition ipCondition) {
 
-        String currentIpString = GatewayUtils.getIp(messageContext);
-        BigInteger longValueOfIp = APIUtil.ipToBigInteger(currentIpString);
+        @Override
+        public int hashCode() {
 
-        if (ipCondition.isInvert()) {
-            return !longValueOfIp.equals(ipCondition.getSpecificIp());
+            return hashCode;
         }
-        return longValueOfIp.equals(ipCondition.getSpecificIp());
-    }
 
-    public String getThrottledInCondition(org.apache.synapse.MessageContext synCtx, AuthenticationContext authContext,
-                                          Map<String, List<ConditionDto>> conditionDtoMap) {
+        private static boolean equals(ConditionGroupDTO group, ConditionGroupDTO otherGroup) {
 
-        org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) synCtx)
-                .getAxis2MessageContext();
-        String condition = null;
-        for (Map.Entry<String, List<ConditionDto>> conditionList : conditionDtoMap.entrySet()) {
-            if (!"default".equals(conditionList.getKey())) {
-                boolean pipeLineStatus = isThrottledWithinCondition(axis2MessageContext, authContext, conditionList
-                        .getValue());
-                if (pipeLineStatus) {
-                    condition = conditionList.getKey();
-                    break;
-                }
-            }
-        }
-        if (StringUtils.isEmpty(condition)) {
-            if (conditionDtoMap.containsKey("default")) {
-                List<ConditionDto> conditionDtoList = conditionDtoMap.get("default");
-                if (conditionDtoList != null && !conditionDtoList.isEmpty()) {
-                    boolean pipeLineStatus = isThrottledWithinCondition(axis2MessageContext, authContext,
-                            conditionDtoList);
-                    if (!pipeLineStatus) {
-                        condition = "default";
-                    }
-                } else {
-                    condition = "default";
-                }
+            if (group == otherGroup) {
+                return true;
             }
-        }
-        return condition;
-    }
-
-    private boolean isThrottledWithinCondition(MessageContext axis2MessageContext, AuthenticationContext authContext,
-                                               List<ConditionDto> conditionDtoList) {
-
-        ThrottleProperties throttleProperties = ServiceReferenceHolder.getInstance().getThrottleProperties();
-        boolean status = true;
-        for (ConditionDto condition : conditionDtoList) {
-            status = true;
-            if (condition.getIpCondition() != null) {
-                if (!isMatchingIP(axis2MessageContext, condition.getIpCondition())) {
-                    status = false;
-                }
-            } else if (condition.getIpRangeCondition() != null) {
-                if (!isWithinIP(axis2MessageContext, condition.getIpRangeCondition())) {
-                    status = false;
-                }
+            if (!Objects.equals(group.getConditionGroupId(), otherGroup.getConditionGroupId())) {
+                return false;
             }
-            if (condition.getHeaderConditions() != null && throttleProperties.isEnableHeaderConditions() &&
-                    !condition.getHeaderConditions().getValues().isEmpty()) {
-                if (!isHeaderPresent(axis2MessageContext, condition.getHeaderConditions())) {
-                    status = false;
-                }
+            ConditionDTO[] conditions = group.getConditions();
+            ConditionDTO[] otherConditions = otherGroup.getConditions();
+            if (conditions == null || otherConditions == null) {
+                return conditions == otherConditions;
             }
-            if (condition.getJwtClaimConditions() != null && throttleProperties.isEnableJwtConditions() &&
-                    !condition.getJwtClaimConditions().getValues().isEmpty()) {
-                if (!isJWTClaimPresent(authContext, condition.getJwtClaimConditions())) {
-                    status = false;
-                }
+            if (conditions.length != otherConditions.length) {
+                return false;
             }
-            if (condition.getQueryParameterConditions() != null && throttleProperties.isEnableQueryParamConditions() &&
-                    !condition.getQueryParameterConditions().getValues().isEmpty()) {
-                if (!isQueryParamPresent(axis2MessageContext, condition.getQueryParameterConditions())) {
-                    status = false;
+            for (int i = 0; i < conditions.length; i++) {
+                ConditionDTO condition = conditions[i];
+                ConditionDTO otherCondition = otherConditions[i];
+                if (!Objects.equals(condition.getConditionType(), otherCondition.getConditionType())
+                        || !Objects.equals(condition.getConditionName(), otherCondition.getConditionName())
+                        || !Objects.equals(condition.getConditionValue(), otherCondition.getConditionValue())
+                        || condition.isInverted() != otherCondition.isInverted()) {
+                    return false;
                 }
             }
-            if (status) {
-                break;
-            }
+            return true;
         }
-        return status;
     }
 }
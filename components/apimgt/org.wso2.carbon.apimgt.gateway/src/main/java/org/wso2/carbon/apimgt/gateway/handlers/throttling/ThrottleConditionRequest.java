@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.axis2.context.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.wso2.carbon.apimgt.common.gateway.util.JWTUtil;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.Map;
+
+/**
+ * Attributes of a request which the throttling conditions are evaluated against. Each attribute is extracted from the
+ * message context the first time a condition needs it, and is then shared by all the conditions evaluated for the
+ * request, so that the query parameters are parsed and the JWT is decoded at most once.
+ */
+final class ThrottleConditionRequest {
+
+    private final MessageContext messageContext;
+    private final AuthenticationContext authenticationContext;
+    private Map<String, String> headers;
+    private boolean headersExtracted;
+    private Map<String, String> queryParams;
+    private boolean queryParamsExtracted;
+    private Map<String, String> jwtClaims;
+    private boolean jwtClaimsExtracted;
+    private String ip;
+    private BigInteger ipValue;
+
+    ThrottleConditionRequest(org.apache.synapse.MessageContext synapseContext,
+                             AuthenticationContext authenticationContext) {
+
+        this.messageContext = ((Axis2MessageContext) synapseContext).getAxis2MessageContext();
+        this.authenticationContext = authenticationContext;
+    }
+
+    /**
+     * @return transport headers of the request, or null if there are none
+     */
+    Map<String, String> getHeaders() {
+
+        if (!headersExtracted) {
+            headers = (Map<String, String>) messageContext.getProperty(MessageContext.TRANSPORT_HEADERS);
+            headersExtracted = true;
+        }
+        return headers;
+    }
+
+    /**
+     * @return query parameters of the request, or null if there are none
+     */
+    Map<String, String> getQueryParams() {
+
+        if (!queryParamsExtracted) {
+            queryParams = GatewayUtils.getQueryParams(messageContext);
+            queryParamsExtracted = true;
+        }
+        return queryParams;
+    }
+
+    /**
+     * @return claims of the JWT the request was authenticated with, or null if it was not authenticated with a JWT
+     */
+    Map<String, String> getJwtClaims() {
+
+        if (!jwtClaimsExtracted) {
+            if (authenticationContext != null) {
+                jwtClaims = JWTUtil.getJWTClaims(authenticationContext.getCallerToken());
+            }
+            jwtClaimsExtracted = true;
+        }
+        return jwtClaims;
+    }
+
+    /**
+     * @return IP of the client, or an empty string if it is not known
+     */
+    String getIp() {
+
+        if (ip == null) {
+            String remoteIp = GatewayUtils.getIp(messageContext);
+            ip = remoteIp == null ? "" : remoteIp;
+        }
+        return ip;
+    }
+
+    BigInteger getIpValue() {
+
+        if (ipValue == null) {
+            ipValue = APIUtil.ipToBigInteger(getIp());
+        }
+        return ipValue;
+    }
+}
@@ -62,7 +62,6 @@ import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
-import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.apimgt.tracing.TracingSpan;
@@ -293,14 +292,14 @@ public class ThrottleHandler extends AbstractHandler implements ManagedLifecycle
 
                         if (getThrottleDataHolder().isAPIThrottled
                                 (resourceLevelThrottleKey)) {
-                            if (getThrottleDataHolder().isConditionsAvailable(resourceLevelThrottleKey)) {
-                                Map<String, List<ConditionDto>> conditionDtoMap = getThrottleDataHolder()
-                                        .getConditionDtoMap(resourceLevelThrottleKey);
+                            CompiledThrottleConditions throttledConditions = getThrottleDataHolder()
+                                    .getCompiledConditions(resourceLevelThrottleKey);
+                            if (throttledConditions != null) {
                                 if (log.isDebugEnabled()) {
-                                    log.debug("Conditions available" + conditionDtoMap.size());
+                                    log.debug("Conditions available" + throttledConditions.size());
                                 }
                                 String throttledCondition = getThrottleConditionEvaluator().getThrottledInCondition
-                                        (synCtx, authContext, conditionDtoMap);
+                                        (synCtx, authContext, throttledConditions);
                                 if (StringUtils.isNotEmpty(throttledCondition)) {
                                     if (log.isDebugEnabled()) {
                                         log.debug("Throttled with Condition :" + throttledCondition);
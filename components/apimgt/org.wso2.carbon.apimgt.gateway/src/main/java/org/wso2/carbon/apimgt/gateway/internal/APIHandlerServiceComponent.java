@@ -48,12 +48,17 @@ import org.wso2.carbon.apimgt.gateway.HybridThrottleProcessor;
 import org.wso2.carbon.apimgt.gateway.MistralEmbeddingProviderServiceImpl;
 import org.wso2.carbon.apimgt.gateway.OpenAIEmbeddingProviderServiceImpl;
 import org.wso2.carbon.apimgt.gateway.ZillizVectorDBProviderServiceImpl;
+import org.wso2.carbon.apimgt.gateway.handlers.analytics.AnalyticsEventPipelineMetrics;
 import org.wso2.carbon.apimgt.gateway.RedisBaseDistributedCountManager;
+import org.wso2.carbon.apimgt.gateway.RedisScriptedDistributedCountManager;
 import org.wso2.carbon.apimgt.gateway.handlers.security.keys.APIKeyValidatorClientPool;
 import org.wso2.carbon.apimgt.gateway.inbound.websocket.WebSocketProcessor;
 import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTMapCleaner;
 import org.wso2.carbon.apimgt.gateway.listeners.GatewayStartupListener;
 import org.wso2.carbon.apimgt.gateway.listeners.ServerStartupListener;
+import org.wso2.carbon.apimgt.gateway.throttling.ThrottleDataHolder;
+import org.wso2.carbon.apimgt.gateway.throttling.publisher.ThrottleDataPublisher;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayNearCaches;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.api.LLMProviderService;
@@ -99,6 +104,8 @@ public class APIHandlerServiceComponent {
 
     private APIKeyValidatorClientPool clientPool;
     private ServiceRegistration registration;
+    private HybridThrottleProcessor hybridThrottleProcessor;
+    private RedisScriptedDistributedCountManager redisScriptedDistributedCountManager;
 
     @Activate
     protected void activate(ComponentContext context) {
@@ -134,6 +141,8 @@ public class APIHandlerServiceComponent {
         // Start JWT revoked map cleaner.
         RevokedJWTMapCleaner revokedJWTMapCleaner = new RevokedJWTMapCleaner();
         revokedJWTMapCleaner.startJWTRevokedMapCleaner();
+        GatewayNearCaches.registerMetrics();
+        ThrottleDataHolder.getInstance().registerMetrics();
         if (TelemetryUtil.telemetryEnabled()) {
             ServiceReferenceHolder.getInstance().setTelemetry(ServiceReferenceHolder.getInstance().getTelemetryService
                     ().buildTelemetryTracer(APIMgtGatewayConstants.SERVICE_NAME));
@@ -146,21 +155,26 @@ public class APIHandlerServiceComponent {
                 ServiceReferenceHolder.getInstance().getAPIManagerConfiguration().getRedisConfig();
         if (redisConfig.isRedisEnabled()) {
             ServiceReferenceHolder.getInstance().setRedisPool(getJedisPool(redisConfig));
-            RedisBaseDistributedCountManager redisBaseDistributedCountManager =
-                    new RedisBaseDistributedCountManager(ServiceReferenceHolder.getInstance().getRedisPool());
+            RedisBaseDistributedCountManager redisBaseDistributedCountManager;
+            if (redisConfig.isScriptedCounterOperationsEnabled()) {
+                redisScriptedDistributedCountManager = new RedisScriptedDistributedCountManager(
+                        ServiceReferenceHolder.getInstance().getRedisPool(), redisConfig);
+                redisBaseDistributedCountManager = redisScriptedDistributedCountManager;
+            } else {
+                redisBaseDistributedCountManager =
+                        new RedisBaseDistributedCountManager(ServiceReferenceHolder.getInstance().getRedisPool());
+            }
             context.getBundleContext().registerService(DistributedCounterManager.class,
                     redisBaseDistributedCountManager, null);
-            ServiceReferenceHolder.getInstance().setRedisPool(getJedisPool(redisConfig));
         }
 
         if (ThrottleServiceDataHolder.getInstance().getThrottleProperties().isThrottleSyncAsyncHybridModeEnabled()) {
             String hybridThrottleProcessorWindowType =
                     ThrottleServiceDataHolder.getInstance().getThrottleProperties().getHybridThrottleProcessorWindowType();
             if (APIConstants.HYBRID_THROTTLE_PROCESSOR_TYPE_START_TIME_BASED.equals(hybridThrottleProcessorWindowType)) {
-                HybridThrottleProcessor hybridDistributedThrottleProcessor =
-                        new HybridThrottleProcessor();
+                hybridThrottleProcessor = new HybridThrottleProcessor();
                 context.getBundleContext().registerService(DistributedThrottleProcessor.class,
-                        hybridDistributedThrottleProcessor, null);
+                        hybridThrottleProcessor, null);
             }
         }
 
@@ -295,6 +309,16 @@ public class APIHandlerServiceComponent {
             log.debug("Unregistering ThrottleDataService...");
             registration.unregister();
         }
+        if (hybridThrottleProcessor != null) {
+            hybridThrottleProcessor.shutdown();
+        }
+        ThrottleDataPublisher throttleDataPublisher = ServiceReferenceHolder.getInstance().getThrottleDataPublisher();
+        if (throttleDataPublisher != null) {
+            throttleDataPublisher.shutdown();
+        }
+        if (redisScriptedDistributedCountManager != null) {
+            redisScriptedDistributedCountManager.shutdown();
+        }
         if (ServiceReferenceHolder.getInstance().getRedisPool() != null &&
                 !ServiceReferenceHolder.getInstance().getRedisPool().isClosed()) {
             ServiceReferenceHolder.getInstance().getRedisPool().destroy();
@@ -376,6 +400,7 @@ public class APIHandlerServiceComponent {
             commonConfiguration.setFaultSchema(amcService.getAPIAnalyticsConfiguration().getFaultSchemaName());
             AnalyticsServiceReferenceHolder.getInstance()
                     .setConfigurations(commonConfiguration);
+            AnalyticsEventPipelineMetrics.register();
         }
 
     }
@@ -27,6 +27,7 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.gateway.GatewayAPIDTO;
 import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
 import org.wso2.carbon.apimgt.api.model.LLMProviderInfo;
+import org.wso2.carbon.apimgt.gateway.dto.APIDeploymentProgress;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants.GatewayNotification.GatewayRegistrationResponse;
 import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
@@ -48,8 +49,10 @@ public class DataHolder {
     private Map<String, String> googleAnalyticsConfigMap = new HashMap<>();
     private Map<String, GraphQLSchemaDTO> apiToGraphQLSchemaDTOMap = new HashMap<>();
     private Map<String, List<String>> apiToKeyManagersMap = new HashMap<>();
-    private Map<String,Map<String, API>> tenantAPIMap  = new HashMap<>();
+    // updated by the parallel event processors of the gateway, and read on the request path
+    private final Map<String, Map<String, API>> tenantAPIMap = new ConcurrentHashMap<>();
     private Map<String, Boolean> tenantDeployStatus = new HashMap<>();
+    private final Map<String, APIDeploymentProgress> tenantAPIDeploymentProgress = new ConcurrentHashMap<>();
     private Map<String, LLMProviderInfo> llmProviderMap = new HashMap<>();
     private final Map<String, Cache<String, Long>> apiSuspendedEndpoints = new ConcurrentHashMap<>();
 
@@ -190,6 +193,17 @@ public class DataHolder {
         tenantDeployStatus.put(tenant, true);
     }
 
+    /**
+     * @return progress of deploying the APIs of each tenant at gateway startup
+     */
+    public Map<String, APIDeploymentProgress> getTenantAPIDeploymentProgress() {
+        return tenantAPIDeploymentProgress;
+    }
+
+    public void setAPIDeploymentProgress(String tenant, APIDeploymentProgress progress) {
+        tenantAPIDeploymentProgress.put(tenant, progress);
+    }
+
     public void addKeyManagerToAPIMapping(String uuid, List<String> keyManagers) {
 
         apiToKeyManagersMap.put(uuid, keyManagers);
@@ -221,12 +235,8 @@ public class DataHolder {
         if (index != -1) {
             defaultContext = context.substring(0, index);
         }
-        Map<String, API> apiMap;
-        if (tenantAPIMap.containsKey(api.getOrganization())) {
-            apiMap = tenantAPIMap.get(api.getOrganization());
-        } else {
-            apiMap = new HashMap<>();
-        }
+        Map<String, API> apiMap = tenantAPIMap.computeIfAbsent(api.getOrganization(),
+                organization -> new ConcurrentHashMap<>());
         API oldAPI = apiMap.get(api.getContext());
         if (oldAPI != null) {
             apiMap.remove(api.getContext());
@@ -238,7 +248,6 @@ public class DataHolder {
         if (api.isDefaultVersion()) {
             apiMap.put(defaultContext, api);
         }
-        tenantAPIMap.put(api.getOrganization(), apiMap);
     }
 
     public void markAPIAsDeployed(GatewayAPIDTO gatewayAPIDTO) {
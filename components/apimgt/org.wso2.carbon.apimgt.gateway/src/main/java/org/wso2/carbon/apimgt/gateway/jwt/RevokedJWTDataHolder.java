@@ -30,7 +30,8 @@ import java.util.concurrent.ConcurrentHashMap;
 public class RevokedJWTDataHolder {
 
     private static final Log log = LogFactory.getLog(RevokedJWTDataHolder.class);
-    private static Map<String, Long> revokedJWTMap = new ConcurrentHashMap<>();
+    private static final RevokedJWTSignatureStore revokedJWTStore =
+            new RevokedJWTSignatureStore(RevokedJWTSignatureStore.DEFAULT_EXPECTED_SIGNATURES);
     private static final Map<String, Long> revokedConsumerKeyMap = new ConcurrentHashMap<>();
     private static final Map<String, Long> revokedSubjectEntityAppMap = new ConcurrentHashMap<>();
     // User UUID (jwt claim) -> revoked timestamp
@@ -45,17 +46,28 @@ public class RevokedJWTDataHolder {
     public void addRevokedJWTToMap(String key, Long value) {
         if (key != null && value != null) {
             log.debug("Adding revoked JWT key, value pair to the revoked map :" + key + " , " + value);
-            revokedJWTMap.put(key, value);
+            revokedJWTStore.add(key, value);
         }
     }
 
+    /**
+     * Adds the revoked JWTs loaded at startup to the revoke map in bulk.
+     * @param revokedJWTs expiry times of the revoked JWTs by their signatures.
+     */
+    public void addRevokedJWTsToMap(Map<String, Long> revokedJWTs) {
+        if (log.isDebugEnabled()) {
+            log.debug("Adding " + revokedJWTs.size() + " revoked JWTs to the revoked map");
+        }
+        revokedJWTStore.addAll(revokedJWTs);
+    }
+
     /**
      * Checks whether a given signature is in the map.
      * @param jwtSignature signature to be checked.
      * @return true if it exists and false otherwise.
      */
     public static boolean isJWTTokenSignatureExistsInRevokedMap(String jwtSignature) {
-        return revokedJWTMap.containsKey(jwtSignature);
+        return jwtSignature != null && revokedJWTStore.contains(jwtSignature);
     }
 
     private RevokedJWTDataHolder() {
@@ -63,11 +75,19 @@ public class RevokedJWTDataHolder {
     }
 
     /**
-     * Fetches the revoke map.
-     * @return
+     * Removes the revoked JWTs which have expired from the revoke map.
+     * @param currentTime current time in milliseconds.
+     * @return number of removed JWTs.
+     */
+    int removeExpiredRevokedJWTs(long currentTime) {
+        return revokedJWTStore.removeExpired(currentTime);
+    }
+
+    /**
+     * @return number of revoked JWTs in the revoke map.
      */
-    Map<String, Long> getRevokedJWTMap() {
-        return revokedJWTMap;
+    public int getRevokedJWTCount() {
+        return revokedJWTStore.size();
     }
 
     /**
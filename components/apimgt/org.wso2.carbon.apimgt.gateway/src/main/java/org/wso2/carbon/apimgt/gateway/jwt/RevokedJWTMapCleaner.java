@@ -20,8 +20,6 @@ package org.wso2.carbon.apimgt.gateway.jwt;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -41,21 +39,8 @@ public class RevokedJWTMapCleaner extends TimerTask {
 
     private void cleanJWTRevokedMap() {
 
-        long currentTimestamp = System.currentTimeMillis();
-        Map<String, Long> revokedMap = RevokedJWTDataHolder.getInstance().getRevokedJWTMap();
-        Iterator it = revokedMap.entrySet().iterator();
-        int count = 0;
-        while (it.hasNext()) {
-            Map.Entry entry = (Map.Entry) it.next();
-            long expiryTime = (long) (entry.getValue());
-            if (currentTimestamp > expiryTime) { // if token is expired, remove from the revoked map
-                it.remove();
-                if (log.isDebugEnabled()) {
-                    log.debug("Removed entry : " + entry.getKey());
-                }
-                count++;
-            }
-        }
+        // only the revoked JWTs which expired since the last run are visited
+        int count = RevokedJWTDataHolder.getInstance().removeExpiredRevokedJWTs(System.currentTimeMillis());
         if (log.isDebugEnabled()) {
             log.debug("Number of removed JWT tokens from the map : " + count);
         }
@@ -65,7 +50,7 @@ public class RevokedJWTMapCleaner extends TimerTask {
      * Starts the timer task to clean the JWT revoke map
      */
     public void startJWTRevokedMapCleaner() {
-        // Thread starts after 2 mins and runs every 45 minutes
-        new Timer().schedule(this, 120000, 2700000);
+        // Thread starts after 2 mins and runs every minute, which is the expiry bucket of the revoke map
+        new Timer().schedule(this, 120000, RevokedJWTSignatureStore.BUCKET_MILLIS);
     }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.jwt;
+
+import org.apache.commons.codec.digest.MurmurHash3;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Revoked JWT signatures with the expiry times of their JWTs.
+ * <p>
+ * Signatures are kept by a 64 bit hash instead of the signature itself, which keeps mass revocations compact. A
+ * Bloom filter of the hashes is checked before the map of hashes, so that the signatures of JWTs which are not revoked,
+ * which are nearly all of the checked signatures, are mostly rejected by the filter. Since a Bloom filter cannot remove
+ * hashes, it is rebuilt from the map when it is full, or when many of its hashes were removed.
+ * <p>
+ * Hashes are also grouped in buckets by the expiry time of their JWTs, so that {@link #removeExpired(long)} only
+ * visits the hashes which expired, instead of scanning all of them.
+ */
+final class RevokedJWTSignatureStore {
+
+    static final int DEFAULT_EXPECTED_SIGNATURES = 1024;
+    static final long BUCKET_MILLIS = 60000;
+
+    private final Map<Long, Long> expiryTimes = new ConcurrentHashMap<>();
+    /**
+     * Hashes by the bucket of their expiry time. Guarded by this store.
+     */
+    private final TreeMap<Long, List<Long>> expiryBuckets = new TreeMap<>();
+    private volatile SignatureFilter filter;
+    /**
+     * Number of hashes removed from the map since the filter was built. Guarded by this store.
+     */
+    private int removedSinceFilterBuilt;
+
+    RevokedJWTSignatureStore(int expectedSignatures) {
+
+        this.filter = new SignatureFilter(Math.max(expectedSignatures, DEFAULT_EXPECTED_SIGNATURES));
+    }
+
+    /**
+     * Adds a revoked signature. A signature which is already revoked keeps the latest of its expiry times.
+     *
+     * @param signature  signature of the revoked JWT
+     * @param expiryTime expiry time of the revoked JWT in milliseconds
+     */
+    synchronized void add(String signature, long expiryTime) {
+
+        add(hash(signature), expiryTime);
+    }
+
+    /**
+     * Adds revoked signatures in bulk, growing the filter at most once.
+     *
+     * @param signatures expiry times of the revoked JWTs by their signatures
+     */
+    synchronized void addAll(Map<String, Long> signatures) {
+
+        ensureFilterCapacity(expiryTimes.size() + signatures.size());
+        for (Map.Entry<String, Long> entry : signatures.entrySet()) {
+            if (entry.getKey() != null && entry.getValue() != null) {
+                add(hash(entry.getKey()), entry.getValue());
+            }
+        }
+    }
+
+    private void add(long hash, long expiryTime) {
+
+        Long key = hash;
+        Long previousExpiryTime = expiryTimes.get(key);
+        if (previousExpiryTime != null && previousExpiryTime >= expiryTime) {
+            return;
+        }
+        expiryTimes.put(key, expiryTime);
+        expiryBuckets.computeIfAbsent(Math.floorDiv(expiryTime, BUCKET_MILLIS), bucket -> new ArrayList<>()).add(key);
+        if (previousExpiryTime == null) {
+            ensureFilterCapacity(expiryTimes.size());
+            filter.add(hash);
+        }
+    }
+
+    /**
+     * @param signature signature of a JWT
+     * @return whether the signature is revoked
+     */
+    boolean contains(String signature) {
+
+        long hash = hash(signature);
+        return filter.mightContain(hash) && expiryTimes.containsKey(hash);
+    }
+
+    /**
+     * Removes the signatures of the JWTs which expired before the bucket of the given time.
+     *
+     * @param currentTime current time in milliseconds
+     * @return number of removed signatures
+     */
+    synchronized int removeExpired(long currentTime) {
+
+        long currentBucket = Math.floorDiv(currentTime, BUCKET_MILLIS);
+        int removed = 0;
+        for (Iterator<Map.Entry<Long, List<Long>>> buckets = expiryBuckets.headMap(currentBucket).entrySet()
+                .iterator(); buckets.hasNext(); ) {
+            for (Long key : buckets.next().getValue()) {
+                Long expiryTime = expiryTimes.get(key);
+                // a signature revoked again with a later expiry time is also in the bucket of that time
+                if (expiryTime != null && expiryTime < currentTime) {
+                    expiryTimes.remove(key);
+                    removed++;
+                }
+            }
+            buckets.remove();
+        }
+        removedSinceFilterBuilt += removed;
+        if (removedSinceFilterBuilt > Math.max(expiryTimes.size(), DEFAULT_EXPECTED_SIGNATURES)) {
+            rebuildFilter(expiryTimes.size());
+        }
+        return removed;
+    }
+
+    int size() {
+
+        return expiryTimes.size();
+    }
+
+    private void ensureFilterCapacity(int signatureCount) {
+
+        if (signatureCount > filter.capacity) {
+            rebuildFilter(signatureCount);
+        }
+    }
+
+    private void rebuildFilter(int signatureCount) {
+
+        SignatureFilter newFilter = new SignatureFilter(Math.max(signatureCount * 2, DEFAULT_EXPECTED_SIGNATURES));
+        for (Long key : expiryTimes.keySet()) {
+            newFilter.add(key);
+        }
+        filter = newFilter;
+        removedSinceFilterBuilt = 0;
+    }
+
+    static long hash(String signature) {
+
+        byte[] bytes = signature.getBytes(StandardCharsets.UTF_8);
+        return MurmurHash3.hash128x64(bytes, 0, bytes.length, 0)[0];
+    }
+
+    /**
+     * Bloom filter of signature hashes, with 10 bits per hash and 7 bit positions per hash, which rejects about 99% of
+     * the signatures which were not added while it is within its capacity.
+     */
+    private static final class SignatureFilter {
+
+        private static final int BITS_PER_SIGNATURE = 10;
+        private static final int BIT_POSITIONS = 7;
+
+        private final int capacity;
+        private final AtomicLongArray bits;
+        private final long bitMask;
+
+        private SignatureFilter(int capacity) {
+
+            this.capacity = capacity;
+            long bitCount = Long.highestOneBit((long) capacity * BITS_PER_SIGNATURE - 1) << 1;
+            this.bits = new AtomicLongArray((int) Math.max(1, bitCount >>> 6));
+            this.bitMask = bitCount - 1;
+        }
+
+        private void add(long hash) {
+
+            long secondHash = secondHash(hash);
+            for (int i = 0; i < BIT_POSITIONS; i++) {
+                long bit = (hash + i * secondHash) & bitMask;
+                int index = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long word = bits.get(index);
+                while ((word & mask) == 0 && !bits.compareAndSet(index, word, word | mask)) {
+                    word = bits.get(index);
+                }
+            }
+        }
+
+        private boolean mightContain(long hash) {
+
+            long secondHash = secondHash(hash);
+            for (int i = 0; i < BIT_POSITIONS; i++) {
+                long bit = (hash + i * secondHash) & bitMask;
+                if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static long secondHash(long hash) {
+
+            // an odd mix of the hash, so that the bit positions of a hash are distinct
+            long mixed = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+            return (mixed ^ (mixed >>> 33)) | 1;
+        }
+    }
+}
@@ -40,6 +40,8 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
@@ -112,13 +114,18 @@ public class RevokedJWTTokensRetriever extends TimerTask {
     private void loadRevokedJWTTokens(RevokedEventsDTO revokedEventsDTO) {
 
         if (revokedEventsDTO.getRevokedJWTList() != null && !revokedEventsDTO.getRevokedJWTList().isEmpty()) {
+            // the revoked JWTs are added in bulk, as there may be many of them after mass revocations
+            Map<String, Long> revokedJWTs = new HashMap<>(revokedEventsDTO.getRevokedJWTList().size() * 4 / 3 + 1);
             for (RevokedJWTTokenDTO revokedJWTToken : revokedEventsDTO.getRevokedJWTList()) {
-                RevokedJWTDataHolder.getInstance().addRevokedJWTToMap(revokedJWTToken.getSignature(),
-                        revokedJWTToken.getExpiryTime());
+                if (revokedJWTToken.getSignature() == null || revokedJWTToken.getExpiryTime() == null) {
+                    continue;
+                }
+                revokedJWTs.merge(revokedJWTToken.getSignature(), revokedJWTToken.getExpiryTime(), Math::max);
                 if (log.isDebugEnabled()) {
                     log.debug("JWT signature : " + revokedJWTToken.getSignature() + " added to the revoke map.");
                 }
             }
+            RevokedJWTDataHolder.getInstance().addRevokedJWTsToMap(revokedJWTs);
         } else {
             log.debug("No revoked JWT tokens are retrieved via web service");
         }
@@ -29,6 +29,7 @@ import org.json.simple.parser.JSONParser;
 import org.json.simple.parser.ParseException;
 import org.wso2.carbon.apimgt.api.dto.ResourceCacheInvalidationDto;
 import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayNearCaches;
 import org.wso2.carbon.apimgt.gateway.utils.TenantUtils;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
@@ -103,8 +104,11 @@ public class APIMgtGatewayCacheMessageListener implements MessageListener {
     }
 
     private void handleKeyCacheInvalidationMessage(JSONArray jsonValue) throws ParseException {
-        ServiceReferenceHolder.getInstance().getCacheInvalidationService()
-                .invalidateCachedTokens((String[]) jsonValue.toArray(new String[0]));
+        String[] accessTokens = (String[]) jsonValue.toArray(new String[0]);
+        for (String accessToken : accessTokens) {
+            GatewayNearCaches.invalidateToken(accessToken);
+        }
+        ServiceReferenceHolder.getInstance().getCacheInvalidationService().invalidateCachedTokens(accessTokens);
     }
 
     private void handleResourceCacheInvalidationMessage(JSONObject jsonValue) throws ParseException {
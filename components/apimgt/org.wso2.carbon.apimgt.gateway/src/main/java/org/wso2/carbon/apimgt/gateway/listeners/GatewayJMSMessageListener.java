@@ -22,7 +22,9 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import org.apache.commons.codec.binary.Base64;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.api.APIManagementException;
@@ -48,6 +50,7 @@ import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
 import org.wso2.carbon.apimgt.impl.dto.WebhooksDTO;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.ArtifactSynchronizerException;
+import org.wso2.carbon.apimgt.impl.notifier.NotificationEventBatch;
 import org.wso2.carbon.apimgt.impl.notifier.events.*;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
@@ -68,6 +71,9 @@ import javax.jms.Topic;
 public class GatewayJMSMessageListener implements MessageListener, JMSConnectionEventListener {
 
     private static final Log log = LogFactory.getLog(GatewayJMSMessageListener.class);
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+    private static final Gson gson = new Gson();
+    private static final String POLICY_TYPE = "policyType";
     private boolean debugEnabled = log.isDebugEnabled();
     private boolean refreshOnReconnect = false;
     private InMemoryAPIDeployer inMemoryApiDeployer = new InMemoryAPIDeployer();
@@ -77,12 +83,17 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
             .getInstance().getAPIManagerConfiguration().getGatewayArtifactSynchronizerProperties();
     ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "DeploymentThread"));
     private static GatewayNotifier gatewayNotifier = GatewayNotifier.getInstance();
+    private final OrderedEventExecutor eventExecutor = new OrderedEventExecutor("GatewayEventProcessor",
+            eventHubConfigurationDto.getEventProcessingThreads());
+    private final NotificationEventDispatcher eventDispatcher = new NotificationEventDispatcher(eventExecutor);
 
     public GatewayJMSMessageListener() {
+        registerEventHandlers();
     }
 
     public GatewayJMSMessageListener(boolean refreshOnReconnect) {
         this.refreshOnReconnect = refreshOnReconnect;
+        registerEventHandlers();
     }
 
     public void onMessage(Message message) {
@@ -105,7 +116,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 Topic jmsDestination = (Topic) message.getJMSDestination();
                 if (message instanceof TextMessage) {
                     String textMessage = ((TextMessage) message).getText();
-                    JsonNode payloadData = new ObjectMapper().readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
+                    JsonNode payloadData = objectMapper.readTree(textMessage).path(APIConstants.EVENT_PAYLOAD).
                             path(APIConstants.EVENT_PAYLOAD_DATA);
 
                     if (APIConstants.TopicNames.TOPIC_NOTIFICATION.equalsIgnoreCase(jmsDestination.getTopicName())) {
@@ -119,17 +130,21 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                             if (debugEnabled) {
                                 log.debug("Event received from the topic of " + jmsDestination.getTopicName());
                             }
-                            handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_TIMESTAMP).asLong(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                            NotificationEventBatch.forEachEvent(payloadData.get(APIConstants.EVENT_TYPE).asText(),
+                                    payloadData.path(APIConstants.EVENT_TIMESTAMP).asLong(),
+                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText(), eventDispatcher::dispatch);
                         }
                     } else if (APIConstants.TopicNames.TOPIC_ASYNC_WEBHOOKS_DATA.equalsIgnoreCase
                             (jmsDestination.getTopicName())) {
                         String mode = payloadData.get(APIConstants.Webhooks.MODE).asText();
+                        // the subscriptions of an API are kept in the same subscriber map, so they are ordered
+                        String apiUUID = payloadData.path(APIConstants.Webhooks.API_UUID).asText();
                         if (APIConstants.Webhooks.SUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
-                            handleAsyncWebhooksSubscriptionMessage(payloadData);
+                            eventExecutor.execute(apiUUID, 0,
+                                    () -> handleAsyncWebhooksSubscriptionMessage(payloadData));
                         } else if (APIConstants.Webhooks.UNSUBSCRIBE_MODE.equalsIgnoreCase(mode)) {
-                            handleAsyncWebhooksUnSubscriptionMessage(payloadData);
+                            eventExecutor.execute(apiUUID, 0,
+                                    () -> handleAsyncWebhooksUnSubscriptionMessage(payloadData));
                         }
                     }
 
@@ -146,280 +161,287 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         }
     }
 
-    private void handleNotificationMessage(String eventType, long timestamp, String encodedEvent) {
+    private void registerEventHandlers() {
+
+        // the versions of an API share the context of its default version, so they are ordered together
+        eventDispatcher.register(DeployAPIInGatewayEvent.class,
+                event -> getAPIOrderingKey(event.getTenantDomain(), event.getProvider(), event.getName(),
+                        event.getUuid()),
+                this::handleDeployAPIInGatewayEvent, EventType.DEPLOY_API_IN_GATEWAY,
+                EventType.REMOVE_API_FROM_GATEWAY);
+        eventDispatcher.register(APIEvent.class,
+                event -> getAPIOrderingKey(event.getTenantDomain(), event.getApiProvider(), event.getApiName(),
+                        event.getUuid()),
+                this::handleAPIEvent, EventType.API_UPDATE, EventType.API_LIFECYCLE_CHANGE,
+                EventType.UDATE_API_LOG_LEVEL);
+        // the subscriptions and key mappings of an application are ordered with the application
+        eventDispatcher.register(ApplicationEvent.class, ApplicationEvent::getUuid, this::handleApplicationEvent,
+                EventType.APPLICATION_CREATE, EventType.APPLICATION_UPDATE, EventType.APPLICATION_DELETE);
+        eventDispatcher.register(SubscriptionEvent.class, SubscriptionEvent::getApplicationUUID,
+                this::handleSubscriptionEvent, EventType.SUBSCRIPTIONS_CREATE, EventType.SUBSCRIPTIONS_UPDATE,
+                EventType.SUBSCRIPTIONS_DELETE);
+        eventDispatcher.register(ApplicationRegistrationEvent.class, ApplicationRegistrationEvent::getApplicationUUID,
+                this::handleApplicationRegistrationEvent, EventType.APPLICATION_REGISTRATION_CREATE,
+                EventType.REMOVE_APPLICATION_KEYMAPPING);
+        eventDispatcher.register(ScopesEvent.class, this::handleScopesEvent, EventType.SCOPES_UPDATE);
+        eventDispatcher.register(ScopeEvent.class, this::handleScopeEvent, EventType.SCOPE_CREATE,
+                EventType.SCOPE_UPDATE, EventType.SCOPE_DELETE);
+        eventDispatcher.register(GatewayJMSMessageListener::getPolicyEventClass, event -> null,
+                this::handlePolicyEvent, EventType.POLICY_CREATE, EventType.POLICY_UPDATE, EventType.POLICY_DELETE);
+        eventDispatcher.register(CertificateEvent.class, this::handleCertificateEvent,
+                EventType.ENDPOINT_CERTIFICATE_ADD, EventType.ENDPOINT_CERTIFICATE_REMOVE);
+        eventDispatcher.register(GoogleAnalyticsConfigEvent.class, this::handleGoogleAnalyticsConfigEvent,
+                EventType.GA_CONFIG_UPDATE);
+        eventDispatcher.register(KeyTemplateEvent.class, this::handleKeyTemplateEvent, EventType.CUSTOM_POLICY_ADD,
+                EventType.CUSTOM_POLICY_DELETE, EventType.CUSTOM_POLICY_UPDATE);
+        eventDispatcher.register(GatewayPolicyEvent.class, this::handleGatewayPolicyEvent,
+                EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY, EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY);
+        eventDispatcher.register(LLMProviderEvent.class, this::handleLLMProviderEvent, EventType.LLM_PROVIDER_CREATE,
+                EventType.LLM_PROVIDER_DELETE, EventType.LLM_PROVIDER_UPDATE);
+        eventDispatcher.register(TenantEvent.class, this::handleTenantEvent, EventType.TENANT_CREATE,
+                EventType.TENANT_UPDATE, EventType.TENANT_ACTIVATION, EventType.TENANT_DEACTIVATION);
+    }
 
-        byte[] eventDecoded = Base64.decodeBase64(encodedEvent);
-        String eventJson = new String(eventDecoded);
+    /**
+     * Returns the key the events of an API are ordered by. The events of all the versions of an API share the key, as
+     * deploying or removing a version may move the default version context of the API.
+     */
+    static String getAPIOrderingKey(String tenantDomain, String provider, String name, String uuid) {
 
-        if (APIConstants.EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)
-                || APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-            executor.submit(new Runnable() {
-                @Override
-                public void run() {
+        if (StringUtils.isEmpty(name)) {
+            return uuid;
+        }
+        return tenantDomain + ":" + provider + ":" + name;
+    }
 
-                    DeployAPIInGatewayEvent gatewayEvent = new Gson().fromJson(new String(eventDecoded),
-                            DeployAPIInGatewayEvent.class);
-                    String tenantDomain = gatewayEvent.getTenantDomain();
-                    if (!TenantUtils.isTenantAvailable(tenantDomain)){
-                        return;
-                    }
-                    boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                    if (!tenantLoaded) {
-                        String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
-                        synchronized (syncKey.intern()) {
-                            tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
-                            if (!tenantLoaded) {
-                                APIUtil.loadTenantConfigBlockingMode(tenantDomain);
-                            }
+    private static Class<? extends PolicyEvent> getPolicyEventClass(JsonObject event) {
+
+        JsonElement policyType = event.get(POLICY_TYPE);
+        if (policyType != null && policyType.isJsonPrimitive()) {
+            if (PolicyType.API.name().equals(policyType.getAsString())) {
+                return APIPolicyEvent.class;
+            } else if (PolicyType.SUBSCRIPTION.name().equals(policyType.getAsString())) {
+                return SubscriptionPolicyEvent.class;
+            } else if (PolicyType.APPLICATION.name().equals(policyType.getAsString())) {
+                return ApplicationPolicyEvent.class;
+            }
+        }
+        return PolicyEvent.class;
+    }
+
+    private void handleDeployAPIInGatewayEvent(String eventType, DeployAPIInGatewayEvent gatewayEvent) {
+
+        // the APIs are deployed one by one, as the Synapse configuration is not meant to be deployed to concurrently
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+
+                String tenantDomain = gatewayEvent.getTenantDomain();
+                boolean tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+                if (!tenantLoaded) {
+                    String syncKey = tenantDomain.concat("__").concat(this.getClass().getName());
+                    synchronized (syncKey.intern()) {
+                        tenantLoaded = ServiceReferenceHolder.getInstance().isTenantLoaded(tenantDomain);
+                        if (!tenantLoaded) {
+                            APIUtil.loadTenantConfigBlockingMode(tenantDomain);
                         }
                     }
+                }
 
-                    if (tenantLoaded) {
-                        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
-                        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-                        if (!systemConfiguredGatewayLabels.isEmpty()) {
-                            ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
-                            if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.deployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
-                                            "in the Gateway");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
+                if (tenantLoaded) {
+                    Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayEvent.getGatewayLabels());
+                    systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+                    if (!systemConfiguredGatewayLabels.isEmpty()) {
+                        ServiceReferenceHolder.getInstance().getKeyManagerDataService().updateDeployedAPIRevision(gatewayEvent);
+                        if (EventType.DEPLOY_API_IN_GATEWAY.name().equals(eventType)) {
+                            boolean tenantFlowStarted = false;
+                            try {
+                                startTenantFlow(tenantDomain);
+                                tenantFlowStarted = true;
+                                inMemoryApiDeployer.deployAPI(gatewayEvent);
+                            } catch (ArtifactSynchronizerException e) {
+                                log.error("Error in deploying artifacts for " + gatewayEvent.getUuid() +
+                                        "in the Gateway");
+                            } finally {
+                                if (tenantFlowStarted) {
+                                    endTenantFlow();
                                 }
                             }
-                            if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
-                                boolean tenantFlowStarted = false;
-                                try {
-                                    startTenantFlow(tenantDomain);
-                                    tenantFlowStarted = true;
-                                    inMemoryApiDeployer.unDeployAPI(gatewayEvent);
-                                } catch (ArtifactSynchronizerException e) {
-                                    log.error("Error in undeploying artifacts");
-                                } finally {
-                                    if (tenantFlowStarted) {
-                                        endTenantFlow();
-                                    }
+                        }
+                        if (APIConstants.EventType.REMOVE_API_FROM_GATEWAY.name().equals(eventType)) {
+                            boolean tenantFlowStarted = false;
+                            try {
+                                startTenantFlow(tenantDomain);
+                                tenantFlowStarted = true;
+                                inMemoryApiDeployer.unDeployAPI(gatewayEvent);
+                            } catch (ArtifactSynchronizerException e) {
+                                log.error("Error in undeploying artifacts");
+                            } finally {
+                                if (tenantFlowStarted) {
+                                    endTenantFlow();
                                 }
-                                DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
-                                        gatewayEvent.getTenantDomain());
                             }
+                            DataHolder.getInstance().removeAPIFromAllTenantMap(gatewayEvent.getContext(),
+                                    gatewayEvent.getTenantDomain());
                         }
+                    }
 
-                        if (debugEnabled) {
-                            log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
-                                    gatewayEvent.getUuid() + " is successfully deployed/undeployed");
-                        }
+                    if (debugEnabled) {
+                        log.debug("Event with ID " + gatewayEvent.getEventId() + " is received and " +
+                                gatewayEvent.getUuid() + " is successfully deployed/undeployed");
                     }
                 }
-            });
-        }
-        if (EventType.APPLICATION_CREATE.toString().equals(eventType)
-                || EventType.APPLICATION_UPDATE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplication(event);
-        } else if (EventType.SUBSCRIPTIONS_CREATE.toString().equals(eventType)
-                || EventType.SUBSCRIPTIONS_UPDATE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())) {
-                return;
-            }
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateSubscription(event);
-        } else if (EventType.API_UPDATE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
             }
+        });
+    }
+
+    private void handleAPIEvent(String eventType, APIEvent event) {
+
+        if (EventType.API_UPDATE.name().equals(eventType)) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             DataHolder.getInstance().addAPIMetaData(event);
-        } else if (EventType.API_LIFECYCLE_CHANGE.toString().equals(eventType)) {
-            APIEvent event = new Gson().fromJson(eventJson, APIEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
+        } else if (EventType.API_LIFECYCLE_CHANGE.name().equals(eventType)) {
             if (APIStatus.RETIRED.toString().equals(event.getApiStatus())) {
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeAPI(event);
                 DataHolder.getInstance().removeAPIFromAllTenantMap(event.getApiContext(), event.getTenantDomain());
             } else {
                 ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPI(event);
             }
-        } else if (EventType.APPLICATION_REGISTRATION_CREATE.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
-        } else if (EventType.SUBSCRIPTIONS_DELETE.toString().equals(eventType)) {
-            SubscriptionEvent event = new Gson().fromJson(eventJson, SubscriptionEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
-        } else if (EventType.APPLICATION_DELETE.toString().equals(eventType)) {
-            ApplicationEvent event = new Gson().fromJson(eventJson, ApplicationEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
+        } else if (EventType.UDATE_API_LOG_LEVEL.name().equals(eventType)) {
+            APILoggerManager.getInstance().updateLoggerMap(event.getApiContext(), event.getLogLevel(),
+                    event.getResourceMethod(), event.getResourcePath());
+        }
+    }
+
+    private void handleApplicationEvent(String eventType, ApplicationEvent event) {
+
+        if (EventType.APPLICATION_DELETE.name().equals(eventType)) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplication(event);
-        } else if (EventType.REMOVE_APPLICATION_KEYMAPPING.toString().equals(eventType)) {
-            ApplicationRegistrationEvent event = new Gson().fromJson(eventJson, ApplicationRegistrationEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplication(event);
+        }
+    }
+
+    private void handleSubscriptionEvent(String eventType, SubscriptionEvent event) {
+
+        if (EventType.SUBSCRIPTIONS_DELETE.name().equals(eventType)) {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeSubscription(event);
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateSubscription(event);
+        }
+    }
+
+    private void handleApplicationRegistrationEvent(String eventType, ApplicationRegistrationEvent event) {
+
+        if (EventType.REMOVE_APPLICATION_KEYMAPPING.name().equals(eventType)) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeApplicationKeyMapping(event);
-        } else if (EventType.SCOPES_UPDATE.toString().equals(eventType)) {
-            ScopesEvent event = new Gson().fromJson(eventJson, ScopesEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
-            for (ScopeEvent scopeEvent : event.getScopes()) {
-                ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(scopeEvent);
-            }
-        } else if (EventType.SCOPE_CREATE.toString().equals(eventType) ||
-                EventType.SCOPE_UPDATE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
-            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(event);
-            APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
-        } else if (EventType.SCOPE_DELETE.toString().equals(eventType)) {
-            ScopeEvent event = new Gson().fromJson(eventJson, ScopeEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateApplicationKeyMapping(event);
+        }
+    }
+
+    private void handleScopesEvent(String eventType, ScopesEvent event) {
+
+        for (ScopeEvent scopeEvent : event.getScopes()) {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(scopeEvent);
+        }
+    }
+
+    private void handleScopeEvent(String eventType, ScopeEvent event) {
+
+        if (EventType.SCOPE_DELETE.name().equals(eventType)) {
             ServiceReferenceHolder.getInstance().getKeyManagerDataService().deleteScope(event);
-            APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
-        } else if (EventType.POLICY_CREATE.toString().equals(eventType) ||
-                EventType.POLICY_DELETE.toString().equals(eventType) ||
-                EventType.POLICY_UPDATE.toString().equals(eventType)) {
-            String policyName = null;
-            PolicyEvent event = new Gson().fromJson(eventJson, PolicyEvent.class);
-            if (!TenantUtils.isTenantAvailable(event.getTenantDomain())){
-                return;
-            }
-            boolean updatePolicy = false;
-            boolean deletePolicy = false;
-            if (EventType.POLICY_CREATE.toString().equals(eventType)
-                    || EventType.POLICY_UPDATE.toString().equals(eventType)) {
-                updatePolicy = true;
-            } else if (EventType.POLICY_DELETE.toString().equals(eventType)) {
-                deletePolicy = true;
-            }
-            if (event.getPolicyType() == PolicyType.API) {
-                APIPolicyEvent policyEvent = new Gson().fromJson(eventJson, APIPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateAPIPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeAPIPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            } else if (event.getPolicyType() == PolicyType.SUBSCRIPTION) {
-                SubscriptionPolicyEvent policyEvent = new Gson().fromJson(eventJson, SubscriptionPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateSubscriptionPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeSubscriptionPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            } else if (event.getPolicyType() == PolicyType.APPLICATION) {
-                ApplicationPolicyEvent policyEvent = new Gson().fromJson(eventJson, ApplicationPolicyEvent.class);
-                if (updatePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .addOrUpdateApplicationPolicy(policyEvent);
-                } else if (deletePolicy) {
-                    ServiceReferenceHolder.getInstance().getKeyManagerDataService()
-                            .removeApplicationPolicy(policyEvent);
-                }
-                policyName = policyEvent.getPolicyName();
-            }
-            APIUtil.logAuditMessage(event.getPolicyType().toString(), policyName + ": " + eventType,
-                    APIConstants.AuditLogConstants.DEPLOYED,
-                    APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
-        } else if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType) ||
-                EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-            CertificateEvent certificateEvent = new Gson().fromJson(eventJson, CertificateEvent.class);
-            if (!TenantUtils.isTenantAvailable(certificateEvent.getTenantDomain())){
-                return;
-            }
-            if (EventType.ENDPOINT_CERTIFICATE_ADD.toString().equals(eventType)) {
-                try {
-                    new EndpointCertificateDeployer(certificateEvent.getTenantDomain())
-                            .deployCertificate(certificateEvent.getAlias());
-                } catch (APIManagementException e) {
-                    log.error(e);
-                }
-            } else if (EventType.ENDPOINT_CERTIFICATE_REMOVE.toString().equals(eventType)) {
-                boolean tenantFlowStarted = false;
-                try {
-                    PrivilegedCarbonContext.startTenantFlow();
-                    PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                            .setTenantDomain(certificateEvent.getTenantDomain(), true);
-                    tenantFlowStarted = true;
-                    CertificateManagerImpl.getInstance().deleteCertificateFromGateway(certificateEvent.getAlias());
-                } finally {
-                    if (tenantFlowStarted) {
-                        PrivilegedCarbonContext.endTenantFlow();
-                    }
-                }
-            }
-        } else if (EventType.GA_CONFIG_UPDATE.toString().equals(eventType)) {
-            GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent =
-                    new Gson().fromJson(eventJson, GoogleAnalyticsConfigEvent.class);
-            if (!TenantUtils.isTenantAvailable(googleAnalyticsConfigEvent.getTenantDomain())){
-                return;
+        } else {
+            ServiceReferenceHolder.getInstance().getKeyManagerDataService().addScope(event);
+        }
+        APIUtil.logAuditMessage(APIConstants.AuditLogConstants.SCOPE, event.getName() + ": " + eventType,
+                APIConstants.AuditLogConstants.DEPLOYED,
+                APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
+    }
+
+    private void handlePolicyEvent(String eventType, PolicyEvent event) {
+
+        String policyName = null;
+        boolean deletePolicy = EventType.POLICY_DELETE.name().equals(eventType);
+        if (event instanceof APIPolicyEvent) {
+            APIPolicyEvent policyEvent = (APIPolicyEvent) event;
+            if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService().removeAPIPolicy(policyEvent);
+            } else {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService().addOrUpdateAPIPolicy(policyEvent);
+            }
+            policyName = policyEvent.getPolicyName();
+        } else if (event instanceof SubscriptionPolicyEvent) {
+            SubscriptionPolicyEvent policyEvent = (SubscriptionPolicyEvent) event;
+            if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeSubscriptionPolicy(policyEvent);
+            } else {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateSubscriptionPolicy(policyEvent);
+            }
+            policyName = policyEvent.getPolicyName();
+        } else if (event instanceof ApplicationPolicyEvent) {
+            ApplicationPolicyEvent policyEvent = (ApplicationPolicyEvent) event;
+            if (deletePolicy) {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .removeApplicationPolicy(policyEvent);
+            } else {
+                ServiceReferenceHolder.getInstance().getKeyManagerDataService()
+                        .addOrUpdateApplicationPolicy(policyEvent);
             }
+            policyName = policyEvent.getPolicyName();
+        }
+        APIUtil.logAuditMessage(String.valueOf(event.getPolicyType()), policyName + ": " + eventType,
+                APIConstants.AuditLogConstants.DEPLOYED,
+                APIConstants.AuditLogConstants.SYSTEM + ": " + event.getTenantDomain());
+    }
+
+    private void handleCertificateEvent(String eventType, CertificateEvent certificateEvent) {
+
+        if (EventType.ENDPOINT_CERTIFICATE_ADD.name().equals(eventType)) {
             try {
-                new GoogleAnalyticsConfigDeployer(googleAnalyticsConfigEvent.getTenantDomain()).deploy();
+                new EndpointCertificateDeployer(certificateEvent.getTenantDomain())
+                        .deployCertificate(certificateEvent.getAlias());
             } catch (APIManagementException e) {
                 log.error(e);
             }
-        } else if (EventType.UDATE_API_LOG_LEVEL.toString().equals(eventType)) {
-            APIEvent apiEvent = new Gson().fromJson(eventJson, APIEvent.class);
-            if (!TenantUtils.isTenantAvailable(apiEvent.getTenantDomain())){
-                return;
-            }
-            APILoggerManager.getInstance().updateLoggerMap(apiEvent.getApiContext(), apiEvent.getLogLevel(),
-                    apiEvent.getResourceMethod(), apiEvent.getResourcePath());
-        } else if (EventType.CUSTOM_POLICY_ADD.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
-            if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
-                return;
+        } else if (EventType.ENDPOINT_CERTIFICATE_REMOVE.name().equals(eventType)) {
+            boolean tenantFlowStarted = false;
+            try {
+                startTenantFlow(certificateEvent.getTenantDomain());
+                tenantFlowStarted = true;
+                CertificateManagerImpl.getInstance().deleteCertificateFromGateway(certificateEvent.getAlias());
+            } finally {
+                if (tenantFlowStarted) {
+                    endTenantFlow();
+                }
             }
+        }
+    }
+
+    private void handleGoogleAnalyticsConfigEvent(String eventType,
+                                                  GoogleAnalyticsConfigEvent googleAnalyticsConfigEvent) {
+
+        try {
+            new GoogleAnalyticsConfigDeployer(googleAnalyticsConfigEvent.getTenantDomain()).deploy();
+        } catch (APIManagementException e) {
+            log.error(e);
+        }
+    }
+
+    private void handleKeyTemplateEvent(String eventType, KeyTemplateEvent keyTemplateEvent) {
+
+        if (EventType.CUSTOM_POLICY_ADD.name().equals(eventType)) {
             String key = keyTemplateEvent.getKeyTemplate();
             String keyTemplateValue = keyTemplateEvent.getKeyTemplate();
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(key, keyTemplateValue);
-        } else if (EventType.CUSTOM_POLICY_DELETE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
-            if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
-                return;
-            }
+        } else if (EventType.CUSTOM_POLICY_DELETE.name().equals(eventType)) {
             String key = keyTemplateEvent.getKeyTemplate();
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .removeKeyTemplate(key);
-        } else if (EventType.CUSTOM_POLICY_UPDATE.toString().equals(eventType)) {
-            KeyTemplateEvent keyTemplateEvent = new Gson().fromJson(eventJson, KeyTemplateEvent.class);
-            if (!TenantUtils.isTenantAvailable(keyTemplateEvent.getTenantDomain())){
-                return;
-            }
+        } else if (EventType.CUSTOM_POLICY_UPDATE.name().equals(eventType)) {
             String oldKey = keyTemplateEvent.getOldKeyTemplate();
             String newKey = keyTemplateEvent.getNewKeyTemplate();
             String newTemplateValue = newKey;
@@ -427,96 +449,72 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                     .removeKeyTemplate(oldKey);
             ServiceReferenceHolder.getInstance().getAPIThrottleDataService()
                     .addKeyTemplate(newKey, newTemplateValue);
-        } else if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)
-                || EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-            GatewayPolicyEvent gatewayPolicyEvent = new Gson().fromJson(eventJson, GatewayPolicyEvent.class);
-            if (!TenantUtils.isTenantAvailable(gatewayPolicyEvent.getTenantDomain())) {
-                return;
-            }
-            Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayPolicyEvent.getGatewayLabels());
-            systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
-            if (!systemConfiguredGatewayLabels.isEmpty()) {
-                if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.toString().equals(eventType)) {
-                    boolean tenantFlowStarted = false;
-                    try {
-                        PrivilegedCarbonContext.startTenantFlow();
-                        PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                .setTenantDomain(gatewayPolicyEvent.getTenantDomain(), true);
-                        tenantFlowStarted = true;
-                        new GatewayPolicyDeployer(
-                                gatewayPolicyEvent.getGatewayPolicyMappingUuid()).deployGatewayPolicyMapping();
-                    } catch (ArtifactSynchronizerException | APIManagementException e) {
-                        log.error(
-                                "Error in deploying artifacts for " + gatewayPolicyEvent.getGatewayPolicyMappingUuid() +
-                                        "in the Gateway");
-                    } finally {
-                        if (tenantFlowStarted) {
-                            PrivilegedCarbonContext.endTenantFlow();
-                        }
-                    }
-                } else if (EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.toString().equals(eventType)) {
-                    boolean tenantFlowStarted = false;
-                    try {
-                        PrivilegedCarbonContext.startTenantFlow();
-                        PrivilegedCarbonContext.getThreadLocalCarbonContext()
-                                .setTenantDomain(gatewayPolicyEvent.getTenantDomain(), true);
-                        tenantFlowStarted = true;
-                        new GatewayPolicyDeployer(
-                                gatewayPolicyEvent.getGatewayPolicyMappingUuid()).undeployGatewayPolicyMapping();
-                    } catch (ArtifactSynchronizerException | APIManagementException e) {
-                        log.error("Error while un-deploying artifacts for " +
-                                gatewayPolicyEvent.getGatewayPolicyMappingUuid() + "from the Gateway");
-                    } finally {
-                        if (tenantFlowStarted) {
-                            PrivilegedCarbonContext.endTenantFlow();
-                        }
-                    }
-                }
-            }
-        } else if (EventType.LLM_PROVIDER_CREATE.toString().equals(eventType)) {
+        }
+    }
+
+    private void handleGatewayPolicyEvent(String eventType, GatewayPolicyEvent gatewayPolicyEvent) {
+
+        Set<String> systemConfiguredGatewayLabels = new HashSet(gatewayPolicyEvent.getGatewayLabels());
+        systemConfiguredGatewayLabels.retainAll(gatewayArtifactSynchronizerProperties.getGatewayLabels());
+        if (systemConfiguredGatewayLabels.isEmpty()) {
+            return;
+        }
+        if (EventType.DEPLOY_POLICY_MAPPING_IN_GATEWAY.name().equals(eventType)) {
+            boolean tenantFlowStarted = false;
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
-                if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
-                    return;
+                startTenantFlow(gatewayPolicyEvent.getTenantDomain());
+                tenantFlowStarted = true;
+                new GatewayPolicyDeployer(
+                        gatewayPolicyEvent.getGatewayPolicyMappingUuid()).deployGatewayPolicyMapping();
+            } catch (ArtifactSynchronizerException | APIManagementException e) {
+                log.error(
+                        "Error in deploying artifacts for " + gatewayPolicyEvent.getGatewayPolicyMappingUuid() +
+                                "in the Gateway");
+            } finally {
+                if (tenantFlowStarted) {
+                    endTenantFlow();
                 }
-                addProviderConfigurations(providerEvent, providerEvent.getTenantDomain());
-            } catch (Exception e) {
-                log.error("Error while handling LLM provider add event", e);
             }
-        } else if (EventType.LLM_PROVIDER_DELETE.toString().equals(eventType)) {
+        } else if (EventType.REMOVE_POLICY_MAPPING_FROM_GATEWAY.name().equals(eventType)) {
+            boolean tenantFlowStarted = false;
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
-                if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
-                    return;
+                startTenantFlow(gatewayPolicyEvent.getTenantDomain());
+                tenantFlowStarted = true;
+                new GatewayPolicyDeployer(
+                        gatewayPolicyEvent.getGatewayPolicyMappingUuid()).undeployGatewayPolicyMapping();
+            } catch (ArtifactSynchronizerException | APIManagementException e) {
+                log.error("Error while un-deploying artifacts for " +
+                        gatewayPolicyEvent.getGatewayPolicyMappingUuid() + "from the Gateway");
+            } finally {
+                if (tenantFlowStarted) {
+                    endTenantFlow();
                 }
+            }
+        }
+    }
+
+    private void handleLLMProviderEvent(String eventType, LLMProviderEvent providerEvent) {
+
+        try {
+            if (EventType.LLM_PROVIDER_CREATE.name().equals(eventType)) {
+                addProviderConfigurations(providerEvent, providerEvent.getTenantDomain());
+            } else if (EventType.LLM_PROVIDER_DELETE.name().equals(eventType)) {
                 removeProviderConfigurations(providerEvent.getId());
-            } catch (Exception e) {
-                log.error("Error while handling LLM provider delete event", e);
+            } else if (EventType.LLM_PROVIDER_UPDATE.name().equals(eventType)) {
+                updateProviderConfigurations(providerEvent, providerEvent.getTenantDomain());
             }
-        } else if (EventType.LLM_PROVIDER_UPDATE.toString().equals(eventType)) {
+        } catch (Exception e) {
+            log.error("Error while handling LLM provider event " + eventType, e);
+        }
+    }
+
+    private void handleTenantEvent(String eventType, TenantEvent tenantEvent) {
+
+        if (GatewayUtils.isTenantLoadingEnable()) {
             try {
-                LLMProviderEvent providerEvent = new Gson().fromJson(eventJson, LLMProviderEvent.class);
-                if (!TenantUtils.isTenantAvailable(providerEvent.getTenantDomain())){
-                    return;
-                }
-                updateProviderConfigurations(providerEvent, providerEvent.getTenantDomain());
+                addOrUpdateTenant(tenantEvent);
             } catch (Exception e) {
-                log.error("Error while handling LLM provider update event", e);
-            }
-        } else if (EventType.TENANT_CREATE.toString().equals(eventType) ||
-                EventType.TENANT_UPDATE.toString().equals(eventType) ||
-                EventType.TENANT_ACTIVATION.toString().equals(eventType) ||
-                EventType.TENANT_DEACTIVATION.toString().equals(eventType)) {
-            if (GatewayUtils.isTenantLoadingEnable()) {
-                try {
-                    TenantEvent tenantEvent = new Gson().fromJson(eventJson, TenantEvent.class);
-                    if (!TenantUtils.isTenantAvailable(tenantEvent.getTenantDomain())){
-                        return;
-                    }
-                    addOrUpdateTenant(tenantEvent);
-                } catch (Exception e) {
-                    log.error("Error while loading tenant into gateway.", e);
-                }
+                log.error("Error while loading tenant into gateway.", e);
             }
         }
     }
@@ -567,7 +565,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         providerInfo.setId(providerEvent.getId());
         providerInfo.setName(providerEvent.getName());
         providerInfo.setApiVersion(providerEvent.getApiVersion());
-        LLMProviderConfiguration configurations = new Gson().fromJson(providerEvent.getConfiguration(),
+        LLMProviderConfiguration configurations = gson.fromJson(providerEvent.getConfiguration(),
                 LLMProviderConfiguration.class);
         providerInfo.setConfigurations(configurations);
 
@@ -597,7 +595,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
                 setTenantDomain(tenantDomain, true);
     }
 
-    private synchronized void handleAsyncWebhooksSubscriptionMessage(JsonNode payloadData) {
+    private void handleAsyncWebhooksSubscriptionMessage(JsonNode payloadData) {
         if (log.isDebugEnabled()) {
             log.debug("Received event for -  Async Webhooks API subscription for : " + payloadData.
                     get(APIConstants.Webhooks.API_UUID).asText());
@@ -631,7 +629,7 @@ public class GatewayJMSMessageListener implements MessageListener, JMSConnection
         }
     }
 
-    private synchronized void handleAsyncWebhooksUnSubscriptionMessage(JsonNode payloadData) {
+    private void handleAsyncWebhooksUnSubscriptionMessage(JsonNode payloadData) {
         if (log.isDebugEnabled()) {
             log.debug("Received event for -  Async Webhooks API unsubscription for : " + payloadData.
                     get(APIConstants.Webhooks.API_UUID).asText());
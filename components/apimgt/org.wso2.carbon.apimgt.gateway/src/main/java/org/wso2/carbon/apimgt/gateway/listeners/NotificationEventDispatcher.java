@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.gateway.utils.TenantUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants.EventType;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Decodes the notification events received by the gateway into their event types and dispatches them to their
+ * handlers through an {@link OrderedEventExecutor}.
+ * <p>
+ * The handlers are looked up by event type, and the events are decoded once with a shared {@link Gson}. The events
+ * are ordered by the keys given at registration, so the events of an API or an application are handled in the order
+ * they were published, while the events of different APIs and applications are handled in parallel. The events
+ * registered without a key, such as policy and tenant events, are handled one by one in the order they were
+ * published, as before. The events of tenants which are not available in the gateway are dropped before they reach
+ * their handlers.
+ */
+public class NotificationEventDispatcher {
+
+    private static final Log log = LogFactory.getLog(NotificationEventDispatcher.class);
+    private static final Gson gson = new Gson();
+
+    private final Map<String, Registration<?>> registrations = new HashMap<>();
+    private final OrderedEventExecutor executor;
+
+    public NotificationEventDispatcher(OrderedEventExecutor executor) {
+
+        this.executor = executor;
+    }
+
+    /**
+     * Handler of a type of notification events.
+     *
+     * @param <T> type the events are decoded into
+     */
+    @FunctionalInterface
+    public interface NotificationEventHandler<T extends Event> {
+
+        void handle(String eventType, T event);
+    }
+
+    /**
+     * Registers the handler of events which are ordered with all the other events registered without a key.
+     *
+     * @param eventClass type the events are decoded into
+     * @param handler    handler of the events
+     * @param eventTypes types of the events
+     */
+    public <T extends Event> void register(Class<T> eventClass, NotificationEventHandler<T> handler,
+                                           EventType... eventTypes) {
+
+        register(json -> eventClass, event -> null, handler, eventTypes);
+    }
+
+    /**
+     * Registers the handler of events which are ordered by the given key.
+     *
+     * @param eventClass  type the events are decoded into
+     * @param orderingKey key of the event, such as the name of its API, which its handling is ordered by. Events
+     *                    without a key are ordered with the events registered without a key
+     * @param handler     handler of the events
+     * @param eventTypes  types of the events
+     */
+    public <T extends Event> void register(Class<T> eventClass, Function<T, String> orderingKey,
+                                           NotificationEventHandler<T> handler, EventType... eventTypes) {
+
+        register(json -> eventClass, orderingKey, handler, eventTypes);
+    }
+
+    /**
+     * Registers the handler of events which are decoded into a type resolved from their content, such as the policy
+     * events, which are decoded by their policy type.
+     *
+     * @param typeResolver resolves the type an event is decoded into from its JSON content
+     * @param orderingKey  key of the event which its handling is ordered by
+     * @param handler      handler of the events
+     * @param eventTypes   types of the events
+     */
+    public <T extends Event> void register(Function<JsonObject, Class<? extends T>> typeResolver,
+                                           Function<T, String> orderingKey, NotificationEventHandler<T> handler,
+                                           EventType... eventTypes) {
+
+        for (EventType eventType : eventTypes) {
+            registrations.put(eventType.name(), new Registration<>(typeResolver, orderingKey, handler));
+        }
+    }
+
+    /**
+     * Decodes a notification event and queues it for its handler.
+     *
+     * @param eventType type of the event
+     * @param timestamp time the event was published at in milliseconds
+     * @param eventJson JSON of the event
+     */
+    public void dispatch(String eventType, long timestamp, String eventJson) {
+
+        Registration<?> registration = registrations.get(eventType);
+        if (registration == null) {
+            if (log.isDebugEnabled()) {
+                log.debug("Ignoring event of type " + eventType + " as it is not handled by the gateway");
+            }
+            return;
+        }
+        registration.dispatch(eventType, timestamp, eventJson);
+    }
+
+    private final class Registration<T extends Event> {
+
+        private final Function<JsonObject, Class<? extends T>> typeResolver;
+        private final Function<T, String> orderingKey;
+        private final NotificationEventHandler<T> handler;
+
+        private Registration(Function<JsonObject, Class<? extends T>> typeResolver, Function<T, String> orderingKey,
+                             NotificationEventHandler<T> handler) {
+
+            this.typeResolver = typeResolver;
+            this.orderingKey = orderingKey;
+            this.handler = handler;
+        }
+
+        private void dispatch(String eventType, long timestamp, String eventJson) {
+
+            T event = decode(eventType, eventJson);
+            if (event == null) {
+                return;
+            }
+            executor.execute(orderingKey.apply(event), timestamp, () -> {
+                if (TenantUtils.isTenantAvailable(event.getTenantDomain())) {
+                    handler.handle(eventType, event);
+                }
+            });
+        }
+
+        private T decode(String eventType, String eventJson) {
+
+            try {
+                JsonObject json = JsonParser.parseString(eventJson).getAsJsonObject();
+                return gson.fromJson(json, typeResolver.apply(json));
+            } catch (JsonParseException | IllegalStateException e) {
+                log.error("Dropping event of type " + eventType + " as it cannot be decoded", e);
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Processes the events received by the gateway in parallel, while processing the events of the same key in the order
+ * they were received.
+ * <p>
+ * The events of a key are always processed by the same single threaded worker. The queues of the workers are bounded,
+ * and the thread which receives the events waits while the queue of a worker is full, so a burst of events slows
+ * down the consumption from the broker instead of piling up in memory. If no workers are configured, the events are
+ * processed by the thread which receives them, as before.
+ */
+public class OrderedEventExecutor {
+
+    private static final Log log = LogFactory.getLog(OrderedEventExecutor.class);
+    private static final int QUEUE_CAPACITY = 1000;
+
+    private final ThreadPoolExecutor[] workers;
+    private Timer queueTimer;
+    private Timer lagTimer;
+    private Counter pendingEvents;
+
+    /**
+     * @param name        name of the threads of the workers
+     * @param concurrency number of workers, or 0 to process the events in the thread which receives them
+     */
+    public OrderedEventExecutor(String name, int concurrency) {
+
+        workers = new ThreadPoolExecutor[Math.max(0, concurrency)];
+        for (int i = 0; i < workers.length; i++) {
+            String threadName = name + "-" + (i + 1);
+            workers[i] = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+                        // the workers must not keep the server from shutting down
+                        Thread thread = new Thread(runnable, threadName);
+                        thread.setDaemon(true);
+                        return thread;
+                    },
+                    (runnable, executor) -> {
+                        try {
+                            // the receiving thread is the only producer, so waiting here keeps the order
+                            executor.getQueue().put(runnable);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            log.warn("Interrupted while waiting to queue an event in " + threadName);
+                        }
+                    });
+        }
+        if (workers.length > 0) {
+            String metricPrefix = MetricManager.name(APIConstants.METRICS_PREFIX,
+                    OrderedEventExecutor.class.getSimpleName(), name);
+            queueTimer = MetricManager.timer(Level.INFO, MetricManager.name(metricPrefix, "QueueTime"));
+            lagTimer = MetricManager.timer(Level.INFO, MetricManager.name(metricPrefix, "Lag"));
+            pendingEvents = MetricManager.counter(Level.INFO, MetricManager.name(metricPrefix, "PendingEvents"));
+        }
+    }
+
+    /**
+     * Processes an event after the previously received events of its key.
+     *
+     * @param key           ordering key of the event. The events without a key are processed in the order they were
+     *                      received
+     * @param publishedTime time the event was published at in milliseconds, or 0 if it is not known
+     * @param task          processing of the event
+     */
+    public void execute(String key, long publishedTime, Runnable task) {
+
+        if (workers.length == 0) {
+            run(task);
+            return;
+        }
+        long queuedTime = System.nanoTime();
+        pendingEvents.inc();
+        int worker = key == null ? 0 : Math.floorMod(key.hashCode(), workers.length);
+        workers[worker].execute(() -> {
+            pendingEvents.dec();
+            queueTimer.update(System.nanoTime() - queuedTime, TimeUnit.NANOSECONDS);
+            try {
+                run(task);
+            } finally {
+                if (publishedTime > 0) {
+                    lagTimer.update(Math.max(0, System.currentTimeMillis() - publishedTime), TimeUnit.MILLISECONDS);
+                }
+            }
+        });
+    }
+
+    private static void run(Runnable task) {
+
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            // an event which fails must not stop the processing of the next events of its key
+            log.error("Error while processing an event", e);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.wso2.carbon.apimgt.gateway.mediators;
 
 import com.google.re2j.Pattern;
 import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMException;
 import org.apache.axiom.soap.SOAPBody;
 import org.apache.axiom.soap.SOAPEnvelope;
 import org.apache.commons.lang3.StringUtils;
@@ -37,12 +38,14 @@ import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
 import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
-import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import javax.xml.stream.XMLStreamException;
 
 /**
  * This mediator would protect the backend resources from the threat vulnerabilities by matching the
@@ -167,12 +170,11 @@ public class RegularExpressionProtector extends AbstractMediator {
             if (env != null) {
                 SOAPBody soapbody = env.getBody();
                 if (soapbody != null) {
-                    byte[] size = soapbody.toString().getBytes(Charset.defaultCharset());
-                    requestPayloadSize = size.length;
+                    requestPayloadSize = getSerializedSize(soapbody, payloadSizeLimit * 1024L);
                 }
             }
         }
-        if (requestPayloadSize > payloadSizeLimit * 1024) {
+        if (requestPayloadSize > payloadSizeLimit * 1024L) {
             GatewayUtils.handleThreat(messageContext, APIMgtGatewayConstants.HTTP_SC_CODE, "Exceeded Request Payload " +
                     "size limit allowed to be used with the enabledCheckBody option of Regular Expression Threat " +
                     "Protector mediator");
@@ -181,6 +183,26 @@ public class RegularExpressionProtector extends AbstractMediator {
         return false;
     }
 
+    /**
+     * Counts the bytes of the serialized body, stopping once the count exceeds the limit, so that the size of a
+     * chunked request is known without materializing its body.
+     *
+     * @param soapBody body of the request
+     * @param limit    size limit in bytes
+     * @return size of the body, or a size greater than the limit if the body exceeds it
+     */
+    private long getSerializedSize(SOAPBody soapBody, long limit) {
+        PayloadSizeCounter counter = new PayloadSizeCounter(limit);
+        try {
+            soapBody.serialize(counter);
+        } catch (XMLStreamException | OMException e) {
+            if (counter.getSize() <= limit) {
+                logger.error("Error occurred while calculating the size of the request payload", e);
+            }
+        }
+        return counter.getSize();
+    }
+
     /**
      * This method checks whether the request body contains matching vulnerable key words.
      *
@@ -206,16 +228,40 @@ public class RegularExpressionProtector extends AbstractMediator {
             if (omElement == null) {
                 return false;
             }
-            String payload = omElement.toString();
-            if (pattern != null && payload != null && pattern.matcher(payload).find()) {
+            if (pattern == null) {
+                return false;
+            }
+            // the payload is scanned while it is serialized, a chunk at a time, instead of as a whole string
+            StreamingRegexScanner scanner = new StreamingRegexScanner(pattern, getScanChunkSize(), Integer.getInteger(
+                    APIMgtGatewayConstants.REGEX_THREAT_PROTECTOR_SCAN_OVERLAP,
+                    APIMgtGatewayConstants.DEFAULT_REGEX_THREAT_PROTECTOR_SCAN_OVERLAP), getMaxScanSize());
+            try {
+                omElement.serialize(scanner);
+                scanner.close();
+            } catch (XMLStreamException | OMException e) {
+                if (!scanner.isMatched() && !scanner.isLimitExceeded()) {
+                    String message = "Error occurred while scanning the request payload: ";
+                    logger.error(message, e);
+                    GatewayUtils.handleThreat(messageContext, APIMgtGatewayConstants.HTTP_SC_CODE,
+                            message + e.getMessage());
+                    return true;
+                }
+            }
+            if (scanner.isMatched()) {
                 if (logger.isDebugEnabled()) {
-                    logger.debug(String.format("Threat detected in request payload [ %s ] by regex [ %s ]))",
-                            payload, pattern));
+                    logger.debug(String.format("Threat detected in request payload by regex [ %s ]", pattern));
                 }
                 GatewayUtils.handleThreat(messageContext, APIMgtGatewayConstants.HTTP_SC_CODE,
                         threatType + " " + APIMgtGatewayConstants.PAYLOAD_THREAT_MSG);
                 return true;
             }
+            if (scanner.isLimitExceeded()) {
+                // the rest of the payload is not scanned, so it is not let through unchecked
+                GatewayUtils.handleThreat(messageContext, APIMgtGatewayConstants.HTTP_SC_CODE, "Exceeded the " +
+                        "maximum size of the request payload scanned by the Regular Expression Threat Protector " +
+                        "mediator");
+                return true;
+            }
         }
         return false;
     }
@@ -269,20 +315,58 @@ public class RegularExpressionProtector extends AbstractMediator {
         org.apache.axis2.context.MessageContext axis2MC = ((Axis2MessageContext)
                 messageContext).getAxis2MessageContext();
         if (enabledCheckHeaders) {
-            Map transportHeaders = (Map) axis2MC.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
-            if (pattern != null && transportHeaders != null && pattern.matcher(transportHeaders.toString()).find()) {
-                if (logger.isDebugEnabled()) {
-                    logger.debug(String.format("Threat detected in Transport headers [ %s ] by regex [ %s ]",
-                            transportHeaders, pattern));
+            Map<?, ?> transportHeaders =
+                    (Map) axis2MC.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
+            if (pattern == null || transportHeaders == null) {
+                return false;
+            }
+            // each header is matched on its own, in the name=value form it has in the string of the headers map
+            for (Map.Entry<?, ?> header : transportHeaders.entrySet()) {
+                String headerString = header.getKey() + "=" + header.getValue();
+                if (pattern.matcher(headerString).find()) {
+                    if (logger.isDebugEnabled()) {
+                        logger.debug(String.format("Threat detected in Transport header [ %s ] by regex [ %s ]",
+                                headerString, pattern));
+                    }
+                    GatewayUtils.handleThreat(messageContext, APIMgtGatewayConstants.HTTP_SC_CODE,
+                            threatType + " " + APIMgtGatewayConstants.HTTP_HEADER_THREAT_MSG);
+                    return true;
                 }
-                GatewayUtils.handleThreat(messageContext, APIMgtGatewayConstants.HTTP_SC_CODE,
-                        threatType + " " + APIMgtGatewayConstants.HTTP_HEADER_THREAT_MSG);
-                return true;
             }
         }
         return false;
     }
 
+    /**
+     * Returns the number of characters of the payload scanned at a time, from the system property
+     * 'regexThreatProtectorScanChunkSize' (in KB). If this system property is not defined, the whole payload is
+     * scanned at once.
+     *
+     * @return number of characters scanned at a time
+     */
+    private int getScanChunkSize() {
+        Integer chunkSize = Integer.getInteger(APIMgtGatewayConstants.REGEX_THREAT_PROTECTOR_SCAN_CHUNK_SIZE);
+        if (chunkSize == null || chunkSize <= 0) {
+            return Integer.MAX_VALUE;
+        }
+        return (int) Math.min(chunkSize * 1024L, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the maximum number of characters of the payload scanned, from the system property
+     * 'regexThreatProtectorMaxScanSize' (in KB). A payload which is larger is rejected. If this system property is not
+     * defined, the whole payload is scanned.
+     *
+     * @return maximum number of characters scanned
+     */
+    private long getMaxScanSize() {
+        Integer maxScanSize = Integer.getInteger(APIMgtGatewayConstants.REGEX_THREAT_PROTECTOR_MAX_SCAN_SIZE);
+        if (maxScanSize == null || maxScanSize <= 0) {
+            return Long.MAX_VALUE;
+        }
+        return maxScanSize * 1024L;
+    }
+
     /**
      * This method checks the status of the {enabledCheckBody} property which comes from the custom sequence.
      * If a client ask to check the message body,Method returns true else It will return false.
@@ -296,5 +380,35 @@ public class RegularExpressionProtector extends AbstractMediator {
         return enabledCheckBody;
     }
 
+    /**
+     * Counts the bytes written to it, and fails the write once the count exceeds the limit.
+     */
+    private static final class PayloadSizeCounter extends OutputStream {
+
+        private final long limit;
+        private long size;
+
+        private PayloadSizeCounter(long limit) {
+            this.limit = limit;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(null, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            size += length;
+            if (size > limit) {
+                throw new IOException("Payload size limit of " + limit + " bytes is exceeded");
+            }
+        }
+
+        private long getSize() {
+            return size;
+        }
+    }
+
 }
 
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import com.google.re2j.Pattern;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * A writer which searches for a pattern in the characters written to it, a chunk at a time, so that a payload can be
+ * scanned while it is serialized instead of being materialized as a whole string first.
+ * <p>
+ * The characters are collected until a chunk is full, and the chunk is searched together with the last
+ * {@code overlap} characters of the previous chunk, so that a match of up to {@code overlap} characters is found even
+ * if it crosses the boundary of two chunks. The writer stops the serialization by failing the write once the pattern
+ * is found, or once more than the allowed number of characters are written.
+ */
+final class StreamingRegexScanner extends Writer {
+
+    private final Pattern pattern;
+    private final int overlap;
+    // number of characters searched at a time, including the overlap
+    private final int capacity;
+    private final long maxLength;
+    private final StringBuilder buffer;
+    // number of characters at the start of the buffer which were already searched
+    private int searchedLength;
+    private long length;
+    private boolean matched;
+    private boolean limitExceeded;
+
+    /**
+     * @param pattern   pattern to search for
+     * @param chunkSize number of characters searched at a time
+     * @param overlap   number of characters of a chunk searched again with the next chunk
+     * @param maxLength maximum number of characters to scan
+     */
+    StreamingRegexScanner(Pattern pattern, int chunkSize, int overlap, long maxLength) {
+
+        this.pattern = pattern;
+        this.overlap = Math.min(overlap, chunkSize / 2);
+        this.capacity = (int) Math.min((long) chunkSize + this.overlap, Integer.MAX_VALUE);
+        this.maxLength = maxLength;
+        this.buffer = new StringBuilder(Math.min(capacity, 8192));
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int count) throws IOException {
+
+        scan(CharBuffer.wrap(chars), offset, count);
+    }
+
+    @Override
+    public void write(String string, int offset, int count) throws IOException {
+
+        scan(string, offset, count);
+    }
+
+    private void scan(CharSequence chars, int offset, int count) throws IOException {
+
+        if (matched || limitExceeded) {
+            throw new ScanCompletedException();
+        }
+        length += count;
+        if (length > maxLength) {
+            limitExceeded = true;
+            throw new ScanCompletedException();
+        }
+        int end = offset + count;
+        while (offset < end) {
+            int available = Math.min(end - offset, capacity - buffer.length());
+            buffer.append(chars, offset, offset + available);
+            offset += available;
+            if (buffer.length() >= capacity) {
+                if (search()) {
+                    throw new ScanCompletedException();
+                }
+                buffer.delete(0, buffer.length() - overlap);
+                searchedLength = buffer.length();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+
+    }
+
+    /**
+     * Searches the characters which are not searched yet.
+     */
+    @Override
+    public void close() {
+
+        if (!matched && !limitExceeded && buffer.length() > searchedLength) {
+            search();
+        }
+    }
+
+    private boolean search() {
+
+        matched = pattern.matcher(buffer).find();
+        return matched;
+    }
+
+    /**
+     * @return true if the pattern was found in the scanned characters
+     */
+    boolean isMatched() {
+
+        return matched;
+    }
+
+    /**
+     * @return true if more than the allowed number of characters were written
+     */
+    boolean isLimitExceeded() {
+
+        return limitExceeded;
+    }
+
+    /**
+     * Stops the serialization once the result of the scan is known.
+     */
+    static final class ScanCompletedException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        ScanCompletedException() {
+
+            super("Scanning of the payload is completed");
+        }
+    }
+}
@@ -32,6 +32,7 @@ import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
 import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerException;
 import org.wso2.carbon.apimgt.gateway.threatprotection.AnalyzerHolder;
 import org.wso2.carbon.apimgt.gateway.threatprotection.analyzer.APIMThreatAnalyzer;
+import org.wso2.carbon.apimgt.gateway.threatprotection.analyzer.XMLAnalyzer;
 import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.XMLConfig;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatExceptionHandler;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorConstants;
@@ -70,8 +71,8 @@ public class XMLSchemaValidator extends AbstractMediator {
     public boolean mediate(MessageContext messageContext) {
         InputStream inputStreamSchema;
         InputStream inputStreamXml;
-        Boolean xmlValidationStatus;
-        Boolean schemaValidationStatus;
+        boolean xmlValidationStatus;
+        boolean schemaValidationStatus;
         APIMThreatAnalyzer apimThreatAnalyzer = null;
         String apiContext;
         String requestMethod;
@@ -100,24 +101,26 @@ public class XMLSchemaValidator extends AbstractMediator {
             try {
                 String payload = extractPayload(axis2MC);
                 Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XML_VALIDATION);
-                if (messageProperty != null) {
-                    xmlValidationStatus = Boolean.valueOf(messageProperty.toString());
-                    if (xmlValidationStatus.equals(true)) {
-                        XMLConfig xmlConfig = configureSchemaProperties(messageContext);
-                        apimThreatAnalyzer = AnalyzerHolder.getAnalyzer(contentType);
-                        apimThreatAnalyzer.configure(xmlConfig);
-                        inputStreamXml = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
-                        apimThreatAnalyzer.analyze(inputStreamXml, apiContext);
-                    }
-                }
+                xmlValidationStatus = messageProperty != null && Boolean.parseBoolean(messageProperty.toString());
                 messageProperty = messageContext.getProperty(APIMgtGatewayConstants.SCHEMA_VALIDATION);
-                if (messageProperty != null) {
-                    schemaValidationStatus = Boolean.valueOf(messageProperty.toString());
-                    if (schemaValidationStatus.equals(true)) {
-                        inputStreamSchema = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
-                        BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStreamSchema);
-                        validateSchema(messageContext, bufferedInputStream);
+                schemaValidationStatus = messageProperty != null && Boolean.parseBoolean(messageProperty.toString());
+                Schema schema = schemaValidationStatus ? getSchema(messageContext) : null;
+                if (xmlValidationStatus) {
+                    XMLConfig xmlConfig = configureSchemaProperties(messageContext);
+                    apimThreatAnalyzer = AnalyzerHolder.getAnalyzer(contentType);
+                    apimThreatAnalyzer.configure(xmlConfig);
+                    inputStreamXml = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+                    if (schema != null) {
+                        // the limits are checked and the schema is validated in a single parse of the payload
+                        // the analyzers of the xml content types are XMLAnalyzers
+                        ((XMLAnalyzer) apimThreatAnalyzer).analyze(inputStreamXml, apiContext, schema);
+                    } else {
+                        apimThreatAnalyzer.analyze(inputStreamXml, apiContext);
                     }
+                } else if (schema != null) {
+                    inputStreamSchema = new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+                    BufferedInputStream bufferedInputStream = new BufferedInputStream(inputStreamSchema);
+                    validateSchema(schema, bufferedInputStream);
                 }
             } catch (APIMThreatAnalyzerException e) {
                 logger.error("APIMThreatAnalyzerException occurred while analyzing the XML payload: "
@@ -254,39 +257,44 @@ public class XMLSchemaValidator extends AbstractMediator {
         return false;
     }
 
+    /**
+     * This method loads the xsd the request payload xml is validated with.
+     *
+     * @param messageContext This message context contains the request message properties of the relevant
+     *                       API which was enabled the XML_Validator message mediation in flow.
+     * @return the schema of the xsd, or null if there is no xsd to validate with.
+     * @throws APIMThreatAnalyzerException Exception might be occurred while loading the xsd.
+     */
+    private Schema getSchema(MessageContext messageContext) throws APIMThreatAnalyzerException {
+        Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XSD_URL);
+        if (messageProperty == null || String.valueOf(messageProperty).isEmpty()) {
+            return null;
+        }
+        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
+        try {
+            URL schemaFile = new URL(String.valueOf(messageProperty));
+            return schemaFactory.newSchema(schemaFile);
+        } catch (SAXException | IOException e) {
+            throw new APIMThreatAnalyzerException("Error occurred while parsing XML payload : " + e);
+        }
+    }
+
     /**
      * This method validates the request payload xml with the relevant xsd.
      *
-     * @param messageContext      This message context contains the request message properties of the relevant
-     *                            API which was enabled the XML_Validator message mediation in flow.
+     * @param schema              schema of the xsd to validate with.
      * @param bufferedInputStream Buffered input stream to be validated.
      * @throws APIMThreatAnalyzerException Exception might be occurred while parsing the xml payload.
      */
-    private boolean validateSchema(MessageContext messageContext, BufferedInputStream bufferedInputStream)
+    private void validateSchema(Schema schema, BufferedInputStream bufferedInputStream)
             throws APIMThreatAnalyzerException {
-        String xsdURL;
-        Schema schema;
-        SchemaFactory schemaFactory = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI);
         try {
-            Object messageProperty = messageContext.getProperty(APIMgtGatewayConstants.XSD_URL);
-            if (messageProperty == null) {
-                return true;
-            } else {
-                if (String.valueOf(messageProperty).isEmpty()) {
-                    return true;
-                } else {
-                    xsdURL = String.valueOf(messageProperty);
-                    URL schemaFile = new URL(xsdURL);
-                    schema = schemaFactory.newSchema(schemaFile);
-                    Source xmlFile = new StreamSource(bufferedInputStream);
-                    Validator validator = schema.newValidator();
-                    validator.validate(xmlFile);
-                }
-            }
+            Source xmlFile = new StreamSource(bufferedInputStream);
+            Validator validator = schema.newValidator();
+            validator.validate(xmlFile);
         } catch (SAXException | IOException e) {
             throw new APIMThreatAnalyzerException("Error occurred while parsing XML payload : " + e);
         }
-        return true;
     }
 
     /**
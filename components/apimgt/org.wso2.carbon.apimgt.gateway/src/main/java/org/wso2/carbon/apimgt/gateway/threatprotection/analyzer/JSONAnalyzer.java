@@ -28,7 +28,6 @@ import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.XMLConfig;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 
 /**
  * Implementation of APIMThreatAnalyzer for JSON Payloads
@@ -87,7 +86,8 @@ public class JSONAnalyzer implements APIMThreatAnalyzer {
      */
     @Override
     public void analyze(InputStream in, String apiContext) throws APIMThreatAnalyzerException {
-        try (JsonParser parser = factory.createParser(new InputStreamReader(in))) {
+        // the parser reads the bytes of the payload directly, detecting their encoding, instead of through a reader
+        try (JsonParser parser = factory.createParser(in)) {
             int currentDepth = 0;
             int currentFieldCount = 0;
             JsonToken token;
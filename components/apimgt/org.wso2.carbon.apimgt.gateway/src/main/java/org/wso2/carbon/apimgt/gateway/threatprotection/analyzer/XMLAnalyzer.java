@@ -25,10 +25,15 @@ import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerExcepti
 import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.JSONConfig;
 import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.XMLConfig;
 import org.wso2.carbon.apimgt.gateway.threatprotection.utils.ThreatProtectorConstants;
+import org.xml.sax.SAXException;
 
 import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.util.StreamReaderDelegate;
+import javax.xml.transform.stax.StAXSource;
+import javax.xml.validation.Schema;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -117,4 +122,84 @@ public class XMLAnalyzer implements APIMThreatAnalyzer {
             }
         }
     }
+
+    /**
+     * Analyzes the xml payload against the limitations and validates it against the schema, in a single parse of
+     * the payload. The schema validator reads the payload from the parser configured with the limitations, so an
+     * exceeded limitation is reported the same way as by {@link #analyze(InputStream, String)}.
+     *
+     * @param in         xml payload
+     * @param apiContext request api context
+     * @param schema     schema to validate the payload against
+     * @throws APIMThreatAnalyzerException if the payload exceeds the limitations or is not valid against the schema
+     */
+    public void analyze(InputStream in, String apiContext, Schema schema) throws APIMThreatAnalyzerException {
+        Reader reader = null;
+        ParseErrorRecordingReader xmlStreamReader = null;
+        try {
+            reader = new InputStreamReader(in);
+            xmlStreamReader = new ParseErrorRecordingReader(factory.createXMLStreamReader(reader));
+            schema.newValidator().validate(new StAXSource(xmlStreamReader));
+        } catch (XMLStreamException e) {
+            throw new APIMThreatAnalyzerException("XML Validation Failed: due to " + e.getMessage());
+        } catch (SAXException | IOException e) {
+            if (xmlStreamReader != null && xmlStreamReader.getParseError() != null) {
+                throw new APIMThreatAnalyzerException("XML Validation Failed: due to "
+                        + xmlStreamReader.getParseError().getMessage());
+            }
+            throw new APIMThreatAnalyzerException("Error occurred while parsing XML payload : " + e);
+        } finally {
+            try {
+                if (xmlStreamReader != null) {
+                    xmlStreamReader.close();
+                }
+                if (reader != null) {
+                    reader.close();
+                }
+            } catch (XMLStreamException e) {
+                log.warn(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                        + " - Failed to close XMLStreamReader", e);
+            } catch (IOException e) {
+                log.warn(XML_THREAT_PROTECTION_MSG_PREFIX + apiContext
+                        + " - Failed to close payload StringReader", e);
+            }
+        }
+    }
+
+    /**
+     * Records the error of the parser, which the schema validator reports wrapped in its own exception, so that
+     * an exceeded limitation can be told apart from an invalid payload.
+     */
+    private static class ParseErrorRecordingReader extends StreamReaderDelegate {
+
+        private XMLStreamException parseError;
+
+        ParseErrorRecordingReader(XMLStreamReader reader) {
+            super(reader);
+        }
+
+        @Override
+        public int next() throws XMLStreamException {
+            try {
+                return super.next();
+            } catch (XMLStreamException e) {
+                parseError = e;
+                throw e;
+            }
+        }
+
+        @Override
+        public boolean hasNext() throws XMLStreamException {
+            try {
+                return super.hasNext();
+            } catch (XMLStreamException e) {
+                parseError = e;
+                throw e;
+            }
+        }
+
+        XMLStreamException getParseError() {
+            return parseError;
+        }
+    }
 }
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Throttle decisions by their keys, with the timestamp at which each key may be accessed again. A key is throttled
+ * until its next access timestamp has passed.
+ * <p>
+ * Expired decisions are evicted through a hashed timing wheel, so that keys which are never looked up again do not
+ * stay in the map. Each decision is put in the slot of the tick of its next access timestamp, and
+ * {@link #expire(long)} only visits the slots of the ticks which passed since it last ran, instead of scanning all
+ * the decisions. A slot holds the decisions of every rotation of the wheel which map to it, so decisions expiring in
+ * a later rotation, and decisions which were replaced or removed since, are only skipped or dropped when their slot is
+ * visited.
+ */
+final class ExpiringThrottleDecisionMap {
+
+    static final long DEFAULT_TICK_MILLIS = 1000;
+    static final int DEFAULT_WHEEL_SIZE = 512;
+
+    private final Map<String, Long> decisions = new ConcurrentHashMap<>();
+    private final Queue<Expiry>[] wheel;
+    private final long tickMillis;
+    private final Consumer<String> evictionListener;
+    private final AtomicLong evictedCount = new AtomicLong();
+    /**
+     * Last tick whose slot was visited. Only {@link #expire(long)} updates it.
+     */
+    private volatile long lastExpiredTick;
+
+    /**
+     * @param tickMillis       duration of a tick of the wheel in milliseconds
+     * @param wheelSize        number of slots of the wheel
+     * @param evictionListener called with the key of each evicted decision, or null
+     */
+    @SuppressWarnings("unchecked")
+    ExpiringThrottleDecisionMap(long tickMillis, int wheelSize, Consumer<String> evictionListener) {
+
+        this.tickMillis = tickMillis;
+        this.evictionListener = evictionListener;
+        this.wheel = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.lastExpiredTick = System.currentTimeMillis() / tickMillis - 1;
+    }
+
+    void put(String key, Long nextAccessTimestamp) {
+
+        decisions.put(key, nextAccessTimestamp);
+        // decisions of ticks which were already visited go to the next slot to be visited
+        long tick = Math.max(nextAccessTimestamp / tickMillis, lastExpiredTick + 1);
+        wheel[(int) Math.floorMod(tick, (long) wheel.length)].add(new Expiry(key, nextAccessTimestamp));
+    }
+
+    void putAll(Map<String, Long> data) {
+
+        for (Map.Entry<String, Long> entry : data.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    void remove(String key) {
+
+        decisions.remove(key);
+    }
+
+    /**
+     * Returns the next access timestamp of a key, whether or not it has passed.
+     *
+     * @param key throttle key
+     * @return next access timestamp, or null if there is no decision for the key
+     */
+    Long get(String key) {
+
+        return decisions.get(key);
+    }
+
+    /**
+     * Checks whether a key is throttled at the given time, removing its decision if it has expired.
+     *
+     * @param key         throttle key
+     * @param currentTime current time in milliseconds
+     * @return whether the next access timestamp of the key has not passed yet
+     */
+    boolean isThrottled(String key, long currentTime) {
+
+        Long nextAccessTimestamp = decisions.get(key);
+        if (nextAccessTimestamp == null) {
+            return false;
+        }
+        if (nextAccessTimestamp >= currentTime) {
+            return true;
+        }
+        decisions.remove(key, nextAccessTimestamp);
+        return false;
+    }
+
+    /**
+     * Evicts the decisions which expired before the tick of the given time.
+     *
+     * @param currentTime current time in milliseconds
+     * @return number of evicted decisions
+     */
+    int expire(long currentTime) {
+
+        // the current tick is not visited, as the decisions in it may not have expired yet
+        long lastTick = currentTime / tickMillis - 1;
+        long firstTick = Math.max(lastExpiredTick + 1, lastTick - wheel.length + 1);
+        int evicted = 0;
+        for (long tick = firstTick; tick <= lastTick; tick++) {
+            evicted += expire(wheel[(int) Math.floorMod(tick, (long) wheel.length)], currentTime);
+        }
+        if (lastTick > lastExpiredTick) {
+            lastExpiredTick = lastTick;
+        }
+        evictedCount.addAndGet(evicted);
+        return evicted;
+    }
+
+    private int expire(Queue<Expiry> slot, long currentTime) {
+
+        int evicted = 0;
+        for (Iterator<Expiry> iterator = slot.iterator(); iterator.hasNext(); ) {
+            Expiry expiry = iterator.next();
+            Long nextAccessTimestamp = decisions.get(expiry.key);
+            if (nextAccessTimestamp == null || nextAccessTimestamp != expiry.nextAccessTimestamp) {
+                // the decision was removed or replaced, and the replacement has its own expiry
+                iterator.remove();
+            } else if (expiry.nextAccessTimestamp < currentTime) {
+                iterator.remove();
+                if (decisions.remove(expiry.key, nextAccessTimestamp)) {
+                    evicted++;
+                    if (evictionListener != null) {
+                        evictionListener.accept(expiry.key);
+                    }
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * @return number of decisions, including expired ones which were not evicted yet
+     */
+    int size() {
+
+        return decisions.size();
+    }
+
+    /**
+     * @return number of decisions evicted by {@link #expire(long)} so far
+     */
+    long getEvictedCount() {
+
+        return evictedCount.get();
+    }
+
+    private static final class Expiry {
+
+        private final String key;
+        private final long nextAccessTimestamp;
+
+        private Expiry(String key, long nextAccessTimestamp) {
+
+            this.key = key;
+            this.nextAccessTimestamp = nextAccessTimestamp;
+        }
+    }
+}
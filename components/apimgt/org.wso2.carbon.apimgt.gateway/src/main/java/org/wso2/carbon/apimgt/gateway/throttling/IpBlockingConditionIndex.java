@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Immutable index of the IP blocking conditions of a tenant. The conditions are compiled once when they change, so
+ * that checking a request takes a hash lookup and a binary search instead of a walk over all the conditions.
+ * <p>
+ * A condition blocks the IPs it matches, or the IPs it does not match when it is inverted. Hence the IPs blocked by
+ * fixed IP conditions are a set, the ranges of the range conditions are merged into sorted disjoint intervals, and
+ * inverted conditions only let through the IPs matched by all of them, which is the intersection of their IPs.
+ * As before, the starting and ending IPs of a range are not part of the range.
+ * <p>
+ * Changes create a new index, so the index can be read by the request threads without locking.
+ */
+final class IpBlockingConditionIndex {
+
+    private static final Log log = LogFactory.getLog(IpBlockingConditionIndex.class);
+
+    static final IpBlockingConditionIndex EMPTY = new IpBlockingConditionIndex(Collections.<IPRange>emptyList());
+
+    private final List<IPRange> conditions;
+    private final Set<String> blockedIps = new HashSet<>();
+    /**
+     * Distinct fixed IPs of the inverted conditions. A null IP, which no request matches, is included.
+     */
+    private final Set<String> allowedIps = new HashSet<>();
+    private final BigInteger[] blockedRangeStarts;
+    private final BigInteger[] blockedRangeEnds;
+    /**
+     * Exclusive bounds of the intersection of the inverted ranges, or null if there are no inverted ranges.
+     */
+    private final BigInteger allowedRangeStart;
+    private final BigInteger allowedRangeEnd;
+
+    IpBlockingConditionIndex(Collection<IPRange> conditions) {
+
+        this.conditions = Collections.unmodifiableList(new ArrayList<>(conditions));
+        List<BigInteger[]> blockedRanges = new ArrayList<>();
+        BigInteger allowedStart = null;
+        BigInteger allowedEnd = null;
+        for (IPRange condition : this.conditions) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(condition.getType())) {
+                if (condition.isInvert()) {
+                    allowedIps.add(condition.getFixedIp());
+                } else if (condition.getFixedIp() != null) {
+                    blockedIps.add(condition.getFixedIp());
+                }
+            } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(condition.getType())) {
+                BigInteger start = condition.getStartingIpBigIntValue();
+                BigInteger end = condition.getEndingIpBigIntValue();
+                if (start == null || end == null) {
+                    log.warn("Ignoring IP range blocking condition " + condition.getId() + " of tenant "
+                            + condition.getTenantDomain() + " as it does not have both starting and ending IPs");
+                } else if (condition.isInvert()) {
+                    allowedStart = allowedStart == null ? start : allowedStart.max(start);
+                    allowedEnd = allowedEnd == null ? end : allowedEnd.min(end);
+                } else {
+                    // the range excludes its bounds, so the IPs in it are start + 1 to end - 1
+                    BigInteger first = start.add(BigInteger.ONE);
+                    BigInteger last = end.subtract(BigInteger.ONE);
+                    if (first.compareTo(last) <= 0) {
+                        blockedRanges.add(new BigInteger[]{first, last});
+                    }
+                }
+            }
+        }
+        allowedRangeStart = allowedStart;
+        allowedRangeEnd = allowedEnd;
+        List<BigInteger[]> mergedRanges = merge(blockedRanges);
+        blockedRangeStarts = new BigInteger[mergedRanges.size()];
+        blockedRangeEnds = new BigInteger[mergedRanges.size()];
+        for (int i = 0; i < mergedRanges.size(); i++) {
+            blockedRangeStarts[i] = mergedRanges.get(i)[0];
+            blockedRangeEnds[i] = mergedRanges.get(i)[1];
+        }
+    }
+
+    private static List<BigInteger[]> merge(List<BigInteger[]> ranges) {
+
+        ranges.sort(Comparator.comparing(range -> range[0]));
+        List<BigInteger[]> mergedRanges = new ArrayList<>();
+        for (BigInteger[] range : ranges) {
+            BigInteger[] last = mergedRanges.isEmpty() ? null : mergedRanges.get(mergedRanges.size() - 1);
+            if (last != null && range[0].compareTo(last[1].add(BigInteger.ONE)) <= 0) {
+                last[1] = last[1].max(range[1]);
+            } else {
+                mergedRanges.add(new BigInteger[]{range[0], range[1]});
+            }
+        }
+        return mergedRanges;
+    }
+
+    /**
+     * Returns a new index with the given condition added, replacing the condition with the same ID and type.
+     */
+    IpBlockingConditionIndex with(IPRange condition) {
+
+        List<IPRange> newConditions = new ArrayList<>(conditions.size() + 1);
+        for (IPRange existing : conditions) {
+            if (!existing.equals(condition)) {
+                newConditions.add(existing);
+            }
+        }
+        newConditions.add(condition);
+        return new IpBlockingConditionIndex(newConditions);
+    }
+
+    /**
+     * Returns a new index without the condition of the given ID.
+     */
+    IpBlockingConditionIndex without(int conditionId) {
+
+        List<IPRange> newConditions = new ArrayList<>(conditions);
+        for (int i = 0; i < newConditions.size(); i++) {
+            if (newConditions.get(i).getId() == conditionId) {
+                newConditions.remove(i);
+                return new IpBlockingConditionIndex(newConditions);
+            }
+        }
+        return this;
+    }
+
+    boolean isEmpty() {
+
+        return conditions.isEmpty();
+    }
+
+    List<IPRange> getConditions() {
+
+        return conditions;
+    }
+
+    /**
+     * Checks whether the given IP is blocked by any of the conditions.
+     *
+     * @param ip IP of the request
+     * @return whether the IP is blocked
+     */
+    boolean isBlocked(String ip) {
+
+        if (blockedIps.contains(ip)) {
+            return true;
+        }
+        // an inverted fixed IP condition blocks all the IPs other than its own
+        if (allowedIps.size() > 1 || (allowedIps.size() == 1 && !allowedIps.contains(ip))) {
+            return true;
+        }
+        if (blockedRangeStarts.length == 0 && allowedRangeStart == null) {
+            return false;
+        }
+        BigInteger ipValue = APIUtil.ipToBigInteger(ip);
+        if (allowedRangeStart != null
+                && (ipValue.compareTo(allowedRangeStart) <= 0 || ipValue.compareTo(allowedRangeEnd) >= 0)) {
+            return true;
+        }
+        return isInBlockedRange(ipValue);
+    }
+
+    private boolean isInBlockedRange(BigInteger ipValue) {
+
+        // finds the last range starting at or before the IP
+        int low = 0;
+        int high = blockedRangeStarts.length - 1;
+        int candidate = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (blockedRangeStarts[mid].compareTo(ipValue) <= 0) {
+                candidate = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return candidate >= 0 && ipValue.compareTo(blockedRangeEnds[candidate]) <= 0;
+    }
+}
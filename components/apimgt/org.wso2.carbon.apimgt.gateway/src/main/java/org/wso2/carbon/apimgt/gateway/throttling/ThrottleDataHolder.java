@@ -26,17 +26,22 @@ import org.apache.commons.lang.StringUtils;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.gateway.handlers.throttling.CompiledThrottleConditions;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
 
-import java.math.BigInteger;
-import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * This class will hold throttle data per given node. All throttle handler objects should refer values from this.
@@ -47,16 +52,22 @@ import java.util.concurrent.ConcurrentHashMap;
 public class ThrottleDataHolder {
 
     private static final Log log = LogFactory.getLog(ThrottleDataHolder.class);
+    private final AtomicBoolean metricsRegistered = new AtomicBoolean();
     private Map<String, String> blockedAPIConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedApplicationConditionsMap = new ConcurrentHashMap<String, String>();
     private Map<String, String> blockedUserConditionsMap = new ConcurrentHashMap<String, String>();
-    private Map<String, Set<IPRange>> blockedIpConditionsMap = new ConcurrentHashMap<>();
+    private Map<String, IpBlockingConditionIndex> blockedIpConditionsMap = new ConcurrentHashMap<>();
     private Map<String, String> keyTemplateMap = new ConcurrentHashMap<String, String>();
     private boolean isBlockingConditionsPresent = true;
     private boolean isKeyTemplatesPresent = false;
-    private Map<String, Long> throttleDataMap = new ConcurrentHashMap<String, Long>();
-    private Map<String,Long> throttledAPIKeysMap = new ConcurrentHashMap<String, Long>();
     private Map<String, Map<String, List<ConditionDto>>> conditionDtoMap = new ConcurrentHashMap<>();
+    // conditions of conditionDtoMap compiled for evaluation, recompiled whenever the conditions of a key change
+    private Map<String, CompiledThrottleConditions> compiledConditionsMap = new ConcurrentHashMap<>();
+    private ExpiringThrottleDecisionMap throttleDataMap = new ExpiringThrottleDecisionMap(
+            ExpiringThrottleDecisionMap.DEFAULT_TICK_MILLIS, ExpiringThrottleDecisionMap.DEFAULT_WHEEL_SIZE, null);
+    private ExpiringThrottleDecisionMap throttledAPIKeysMap = new ExpiringThrottleDecisionMap(
+            ExpiringThrottleDecisionMap.DEFAULT_TICK_MILLIS, ExpiringThrottleDecisionMap.DEFAULT_WHEEL_SIZE,
+            this::removeAllThrottledApiConditions);
     public void addThrottleData(String key, Long value) {
         throttleDataMap.put(key, value);
     }
@@ -74,6 +85,54 @@ public class ThrottleDataHolder {
 
     private ThrottleDataHolder() {
 
+        ScheduledExecutorService expiryExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ThrottleDataExpiry");
+            thread.setDaemon(true);
+            return thread;
+        });
+        expiryExecutor.scheduleWithFixedDelay(this::evictExpiredThrottleData,
+                ExpiringThrottleDecisionMap.DEFAULT_TICK_MILLIS, ExpiringThrottleDecisionMap.DEFAULT_TICK_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Evicts the throttle decisions whose next access timestamps have passed, so that keys which are not requested
+     * again do not stay in the maps.
+     */
+    void evictExpiredThrottleData() {
+
+        try {
+            long currentTime = System.currentTimeMillis();
+            int evictedThrottleDecisions = throttleDataMap.expire(currentTime);
+            int evictedThrottledAPIKeys = throttledAPIKeysMap.expire(currentTime);
+            if (log.isDebugEnabled() && (evictedThrottleDecisions > 0 || evictedThrottledAPIKeys > 0)) {
+                log.debug("Evicted " + evictedThrottleDecisions + " expired throttle decisions and "
+                        + evictedThrottledAPIKeys + " expired throttled API keys. " + throttleDataMap.size()
+                        + " throttle decisions and " + throttledAPIKeysMap.size() + " throttled API keys remain.");
+            }
+        } catch (RuntimeException e) {
+            // the task must keep running, or the maps would grow again
+            log.error("Error while evicting expired throttle data", e);
+        }
+    }
+
+    /**
+     * Registers gauges of the number of throttle decisions and throttled API keys held, and of the number of them
+     * evicted after they expired, unless they are already registered.
+     */
+    public void registerMetrics() {
+        if (!metricsRegistered.compareAndSet(false, true)) {
+            return;
+        }
+        registerGauge("ThrottleDecisions", (Gauge<Integer>) throttleDataMap::size);
+        registerGauge("ThrottledAPIKeys", (Gauge<Integer>) throttledAPIKeysMap::size);
+        registerGauge("EvictedThrottleDecisions", (Gauge<Long>) throttleDataMap::getEvictedCount);
+        registerGauge("EvictedThrottledAPIKeys", (Gauge<Long>) throttledAPIKeysMap::getEvictedCount);
+    }
+
+    private <T> void registerGauge(String name, Gauge<T> gauge) {
+        MetricManager.gauge(Level.INFO,
+                MetricManager.name(APIConstants.METRICS_PREFIX, this.getClass().getSimpleName(), name), gauge);
     }
 
     public static ThrottleDataHolder getInstance() {
@@ -91,6 +150,7 @@ public class ThrottleDataHolder {
         }
         if (!conditionMap.containsKey(conditionKey)) {
             conditionMap.put(conditionKey, conditionValue);
+            compileThrottledApiConditions(key);
         }
     }
 
@@ -101,9 +161,24 @@ public class ThrottleDataHolder {
             if (conditionMap.isEmpty()) {
                 conditionDtoMap.remove(key);
             }
+            compileThrottledApiConditions(key);
         }
     }
 
+    private void removeAllThrottledApiConditions(String key) {
+        conditionDtoMap.remove(key);
+        compiledConditionsMap.remove(key);
+    }
+
+    private void compileThrottledApiConditions(String key) {
+        // compute runs one at a time for a key, and reads the conditions after the change, so the last compilation
+        // of the key always sees the latest conditions
+        compiledConditionsMap.compute(key, (conditionKey, compiledConditions) -> {
+            Map<String, List<ConditionDto>> conditionMap = conditionDtoMap.get(conditionKey);
+            return conditionMap == null ? null : CompiledThrottleConditions.compile(conditionMap);
+        });
+    }
+
     public void addSubscriptionBlockingCondition(String name, String value) {
         blockedSubscriptionConditionsMap.put(name, value);
     }
@@ -130,7 +205,7 @@ public class ThrottleDataHolder {
                 return true;
             } else {
                 this.throttledAPIKeysMap.remove(apiKey);
-                this.conditionDtoMap.remove(apiKey);
+                removeAllThrottledApiConditions(apiKey);
                 return false;
             }
         } else {
@@ -146,6 +221,14 @@ public class ThrottleDataHolder {
         return conditionDtoMap.get(key);
     }
 
+    /**
+     * @param key throttled key
+     * @return conditions of the key compiled for evaluation, or null if there are none
+     */
+    public CompiledThrottleConditions getCompiledConditions(String key) {
+        return compiledConditionsMap.get(key);
+    }
+
     public void removeThrottleData(String key) {
         throttleDataMap.remove(key);
     }
@@ -165,13 +248,9 @@ public class ThrottleDataHolder {
 
     public void addIpBlockingCondition(String tenantDomain, int conditionId, String value, String type) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
-        if (ipRanges == null){
-            ipRanges = new HashSet<>();
-        }
-
-        ipRanges.add(convertValueToIPRange(tenantDomain, conditionId, value, type));
-        blockedIpConditionsMap.put(tenantDomain, ipRanges);
+        IPRange ipRange = convertValueToIPRange(tenantDomain, conditionId, value, type);
+        blockedIpConditionsMap.compute(tenantDomain, (tenant, index) ->
+                (index != null ? index : IpBlockingConditionIndex.EMPTY).with(ipRange));
     }
 
     private IPRange convertValueToIPRange(String tenantDomain, int conditionId, String value, String type) {
@@ -228,8 +307,8 @@ public class ThrottleDataHolder {
     }
 
     public void addIplockingConditionsFromMap(Map<String, Set<IPRange>> data) {
-        if(data.size() > 0) {
-            blockedIpConditionsMap.putAll(data);
+        for (Map.Entry<String, Set<IPRange>> entry : data.entrySet()) {
+            blockedIpConditionsMap.put(entry.getKey(), new IpBlockingConditionIndex(entry.getValue()));
         }
     }
 
@@ -260,17 +339,10 @@ public class ThrottleDataHolder {
 
     public void removeIpBlockingCondition(String tenantDomain, int conditionId) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(tenantDomain);
-        if (ipRanges != null) {
-            Iterator<IPRange> iterator = ipRanges.iterator();
-            while (iterator.hasNext()) {
-                IPRange ipRange = iterator.next();
-                if (ipRange.getId() == conditionId) {
-                    iterator.remove();
-                    break;
-                }
-            }
-        }
+        blockedIpConditionsMap.computeIfPresent(tenantDomain, (tenant, index) -> {
+            IpBlockingConditionIndex newIndex = index.without(conditionId);
+            return newIndex.isEmpty() ? null : newIndex;
+        });
     }
 
     public void addKeyTemplate(String key, String value) {
@@ -309,38 +381,14 @@ public class ThrottleDataHolder {
 
     private boolean isIpLevelBlocked(String apiTenantDomain, String ip) {
 
-        Set<IPRange> ipRanges = blockedIpConditionsMap.get(apiTenantDomain);
-        if (ipRanges != null && ipRanges.size() > 0) {
-            log.debug("Tenant " + apiTenantDomain + " contains block conditions");
-            for (IPRange ipRange : ipRanges) {
-                if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
-                    if (ip.equals(ipRange.getFixedIp())) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IP selected for Blocked");
-                            return true;
-                        }
-                    }
-                } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
-                    BigInteger ipBigIntegerValue = APIUtil.ipToBigInteger(ip);
-
-                    if (((ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0) &&
-                            (ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0))) {
-                        if (!ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    } else {
-                        if (ipRange.isInvert()) {
-                            log.debug("Block IPRange selected for Blocked");
-                            return true;
-                        }
-                    }
-                }
+        IpBlockingConditionIndex index = blockedIpConditionsMap.get(apiTenantDomain);
+        if (index != null && !index.isEmpty()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Tenant " + apiTenantDomain + " contains block conditions");
+            }
+            if (index.isBlocked(ip)) {
+                log.debug("Block IP selected for Blocked");
+                return true;
             }
         }
         return false;
@@ -356,29 +404,18 @@ public class ThrottleDataHolder {
      * false if key is not there in throttle map(that means its not throttled).
      */
     public boolean isThrottled(String key) {
-        boolean isThrottled = this.throttleDataMap.containsKey(key);
-        if(isThrottled) {
-            long currentTime = System.currentTimeMillis();
-            long timestamp = this.throttleDataMap.get(key);
-            if(timestamp >= currentTime) {
-                return isThrottled;
-            } else {
-                this.throttleDataMap.remove(key);
-                return false;
-            }
-        } else {
-            return isThrottled;
-        }
+        return this.throttleDataMap.isThrottled(key, System.currentTimeMillis());
     }
 
     /**
      * This method used to get the next access timestamp of a given key
      *
      * @param key String unique key of throttle event.
-     * @return throttle next access timestamp
+     * @return throttle next access timestamp, or 0 if the key is not throttled
      */
     public long getThrottleNextAccessTimestamp(String key) {
-        return this.throttleDataMap.get(key);
+        Long timestamp = this.throttleDataMap.get(key);
+        return timestamp != null ? timestamp : 0;
     }
 
     public boolean isBlockingConditionsPresent() {
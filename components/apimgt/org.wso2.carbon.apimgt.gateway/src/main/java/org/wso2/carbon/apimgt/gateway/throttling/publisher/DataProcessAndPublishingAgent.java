@@ -224,6 +224,16 @@ public class DataProcessAndPublishingAgent implements Runnable {
     }
 
     public void run() {
+        dataPublisher.tryPublish(createEvent());
+    }
+
+    /**
+     * Builds the throttle request stream event from the data references currently held by this agent. This is the
+     * time consuming part of the publishing logic and must not be called from the main message flow.
+     *
+     * @return throttle request event
+     */
+    org.wso2.carbon.databridge.commons.Event createEvent() {
         JSONObject jsonObMap = new JSONObject();
         org.apache.axis2.context.MessageContext axis2MessageContext = ((Axis2MessageContext) messageContext)
                 .getAxis2MessageContext();
@@ -320,9 +330,8 @@ public class DataProcessAndPublishingAgent implements Runnable {
                                         this.resourceLevelThrottleKey, this.resourceLevelTier,
                                         this.authorizedUser, this.apiContext, this.apiVersion,
                                         this.appTenant, this.apiTenant, this.appId, this.apiName, jsonObMap.toString()};
-        org.wso2.carbon.databridge.commons.Event event = new org.wso2.carbon.databridge.commons.Event(streamID,
-                                                                                                      System.currentTimeMillis(), null, null, objects);
-        dataPublisher.tryPublish(event);
+        return new org.wso2.carbon.databridge.commons.Event(streamID, System.currentTimeMillis(), null, null,
+                objects);
     }
 
     protected void buildMessage(org.apache.axis2.context.MessageContext axis2MessageContext) throws IOException,
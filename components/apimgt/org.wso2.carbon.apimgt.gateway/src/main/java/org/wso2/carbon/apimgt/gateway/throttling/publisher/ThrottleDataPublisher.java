@@ -57,6 +57,8 @@ public class ThrottleDataPublisher {
 
     Executor executor;
 
+    private ThrottleEventRingBuffer eventRingBuffer;
+
     /**
      * This method will initialize throttle data publisher. Inside this we will start executor and initialize data
      * publisher which we used to publish throttle data.
@@ -67,22 +69,36 @@ public class ThrottleDataPublisher {
             ThrottleProperties.DataPublisher dataPublisherConfiguration = ServiceReferenceHolder.getInstance()
                     .getThrottleProperties().getDataPublisher();
             if (dataPublisherConfiguration != null && dataPublisherConfiguration.isEnabled()) {
-                dataPublisherPool = ThrottleDataPublisherPool.getInstance();
+                ThrottleProperties.DataPublisherBuffer dataPublisherBufferConfiguration =
+                        throttleProperties.getDataPublisherBuffer();
+                boolean ringBufferEnabled = dataPublisherBufferConfiguration != null
+                        && dataPublisherBufferConfiguration.isEnabled();
+                if (!ringBufferEnabled) {
+                    dataPublisherPool = ThrottleDataPublisherPool.getInstance();
+                }
                 ThrottleProperties.DataPublisherThreadPool dataPublisherThreadPoolConfiguration = ServiceReferenceHolder
                         .getInstance().getThrottleProperties().getDataPublisherThreadPool();
 
                 try {
-                    executor = new DataPublisherThreadPoolExecutor(dataPublisherThreadPoolConfiguration.getCorePoolSize(),
-                            dataPublisherThreadPoolConfiguration.getMaximumPoolSize(), dataPublisherThreadPoolConfiguration
-                            .getKeepAliveTime(),
-                            TimeUnit
-                                    .SECONDS,
-                            new LinkedBlockingDeque<Runnable>() {
-                            });
+                    if (!ringBufferEnabled) {
+                        executor = new DataPublisherThreadPoolExecutor(
+                                dataPublisherThreadPoolConfiguration.getCorePoolSize(),
+                                dataPublisherThreadPoolConfiguration.getMaximumPoolSize(),
+                                dataPublisherThreadPoolConfiguration.getKeepAliveTime(),
+                                TimeUnit.SECONDS,
+                                new LinkedBlockingDeque<Runnable>() {
+                                });
+                    }
                     dataPublisher = new DataPublisher(dataPublisherConfiguration.getType(), dataPublisherConfiguration
                             .getReceiverUrlGroup(), dataPublisherConfiguration.getAuthUrlGroup(), dataPublisherConfiguration
                             .getUsername(),
                             dataPublisherConfiguration.getPassword());
+                    if (ringBufferEnabled) {
+                        // Slot agents pick the data publisher up on creation, hence the buffer is created after it.
+                        eventRingBuffer = new ThrottleEventRingBuffer(dataPublisher,
+                                dataPublisherBufferConfiguration);
+                        ThrottleEventRingBufferMetrics.register();
+                    }
 
                 } catch (DataEndpointAgentConfigurationException e) {
                     log.error("Error in initializing binary data-publisher to send requests to global throttling engine " +
@@ -118,7 +134,14 @@ public class ThrottleDataPublisher {
             String appId, MessageContext messageContext,
             AuthenticationContext authenticationContext) {
         try {
-            if (dataPublisherPool != null) {
+            if (eventRingBuffer != null) {
+                eventRingBuffer.offer(applicationLevelThrottleKey, applicationLevelTier,
+                        apiLevelThrottleKey, apiLevelTier,
+                        subscriptionLevelThrottleKey, subscriptionLevelTier,
+                        resourceLevelThrottleKey, resourceLevelTier,
+                        authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
+                        authenticationContext);
+            } else if (dataPublisherPool != null) {
                 DataProcessAndPublishingAgent agent = dataPublisherPool.get();
                 agent.setDataReference(applicationLevelThrottleKey, applicationLevelTier,
                         apiLevelThrottleKey, apiLevelTier,
@@ -145,6 +168,25 @@ public class ThrottleDataPublisher {
         }
     }
 
+    /**
+     * Returns the ring buffer used to publish throttle events, or null when the pooled publishing mode is in use.
+     *
+     * @return throttle event ring buffer
+     */
+    public ThrottleEventRingBuffer getEventRingBuffer() {
+        return eventRingBuffer;
+    }
+
+    /**
+     * Stops the ring buffer after publishing the events which are already in it. Does nothing in the pooled
+     * publishing mode.
+     */
+    public void shutdown() {
+        if (eventRingBuffer != null) {
+            eventRingBuffer.shutdown();
+        }
+    }
+
     /**
      * This class will act as thread pool executor and after executing each thread it will return runnable
      * object back to pool. This implementation specifically used to minimize number of objectes created during
@@ -0,0 +1,296 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.apache.synapse.MessageContext;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.databridge.agent.DataPublisher;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded, pre-allocated multi-producer / single-consumer ring buffer which hands throttle events over from the
+ * request threads to the data publisher. Every slot owns a {@link DataProcessAndPublishingAgent} which is reused for
+ * the lifetime of the buffer, so no agents are borrowed from a pool and no tasks are queued in an executor.
+ * <p>
+ * Request threads only capture the data references into the claimed slot. A single drain thread builds the events
+ * and publishes them to the {@link DataPublisher} in batches, waiting at most the configured linger time for a batch
+ * to fill. When the buffer is full the event is either dropped straight away or the request thread waits for a
+ * bounded time before dropping it, according to the configured drop policy.
+ */
+public class ThrottleEventRingBuffer {
+
+    private static final Log log = LogFactory.getLog(ThrottleEventRingBuffer.class);
+    private static final String DRAIN_THREAD_NAME = "ThrottleEventRingBufferDrainer";
+    private static final long IDLE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long BLOCK_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final DataPublisher dataPublisher;
+    private final DataProcessAndPublishingAgent[] agents;
+    private final boolean[] prepared;
+    private final AtomicLongArray sequences;
+    private final int capacity;
+    private final int mask;
+    private final AtomicLong producerSequence = new AtomicLong();
+    private final Event[] batch;
+    private final long lingerNanos;
+    private final boolean blockWhenFull;
+    private final long maxBlockNanos;
+
+    private final LongAdder enqueuedCount = new LongAdder();
+    private final LongAdder droppedCount = new LongAdder();
+    private final LongAdder publishedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+
+    private final Thread drainThread;
+    private volatile boolean running = true;
+    private volatile boolean drainerWaiting = false;
+    private volatile long consumerSequence = 0;
+
+    public ThrottleEventRingBuffer(DataPublisher dataPublisher,
+                                   ThrottleProperties.DataPublisherBuffer bufferConfiguration) {
+        this.dataPublisher = dataPublisher;
+        this.capacity = nextPowerOfTwo(bufferConfiguration.getBufferSize());
+        this.mask = capacity - 1;
+        this.agents = new DataProcessAndPublishingAgent[capacity];
+        this.prepared = new boolean[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            agents[i] = createAgent();
+            sequences.set(i, i);
+        }
+        this.batch = new Event[Math.max(1, bufferConfiguration.getBatchSize())];
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, bufferConfiguration.getLingerTime()));
+        this.blockWhenFull = ThrottleProperties.DataPublisherBuffer.DROP_POLICY_BLOCK
+                .equalsIgnoreCase(bufferConfiguration.getDropPolicy());
+        this.maxBlockNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, bufferConfiguration.getMaxBlockTime()));
+        this.drainThread = new Thread(this::drain, DRAIN_THREAD_NAME);
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+        if (log.isDebugEnabled()) {
+            log.debug("Throttle event ring buffer started with capacity: " + capacity + ", batch size: "
+                    + batch.length + " and drop policy: " + bufferConfiguration.getDropPolicy());
+        }
+    }
+
+    protected DataProcessAndPublishingAgent createAgent() {
+        return new DataProcessAndPublishingAgent();
+    }
+
+    /**
+     * Claims a slot in the buffer and captures the given data references into the agent owned by that slot.
+     *
+     * @return true if the event was accepted, false if it was dropped
+     */
+    public boolean offer(String applicationLevelThrottleKey, String applicationLevelTier,
+                         String apiLevelThrottleKey, String apiLevelTier,
+                         String subscriptionLevelThrottleKey, String subscriptionLevelTier,
+                         String resourceLevelThrottleKey, String resourceLevelTier,
+                         String authorizedUser, String apiContext, String apiVersion, String appTenant,
+                         String apiTenant, String appId, MessageContext messageContext,
+                         AuthenticationContext authenticationContext) {
+        long sequence = running ? claim() : -1;
+        if (sequence < 0) {
+            droppedCount.increment();
+            if (log.isDebugEnabled()) {
+                log.debug("Throttle event ring buffer is full. Dropping throttle event for: " + apiContext);
+            }
+            return false;
+        }
+        int index = (int) (sequence & mask);
+        boolean accepted = false;
+        try {
+            agents[index].setDataReference(applicationLevelThrottleKey, applicationLevelTier,
+                    apiLevelThrottleKey, apiLevelTier,
+                    subscriptionLevelThrottleKey, subscriptionLevelTier,
+                    resourceLevelThrottleKey, resourceLevelTier,
+                    authorizedUser, apiContext, apiVersion, appTenant, apiTenant, appId, messageContext,
+                    authenticationContext);
+            accepted = true;
+        } catch (RuntimeException e) {
+            log.error("Error while capturing throttle data for: " + apiContext, e);
+        } finally {
+            // The slot has to be released to the drain thread even on failure, otherwise the buffer would stall.
+            prepared[index] = accepted;
+            sequences.set(index, sequence + 1);
+        }
+        if (accepted) {
+            enqueuedCount.increment();
+        } else {
+            droppedCount.increment();
+        }
+        if (drainerWaiting) {
+            LockSupport.unpark(drainThread);
+        }
+        return accepted;
+    }
+
+    private long claim() {
+        long deadline = 0;
+        while (true) {
+            long sequence = producerSequence.get();
+            long available = sequences.get((int) (sequence & mask));
+            if (available == sequence) {
+                if (producerSequence.compareAndSet(sequence, sequence + 1)) {
+                    return sequence;
+                }
+            } else if (available < sequence) {
+                if (!blockWhenFull || !running) {
+                    return -1;
+                }
+                long now = System.nanoTime();
+                if (deadline == 0) {
+                    deadline = now + maxBlockNanos;
+                } else if (now - deadline >= 0) {
+                    return -1;
+                }
+                LockSupport.parkNanos(BLOCK_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    private void drain() {
+        int batchCount = 0;
+        long batchDeadline = 0;
+        while (running || hasPendingEvent()) {
+            if (hasPendingEvent()) {
+                Event event = poll();
+                if (event != null) {
+                    if (batchCount == 0) {
+                        batchDeadline = System.nanoTime() + lingerNanos;
+                    }
+                    batch[batchCount++] = event;
+                    if (batchCount == batch.length) {
+                        batchCount = flush(batchCount);
+                    }
+                }
+                continue;
+            }
+            if (batchCount > 0) {
+                long remaining = batchDeadline - System.nanoTime();
+                if (remaining <= 0 || !running) {
+                    batchCount = flush(batchCount);
+                } else {
+                    await(remaining);
+                }
+            } else {
+                await(IDLE_WAIT_NANOS);
+            }
+        }
+        flush(batchCount);
+    }
+
+    private void await(long nanos) {
+        drainerWaiting = true;
+        // Re-check after announcing the wait so that a concurrent producer cannot be missed.
+        if (!hasPendingEvent() && running) {
+            LockSupport.parkNanos(this, nanos);
+        }
+        drainerWaiting = false;
+    }
+
+    private boolean hasPendingEvent() {
+        return sequences.get((int) (consumerSequence & mask)) == consumerSequence + 1;
+    }
+
+    private Event poll() {
+        int index = (int) (consumerSequence & mask);
+        DataProcessAndPublishingAgent agent = agents[index];
+        Event event = null;
+        try {
+            if (prepared[index]) {
+                event = agent.createEvent();
+            }
+        } catch (RuntimeException e) {
+            failedCount.increment();
+            log.error("Error while building throttle event", e);
+        } finally {
+            agent.clearDataReference();
+            sequences.set(index, consumerSequence + capacity);
+            consumerSequence++;
+        }
+        return event;
+    }
+
+    private int flush(int batchCount) {
+        for (int i = 0; i < batchCount; i++) {
+            try {
+                dataPublisher.tryPublish(batch[i]);
+                publishedCount.increment();
+            } catch (RuntimeException e) {
+                failedCount.increment();
+                log.error("Error while publishing throttle event to traffic manager", e);
+            }
+            batch[i] = null;
+        }
+        return 0;
+    }
+
+    /**
+     * Stops accepting new events, publishes the events already in the buffer and stops the drain thread.
+     */
+    public void shutdown() {
+        running = false;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static int nextPowerOfTwo(int value) {
+        if (value <= 1) {
+            return 1;
+        }
+        return Integer.highestOneBit(value - 1) << 1;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getEnqueuedCount() {
+        return enqueuedCount.sum();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public long getPublishedCount() {
+        return publishedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+
+    public long getPendingCount() {
+        return producerSequence.get() - consumerSequence;
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToLongFunction;
+
+/**
+ * Publishes the counters of the throttle event ring buffer as carbon metrics. The gauges read the ring buffer of the
+ * current throttle data publisher each time they are reported, so they follow the buffer when the publisher is
+ * created again, and report 0 while the pooled publishing mode is in use.
+ */
+public final class ThrottleEventRingBufferMetrics {
+
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    private ThrottleEventRingBufferMetrics() {
+
+    }
+
+    /**
+     * Registers the gauges of the throttle event ring buffer, unless they are already registered.
+     */
+    public static void register() {
+
+        if (!registered.compareAndSet(false, true)) {
+            return;
+        }
+        registerGauge("Capacity", ThrottleEventRingBuffer::getCapacity);
+        registerGauge("PendingEvents", ThrottleEventRingBuffer::getPendingCount);
+        registerGauge("EnqueuedEvents", ThrottleEventRingBuffer::getEnqueuedCount);
+        registerGauge("DroppedEvents", ThrottleEventRingBuffer::getDroppedCount);
+        registerGauge("PublishedEvents", ThrottleEventRingBuffer::getPublishedCount);
+        registerGauge("FailedEvents", ThrottleEventRingBuffer::getFailedCount);
+    }
+
+    private static void registerGauge(String name, ToLongFunction<ThrottleEventRingBuffer> value) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                ThrottleEventRingBuffer.class.getSimpleName(), name), (Gauge<Long>) () -> {
+            ThrottleDataPublisher throttleDataPublisher =
+                    ServiceReferenceHolder.getInstance().getThrottleDataPublisher();
+            ThrottleEventRingBuffer eventRingBuffer =
+                    throttleDataPublisher != null ? throttleDataPublisher.getEventRingBuffer() : null;
+            return eventRingBuffer != null ? value.applyAsLong(eventRingBuffer) : 0L;
+        });
+    }
+}
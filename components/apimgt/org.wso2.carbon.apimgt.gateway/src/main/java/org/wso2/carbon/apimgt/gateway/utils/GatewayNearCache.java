@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.utils;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A per node, size bounded cache looked up before the gateway caches of the cache manager, so that a frequently used
+ * entry is found without going through the cache manager and the tenant flow.
+ * <p>
+ * An entry expires after the configured time, or when the value it holds expires, whichever is earlier. Once the
+ * cache is full, a new key is admitted only if it is requested more often than the least requested of a few sampled
+ * entries, as estimated by a frequency sketch of the recent requests, which is the admission policy of W-TinyLFU. So
+ * a burst of keys requested once does not evict the frequently requested ones. The cache is not locked: entries are
+ * held in a concurrent map, and the keys are held in slots which are claimed atomically, so that a victim can be
+ * sampled without iterating the map.
+ *
+ * @param <V> type of the cached values
+ */
+public final class GatewayNearCache<V> {
+
+    private static final int SAMPLE_SIZE = 5;
+
+    private final String name;
+    private final int maxEntries;
+    private final long expiryMillis;
+    private final ConcurrentHashMap<String, Entry<V>> entries;
+    private final AtomicReferenceArray<String> slots;
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * @param name         name of the cache
+     * @param maxEntries   maximum number of entries
+     * @param expiryMillis time in milliseconds after which an entry expires
+     */
+    public GatewayNearCache(String name, int maxEntries, long expiryMillis) {
+
+        this.name = name;
+        this.maxEntries = maxEntries;
+        this.expiryMillis = expiryMillis;
+        entries = new ConcurrentHashMap<>(maxEntries);
+        slots = new AtomicReferenceArray<>(maxEntries);
+        sketch = new FrequencySketch(maxEntries);
+    }
+
+    /**
+     * @param key   key of the entry
+     * @param scope scope of the entry, such as the tenant domain, which has to be the one the entry was put with
+     * @return value of the entry, or null if there is no unexpired entry for the key in the scope
+     */
+    public V get(String key, String scope) {
+
+        sketch.increment(key);
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiryTime <= System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            entry = null;
+        }
+        if (entry == null || !entry.scope.equals(scope)) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value;
+    }
+
+    /**
+     * Puts an entry, unless the cache is full and the key is requested less often than the entry it would evict.
+     *
+     * @param key             key of the entry
+     * @param scope           scope of the entry, such as the tenant domain
+     * @param value           value of the entry
+     * @param valueExpiryTime time in milliseconds at which the value expires
+     */
+    public void put(String key, String scope, V value, long valueExpiryTime) {
+
+        long now = System.currentTimeMillis();
+        long expiryTime = Math.min(now + expiryMillis, valueExpiryTime);
+        if (expiryTime <= now) {
+            return;
+        }
+        Entry<V> existing = entries.get(key);
+        Entry<V> entry;
+        if (existing != null) {
+            entry = new Entry<>(scope, value, expiryTime, existing.slot);
+            if (!entries.replace(key, existing, entry)) {
+                return;
+            }
+        } else {
+            int slot = claimSlot(key, now);
+            if (slot < 0) {
+                return;
+            }
+            entry = new Entry<>(scope, value, expiryTime, slot);
+            entries.put(key, entry);
+        }
+        // the slot may have been claimed for another key meanwhile, and an entry without a slot would never be
+        // evicted
+        if (!key.equals(slots.get(entry.slot))) {
+            entries.remove(key, entry);
+        }
+    }
+
+    /**
+     * @param key key of the entry to remove
+     */
+    public void remove(String key) {
+
+        // the slot of the entry is reused, as it no longer refers to an entry
+        entries.remove(key);
+    }
+
+    public void clear() {
+
+        entries.clear();
+    }
+
+    private int claimSlot(String key, long now) {
+
+        int freeSlot = nextSlot.get();
+        while (freeSlot < maxEntries) {
+            if (nextSlot.compareAndSet(freeSlot, freeSlot + 1)) {
+                slots.set(freeSlot, key);
+                return freeSlot;
+            }
+            freeSlot = nextSlot.get();
+        }
+        // the cache is full, so the key replaces the least requested of a few sampled entries, if it is requested
+        // more often. A slot which no longer refers to an entry, or refers to an expired one, is replaced right away.
+        int victimSlot = -1;
+        String victimKey = null;
+        int victimFrequency = Integer.MAX_VALUE;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < SAMPLE_SIZE && victimFrequency >= 0; i++) {
+            int slot = random.nextInt(maxEntries);
+            String slotKey = slots.get(slot);
+            if (slotKey == null) {
+                // the slot is being claimed
+                continue;
+            }
+            Entry<V> entry = entries.get(slotKey);
+            int frequency = entry == null || entry.slot != slot || entry.expiryTime <= now ? -1
+                    : sketch.frequency(slotKey);
+            if (frequency < victimFrequency) {
+                victimSlot = slot;
+                victimKey = slotKey;
+                victimFrequency = frequency;
+            }
+        }
+        if (victimSlot < 0 || (victimFrequency >= 0 && sketch.frequency(key) <= victimFrequency)
+                || !slots.compareAndSet(victimSlot, victimKey, key)) {
+            return -1;
+        }
+        Entry<V> victim = entries.get(victimKey);
+        if (victim != null && victim.slot == victimSlot && entries.remove(victimKey, victim)) {
+            evictions.increment();
+        }
+        return victimSlot;
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public int size() {
+
+        return entries.size();
+    }
+
+    public long getHitCount() {
+
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+
+        return evictions.sum();
+    }
+
+    /**
+     * @return ratio of the lookups which found an entry, or 0 if there were no lookups
+     */
+    public double getHitRatio() {
+
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    @Override
+    public String toString() {
+
+        return name + " [size: " + size() + ", hits: " + getHitCount() + ", misses: " + getMissCount()
+                + ", evictions: " + getEvictionCount() + ", hit ratio: " + getHitRatio() + "]";
+    }
+
+    private static final class Entry<V> {
+
+        private final String scope;
+        private final V value;
+        private final long expiryTime;
+        private final int slot;
+
+        private Entry(String scope, V value, long expiryTime, int slot) {
+
+            this.scope = scope;
+            this.value = value;
+            this.expiryTime = expiryTime;
+            this.slot = slot;
+        }
+    }
+
+    /**
+     * A count-min sketch of how often the keys were requested recently. Each key is counted in four counters of at
+     * most 15, and its frequency is the smallest of them. The counters are halved once the number of requests reaches
+     * ten times the size of the cache, so that the keys requested in the past are forgotten over time.
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+        private static final int MAX_FREQUENCY = 15;
+
+        private final AtomicIntegerArray counters;
+        private final int mask;
+        private final int resetThreshold;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        private FrequencySketch(int maxEntries) {
+
+            int width = Integer.highestOneBit(Math.max(maxEntries, 16) - 1) << 2;
+            counters = new AtomicIntegerArray(width);
+            mask = width - 1;
+            resetThreshold = (int) Math.min(10L * maxEntries, Integer.MAX_VALUE);
+        }
+
+        private void increment(String key) {
+
+            int hash = spread(key.hashCode());
+            int step = spread(hash * 0x85EBCA6B) | 1;
+            for (int i = 0; i < DEPTH; i++) {
+                int index = (hash + i * step) & mask;
+                int count = counters.get(index);
+                while (count < MAX_FREQUENCY && !counters.compareAndSet(index, count, count + 1)) {
+                    count = counters.get(index);
+                }
+            }
+            if (additions.incrementAndGet() == resetThreshold) {
+                for (int i = 0; i < counters.length(); i++) {
+                    counters.set(i, counters.get(i) >>> 1);
+                }
+                additions.set(0);
+            }
+        }
+
+        private int frequency(String key) {
+
+            int hash = spread(key.hashCode());
+            int step = spread(hash * 0x85EBCA6B) | 1;
+            int frequency = MAX_FREQUENCY;
+            for (int i = 0; i < DEPTH; i++) {
+                frequency = Math.min(frequency, counters.get((hash + i * step) & mask));
+            }
+            return frequency;
+        }
+
+        private static int spread(int hash) {
+
+            hash *= 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+}
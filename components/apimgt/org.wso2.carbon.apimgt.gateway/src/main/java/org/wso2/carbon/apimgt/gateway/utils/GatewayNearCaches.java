@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.utils;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Holds the near caches of the gateway, which are enabled with the system property 'gatewayNearCacheEnabled'. The
+ * maximum number of entries of a near cache and the time in seconds after which its entries expire are set with the
+ * system properties 'gatewayNearCacheMaxEntries' and 'gatewayNearCacheExpiry'.
+ * <p>
+ * The near caches only hold entries which are valid until they expire, or until they are invalidated through
+ * {@link #invalidateToken(String)} when the token is revoked or its cache entries are invalidated. The hit ratio,
+ * hits, misses, evictions and size of each near cache are published as carbon metrics.
+ */
+public final class GatewayNearCaches {
+
+    private static final Log log = LogFactory.getLog(GatewayNearCaches.class);
+    private static final boolean enabled = Boolean.getBoolean(APIMgtGatewayConstants.GATEWAY_NEAR_CACHE_ENABLED);
+    private static final GatewayNearCache<JWTValidationInfo> jwtValidationInfoCache = new GatewayNearCache<>(
+            APIConstants.GATEWAY_KEY_CACHE_NAME, Math.max(1, Integer.getInteger(
+            APIMgtGatewayConstants.GATEWAY_NEAR_CACHE_MAX_ENTRIES,
+            APIMgtGatewayConstants.DEFAULT_GATEWAY_NEAR_CACHE_MAX_ENTRIES)), Integer.getInteger(
+            APIMgtGatewayConstants.GATEWAY_NEAR_CACHE_EXPIRY,
+            APIMgtGatewayConstants.DEFAULT_GATEWAY_NEAR_CACHE_EXPIRY) * 1000L);
+
+    private static final AtomicBoolean metricsRegistered = new AtomicBoolean();
+
+    private GatewayNearCaches() {
+
+    }
+
+    /**
+     * Registers the gauges of the near caches, unless they are disabled or the gauges are already registered.
+     */
+    public static void registerMetrics() {
+
+        if (!enabled || !metricsRegistered.compareAndSet(false, true)) {
+            return;
+        }
+        for (GatewayNearCache<?> nearCache : getNearCaches()) {
+            registerGauge(nearCache, "HitRatio", (Gauge<Double>) nearCache::getHitRatio);
+            registerGauge(nearCache, "Hits", (Gauge<Long>) nearCache::getHitCount);
+            registerGauge(nearCache, "Misses", (Gauge<Long>) nearCache::getMissCount);
+            registerGauge(nearCache, "Evictions", (Gauge<Long>) nearCache::getEvictionCount);
+            registerGauge(nearCache, "Size", (Gauge<Integer>) nearCache::size);
+        }
+    }
+
+    private static <T> void registerGauge(GatewayNearCache<?> nearCache, String name, Gauge<T> gauge) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                GatewayNearCache.class.getSimpleName(), nearCache.getName(), name), gauge);
+    }
+
+    /**
+     * @return true if the near caches are enabled
+     */
+    public static boolean isEnabled() {
+
+        return enabled;
+    }
+
+    /**
+     * @return near cache of the validation info of the valid JWTs, by their token identifiers, in front of the
+     * gateway token and key caches
+     */
+    public static GatewayNearCache<JWTValidationInfo> getJWTValidationInfoCache() {
+
+        return jwtValidationInfoCache;
+    }
+
+    /**
+     * @return the near caches, to read their statistics
+     */
+    public static List<GatewayNearCache<?>> getNearCaches() {
+
+        return Collections.<GatewayNearCache<?>>singletonList(jwtValidationInfoCache);
+    }
+
+    /**
+     * Removes the entries of a token from the near caches.
+     *
+     * @param token access token or token identifier
+     */
+    public static void invalidateToken(String token) {
+
+        if (enabled && token != null) {
+            jwtValidationInfoCache.remove(token);
+            if (log.isDebugEnabled()) {
+                log.debug("Invalidated the near cache entries of token " + GatewayUtils.getMaskedToken(token) + ". "
+                        + jwtValidationInfoCache);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.gateway.GraphQLSchemaDTO;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+public class APIDeploymentPipelineTest {
+
+    @Test
+    public void testPriorityAPIsAreDeployedFirst() throws Exception {
+
+        List<String> artifacts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            artifacts.add(artifact("api" + i, "/api" + i));
+        }
+        try (APIDeploymentPipeline pipeline = new APIDeploymentPipeline("carbon.super", 4,
+                Arrays.asList("/api15", "/api3", "/unknown"))) {
+            List<String> order = getApiIds(pipeline.prepare(artifacts));
+            Assert.assertEquals(20, order.size());
+            Assert.assertEquals("api15", order.get(0));
+            Assert.assertEquals("api3", order.get(1));
+            // the other APIs keep the order of their artifacts
+            List<String> others = order.subList(2, order.size());
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                if (i != 15 && i != 3) {
+                    expected.add("api" + i);
+                }
+            }
+            Assert.assertEquals(expected, others);
+        }
+    }
+
+    @Test
+    public void testEmptyAndInvalidArtifacts() throws Exception {
+
+        List<String> artifacts = Arrays.asList(artifact("api1", "/api1"), "", null, "{invalid", artifact("api2",
+                "/api2"));
+        try (APIDeploymentPipeline pipeline = new APIDeploymentPipeline("carbon.super", 2,
+                Collections.<String>emptyList())) {
+            Assert.assertEquals(Arrays.asList("api1", "api2"), getApiIds(pipeline.prepare(artifacts)));
+            Assert.assertEquals(1, pipeline.getParseFailures());
+        }
+    }
+
+    @Test
+    public void testGraphQLSchemaIsParsed() throws Exception {
+
+        String graphQLAPI = "{\"apiId\":\"graphql\",\"apiContext\":\"/graphql\","
+                + "\"graphQLSchema\":\"type Query { hello: String }\"}";
+        String invalidGraphQLAPI = "{\"apiId\":\"invalid\",\"apiContext\":\"/invalid\","
+                + "\"graphQLSchema\":\"type Query {\"}";
+        try (APIDeploymentPipeline pipeline = new APIDeploymentPipeline("carbon.super", 2,
+                Collections.<String>emptyList())) {
+            List<APIDeploymentPipeline.PreparedAPI> preparedAPIs = pipeline.prepare(
+                    Arrays.asList(graphQLAPI, invalidGraphQLAPI, artifact("rest", "/rest")));
+            GraphQLSchemaDTO schema = preparedAPIs.get(0).getGraphQLSchema();
+            Assert.assertNotNull(schema.getGraphQLSchema().getQueryType().getFieldDefinition("hello"));
+            try {
+                preparedAPIs.get(1).getGraphQLSchema();
+                Assert.fail("Invalid GraphQL schema was parsed");
+            } catch (ExecutionException e) {
+                // expected
+            }
+            Assert.assertNull(preparedAPIs.get(2).getGraphQLSchema());
+        }
+    }
+
+    private static String artifact(String apiId, String context) {
+
+        return "{\"apiId\":\"" + apiId + "\",\"name\":\"" + apiId + "\",\"apiContext\":\"" + context + "\"}";
+    }
+
+    private static List<String> getApiIds(List<APIDeploymentPipeline.PreparedAPI> preparedAPIs) {
+
+        List<String> apiIds = new ArrayList<>(preparedAPIs.size());
+        for (APIDeploymentPipeline.PreparedAPI preparedAPI : preparedAPIs) {
+            apiIds.add(preparedAPI.getGatewayAPIDTO().getApiId());
+        }
+        return apiIds;
+    }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for Redis which speaks the Redis protocol, for testing the distributed counter managers without
+ * a Redis server. It supports the commands used by the counter managers. Lua scripts cannot be run, so the scripts of
+ * {@link RedisScriptedDistributedCountManager} are emulated. A latency can be set to simulate the network round trip
+ * of each batch of commands the client sends.
+ */
+public class FakeRedisServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final Map<String, String> values = new HashMap<>();
+    private final Map<String, Long> expiryTimes = new HashMap<>();
+    private final Set<String> cachedScripts = new HashSet<>();
+    private final Map<String, String> scriptsBySha = new HashMap<>();
+    private final Map<String, AtomicLong> commandCounts = new ConcurrentHashMap<>();
+    private final AtomicLong roundTrips = new AtomicLong();
+    private volatile long latency;
+    private volatile boolean running = true;
+
+    public FakeRedisServer() throws IOException {
+
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        for (String script : new String[]{RedisScriptedDistributedCountManager.GET_ALTER_AND_SET_EXPIRY_SCRIPT,
+                RedisScriptedDistributedCountManager.SET_WITH_EXPIRY_SCRIPT,
+                RedisScriptedDistributedCountManager.SET_LOCK_WITH_EXPIRY_SCRIPT}) {
+            scriptsBySha.put(RedisScriptedDistributedCountManager.sha1Hex(script), script);
+        }
+        Thread acceptor = new Thread(this::accept, "FakeRedisServer");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+
+        return serverSocket.getLocalPort();
+    }
+
+    public void setLatency(long latency) {
+
+        this.latency = latency;
+    }
+
+    public long getCommandCount(String command) {
+
+        AtomicLong count = commandCounts.get(command);
+        return count != null ? count.get() : 0;
+    }
+
+    public long getTotalCommandCount() {
+
+        long total = 0;
+        for (AtomicLong count : commandCounts.values()) {
+            total += count.get();
+        }
+        return total;
+    }
+
+    public long getRoundTrips() {
+
+        return roundTrips.get();
+    }
+
+    public void resetCounts() {
+
+        commandCounts.clear();
+        roundTrips.set(0);
+    }
+
+    public synchronized void flushScripts() {
+
+        cachedScripts.clear();
+    }
+
+    private void accept() {
+
+        while (running) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread connection = new Thread(() -> serve(socket), "FakeRedisServer-connection");
+                connection.setDaemon(true);
+                connection.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+
+        try (Socket s = socket;
+             InputStream in = new BufferedInputStream(s.getInputStream());
+             OutputStream out = new BufferedOutputStream(s.getOutputStream())) {
+            List<List<Object>> transaction = null;
+            while (running) {
+                List<String> command = readCommand(in);
+                String name = command.get(0).toUpperCase();
+                commandCounts.computeIfAbsent(name, k -> new AtomicLong()).incrementAndGet();
+                if ("QUIT".equals(name)) {
+                    writeReply(out, "OK");
+                    out.flush();
+                    return;
+                } else if ("MULTI".equals(name)) {
+                    transaction = new ArrayList<>();
+                    writeReply(out, "OK");
+                } else if ("EXEC".equals(name)) {
+                    List<Object> replies = new ArrayList<>();
+                    for (List<Object> queued : transaction) {
+                        replies.add(execute(toStrings(queued)));
+                    }
+                    transaction = null;
+                    writeReply(out, replies);
+                } else if (transaction != null) {
+                    transaction.add(new ArrayList<>(command));
+                    writeReply(out, new StatusReply("QUEUED"));
+                } else {
+                    writeReply(out, execute(command));
+                }
+                if (in.available() == 0) {
+                    // the client waits for the replies of the commands it sent, which completes a round trip
+                    roundTrips.incrementAndGet();
+                    if (latency > 0) {
+                        Thread.sleep(latency);
+                    }
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // the client closed the connection
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static List<String> toStrings(List<Object> command) {
+
+        List<String> strings = new ArrayList<>();
+        for (Object part : command) {
+            strings.add((String) part);
+        }
+        return strings;
+    }
+
+    private synchronized Object execute(List<String> command) {
+
+        String name = command.get(0).toUpperCase();
+        switch (name) {
+            case "PING":
+                return new StatusReply("PONG");
+            case "SELECT":
+            case "AUTH":
+                return new StatusReply("OK");
+            case "GET":
+                return get(command.get(1));
+            case "SET":
+                values.put(command.get(1), command.get(2));
+                expiryTimes.remove(command.get(1));
+                return new StatusReply("OK");
+            case "GETSET": {
+                String current = get(command.get(1));
+                values.put(command.get(1), command.get(2));
+                expiryTimes.remove(command.get(1));
+                return current;
+            }
+            case "SETNX":
+                if (get(command.get(1)) != null) {
+                    return 0L;
+                }
+                values.put(command.get(1), command.get(2));
+                return 1L;
+            case "DEL": {
+                long removed = get(command.get(1)) != null ? 1 : 0;
+                values.remove(command.get(1));
+                expiryTimes.remove(command.get(1));
+                return removed;
+            }
+            case "INCRBY": {
+                String current = get(command.get(1));
+                long value = (current != null ? Long.parseLong(current) : 0) + Long.parseLong(command.get(2));
+                values.put(command.get(1), String.valueOf(value));
+                return value;
+            }
+            case "PEXPIREAT":
+                if (get(command.get(1)) == null) {
+                    return 0L;
+                }
+                expiryTimes.put(command.get(1), Long.parseLong(command.get(2)));
+                return 1L;
+            case "PTTL": {
+                if (get(command.get(1)) == null) {
+                    return -2L;
+                }
+                Long expiryTime = expiryTimes.get(command.get(1));
+                return expiryTime != null ? expiryTime - System.currentTimeMillis() : -1L;
+            }
+            case "EVALSHA":
+                if (!cachedScripts.contains(command.get(1))) {
+                    return new ErrorReply("NOSCRIPT No matching script. Please use EVAL.");
+                }
+                return runScript(scriptsBySha.get(command.get(1)), command);
+            case "EVAL": {
+                String sha = RedisScriptedDistributedCountManager.sha1Hex(command.get(1));
+                if (!scriptsBySha.containsKey(sha)) {
+                    return new ErrorReply("ERR the fake Redis server cannot run this script");
+                }
+                cachedScripts.add(sha);
+                return runScript(command.get(1), command);
+            }
+            default:
+                return new ErrorReply("ERR unknown command '" + name + "'");
+        }
+    }
+
+    /**
+     * Emulates the scripts of the scripted counter manager. The command is EVAL or EVALSHA with a single key.
+     */
+    private Object runScript(String script, List<String> command) {
+
+        String key = command.get(3);
+        String value = command.get(4);
+        String expiryTime = command.get(5);
+        if (RedisScriptedDistributedCountManager.GET_ALTER_AND_SET_EXPIRY_SCRIPT.equals(script)) {
+            Object current = execute(listOf("GETSET", key, value));
+            execute(listOf("PEXPIREAT", key, expiryTime));
+            return current;
+        } else if (RedisScriptedDistributedCountManager.SET_WITH_EXPIRY_SCRIPT.equals(script)) {
+            execute(listOf("SET", key, value));
+            return execute(listOf("PEXPIREAT", key, expiryTime));
+        } else {
+            execute(listOf("SETNX", key, value));
+            return execute(listOf("PEXPIREAT", key, expiryTime));
+        }
+    }
+
+    private static List<String> listOf(String... parts) {
+
+        List<String> list = new ArrayList<>();
+        for (String part : parts) {
+            list.add(part);
+        }
+        return list;
+    }
+
+    private String get(String key) {
+
+        Long expiryTime = expiryTimes.get(key);
+        if (expiryTime != null && expiryTime <= System.currentTimeMillis()) {
+            values.remove(key);
+            expiryTimes.remove(key);
+        }
+        return values.get(key);
+    }
+
+    private static List<String> readCommand(InputStream in) throws IOException {
+
+        String header = readLine(in);
+        if (header.charAt(0) != '*') {
+            throw new IOException("Unsupported request " + header);
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] bytes = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = in.read(bytes, read, length - read);
+                if (n < 0) {
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            readLine(in);
+            command.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private static String readLine(InputStream in) throws IOException {
+
+        ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = in.read()) != '\r') {
+            if (b < 0) {
+                throw new EOFException();
+            }
+            line.write(b);
+        }
+        in.read();
+        return new String(line.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void writeReply(OutputStream out, Object reply) throws IOException {
+
+        if (reply == null) {
+            out.write("$-1\r\n".getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof StatusReply) {
+            out.write(("+" + ((StatusReply) reply).status + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof ErrorReply) {
+            out.write(("-" + ((ErrorReply) reply).message + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof Long) {
+            out.write((":" + reply + "\r\n").getBytes(StandardCharsets.UTF_8));
+        } else if (reply instanceof List) {
+            List<?> replies = (List<?>) reply;
+            out.write(("*" + replies.size() + "\r\n").getBytes(StandardCharsets.UTF_8));
+            for (Object element : replies) {
+                writeReply(out, element);
+            }
+        } else {
+            byte[] bytes = ((String) reply).getBytes(StandardCharsets.UTF_8);
+            out.write(("$" + bytes.length + "\r\n").getBytes(StandardCharsets.UTF_8));
+            out.write(bytes);
+            out.write("\r\n".getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+
+        running = false;
+        serverSocket.close();
+    }
+
+    private static final class StatusReply {
+
+        private final String status;
+
+        private StatusReply(String status) {
+
+            this.status = status;
+        }
+    }
+
+    private static final class ErrorReply {
+
+        private final String message;
+
+        private ErrorReply(String message) {
+
+            this.message = message;
+        }
+    }
+}
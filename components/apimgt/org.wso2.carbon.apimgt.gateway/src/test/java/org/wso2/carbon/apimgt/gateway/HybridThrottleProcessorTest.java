@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.metrics.manager.Counter;
+
+public class HybridThrottleProcessorTest {
+
+    private HybridThrottleProcessor throttleProcessor;
+    private Counter counter;
+
+    @Before
+    public void setUp() {
+
+        counter = Mockito.mock(Counter.class);
+        throttleProcessor = new HybridThrottleProcessor(null, "gw1") {
+            @Override
+            protected Counter getCounter(String name) {
+
+                return counter;
+            }
+        };
+    }
+
+    @Test
+    public void testSyncModeMessageOfOtherGatewayIsTracked() {
+
+        throttleProcessor.onSyncModeInitMessage("gw2___caller___1700000000000");
+        Assert.assertEquals(Long.valueOf(1700000000000L), throttleProcessor.syncModeNotifiedMap.get("caller"));
+        Mockito.verify(counter).inc();
+    }
+
+    @Test
+    public void testSyncModeMessageOfOwnGatewayIsIgnored() {
+
+        throttleProcessor.onSyncModeInitMessage("gw1___caller___1700000000000");
+        Assert.assertTrue(throttleProcessor.syncModeNotifiedMap.isEmpty());
+
+        // a gateway whose ID starts with the ID of this gateway is another gateway
+        throttleProcessor.onSyncModeInitMessage("gw10___caller___1700000000000");
+        Assert.assertTrue(throttleProcessor.syncModeNotifiedMap.containsKey("caller"));
+    }
+
+    @Test
+    public void testMalformedSyncModeMessageIsIgnored() {
+
+        throttleProcessor.onSyncModeInitMessage("gw2___caller");
+        throttleProcessor.onSyncModeInitMessage("gw2___caller___notATime");
+        Assert.assertTrue(throttleProcessor.syncModeNotifiedMap.isEmpty());
+    }
+
+    @Test
+    public void testExpiredSyncModeNotificationsAreRemoved() {
+
+        throttleProcessor.putSyncModeNotification("expired", 1000);
+        throttleProcessor.putSyncModeNotification("active", 3000);
+        throttleProcessor.removeExpiredSyncModeNotifications(2000);
+        Assert.assertFalse(throttleProcessor.syncModeNotifiedMap.containsKey("expired"));
+        Assert.assertTrue(throttleProcessor.syncModeNotifiedMap.containsKey("active"));
+    }
+
+    @Test
+    public void testSyncModeNotificationsAreBounded() {
+
+        long activeTimeWindow = System.currentTimeMillis() + 60000;
+        for (int i = 0; i < HybridThrottleProcessor.MAX_SYNC_MODE_NOTIFIED_CALLERS; i++) {
+            Assert.assertTrue(throttleProcessor.putSyncModeNotification("caller" + i, activeTimeWindow));
+        }
+        Assert.assertFalse(throttleProcessor.putSyncModeNotification("another", activeTimeWindow));
+        // an already tracked caller can still be updated
+        Assert.assertTrue(throttleProcessor.putSyncModeNotification("caller0", activeTimeWindow + 1));
+
+        throttleProcessor.syncModeNotifiedMap.put("caller1", 0L);
+        Assert.assertTrue(throttleProcessor.putSyncModeNotification("another", activeTimeWindow));
+        Assert.assertEquals(HybridThrottleProcessor.MAX_SYNC_MODE_NOTIFIED_CALLERS,
+                throttleProcessor.syncModeNotifiedMap.size());
+    }
+}
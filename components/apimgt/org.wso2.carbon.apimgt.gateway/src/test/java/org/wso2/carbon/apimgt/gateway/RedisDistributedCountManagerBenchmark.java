@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.apache.synapse.commons.throttle.core.DistributedCounterManager;
+import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Compares the latency of the counter operations of the throttling hot path between the distributed counter managers,
+ * against the Redis stand-in with a simulated network round trip. Run with the round trip latency in milliseconds,
+ * the number of concurrent callers and the number of requests per caller as the arguments.
+ */
+public class RedisDistributedCountManagerBenchmark {
+
+    public static void main(String[] args) throws Exception {
+
+        long latency = args.length > 0 ? Long.parseLong(args[0]) : 1;
+        int callers = args.length > 1 ? Integer.parseInt(args[1]) : 16;
+        int requests = args.length > 2 ? Integer.parseInt(args[2]) : 200;
+
+        try (FakeRedisServer redisServer = new FakeRedisServer()) {
+            redisServer.setLatency(latency);
+            JedisPoolConfig poolConfig = new JedisPoolConfig();
+            poolConfig.setMaxTotal(callers + 1);
+            JedisPool redisPool = new JedisPool(poolConfig, "localhost", redisServer.getPort());
+            try {
+                run("transactions", new RedisBaseDistributedCountManager(redisPool), redisServer, callers, requests);
+                run("scripts", new RedisScriptedDistributedCountManager(redisPool, new RedisConfig()), redisServer,
+                        callers, requests);
+                RedisConfig redisConfig = new RedisConfig();
+                redisConfig.setCounterBatchWindow(latency);
+                RedisScriptedDistributedCountManager batchingCountManager =
+                        new RedisScriptedDistributedCountManager(redisPool, redisConfig);
+                run("scripts with batching", batchingCountManager, redisServer, callers, requests);
+                batchingCountManager.shutdown();
+            } finally {
+                redisPool.destroy();
+            }
+        }
+    }
+
+    private static void run(String name, DistributedCounterManager countManager, FakeRedisServer redisServer,
+                            int callers, int requests) throws Exception {
+
+        redisServer.resetCounts();
+        ExecutorService executorService = Executors.newFixedThreadPool(callers);
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                String key = "benchmark-" + name + "-" + (i % 4);
+                results.add(executorService.submit(() -> {
+                    for (int j = 0; j < requests; j++) {
+                        // the operations of a request which is counted against the limit of the key
+                        countManager.asyncGetAndAddCounter(key, 1);
+                        countManager.asyncGetAlterAndSetExpiryOfCounter(key, 0, System.currentTimeMillis() + 60000);
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executorService.shutdown();
+        }
+        long elapsed = System.nanoTime() - start;
+        long operations = 2L * callers * requests;
+        System.out.printf("%-24s %10.1f us/op %12d round trips %12d commands%n", name,
+                elapsed / 1000.0 / operations * callers, redisServer.getRoundTrips(),
+                redisServer.getTotalCommandCount());
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.RedisConfig;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.JedisPoolConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class RedisScriptedDistributedCountManagerTest {
+
+    private FakeRedisServer redisServer;
+    private JedisPool redisPool;
+
+    @Before
+    public void setUp() throws Exception {
+
+        redisServer = new FakeRedisServer();
+        redisPool = new JedisPool(new JedisPoolConfig(), "localhost", redisServer.getPort());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+
+        redisPool.destroy();
+        redisServer.close();
+    }
+
+    @Test
+    public void testCounterOperations() {
+
+        RedisScriptedDistributedCountManager countManager =
+                new RedisScriptedDistributedCountManager(redisPool, new RedisConfig());
+
+        Assert.assertEquals(0, countManager.getCounter("counter"));
+        Assert.assertEquals(5, countManager.addAndGetCounter("counter", 5));
+        Assert.assertEquals(5, countManager.asyncGetAndAddCounter("counter", 3));
+        Assert.assertEquals(8, countManager.asyncGetAndAlterCounter("counter", 2));
+        Assert.assertEquals(2, countManager.getCounter("counter"));
+
+        long expiryTime = System.currentTimeMillis() + 60000;
+        Assert.assertEquals(2, countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 4, expiryTime));
+        Assert.assertEquals(4, countManager.getCounter("counter"));
+        Assert.assertTrue(countManager.getTtl("counter") > 0);
+
+        countManager.removeCounter("counter");
+        Assert.assertEquals(0, countManager.getCounter("counter"));
+    }
+
+    @Test
+    public void testTimestampAndLockOperations() {
+
+        RedisScriptedDistributedCountManager countManager =
+                new RedisScriptedDistributedCountManager(redisPool, new RedisConfig());
+        long expiryTime = System.currentTimeMillis() + 60000;
+
+        countManager.setTimestampWithExpiry("timestamp", 1000, expiryTime);
+        Assert.assertEquals(1000, countManager.getTimestamp("timestamp"));
+        Assert.assertTrue(countManager.getTtl("timestamp") > 0);
+
+        Assert.assertTrue(countManager.setLockWithExpiry("lock", "gateway1", expiryTime));
+        Assert.assertEquals(0, countManager.setLock("lock", "gateway2"));
+        countManager.removeLock("lock");
+        Assert.assertEquals(1, countManager.setLock("lock", "gateway2"));
+    }
+
+    @Test
+    public void testScriptIsSentOnlyWhenNotCached() {
+
+        RedisScriptedDistributedCountManager countManager =
+                new RedisScriptedDistributedCountManager(redisPool, new RedisConfig());
+        long expiryTime = System.currentTimeMillis() + 60000;
+
+        countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 1, expiryTime);
+        countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 2, expiryTime);
+        Assert.assertEquals(1, redisServer.getCommandCount("EVAL"));
+        Assert.assertEquals(2, redisServer.getCommandCount("EVALSHA"));
+
+        // e.g. Redis was restarted
+        redisServer.flushScripts();
+        Assert.assertEquals(2, countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 3, expiryTime));
+        Assert.assertEquals(2, redisServer.getCommandCount("EVAL"));
+        Assert.assertEquals(3, countManager.getCounter("counter"));
+    }
+
+    @Test
+    public void testOperationsTakeFewerRoundTripsThanTransactions() {
+
+        long expiryTime = System.currentTimeMillis() + 60000;
+        RedisBaseDistributedCountManager baseCountManager = new RedisBaseDistributedCountManager(redisPool);
+        baseCountManager.asyncGetAndAddCounter("counter", 1);
+        baseCountManager.asyncGetAlterAndSetExpiryOfCounter("counter", 1, expiryTime);
+        long baseRoundTrips = redisServer.getRoundTrips();
+
+        redisServer.resetCounts();
+        RedisScriptedDistributedCountManager countManager =
+                new RedisScriptedDistributedCountManager(redisPool, new RedisConfig());
+        countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 1, expiryTime);
+        redisServer.resetCounts();
+        countManager.asyncGetAndAddCounter("counter", 1);
+        countManager.asyncGetAlterAndSetExpiryOfCounter("counter", 1, expiryTime);
+
+        Assert.assertEquals(2, redisServer.getRoundTrips());
+        Assert.assertTrue(redisServer.getRoundTrips() < baseRoundTrips);
+        Assert.assertEquals(0, redisServer.getCommandCount("MULTI"));
+    }
+
+    @Test
+    public void testConcurrentIncrementsAreBatched() throws Exception {
+
+        RedisConfig redisConfig = new RedisConfig();
+        redisConfig.setCounterBatchWindow(50);
+        RedisScriptedDistributedCountManager countManager =
+                new RedisScriptedDistributedCountManager(redisPool, redisConfig);
+        int callers = 8;
+        ExecutorService executorService = Executors.newFixedThreadPool(callers);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executorService.submit(() -> {
+                    start.await();
+                    return countManager.asyncGetAndAddCounter("counter", 1);
+                }));
+            }
+            start.countDown();
+            List<Long> previousValues = new ArrayList<>();
+            for (Future<Long> result : results) {
+                previousValues.add(result.get());
+            }
+            Collections.sort(previousValues);
+
+            List<Long> expected = new ArrayList<>();
+            for (long i = 0; i < callers; i++) {
+                expected.add(i);
+            }
+            Assert.assertEquals(expected, previousValues);
+            Assert.assertEquals(callers, countManager.getCounter("counter"));
+            Assert.assertTrue(redisServer.getCommandCount("INCRBY") < callers);
+        } finally {
+            executorService.shutdownNow();
+            countManager.shutdown();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class AllowedOriginMatcherTest {
+
+    @Test
+    public void testAllowAllOrigins() {
+
+        AllowedOriginMatcher matcher = new AllowedOriginMatcher("https://localhost:9443,*");
+        Assert.assertEquals("*", matcher.getAllowedOrigin("https://example.com"));
+        Assert.assertEquals("*", matcher.getAllowedOrigin(null));
+    }
+
+    @Test
+    public void testExactOrigins() {
+
+        AllowedOriginMatcher matcher = new AllowedOriginMatcher("https://localhost:9443,https://example.com");
+        Assert.assertEquals("https://example.com", matcher.getAllowedOrigin("https://example.com"));
+        Assert.assertNull(matcher.getAllowedOrigin("https://example.org"));
+        Assert.assertNull(matcher.getAllowedOrigin(null));
+    }
+
+    @Test
+    public void testWildcardOrigins() {
+
+        AllowedOriginMatcher matcher = new AllowedOriginMatcher("https://localhost:9443,https://*.wso2.com,"
+                + "http://*.example.*");
+        for (int i = 0; i < 2; i++) {
+            // the second round is answered from the cached decisions
+            Assert.assertEquals("https://apim.wso2.com", matcher.getAllowedOrigin("https://apim.wso2.com"));
+            Assert.assertEquals("https://apim.wso2.com:8443", matcher.getAllowedOrigin("https://apim.wso2.com:8443"));
+            Assert.assertEquals("http://app.example.org", matcher.getAllowedOrigin("http://app.example.org"));
+            Assert.assertNull(matcher.getAllowedOrigin("https://apim.wso2.org"));
+            Assert.assertNull(matcher.getAllowedOrigin("http://app.wso2.com"));
+        }
+    }
+
+    @Test
+    public void testInvalidWildcardOriginIsIgnored() {
+
+        AllowedOriginMatcher matcher = new AllowedOriginMatcher("https://*.wso2.com,https://*.example.com(");
+        Assert.assertEquals("https://apim.wso2.com", matcher.getAllowedOrigin("https://apim.wso2.com"));
+        Assert.assertNull(matcher.getAllowedOrigin("https://app.example.com"));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import com.atlassian.oai.validator.OpenApiInteractionValidator;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OpenAPIValidatorCacheTestCase {
+
+    private static final String API_UUID = "7ebf2b1e-5d33-4a6e-9a3d-1f2c7d0c1a11";
+
+    @After
+    public void tearDown() {
+        OpenAPIValidatorCache.getInstance().invalidateAll();
+    }
+
+    @Test
+    public void testValidatorIsReusedPerOperation() {
+        OpenAPIValidatorCache cache = OpenAPIValidatorCache.getInstance();
+        OpenAPI openAPI = createOpenAPI();
+
+        OpenApiInteractionValidator getPets = cache.getValidator(API_UUID, "1", openAPI, "/pets", "GET");
+        Assert.assertSame(getPets, cache.getValidator(API_UUID, "1", openAPI, "/pets", "get"));
+        Assert.assertNotSame(getPets, cache.getValidator(API_UUID, "1", openAPI, "/pets", "POST"));
+        // undefined operations fall back to the validator of the complete definition
+        OpenApiInteractionValidator apiValidator = cache.getValidator(API_UUID, "1", openAPI, "/stores", "GET");
+        Assert.assertSame(apiValidator, cache.getValidator(API_UUID, "1", openAPI, "/pets", "DELETE"));
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testValidatorIsRebuiltForNewRevision() {
+        OpenAPIValidatorCache cache = OpenAPIValidatorCache.getInstance();
+        OpenAPI openAPI = createOpenAPI();
+
+        OpenApiInteractionValidator validator = cache.getValidator(API_UUID, "1", openAPI, "/pets", "GET");
+        Assert.assertNotSame(validator, cache.getValidator(API_UUID, "2", openAPI, "/pets", "GET"));
+        validator = cache.getValidator(API_UUID, "2", openAPI, "/pets", "GET");
+        Assert.assertNotSame(validator, cache.getValidator(API_UUID, "2", createOpenAPI(), "/pets", "GET"));
+
+        cache.invalidate(API_UUID);
+        Assert.assertEquals(0, cache.size());
+    }
+
+    private static OpenAPI createOpenAPI() {
+        PathItem pets = new PathItem()
+                .get(createOperation("getPets"))
+                .post(createOperation("addPet"));
+        OpenAPI openAPI = new OpenAPI();
+        openAPI.setOpenapi("3.0.1");
+        openAPI.setPaths(new Paths().addPathItem("/pets", pets));
+        return openAPI;
+    }
+
+    private static Operation createOperation(String operationId) {
+        return new Operation().operationId(operationId)
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("OK")));
+    }
+}
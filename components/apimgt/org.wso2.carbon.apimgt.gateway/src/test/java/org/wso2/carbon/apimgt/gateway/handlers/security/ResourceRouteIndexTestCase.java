@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.APIInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ResourceInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.VerbInfoDTO;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+public class ResourceRouteIndexTestCase {
+
+    @Test
+    public void testTemplateLookup() {
+        ResourceRouteIndex routeIndex = ResourceRouteIndex.compile(createAPIInfo(
+                "/pets/{petId}", "GET", "/pets/", "GET", "/pets", "POST"));
+
+        List<ResourceRouteIndex.Route> routes = routeIndex.getTemplateRoutes("/pets/{petId}", "GET");
+        Assert.assertEquals(1, routes.size());
+        Assert.assertEquals("/pets/{petId}", routes.get(0).getUrlPattern());
+        // trailing slash of the template is ignored and the lookup is case insensitive
+        routes = routeIndex.getTemplateRoutes("/PETS", "GET");
+        Assert.assertEquals(1, routes.size());
+        Assert.assertEquals("/pets/", routes.get(0).getUrlPattern());
+        Assert.assertEquals("POST", routeIndex.getTemplateRoutes("/pets", "POST").get(0).getVerbInfoDTO()
+                .getHttpVerb());
+        Assert.assertTrue(routeIndex.getTemplateRoutes("/pets", "DELETE").isEmpty());
+        Assert.assertEquals(3, routeIndex.getRouteCount());
+    }
+
+    @Test
+    public void testPathMatching() {
+        ResourceRouteIndex routeIndex = ResourceRouteIndex.compile(createAPIInfo(
+                "/*", "GET", "/pets/{petId}", "GET", "/pets/mine", "GET", "/pets/{petId}/photos/*", "PUT",
+                "/stores/{storeId}/orders?status={status}", "GET"));
+
+        Assert.assertEquals("/pets/mine", routeIndex.match("/pets/mine", "GET").getUrlPattern());
+        Assert.assertEquals("/pets/{petId}", routeIndex.match("/pets/10", "GET").getUrlPattern());
+        Assert.assertEquals("/pets/{petId}/photos/*", routeIndex.match("/pets/10/photos", "PUT").getUrlPattern());
+        Assert.assertEquals("/pets/{petId}/photos/*", routeIndex.match("/pets/10/photos/1/2", "PUT")
+                .getUrlPattern());
+        Assert.assertEquals("/stores/{storeId}/orders?status={status}", routeIndex.match("/stores/1/orders", "GET")
+                .getUrlPattern());
+        // falls back to the root wildcard
+        Assert.assertEquals("/*", routeIndex.match("/", "GET").getUrlPattern());
+        Assert.assertEquals("/*", routeIndex.match("/pets/10/photos", "GET").getUrlPattern());
+        Assert.assertNull(routeIndex.match("/pets/10", "DELETE"));
+    }
+
+    private static APIInfoDTO createAPIInfo(String... patternAndVerbs) {
+        APIInfoDTO apiInfoDTO = new APIInfoDTO();
+        apiInfoDTO.setResources(new LinkedHashSet<ResourceInfoDTO>());
+        for (int i = 0; i < patternAndVerbs.length; i += 2) {
+            ResourceInfoDTO resourceInfoDTO = new ResourceInfoDTO();
+            resourceInfoDTO.setUrlPattern(patternAndVerbs[i]);
+            resourceInfoDTO.setHttpVerbs(new LinkedHashSet<VerbInfoDTO>());
+            VerbInfoDTO verbInfoDTO = new VerbInfoDTO();
+            verbInfoDTO.setHttpVerb(patternAndVerbs[i + 1]);
+            resourceInfoDTO.getHttpVerbs().add(verbInfoDTO);
+            apiInfoDTO.getResources().add(resourceInfoDTO);
+        }
+        return apiInfoDTO;
+    }
+}
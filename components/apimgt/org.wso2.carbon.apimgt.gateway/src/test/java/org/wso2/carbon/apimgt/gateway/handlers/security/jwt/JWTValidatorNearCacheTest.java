@@ -0,0 +1,232 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.security.jwt;
+
+import com.nimbusds.jwt.SignedJWT;
+import org.apache.axis2.Constants;
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.apache.synapse.rest.RESTConstants;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.common.gateway.dto.JWTValidationInfo;
+import org.wso2.carbon.apimgt.gateway.APIMgtGatewayConstants;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APIKeyValidator;
+import org.wso2.carbon.apimgt.gateway.handlers.security.APISecurityException;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.gateway.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.gateway.jwt.RevokedJWTDataHolder;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayNearCaches;
+import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dto.APIKeyValidationInfoDTO;
+import org.wso2.carbon.apimgt.impl.dto.ExtendedJWTConfigurationDto;
+import org.wso2.carbon.apimgt.impl.jwt.JWTValidationService;
+import org.wso2.carbon.apimgt.impl.jwt.SignedJWTInfo;
+import org.wso2.carbon.apimgt.impl.utils.CertificateMgtUtils;
+import org.wso2.carbon.apimgt.keymgt.service.TokenValidationContext;
+import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.multitenancy.MultitenantUtils;
+
+import java.security.cert.X509Certificate;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.UUID;
+import javax.cache.Cache;
+
+/**
+ * Tests the validation of JWTs served from the near cache in front of the gateway token and key caches.
+ */
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({JWTValidator.class, GatewayUtils.class, MultitenantUtils.class, PrivilegedCarbonContext.class,
+        ServiceReferenceHolder.class, CertificateMgtUtils.class, RevokedJWTDataHolder.class})
+public class JWTValidatorNearCacheTest {
+
+    // token with a cnf claim bound to cnf/certificate.pem
+    private static final String CERTIFICATE_BOUND_TOKEN =
+            "eyJ4NXQiOiJOVGRtWmpNNFpEazNOalkwWXpjNU1tWm1PRGd3TVRFM01XWXdOREU1TVdSbFpEZzROemM0WkE" +
+            "iLCJraWQiOiJNell4TW1Ga09HWXdNV0kwWldObU5EY3hOR1l3WW1NNFpUQTNNV0kyTkRBelpHUXpOR00wWkdSbE5qSm" +
+            "tPREZrWkRSaU9URmtNV0ZoTXpVMlpHVmxOZ19QUzI1NiIsImFsZyI6IlBTMjU2In0.eyJhdWQiOiJodHRwOi8vb3JnL" +
+            "ndzbzIuYXBpbWd0L2dhdGV3YXkiLCJzdWIiOiJhZG1pbkBjYXJib24uc3VwZXIiLCJhcHBsaWNhdGlvbiI6eyJvd25l" +
+            "ciI6ImFkbWluIiwidGllclF1b3RhVHlwZSI6InJlcXVlc3RDb3VudCIsInRpZXIiOiJVbmxpbWl0ZWQiLCJuYW1lIjo" +
+            "iRGVmYXVsdEFwcGxpY2F0aW9uIiwiaWQiOjEsInV1aWQiOm51bGx9LCJzY29wZSI6ImFtX2FwcGxpY2F0aW9uX3Njb3" +
+            "BlIGRlZmF1bHQiLCJpc3MiOiJodHRwczovL2xvY2FsaG9zdDo5NDQzL29hdXRoMi90b2tlbiIsImNuZiI6eyJ4NXQjU" +
+            "zI1NiI6IlQyUHJpLXYxTm50TEN3a25TazQ2SjdoeFBPYmFENHgtQm5IQzVYYVRZUlEifSwidGllckluZm8iOnt9LCJr" +
+            "ZXl0eXBlIjoiUFJPRFVDVElPTiIsInN1YnNjcmliZWRBUElzIjpbXSwiY29uc3VtZXJLZXkiOiJYZ08zOTZJSEZLN2V" +
+            "GWXlkcnFRZTRIS0d6MWthIiwiZXhwIjoxNTkwMzQyMzEzLCJpYXQiOjE1OTAzMzg3MTMsImp0aSI6ImI4OTM4NzY4LT" +
+            "IzZmQtNGRlYy04YjcwLWJlZDQ1ZWI3YzMzZCJ9.R7ARkdO5evfAyg_lQmTCWXaP5zSA26XnQMI8QHgID72xx1YCBA1x" +
+            "xQeR4Q0EDgGUna3yePhLOiYIMSVJf_VDIMjIW2pFAH1i0ETWivYrRzNpBIZC0UjPiJ-Xjw02T2Omkywgf12ff_T3nz9" +
+            "eLZqP5SQkO01gihECzXYDFD3dQDRc63bjvmK_en5my5Rt-rUYPihl0uBaGXueHTYp-zNNN8aU_k7FEZTfs-UfOw4Fhh" +
+            "noXUTclbEbABbyjDiWgyeVCVwAeGHXIMAAqVM6qKZqGRFSW-wYuJ9UCz2x4QnXLoNXkNST0ly_rbDdqEeNWed8iLTOQ" +
+            "yry3tbDvkCGBjW_9w";
+    private static final String CERTIFICATE = "src/test/resources/cnf/certificate.pem";
+    private static final String INVALID_CERTIFICATE = "src/test/resources/cnf/invalid-certificate.pem";
+
+    private SignedJWT signedJWT;
+    private SignedJWTInfo signedJWTInfo;
+    private JWTValidationInfo jwtValidationInfo;
+    private JWTValidationService jwtValidationService;
+    private JWTValidatorWrapper jwtValidator;
+    private MessageContext messageContext;
+
+    @BeforeClass
+    public static void enableNearCache() {
+
+        // the near caches read the flag when they are loaded, which is after this in the class loader of the test
+        System.setProperty(APIMgtGatewayConstants.GATEWAY_NEAR_CACHE_ENABLED, "true");
+    }
+
+    @AfterClass
+    public static void disableNearCache() {
+
+        System.clearProperty(APIMgtGatewayConstants.GATEWAY_NEAR_CACHE_ENABLED);
+    }
+
+    @Before
+    public void setup() throws Exception {
+
+        System.setProperty("carbon.home", "");
+        PowerMockito.mockStatic(MultitenantUtils.class);
+        PowerMockito.mockStatic(PrivilegedCarbonContext.class);
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        PowerMockito.mockStatic(RevokedJWTDataHolder.class);
+        PowerMockito.when(RevokedJWTDataHolder.getInstance())
+                .thenReturn(PowerMockito.mock(RevokedJWTDataHolder.class));
+        PrivilegedCarbonContext privilegedCarbonContext = Mockito.mock(PrivilegedCarbonContext.class);
+        PowerMockito.when(PrivilegedCarbonContext.getThreadLocalCarbonContext()).thenReturn(privilegedCarbonContext);
+        Mockito.when(privilegedCarbonContext.getTenantDomain()).thenReturn("carbon.super");
+        PowerMockito.when(ServiceReferenceHolder.getInstance()).thenReturn(Mockito.mock(ServiceReferenceHolder.class));
+        PowerMockito.mockStatic(CertificateMgtUtils.class);
+        for (String certificatePath : new String[]{CERTIFICATE, INVALID_CERTIFICATE}) {
+            X509Certificate x509Certificate = JWTValidatorTest.getX509Certificate(certificatePath);
+            PowerMockito.when(CertificateMgtUtils.convert(x509Certificate)).thenReturn(Optional.of(x509Certificate));
+        }
+
+        signedJWT = SignedJWT.parse(CERTIFICATE_BOUND_TOKEN);
+        signedJWTInfo = new SignedJWTInfo(signedJWT.getParsedString(), signedJWT, signedJWT.getJWTClaimsSet());
+        signedJWTInfo.setClientCertificate(JWTValidatorTest.getX509Certificate(CERTIFICATE));
+        jwtValidationInfo = new JWTValidationInfo();
+        jwtValidationInfo.setValid(true);
+        jwtValidationInfo.setIssuer("https://localhost");
+        jwtValidationInfo.setRawPayload(signedJWT.getParsedString());
+        jwtValidationInfo.setJti(UUID.randomUUID().toString());
+        jwtValidationInfo.setIssuedTime(System.currentTimeMillis());
+        jwtValidationInfo.setExpiryTime(System.currentTimeMillis() + 60000L);
+        jwtValidationInfo.setConsumerKey(UUID.randomUUID().toString());
+        jwtValidationInfo.setUser("user1");
+        jwtValidationInfo.setKeyManager("Default");
+        jwtValidationService = Mockito.mock(JWTValidationService.class);
+        Mockito.when(jwtValidationService.validateJWTToken(signedJWTInfo)).thenReturn(jwtValidationInfo);
+
+        APIKeyValidator apiKeyValidator = Mockito.mock(APIKeyValidator.class);
+        APIKeyValidationInfoDTO apiKeyValidationInfoDTO = new APIKeyValidationInfoDTO();
+        apiKeyValidationInfoDTO.setApiName("api1");
+        apiKeyValidationInfoDTO.setApiPublisher("admin");
+        apiKeyValidationInfoDTO.setApiTier("Unlimited");
+        apiKeyValidationInfoDTO.setAuthorized(true);
+        Mockito.when(apiKeyValidator.validateScopes(Mockito.any(TokenValidationContext.class), Mockito.anyString()))
+                .thenReturn(true);
+        Mockito.when(apiKeyValidator.validateSubscription(Mockito.anyString(), Mockito.anyString(),
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString())).thenReturn(apiKeyValidationInfoDTO);
+        // the token and key caches never return the token, so it is only found in the near cache
+        jwtValidator = new JWTValidatorWrapper("Unlimited", true, apiKeyValidator, false, null,
+                new ExtendedJWTConfigurationDto(), jwtValidationService, Mockito.mock(Cache.class),
+                Mockito.mock(Cache.class), Mockito.mock(Cache.class), Mockito.mock(Cache.class));
+        APIManagerConfiguration apiManagerConfiguration = Mockito.mock(APIManagerConfiguration.class);
+        Mockito.when(apiManagerConfiguration.getFirstProperty(APIConstants.JWT_AUTHENTICATION_SUBSCRIPTION_VALIDATION))
+                .thenReturn("true");
+        jwtValidator.setApiManagerConfiguration(apiManagerConfiguration);
+
+        messageContext = Mockito.mock(Axis2MessageContext.class);
+        org.apache.axis2.context.MessageContext axis2MsgCntxt =
+                Mockito.mock(org.apache.axis2.context.MessageContext.class);
+        Mockito.when(axis2MsgCntxt.getProperty(Constants.Configuration.HTTP_METHOD)).thenReturn("GET");
+        Mockito.when(axis2MsgCntxt.getProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS))
+                .thenReturn(new HashMap<>());
+        Mockito.when(((Axis2MessageContext) messageContext).getAxis2MessageContext()).thenReturn(axis2MsgCntxt);
+        Mockito.when(messageContext.getProperty(RESTConstants.REST_API_CONTEXT)).thenReturn("/api1");
+        Mockito.when(messageContext.getProperty(RESTConstants.SYNAPSE_REST_API_VERSION)).thenReturn("1.0");
+        Mockito.when(messageContext.getProperty(APIConstants.API_ELECTED_RESOURCE)).thenReturn("/pet/findByStatus");
+    }
+
+    @After
+    public void clearNearCache() {
+
+        GatewayNearCaches.getJWTValidationInfoCache().clear();
+    }
+
+    @Test
+    public void testTokenIsServedFromNearCache() throws Exception {
+
+        Assert.assertTrue(GatewayNearCaches.isEnabled());
+        AuthenticationContext authenticate = jwtValidator.authenticate(signedJWTInfo, messageContext);
+        Assert.assertEquals(jwtValidationInfo.getConsumerKey(), authenticate.getConsumerKey());
+        authenticate = jwtValidator.authenticate(signedJWTInfo, messageContext);
+        Assert.assertEquals(jwtValidationInfo.getConsumerKey(), authenticate.getConsumerKey());
+        Mockito.verify(jwtValidationService, Mockito.times(1)).validateJWTToken(signedJWTInfo);
+    }
+
+    @Test
+    public void testMismatchedCertificateDoesNotInvalidateNearCachedToken() throws Exception {
+
+        jwtValidator.authenticate(signedJWTInfo, messageContext);
+        String jti = signedJWT.getJWTClaimsSet().getJWTID();
+        Assert.assertNotNull(GatewayNearCaches.getJWTValidationInfoCache().get(jti, "carbon.super"));
+
+        signedJWTInfo.setClientCertificate(JWTValidatorTest.getX509Certificate(INVALID_CERTIFICATE));
+        try {
+            jwtValidator.authenticate(signedJWTInfo, messageContext);
+            Assert.fail("A token presented with a certificate it is not bound to must be rejected");
+        } catch (APISecurityException e) {
+            Assert.assertEquals("Invalid Credentials", e.getMessage());
+        }
+        JWTValidationInfo nearCachedJWTValidationInfo =
+                GatewayNearCaches.getJWTValidationInfoCache().get(jti, "carbon.super");
+        Assert.assertNotNull(nearCachedJWTValidationInfo);
+        Assert.assertTrue(nearCachedJWTValidationInfo.isValid());
+
+        // the requests presenting the bound certificate are still served from the near cache
+        signedJWTInfo.setClientCertificate(JWTValidatorTest.getX509Certificate(CERTIFICATE));
+        AuthenticationContext authenticate = jwtValidator.authenticate(signedJWTInfo, messageContext);
+        Assert.assertEquals(jwtValidationInfo.getConsumerKey(), authenticate.getConsumerKey());
+        Mockito.verify(jwtValidationService, Mockito.times(1)).validateJWTToken(signedJWTInfo);
+    }
+
+    @Test
+    public void testInvalidatedTokenIsValidatedAgain() throws Exception {
+
+        jwtValidator.authenticate(signedJWTInfo, messageContext);
+        String jti = signedJWT.getJWTClaimsSet().getJWTID();
+        GatewayNearCaches.invalidateToken(jti);
+        Assert.assertNull(GatewayNearCaches.getJWTValidationInfoCache().get(jti, "carbon.super"));
+
+        jwtValidator.authenticate(signedJWTInfo, messageContext);
+        Mockito.verify(jwtValidationService, Mockito.times(2)).validateJWTToken(signedJWTInfo);
+        Assert.assertNotNull(GatewayNearCaches.getJWTValidationInfoCache().get(jti, "carbon.super"));
+    }
+}
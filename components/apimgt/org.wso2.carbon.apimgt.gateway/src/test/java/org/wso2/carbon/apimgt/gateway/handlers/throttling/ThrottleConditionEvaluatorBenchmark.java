@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.handlers.throttling;
+
+import org.apache.synapse.MessageContext;
+import org.apache.synapse.core.axis2.Axis2MessageContext;
+import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
+import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
+import org.wso2.carbon.apimgt.api.model.policy.PolicyConstants;
+import org.wso2.carbon.apimgt.gateway.TestUtils;
+import org.wso2.carbon.apimgt.gateway.handlers.security.AuthenticationContext;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares evaluating the condition groups of an advanced policy compiled on every request, as they were before the
+ * compiled groups were cached, with evaluating the cached compiled groups, for policies of 5, 20 and 50 condition
+ * groups mixing IP, header, query parameter and JWT claim conditions.
+ */
+public class ThrottleConditionEvaluatorBenchmark {
+
+    private static final int EVALUATIONS = 50000;
+    private static final String JWT = "eyJhbGciOiJIUzI1NiJ9.eyJpc3MiOiJ3c28yLm9yZy9wcm9kdWN0cy9hbSIsImV4cCI6MTM0NTE4"
+            + "MzQ5MjE4MSwiaHR0cDovL3dzbzIub3JnL2NsYWltcy9hYmMiOiJjZGUiLCJodHRwOi8vd3NvMi5vcmcvY2xhaW1zL2JjZCI6Inh5eiJ9"
+            + ".9zGU062DJ5mQ5hne41h4IRpLbaY_b5thRxb3feebOcA";
+
+    public static void main(String[] args) {
+
+        MessageContext messageContext = TestUtils.getMessageContext("weatherAPI", "v1");
+        Map<String, String> headers = new TreeMap<>();
+        headers.put("User-Agent", "Mozilla/5.0 (X11; Linux x86_64)");
+        headers.put("X-Forwarded-For", "192.168.0.12");
+        org.apache.axis2.context.MessageContext axis2MessageContext =
+                ((Axis2MessageContext) messageContext).getAxis2MessageContext();
+        axis2MessageContext.setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS, headers);
+        axis2MessageContext.setProperty("REST_URL_POSTFIX", "/temperature?city=colombo&units=metric");
+        AuthenticationContext authenticationContext = new AuthenticationContext();
+        authenticationContext.setCallerToken(JWT);
+        ThrottleConditionEvaluator evaluator = ThrottleConditionEvaluator.getInstance();
+
+        for (int groupCount : new int[]{5, 20, 50}) {
+            ConditionGroupDTO[] conditionGroups = createConditionGroups(groupCount);
+            int matches = 0;
+            long uncachedStart = System.nanoTime();
+            for (int i = 0; i < EVALUATIONS; i++) {
+                matches += new CompiledConditionGroups(conditionGroups).getApplicableConditions(
+                        new ThrottleConditionRequest(messageContext, authenticationContext), conditionGroups).size();
+            }
+            double uncachedTime = (System.nanoTime() - uncachedStart) / 1000.0 / EVALUATIONS;
+
+            long cachedStart = System.nanoTime();
+            for (int i = 0; i < EVALUATIONS; i++) {
+                matches += evaluator.getApplicableConditions(messageContext, authenticationContext, conditionGroups)
+                        .size();
+            }
+            double cachedTime = (System.nanoTime() - cachedStart) / 1000.0 / EVALUATIONS;
+
+            System.out.printf("%3d condition groups: compiled per request %8.2f us/request, cached %8.2f us/request"
+                    + " (%d matches)%n", groupCount, uncachedTime, cachedTime, matches);
+        }
+    }
+
+    private static ConditionGroupDTO[] createConditionGroups(int groupCount) {
+
+        ConditionGroupDTO[] conditionGroups = new ConditionGroupDTO[groupCount + 1];
+        for (int i = 0; i < groupCount; i++) {
+            ConditionGroupDTO conditionGroup = new ConditionGroupDTO();
+            conditionGroup.setConditionGroupId("group" + i);
+            switch (i % 4) {
+                case 0:
+                    conditionGroup.setConditions(new ConditionDTO[]{
+                            condition(PolicyConstants.HEADER_TYPE, "User-Agent", "Chrome/" + i + "\\..*"),
+                            condition(PolicyConstants.IP_RANGE_TYPE, "10.0." + i + ".0", "10.0." + i + ".255")});
+                    break;
+                case 1:
+                    conditionGroup.setConditions(new ConditionDTO[]{
+                            condition(PolicyConstants.QUERY_PARAMETER_TYPE, "city", "^city" + i + "$")});
+                    break;
+                case 2:
+                    conditionGroup.setConditions(new ConditionDTO[]{
+                            condition(PolicyConstants.JWT_CLAIMS_TYPE, "http://wso2.org/claims/abc", "tier" + i),
+                            condition(PolicyConstants.HEADER_TYPE, "User-Agent", "Mozilla/[0-9]+\\.0")});
+                    break;
+                default:
+                    conditionGroup.setConditions(new ConditionDTO[]{
+                            condition(PolicyConstants.IP_SPECIFIC_TYPE, null, "172.16.0." + i)});
+                    break;
+            }
+            conditionGroups[i] = conditionGroup;
+        }
+        ConditionGroupDTO defaultGroup = new ConditionGroupDTO();
+        defaultGroup.setConditionGroupId(APIConstants.THROTTLE_POLICY_DEFAULT);
+        conditionGroups[groupCount] = defaultGroup;
+        return conditionGroups;
+    }
+
+    private static ConditionDTO condition(String type, String name, String value) {
+
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType(type);
+        condition.setConditionName(name);
+        condition.setConditionValue(value);
+        return condition;
+    }
+}
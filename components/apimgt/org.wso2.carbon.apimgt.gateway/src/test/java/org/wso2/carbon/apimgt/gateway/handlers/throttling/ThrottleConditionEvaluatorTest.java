@@ -23,6 +23,7 @@ import org.apache.synapse.core.axis2.Axis2MessageContext;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Mockito;
 import org.wso2.carbon.apimgt.api.dto.ConditionDTO;
 import org.wso2.carbon.apimgt.api.dto.ConditionGroupDTO;
 import org.wso2.carbon.apimgt.gateway.TestUtils;
@@ -402,6 +403,70 @@ public class ThrottleConditionEvaluatorTest {
         Assert.assertNull(matchingConditionGroups.get(0));
     }
 
+    @Test
+    public void testConditionsOfGroupAreEvaluatedFromTheCheapest() {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("ComplexConditionGroup");
+        ConditionDTO jwtCondition = new ConditionDTO();
+        jwtCondition.setConditionType("JWTClaims");
+        jwtCondition.setConditionName("http://wso2.org/claims/subscriber");
+        jwtCondition.setConditionValue("admin");
+        ConditionDTO nonMatchingIpCondition = new ConditionDTO();
+        nonMatchingIpCondition.setConditionType("IPSpecific");
+        nonMatchingIpCondition.setConditionValue("127.0.0.2");
+        conditionGroupDTO.setConditions(new ConditionDTO[]{jwtCondition, nonMatchingIpCondition});
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO, defaultConditionGroupDTO};
+
+        AuthenticationContext authenticationContext = Mockito.mock(AuthenticationContext.class);
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(TestUtils
+                .getMessageContext(apiContext, apiVersion), authenticationContext, conditionGroupDTOS);
+        Assert.assertEquals(matchingConditionGroups.get(0).getConditionGroupId(), THROTTLE_POLICY_DEFAULT);
+        // the JWT is not decoded, as the IP condition does not match
+        Mockito.verify(authenticationContext, Mockito.never()).getCallerToken();
+    }
+
+    @Test
+    public void testRebuiltConditionGroupsAreEvaluatedByTheirContents() {
+
+        MessageContext messageContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        ConditionGroupDTO[] conditionGroupDTOS = {getIPSpecificConditionGroup("127.0.0.1")};
+        ConditionGroupDTO[] rebuiltConditionGroupDTOS = {getIPSpecificConditionGroup("127.0.0.1")};
+        ConditionGroupDTO[] changedConditionGroupDTOS = {getIPSpecificConditionGroup("127.0.0.2")};
+
+        throttleConditionEvaluator.getApplicableConditions(messageContext, new AuthenticationContext(),
+                conditionGroupDTOS);
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(
+                messageContext, new AuthenticationContext(), rebuiltConditionGroupDTOS);
+        // the groups of the rebuilt array are returned, not the ones the compiled groups were compiled from
+        Assert.assertSame(rebuiltConditionGroupDTOS[0], matchingConditionGroups.get(0));
+        matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions(messageContext,
+                new AuthenticationContext(), changedConditionGroupDTOS);
+        Assert.assertNull(matchingConditionGroups.get(0));
+    }
+
+    @Test
+    public void testApplicabilityOfHeaderConditionWithInvalidRegex() {
+
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("HeaderConditionGroup");
+        ConditionDTO invalidCondition = new ConditionDTO();
+        invalidCondition.setConditionType("Header");
+        invalidCondition.setConditionName("host");
+        invalidCondition.setConditionValue("org.wso2.com[");
+        conditionGroupDTO.setConditions(new ConditionDTO[]{invalidCondition});
+        ConditionGroupDTO[] conditionGroupDTOS = {conditionGroupDTO};
+
+        MessageContext messageContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        Map map = new TreeMap();
+        map.put("host", "org.wso2.com");
+        ((Axis2MessageContext) messageContext).getAxis2MessageContext()
+                .setProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS, map);
+        List<ConditionGroupDTO> matchingConditionGroups = throttleConditionEvaluator.getApplicableConditions
+                (messageContext, new AuthenticationContext(), conditionGroupDTOS);
+        Assert.assertNull(matchingConditionGroups.get(0));
+    }
+
     @Test
     public void testGetThrottledInCondition() {
 
@@ -608,6 +673,28 @@ public class ThrottleConditionEvaluatorTest {
         Assert.assertEquals(condition, "condition1");
     }
 
+    @Test
+    public void testGetThrottledInConditionWithHeaderConditionWithoutHeaders() {
+
+        ThrottleProperties throttleProperties = new ThrottleProperties();
+        throttleProperties.setEnableHeaderConditions(true);
+        ServiceReferenceHolder.getInstance().setThrottleProperties(throttleProperties);
+        MessageContext messageContext = TestUtils.getMessageContext(apiContext, apiVersion);
+        ((Axis2MessageContext) messageContext).getAxis2MessageContext()
+                .removeProperty(org.apache.axis2.context.MessageContext.TRANSPORT_HEADERS);
+        Map<String, List<ConditionDto>> conditionMap = new HashMap<>();
+        conditionMap.put("condition1", Arrays.asList(new ConditionDto[]{getHeaderCondition(false)}));
+        conditionMap.put("default", Arrays.asList(new ConditionDto[]{getHeaderCondition(false)}));
+        Assert.assertEquals("condition1",
+                throttleConditionEvaluator.getThrottledInCondition(messageContext, null, conditionMap));
+
+        // an inverted header condition does not match a request without headers
+        conditionMap.put("condition1", Arrays.asList(new ConditionDto[]{getHeaderCondition(true)}));
+        conditionMap.put("default", Arrays.asList(new ConditionDto[]{getHeaderCondition(true)}));
+        Assert.assertEquals("default",
+                throttleConditionEvaluator.getThrottledInCondition(messageContext, null, conditionMap));
+    }
+
     @Test
     public void testGetThrottledInConditionWithJWTCondition() {
 
@@ -835,6 +922,17 @@ public class ThrottleConditionEvaluatorTest {
         Assert.assertEquals(condition, "condition1");
     }
 
+    private ConditionGroupDTO getIPSpecificConditionGroup(String ip) {
+
+        ConditionDTO condition = new ConditionDTO();
+        condition.setConditionType("IPSpecific");
+        condition.setConditionValue(ip);
+        ConditionGroupDTO conditionGroupDTO = new ConditionGroupDTO();
+        conditionGroupDTO.setConditionGroupId("IPSpecificConditionGroup");
+        conditionGroupDTO.setConditions(new ConditionDTO[]{condition});
+        return conditionGroupDTO;
+    }
+
     private ConditionDto getIPCondition(boolean invert) {
 
         ConditionDto conditionDto = new ConditionDto();
@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.jwt;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class RevokedJWTSignatureStoreTest {
+
+    private static final long BUCKET = RevokedJWTSignatureStore.BUCKET_MILLIS;
+
+    @Test
+    public void testContains() {
+
+        RevokedJWTSignatureStore store = new RevokedJWTSignatureStore(16);
+        long now = System.currentTimeMillis();
+        store.add("signature", now + BUCKET);
+        Assert.assertTrue(store.contains("signature"));
+        Assert.assertFalse(store.contains("other signature"));
+    }
+
+    @Test
+    public void testFilterGrowsWithBulkAndSingleAdds() {
+
+        RevokedJWTSignatureStore store = new RevokedJWTSignatureStore(16);
+        long now = System.currentTimeMillis();
+        Map<String, Long> signatures = new HashMap<>();
+        for (int i = 0; i < 50000; i++) {
+            signatures.put("bulk" + i, now + BUCKET);
+        }
+        store.addAll(signatures);
+        for (int i = 0; i < 5000; i++) {
+            store.add("single" + i, now + BUCKET);
+        }
+        Assert.assertEquals(55000, store.size());
+        for (int i = 0; i < 50000; i++) {
+            Assert.assertTrue(store.contains("bulk" + i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertTrue(store.contains("single" + i));
+            Assert.assertFalse(store.contains("other" + i));
+        }
+    }
+
+    @Test
+    public void testExpiredSignaturesAreRemoved() {
+
+        RevokedJWTSignatureStore store = new RevokedJWTSignatureStore(16);
+        long now = System.currentTimeMillis();
+        store.add("expired", now - BUCKET * 2);
+        store.add("expiring", now + BUCKET * 2);
+        store.add("valid", now + BUCKET * 10);
+        Assert.assertEquals(1, store.removeExpired(now));
+        Assert.assertFalse(store.contains("expired"));
+        Assert.assertEquals(0, store.removeExpired(now));
+
+        Assert.assertEquals(1, store.removeExpired(now + BUCKET * 4));
+        Assert.assertFalse(store.contains("expiring"));
+        Assert.assertTrue(store.contains("valid"));
+        Assert.assertEquals(1, store.size());
+    }
+
+    @Test
+    public void testRevokedAgainWithLaterExpiryIsKept() {
+
+        RevokedJWTSignatureStore store = new RevokedJWTSignatureStore(16);
+        long now = System.currentTimeMillis();
+        store.add("signature", now + BUCKET);
+        store.add("signature", now + BUCKET * 10);
+        // an earlier expiry does not shorten the revocation
+        store.add("signature", now + BUCKET);
+        Assert.assertEquals(0, store.removeExpired(now + BUCKET * 3));
+        Assert.assertTrue(store.contains("signature"));
+        Assert.assertEquals(1, store.removeExpired(now + BUCKET * 12));
+        Assert.assertFalse(store.contains("signature"));
+    }
+
+    @Test
+    public void testFilterIsRebuiltAfterMassExpiry() {
+
+        RevokedJWTSignatureStore store = new RevokedJWTSignatureStore(16);
+        long now = System.currentTimeMillis();
+        Map<String, Long> signatures = new HashMap<>();
+        for (int i = 0; i < 20000; i++) {
+            signatures.put("expiring" + i, now + BUCKET);
+        }
+        store.addAll(signatures);
+        store.add("valid", now + BUCKET * 10);
+        Assert.assertEquals(20000, store.removeExpired(now + BUCKET * 3));
+        Assert.assertEquals(1, store.size());
+        Assert.assertTrue(store.contains("valid"));
+        Assert.assertFalse(store.contains("expiring0"));
+    }
+}
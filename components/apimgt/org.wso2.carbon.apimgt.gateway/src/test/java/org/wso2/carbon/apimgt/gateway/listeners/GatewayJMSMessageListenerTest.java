@@ -20,6 +20,8 @@ package org.wso2.carbon.apimgt.gateway.listeners;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import org.mockito.Mockito;
@@ -101,4 +103,16 @@ public class GatewayJMSMessageListenerTest {
         assertTrue(keyManagerDataService.isSubscriptionPolicyUpdated());
     }
 
+    @Test
+    public void testVersionsOfAPIShareOrderingKey() {
+        String key = GatewayJMSMessageListener.getAPIOrderingKey("carbon.super", "admin", "PizzaShack", "uuid-1");
+        assertEquals(key, GatewayJMSMessageListener.getAPIOrderingKey("carbon.super", "admin", "PizzaShack",
+                "uuid-2"));
+        assertNotEquals(key, GatewayJMSMessageListener.getAPIOrderingKey("carbon.super", "admin", "Weather",
+                "uuid-3"));
+        assertNotEquals(key, GatewayJMSMessageListener.getAPIOrderingKey("wso2.com", "admin", "PizzaShack",
+                "uuid-4"));
+        assertEquals("uuid-5", GatewayJMSMessageListener.getAPIOrderingKey("carbon.super", null, null, "uuid-5"));
+    }
+
 }
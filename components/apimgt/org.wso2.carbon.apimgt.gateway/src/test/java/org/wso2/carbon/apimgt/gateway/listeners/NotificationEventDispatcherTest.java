@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.gateway.utils.TenantUtils;
+import org.wso2.carbon.apimgt.impl.APIConstants.EventType;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({TenantUtils.class})
+@PowerMockIgnore("javax.management.*")
+public class NotificationEventDispatcherTest {
+
+    private static final String API_EVENT = "{\"name\":\"PizzaShack\",\"version\":\"1.0.0\","
+            + "\"tenantDomain\":\"carbon.super\"}";
+
+    private List<String> handledEvents;
+
+    @Before
+    public void setUp() {
+
+        handledEvents = new ArrayList<>();
+        PowerMockito.mockStatic(TenantUtils.class);
+        PowerMockito.when(TenantUtils.isTenantAvailable("carbon.super")).thenReturn(true);
+        PowerMockito.when(TenantUtils.isTenantAvailable("unloaded.com")).thenReturn(false);
+    }
+
+    @Test
+    public void testEventIsDecodedAndHandled() {
+
+        NotificationEventDispatcher dispatcher = new NotificationEventDispatcher(new OrderedEventExecutor("test", 0));
+        dispatcher.register(TestAPIEvent.class, (eventType, event) ->
+                handledEvents.add(eventType + ":" + event.name + ":" + event.version), EventType.API_UPDATE,
+                EventType.API_LIFECYCLE_CHANGE);
+
+        dispatcher.dispatch(EventType.API_UPDATE.name(), 0, API_EVENT);
+        dispatcher.dispatch(EventType.API_LIFECYCLE_CHANGE.name(), 0, API_EVENT);
+
+        Assert.assertEquals(2, handledEvents.size());
+        Assert.assertEquals("API_UPDATE:PizzaShack:1.0.0", handledEvents.get(0));
+        Assert.assertEquals("API_LIFECYCLE_CHANGE:PizzaShack:1.0.0", handledEvents.get(1));
+    }
+
+    @Test
+    public void testUnhandledAndMalformedEventsAreDropped() {
+
+        NotificationEventDispatcher dispatcher = new NotificationEventDispatcher(new OrderedEventExecutor("test", 0));
+        dispatcher.register(TestAPIEvent.class, (eventType, event) -> handledEvents.add(event.name),
+                EventType.API_UPDATE);
+
+        dispatcher.dispatch(EventType.APPLICATION_CREATE.name(), 0, API_EVENT);
+        dispatcher.dispatch(EventType.API_UPDATE.name(), 0, "{\"name\":");
+        dispatcher.dispatch(EventType.API_UPDATE.name(), 0, "[]");
+        Assert.assertTrue(handledEvents.isEmpty());
+
+        dispatcher.dispatch(EventType.API_UPDATE.name(), 0, API_EVENT);
+        Assert.assertEquals(1, handledEvents.size());
+    }
+
+    @Test
+    public void testEventsOfUnavailableTenantsAreDropped() {
+
+        NotificationEventDispatcher dispatcher = new NotificationEventDispatcher(new OrderedEventExecutor("test", 0));
+        dispatcher.register(TestAPIEvent.class, (eventType, event) -> handledEvents.add(event.name),
+                EventType.API_UPDATE);
+
+        dispatcher.dispatch(EventType.API_UPDATE.name(), 0,
+                "{\"name\":\"PizzaShack\",\"tenantDomain\":\"unloaded.com\"}");
+        Assert.assertTrue(handledEvents.isEmpty());
+    }
+
+    @Test
+    public void testEventsAreQueuedByOrderingKey() {
+
+        OrderedEventExecutor executor = Mockito.mock(OrderedEventExecutor.class);
+        NotificationEventDispatcher dispatcher = new NotificationEventDispatcher(executor);
+        dispatcher.register(TestAPIEvent.class, event -> event.name, (eventType, event) ->
+                handledEvents.add(event.version), EventType.API_UPDATE);
+        dispatcher.register(TestAPIEvent.class, (eventType, event) -> handledEvents.add(event.version),
+                EventType.POLICY_UPDATE);
+
+        dispatcher.dispatch(EventType.API_UPDATE.name(), 1000, API_EVENT);
+        dispatcher.dispatch(EventType.POLICY_UPDATE.name(), 2000, API_EVENT);
+
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        Mockito.verify(executor).execute(Mockito.eq("PizzaShack"), Mockito.eq(1000L), tasks.capture());
+        Mockito.verify(executor).execute(Mockito.isNull(), Mockito.eq(2000L), tasks.capture());
+        Assert.assertTrue(handledEvents.isEmpty());
+        tasks.getAllValues().forEach(Runnable::run);
+        Assert.assertEquals(2, handledEvents.size());
+    }
+
+    @Test
+    public void testEventTypeIsResolvedFromContent() {
+
+        NotificationEventDispatcher dispatcher = new NotificationEventDispatcher(new OrderedEventExecutor("test", 0));
+        dispatcher.<Event>register(json -> json.has("version") ? TestAPIEvent.class : TestPolicyEvent.class,
+                event -> null, (eventType, event) -> handledEvents.add(event.getClass().getSimpleName()),
+                EventType.POLICY_CREATE);
+
+        dispatcher.dispatch(EventType.POLICY_CREATE.name(), 0, API_EVENT);
+        dispatcher.dispatch(EventType.POLICY_CREATE.name(), 0, "{\"policyName\":\"Gold\","
+                + "\"tenantDomain\":\"carbon.super\"}");
+
+        Assert.assertEquals(2, handledEvents.size());
+        Assert.assertEquals(TestAPIEvent.class.getSimpleName(), handledEvents.get(0));
+        Assert.assertEquals(TestPolicyEvent.class.getSimpleName(), handledEvents.get(1));
+    }
+
+    private static class TestAPIEvent extends Event {
+
+        private String name;
+        private String version;
+    }
+
+    private static class TestPolicyEvent extends Event {
+
+        private String policyName;
+    }
+}
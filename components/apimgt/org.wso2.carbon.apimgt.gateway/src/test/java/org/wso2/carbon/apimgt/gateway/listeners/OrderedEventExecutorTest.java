@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ *
+ */
+
+package org.wso2.carbon.apimgt.gateway.listeners;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.metrics.manager.Counter;
+import org.wso2.carbon.metrics.manager.MetricManager;
+import org.wso2.carbon.metrics.manager.Timer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({MetricManager.class})
+@PowerMockIgnore("javax.management.*")
+public class OrderedEventExecutorTest {
+
+    @Before
+    public void setUp() {
+
+        PowerMockito.mockStatic(MetricManager.class);
+        PowerMockito.when(MetricManager.timer(Mockito.any(), Mockito.any())).thenReturn(Mockito.mock(Timer.class));
+        PowerMockito.when(MetricManager.counter(Mockito.any(), Mockito.any()))
+                .thenReturn(Mockito.mock(Counter.class));
+    }
+
+    @Test
+    public void testEventsOfKeyAreProcessedInOrder() throws InterruptedException {
+
+        OrderedEventExecutor executor = new OrderedEventExecutor("OrderedEventExecutorTest", 4);
+        Map<String, List<Integer>> processedEvents = new HashMap<>();
+        for (int key = 0; key < 10; key++) {
+            processedEvents.put("api" + key, Collections.synchronizedList(new ArrayList<>()));
+        }
+        CountDownLatch processed = new CountDownLatch(1000);
+        for (int i = 0; i < 1000; i++) {
+            String key = "api" + (i % 10);
+            int event = i;
+            executor.execute(key, System.currentTimeMillis(), () -> {
+                processedEvents.get(key).add(event);
+                processed.countDown();
+            });
+        }
+
+        Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+        for (List<Integer> events : processedEvents.values()) {
+            Assert.assertEquals(100, events.size());
+            for (int i = 1; i < events.size(); i++) {
+                Assert.assertTrue(events.get(i - 1) < events.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFailingEventDoesNotStopKey() throws InterruptedException {
+
+        OrderedEventExecutor executor = new OrderedEventExecutor("OrderedEventExecutorTest", 2);
+        List<String> processedEvents = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch processed = new CountDownLatch(1);
+        executor.execute("api1", 0, () -> processedEvents.add("first"));
+        executor.execute("api1", 0, () -> {
+            throw new IllegalStateException("Handler failure");
+        });
+        executor.execute("api1", 0, () -> {
+            processedEvents.add("third");
+            processed.countDown();
+        });
+
+        Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(2, processedEvents.size());
+        Assert.assertEquals("first", processedEvents.get(0));
+        Assert.assertEquals("third", processedEvents.get(1));
+    }
+
+    @Test
+    public void testWorkersAreDaemonThreads() throws InterruptedException {
+
+        OrderedEventExecutor executor = new OrderedEventExecutor("OrderedEventExecutorTest", 1);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        CountDownLatch processed = new CountDownLatch(1);
+        executor.execute(null, 0, () -> {
+            worker.set(Thread.currentThread());
+            processed.countDown();
+        });
+
+        Assert.assertTrue(processed.await(10, TimeUnit.SECONDS));
+        Assert.assertNotSame(Thread.currentThread(), worker.get());
+        Assert.assertTrue(worker.get().isDaemon());
+        Assert.assertEquals("OrderedEventExecutorTest-1", worker.get().getName());
+    }
+
+    @Test
+    public void testEventsAreProcessedInReceivingThreadWithoutWorkers() {
+
+        OrderedEventExecutor executor = new OrderedEventExecutor("OrderedEventExecutorTest", 0);
+        AtomicReference<Thread> worker = new AtomicReference<>();
+        executor.execute("api1", 0, () -> worker.set(Thread.currentThread()));
+        executor.execute("api1", 0, () -> {
+            throw new IllegalStateException("Handler failure");
+        });
+
+        Assert.assertSame(Thread.currentThread(), worker.get());
+    }
+}
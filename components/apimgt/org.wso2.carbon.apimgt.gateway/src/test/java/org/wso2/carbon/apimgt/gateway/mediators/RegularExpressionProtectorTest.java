@@ -131,6 +131,39 @@ public class RegularExpressionProtectorTest {
         regularExpressionProtector.mediate(messageContext);
     }
 
+    /**
+     * This is the test case to validate that a request body larger than the maximum scan size is rejected.
+     */
+    @Test
+    public void testBodyExceedingMaxScanSize() {
+        log.info("Running the test case to validate the request body larger than the maximum scan size.");
+        SOAPFactory fac = OMAbstractFactory.getSOAP12Factory();
+        SOAPEnvelope env = fac.createSOAPEnvelope();
+        fac.createSOAPBody(env);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 2048; i++) {
+            text.append('a');
+        }
+        env.getBody().addChild(fac.createOMElement("test", text.toString(), "testBody"));
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.ENABLED_CHECK_BODY)).thenReturn
+                (String.valueOf(enabledStatus));
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.ENABLED_CHECK_HEADERS)).thenReturn
+                (String.valueOf("false"));
+        Mockito.when(messageContext.getProperty(APIMgtGatewayConstants.ENABLED_CHECK_PATHPARAM)).thenReturn
+                (String.valueOf("false"));
+        Mockito.when(((Axis2MessageContext) messageContext).getAxis2MessageContext()).thenReturn(axis2MsgContext);
+        Mockito.doReturn(env).when(axis2MsgContext).getEnvelope();
+        System.setProperty(APIMgtGatewayConstants.REGEX_THREAT_PROTECTOR_MAX_SCAN_SIZE, "1");
+        try {
+            regularExpressionProtector = new RegularExpressionProtector();
+            regularExpressionProtector.mediate(messageContext);
+        } finally {
+            System.clearProperty(APIMgtGatewayConstants.REGEX_THREAT_PROTECTOR_MAX_SCAN_SIZE);
+        }
+        Mockito.verify(messageContext).setProperty(Mockito.eq(APIMgtGatewayConstants.THREAT_DESC),
+                Mockito.contains("maximum size"));
+    }
+
     /**
      * This is the test case to check the return value of the isContentAware method.
      */
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.mediators;
+
+import com.google.re2j.Pattern;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+
+public class StreamingRegexScannerTest {
+
+    private static final Pattern PATTERN = Pattern.compile("(?i)drop\\s+table");
+
+    @Test
+    public void testCleanPayload() throws IOException {
+
+        StreamingRegexScanner scanner = new StreamingRegexScanner(PATTERN, 16, 8, Long.MAX_VALUE);
+        for (int i = 0; i < 100; i++) {
+            scanner.write("<value>" + i + "</value>");
+        }
+        scanner.close();
+        Assert.assertFalse(scanner.isMatched());
+        Assert.assertFalse(scanner.isLimitExceeded());
+    }
+
+    @Test
+    public void testMatchAcrossChunks() throws IOException {
+
+        StreamingRegexScanner scanner = new StreamingRegexScanner(PATTERN, 16, 12, Long.MAX_VALUE);
+        try {
+            scanner.write("<query>select * from users; ");
+            scanner.write("DROP TABLE users</query>".toCharArray());
+            scanner.write("<query>select 1</query>");
+            scanner.close();
+        } catch (StreamingRegexScanner.ScanCompletedException e) {
+            // the write is failed once the pattern is found
+        }
+        Assert.assertTrue(scanner.isMatched());
+    }
+
+    @Test
+    public void testMatchInLastChunk() throws IOException {
+
+        StreamingRegexScanner scanner = new StreamingRegexScanner(PATTERN, 1024, 64, Long.MAX_VALUE);
+        scanner.write("<query>drop table users</query>");
+        Assert.assertFalse(scanner.isMatched());
+        scanner.close();
+        Assert.assertTrue(scanner.isMatched());
+    }
+
+    @Test
+    public void testLimitExceeded() throws IOException {
+
+        StreamingRegexScanner scanner = new StreamingRegexScanner(PATTERN, 16, 8, 32);
+        try {
+            for (int i = 0; i < 10; i++) {
+                scanner.write("<value>" + i + "</value>");
+            }
+            Assert.fail("Scanning should stop once the limit is exceeded");
+        } catch (StreamingRegexScanner.ScanCompletedException e) {
+            Assert.assertTrue(scanner.isLimitExceeded());
+            Assert.assertFalse(scanner.isMatched());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.threatprotection.analyzer;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.threatprotection.APIMThreatAnalyzerException;
+import org.wso2.carbon.apimgt.gateway.threatprotection.configuration.XMLConfig;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import javax.xml.XMLConstants;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+
+public class XMLAnalyzerTest {
+
+    private static final String XSD = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\">"
+            + "<xs:element name=\"order\"><xs:complexType><xs:sequence>"
+            + "<xs:element name=\"item\" type=\"xs:string\" maxOccurs=\"unbounded\"/>"
+            + "<xs:element name=\"quantity\" type=\"xs:int\"/>"
+            + "</xs:sequence></xs:complexType></xs:element></xs:schema>";
+
+    private XMLAnalyzer analyzer;
+    private Schema schema;
+
+    @Before
+    public void init() throws Exception {
+
+        XMLConfig xmlConfig = new XMLConfig();
+        xmlConfig.setDtdEnabled(false);
+        xmlConfig.setExternalEntitiesEnabled(false);
+        xmlConfig.setMaxDepth(5);
+        xmlConfig.setMaxElementCount(100);
+        xmlConfig.setMaxAttributeCount(5);
+        xmlConfig.setMaxAttributeLength(100);
+        xmlConfig.setMaxChildrenPerElement(3);
+        analyzer = new XMLAnalyzer();
+        analyzer.configure(xmlConfig);
+        schema = SchemaFactory.newInstance(XMLConstants.W3C_XML_SCHEMA_NS_URI)
+                .newSchema(new StreamSource(new StringReader(XSD)));
+    }
+
+    @Test
+    public void testAnalyzeValidPayloadWithSchema() throws APIMThreatAnalyzerException {
+
+        analyzer.analyze(toStream("<order><item>book</item><quantity>2</quantity></order>"), "/orders", schema);
+    }
+
+    @Test
+    public void testAnalyzeInvalidPayloadWithSchema() {
+
+        try {
+            analyzer.analyze(toStream("<order><item>book</item><quantity>two</quantity></order>"), "/orders",
+                    schema);
+            Assert.fail("Payload not valid against the schema should not pass the analysis");
+        } catch (APIMThreatAnalyzerException e) {
+            Assert.assertTrue(e.getMessage().startsWith("Error occurred while parsing XML payload : "));
+        }
+    }
+
+    @Test
+    public void testAnalyzePayloadExceedingLimitWithSchema() {
+
+        try {
+            analyzer.analyze(toStream("<order><item>a</item><item>b</item><item>c</item><item>d</item>"
+                    + "<quantity>4</quantity></order>"), "/orders", schema);
+            Assert.fail("Payload exceeding the limits should not pass the analysis");
+        } catch (APIMThreatAnalyzerException e) {
+            Assert.assertTrue(e.getMessage().startsWith("XML Validation Failed: due to "));
+        }
+    }
+
+    private static InputStream toStream(String payload) {
+
+        return new ByteArrayInputStream(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ExpiringThrottleDecisionMapTest {
+
+    private static final long TICK = 1000;
+    private static final int WHEEL_SIZE = 8;
+
+    @Test
+    public void testLookupRemovesExpiredDecision() {
+
+        ExpiringThrottleDecisionMap map = new ExpiringThrottleDecisionMap(TICK, WHEEL_SIZE, null);
+        long now = System.currentTimeMillis();
+        map.put("key", now + 5000);
+        Assert.assertTrue(map.isThrottled("key", now));
+        Assert.assertTrue(map.isThrottled("key", now + 5000));
+        Assert.assertFalse(map.isThrottled("key", now + 5001));
+        Assert.assertNull(map.get("key"));
+        Assert.assertFalse(map.isThrottled("missing", now));
+    }
+
+    @Test
+    public void testExpiredDecisionsAreEvictedWithoutLookup() {
+
+        List<String> evictedKeys = new ArrayList<>();
+        ExpiringThrottleDecisionMap map = new ExpiringThrottleDecisionMap(TICK, WHEEL_SIZE, evictedKeys::add);
+        long now = System.currentTimeMillis();
+        map.put("soon", now + 2000);
+        map.put("later", now + 4000);
+        // expires in a later rotation of the wheel
+        map.put("next rotation", now + 2000 + TICK * WHEEL_SIZE);
+
+        Assert.assertEquals(0, map.expire(now + 1000));
+        Assert.assertEquals(1, map.expire(now + 4000));
+        Assert.assertEquals(2, map.size());
+        Assert.assertEquals(1, map.expire(now + 6000));
+        Assert.assertEquals(1, map.size());
+        Assert.assertNotNull(map.get("next rotation"));
+
+        Assert.assertEquals(1, map.expire(now + 4000 + TICK * WHEEL_SIZE));
+        Assert.assertEquals(0, map.size());
+        Assert.assertEquals(3, map.getEvictedCount());
+        Assert.assertEquals(3, evictedKeys.size());
+        Assert.assertTrue(evictedKeys.contains("soon"));
+        Assert.assertTrue(evictedKeys.contains("next rotation"));
+    }
+
+    @Test
+    public void testReplacedDecisionIsNotEvictedEarly() {
+
+        ExpiringThrottleDecisionMap map = new ExpiringThrottleDecisionMap(TICK, WHEEL_SIZE, null);
+        long now = System.currentTimeMillis();
+        map.put("key", now + 2000);
+        map.put("key", now + 6000);
+        Assert.assertEquals(0, map.expire(now + 4000));
+        Assert.assertEquals(Long.valueOf(now + 6000), map.get("key"));
+        Assert.assertEquals(1, map.expire(now + 8000));
+        Assert.assertNull(map.get("key"));
+    }
+
+    @Test
+    public void testRemovedAndPastDecisions() {
+
+        ExpiringThrottleDecisionMap map = new ExpiringThrottleDecisionMap(TICK, WHEEL_SIZE, null);
+        long now = System.currentTimeMillis();
+        map.put("removed", now + 2000);
+        map.remove("removed");
+        map.put("past", now - 60000);
+        Assert.assertEquals(1, map.expire(now + 3000));
+        Assert.assertEquals(0, map.size());
+        Assert.assertEquals(1, map.getEvictedCount());
+    }
+
+    @Test
+    public void testLongPauseVisitsEachSlotOnce() {
+
+        ExpiringThrottleDecisionMap map = new ExpiringThrottleDecisionMap(TICK, WHEEL_SIZE, null);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            map.put("key" + i, now + i * 100L);
+        }
+        Assert.assertEquals(100, map.expire(now + TICK * WHEEL_SIZE * 10));
+        Assert.assertEquals(0, map.size());
+    }
+}
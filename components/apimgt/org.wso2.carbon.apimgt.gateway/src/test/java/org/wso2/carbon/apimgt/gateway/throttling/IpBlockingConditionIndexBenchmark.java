@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares checking an IP against the IP blocking conditions one by one with checking it against the index, for 10,
+ * 1000 and 100000 range conditions.
+ */
+public class IpBlockingConditionIndexBenchmark {
+
+    private static final int LOOKUPS = 20000;
+
+    public static void main(String[] args) {
+
+        for (int rangeCount : new int[]{10, 1000, 100000}) {
+            Random random = new Random(rangeCount);
+            List<IPRange> conditions = new ArrayList<>(rangeCount);
+            for (int i = 0; i < rangeCount; i++) {
+                long start = random.nextInt() & 0xFFFFFFFFL;
+                conditions.add(IpBlockingConditionIndexTest.range(i, toIp(start),
+                        toIp(Math.min(start + random.nextInt(256), 0xFFFFFFFFL)), false));
+            }
+            String[] ips = new String[LOOKUPS];
+            for (int i = 0; i < LOOKUPS; i++) {
+                ips[i] = toIp(random.nextInt() & 0xFFFFFFFFL);
+            }
+
+            long buildStart = System.nanoTime();
+            IpBlockingConditionIndex index = new IpBlockingConditionIndex(conditions);
+            long buildTime = System.nanoTime() - buildStart;
+
+            // the linear evaluation is slow with many conditions, so it checks fewer IPs
+            int linearLookups = Math.max(10, LOOKUPS / Math.max(1, rangeCount / 100));
+            int blocked = 0;
+            long linearStart = System.nanoTime();
+            for (int i = 0; i < linearLookups; i++) {
+                blocked += IpBlockingConditionIndexTest.isBlockedLinearly(conditions, ips[i]) ? 1 : 0;
+            }
+            double linearTime = (System.nanoTime() - linearStart) / 1000.0 / linearLookups;
+
+            long indexStart = System.nanoTime();
+            for (String ip : ips) {
+                blocked += index.isBlocked(ip) ? 1 : 0;
+            }
+            double indexTime = (System.nanoTime() - indexStart) / 1000.0 / LOOKUPS;
+
+            System.out.printf("%7d ranges: linear %10.2f us/lookup, index %8.2f us/lookup, index built in %8.2f ms"
+                    + " (%d blocked)%n", rangeCount, linearTime, indexTime, buildTime / 1000000.0, blocked);
+        }
+    }
+
+    private static String toIp(long value) {
+
+        return ((value >> 24) & 0xFF) + "." + ((value >> 16) & 0xFF) + "." + ((value >> 8) & 0xFF) + "."
+                + (value & 0xFF);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.gateway.dto.IPRange;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class IpBlockingConditionIndexTest {
+
+    @Test
+    public void testFixedIpConditions() {
+
+        IpBlockingConditionIndex index = new IpBlockingConditionIndex(
+                Collections.singletonList(fixedIp(1, "10.0.0.1", false)));
+        Assert.assertTrue(index.isBlocked("10.0.0.1"));
+        Assert.assertFalse(index.isBlocked("10.0.0.2"));
+
+        index = new IpBlockingConditionIndex(Collections.singletonList(fixedIp(1, "10.0.0.1", true)));
+        Assert.assertFalse(index.isBlocked("10.0.0.1"));
+        Assert.assertTrue(index.isBlocked("10.0.0.2"));
+    }
+
+    @Test
+    public void testRangeConditionsExcludeTheirBounds() {
+
+        IpBlockingConditionIndex index = new IpBlockingConditionIndex(Arrays.asList(
+                range(1, "10.0.0.10", "10.0.0.20", false), range(2, "10.0.0.15", "10.0.0.30", false)));
+        Assert.assertFalse(index.isBlocked("10.0.0.10"));
+        Assert.assertTrue(index.isBlocked("10.0.0.11"));
+        Assert.assertTrue(index.isBlocked("10.0.0.25"));
+        Assert.assertFalse(index.isBlocked("10.0.0.30"));
+
+        index = new IpBlockingConditionIndex(Collections.singletonList(range(1, "10.0.0.10", "10.0.0.20", true)));
+        Assert.assertTrue(index.isBlocked("10.0.0.10"));
+        Assert.assertFalse(index.isBlocked("10.0.0.11"));
+        Assert.assertTrue(index.isBlocked("192.168.1.1"));
+    }
+
+    @Test
+    public void testIpv6RangeCondition() {
+
+        IpBlockingConditionIndex index = new IpBlockingConditionIndex(
+                Collections.singletonList(range(1, "2001:db8::", "2001:db8::ffff", false)));
+        Assert.assertTrue(index.isBlocked("2001:db8::1"));
+        Assert.assertFalse(index.isBlocked("2001:db9::1"));
+    }
+
+    @Test
+    public void testConditionsAreAddedAndRemovedById() {
+
+        IpBlockingConditionIndex index = IpBlockingConditionIndex.EMPTY
+                .with(fixedIp(1, "10.0.0.1", false))
+                .with(range(2, "10.0.1.0", "10.0.2.0", false));
+        Assert.assertTrue(index.isBlocked("10.0.0.1"));
+        Assert.assertTrue(index.isBlocked("10.0.1.1"));
+
+        index = index.without(2);
+        Assert.assertFalse(index.isBlocked("10.0.1.1"));
+        Assert.assertSame(index, index.without(3));
+        Assert.assertTrue(index.without(1).isEmpty());
+        Assert.assertTrue(IpBlockingConditionIndex.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void testIndexMatchesLinearEvaluation() {
+
+        Random random = new Random(42);
+        for (int round = 0; round < 50; round++) {
+            List<IPRange> conditions = new ArrayList<>();
+            int conditionCount = 1 + random.nextInt(20);
+            for (int i = 0; i < conditionCount; i++) {
+                boolean invert = random.nextInt(5) == 0;
+                if (random.nextBoolean()) {
+                    conditions.add(fixedIp(i, randomIp(random), invert));
+                } else {
+                    String start = randomIp(random);
+                    String end = randomIp(random);
+                    conditions.add(range(i, start, end, invert));
+                }
+            }
+            IpBlockingConditionIndex index = new IpBlockingConditionIndex(conditions);
+            for (int i = 0; i < 200; i++) {
+                String ip = randomIp(random);
+                Assert.assertEquals("IP " + ip + " with conditions of round " + round,
+                        isBlockedLinearly(conditions, ip), index.isBlocked(ip));
+            }
+            for (IPRange condition : conditions) {
+                if (condition.getFixedIp() != null) {
+                    Assert.assertEquals(isBlockedLinearly(conditions, condition.getFixedIp()),
+                            index.isBlocked(condition.getFixedIp()));
+                }
+            }
+        }
+    }
+
+    private static String randomIp(Random random) {
+
+        // a small address space, so that the IPs often hit the ranges and their bounds
+        return "10.0." + random.nextInt(4) + "." + random.nextInt(256);
+    }
+
+    /**
+     * Evaluates the conditions one by one, as the gateway did before they were indexed.
+     */
+    static boolean isBlockedLinearly(List<IPRange> ipRanges, String ip) {
+
+        for (IPRange ipRange : ipRanges) {
+            if (APIConstants.BLOCKING_CONDITIONS_IP.equals(ipRange.getType())) {
+                if (ip.equals(ipRange.getFixedIp()) != ipRange.isInvert()) {
+                    return true;
+                }
+            } else if (APIConstants.BLOCK_CONDITION_IP_RANGE.equals(ipRange.getType())) {
+                BigInteger ipBigIntegerValue = APIUtil.ipToBigInteger(ip);
+                boolean inRange = ipBigIntegerValue.compareTo(ipRange.getStartingIpBigIntValue()) > 0
+                        && ipBigIntegerValue.compareTo(ipRange.getEndingIpBigIntValue()) < 0;
+                if (inRange != ipRange.isInvert()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    static IPRange fixedIp(int id, String ip, boolean invert) {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCKING_CONDITIONS_IP);
+        ipRange.setFixedIp(ip);
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+
+    static IPRange range(int id, String startingIp, String endingIp, boolean invert) {
+
+        IPRange ipRange = new IPRange();
+        ipRange.setId(id);
+        ipRange.setType(APIConstants.BLOCK_CONDITION_IP_RANGE);
+        ipRange.setStartingIP(startingIp);
+        ipRange.setStartingIpBigIntValue(APIUtil.ipToBigInteger(startingIp));
+        ipRange.setEndingIp(endingIp);
+        ipRange.setEndingIpBigIntValue(APIUtil.ipToBigInteger(endingIp));
+        ipRange.setInvert(invert);
+        return ipRange;
+    }
+}
@@ -18,8 +18,11 @@
 
 package org.wso2.carbon.apimgt.gateway.throttling;
 
+import org.junit.Assert;
 import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.dto.ConditionDto;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -140,4 +143,17 @@ public class ThrottleDataHolderTest {
     public void setKeyTemplatesPresent() throws Exception {
     }
 
+    @Test
+    public void compileThrottledApiConditions() throws Exception {
+        ThrottleDataHolder throttleDataHolder = ThrottleDataHolder.getInstance();
+        throttleDataHolder.addThrottledApiConditions("/api2/1.0.0", "default", Collections.emptyList());
+        Assert.assertEquals(1, throttleDataHolder.getCompiledConditions("/api2/1.0.0").size());
+        throttleDataHolder.addThrottledApiConditions("/api2/1.0.0", "condition1",
+                Collections.singletonList(new ConditionDto()));
+        Assert.assertEquals(2, throttleDataHolder.getCompiledConditions("/api2/1.0.0").size());
+        throttleDataHolder.removeThrottledApiConditions("/api2/1.0.0", "condition1");
+        throttleDataHolder.removeThrottledApiConditions("/api2/1.0.0", "default");
+        Assert.assertNull(throttleDataHolder.getCompiledConditions("/api2/1.0.0"));
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.throttling.publisher;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.wso2.carbon.apimgt.impl.dto.ThrottleProperties;
+import org.wso2.carbon.databridge.agent.DataPublisher;
+import org.wso2.carbon.databridge.commons.Event;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ThrottleEventRingBufferTest {
+
+    @Test
+    public void testPublishAllOfferedEvents() throws Exception {
+        DataPublisher dataPublisher = Mockito.mock(DataPublisher.class);
+        ThrottleEventRingBuffer ringBuffer = new RingBufferWrapper(dataPublisher, getConfiguration(64, 10));
+        try {
+            int producers = 4;
+            final int eventsPerProducer = 500;
+            Thread[] threads = new Thread[producers];
+            for (int i = 0; i < producers; i++) {
+                threads[i] = new Thread(() -> {
+                    for (int j = 0; j < eventsPerProducer; j++) {
+                        while (!offer(ringBuffer)) {
+                            Thread.yield();
+                        }
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            long expected = producers * eventsPerProducer;
+            waitFor(() -> ringBuffer.getPublishedCount() == expected);
+            Assert.assertEquals(expected, ringBuffer.getEnqueuedCount());
+            Assert.assertEquals(expected, ringBuffer.getPublishedCount());
+            Mockito.verify(dataPublisher, Mockito.times((int) expected)).tryPublish(Mockito.any(Event.class));
+        } finally {
+            ringBuffer.shutdown();
+        }
+    }
+
+    @Test
+    public void testDropWhenBufferIsFull() throws Exception {
+        DataPublisher dataPublisher = Mockito.mock(DataPublisher.class);
+        CountDownLatch publishLatch = new CountDownLatch(1);
+        Mockito.doAnswer(invocation -> {
+            return publishLatch.await(10, TimeUnit.SECONDS);
+        }).when(dataPublisher).tryPublish(Mockito.any(Event.class));
+        ThrottleEventRingBuffer ringBuffer = new RingBufferWrapper(dataPublisher, getConfiguration(4, 1));
+        try {
+            Assert.assertTrue(offer(ringBuffer));
+            // wait until the drain thread takes the first event and blocks on publishing it
+            waitFor(() -> ringBuffer.getPendingCount() == 0);
+            for (int i = 0; i < ringBuffer.getCapacity(); i++) {
+                Assert.assertTrue(offer(ringBuffer));
+            }
+            Assert.assertFalse(offer(ringBuffer));
+            Assert.assertEquals(1, ringBuffer.getDroppedCount());
+            publishLatch.countDown();
+            waitFor(() -> ringBuffer.getPublishedCount() == 5);
+            Assert.assertEquals(5, ringBuffer.getEnqueuedCount());
+        } finally {
+            publishLatch.countDown();
+            ringBuffer.shutdown();
+        }
+    }
+
+    @Test
+    public void testNextPowerOfTwo() {
+        Assert.assertEquals(1, ThrottleEventRingBuffer.nextPowerOfTwo(0));
+        Assert.assertEquals(8, ThrottleEventRingBuffer.nextPowerOfTwo(8));
+        Assert.assertEquals(16, ThrottleEventRingBuffer.nextPowerOfTwo(9));
+    }
+
+    private static boolean offer(ThrottleEventRingBuffer ringBuffer) {
+        return ringBuffer.offer("appKey", "appTier", "apiKey", "apiTier", "subKey", "subTier", "resourceKey",
+                "resourceTier", "admin", "/test/1.0.0", "1.0.0", "carbon.super", "carbon.super", "1", null, null);
+    }
+
+    private static ThrottleProperties.DataPublisherBuffer getConfiguration(int bufferSize, int batchSize) {
+        ThrottleProperties.DataPublisherBuffer configuration = new ThrottleProperties.DataPublisherBuffer();
+        configuration.setEnabled(true);
+        configuration.setBufferSize(bufferSize);
+        configuration.setBatchSize(batchSize);
+        configuration.setLingerTime(1);
+        return configuration;
+    }
+
+    private static void waitFor(Condition condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (!condition.isSatisfied() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+    }
+
+    private interface Condition {
+        boolean isSatisfied();
+    }
+
+    private static class RingBufferWrapper extends ThrottleEventRingBuffer {
+
+        RingBufferWrapper(DataPublisher dataPublisher, ThrottleProperties.DataPublisherBuffer configuration) {
+            super(dataPublisher, configuration);
+        }
+
+        @Override
+        protected DataProcessAndPublishingAgent createAgent() {
+            DataProcessAndPublishingAgent agent = Mockito.mock(DataProcessAndPublishingAgent.class);
+            Mockito.when(agent.createEvent()).thenReturn(Mockito.mock(Event.class));
+            return agent;
+        }
+    }
+}
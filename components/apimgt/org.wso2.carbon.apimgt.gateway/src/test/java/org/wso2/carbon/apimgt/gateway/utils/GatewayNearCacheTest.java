@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.gateway.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class GatewayNearCacheTest {
+
+    private static final long ONE_HOUR = 3600000L;
+
+    @Test
+    public void testGetAndRemove() {
+
+        GatewayNearCache<String> nearCache = new GatewayNearCache<>("test", 10, ONE_HOUR);
+        long expiryTime = System.currentTimeMillis() + ONE_HOUR;
+        Assert.assertNull(nearCache.get("token1", "carbon.super"));
+        nearCache.put("token1", "carbon.super", "info1", expiryTime);
+        Assert.assertEquals("info1", nearCache.get("token1", "carbon.super"));
+        // an entry is not found in another tenant domain
+        Assert.assertNull(nearCache.get("token1", "abc.com"));
+        nearCache.remove("token1");
+        Assert.assertNull(nearCache.get("token1", "carbon.super"));
+        Assert.assertEquals(1, nearCache.getHitCount());
+        Assert.assertEquals(3, nearCache.getMissCount());
+        Assert.assertEquals(0.25, nearCache.getHitRatio(), 0.0001);
+    }
+
+    @Test
+    public void testExpiry() throws InterruptedException {
+
+        GatewayNearCache<String> nearCache = new GatewayNearCache<>("test", 10, ONE_HOUR);
+        long now = System.currentTimeMillis();
+        nearCache.put("expired", "carbon.super", "info", now - 1);
+        Assert.assertNull(nearCache.get("expired", "carbon.super"));
+        // an entry expires with its value, before the expiry time of the cache
+        nearCache.put("expiring", "carbon.super", "info", now + 50);
+        Assert.assertEquals("info", nearCache.get("expiring", "carbon.super"));
+        Thread.sleep(100);
+        Assert.assertNull(nearCache.get("expiring", "carbon.super"));
+        Assert.assertEquals(0, nearCache.size());
+    }
+
+    @Test
+    public void testAdmission() {
+
+        GatewayNearCache<String> nearCache = new GatewayNearCache<>("test", 2, ONE_HOUR);
+        long expiryTime = System.currentTimeMillis() + ONE_HOUR;
+        for (String token : new String[]{"token1", "token2"}) {
+            for (int i = 0; i < 3; i++) {
+                nearCache.get(token, "carbon.super");
+            }
+            nearCache.put(token, "carbon.super", token, expiryTime);
+        }
+        // a token requested less often than the cached ones is not admitted
+        nearCache.put("token3", "carbon.super", "token3", expiryTime);
+        Assert.assertEquals(2, nearCache.size());
+        Assert.assertEquals("token1", nearCache.get("token1", "carbon.super"));
+        Assert.assertEquals("token2", nearCache.get("token2", "carbon.super"));
+        Assert.assertNull(nearCache.get("token3", "carbon.super"));
+
+        // a token requested more often than the cached ones evicts one of them
+        for (int i = 0; i < 10; i++) {
+            nearCache.get("token3", "carbon.super");
+        }
+        nearCache.put("token3", "carbon.super", "token3", expiryTime);
+        Assert.assertEquals(2, nearCache.size());
+        Assert.assertEquals("token3", nearCache.get("token3", "carbon.super"));
+        Assert.assertEquals(1, nearCache.getEvictionCount());
+    }
+}
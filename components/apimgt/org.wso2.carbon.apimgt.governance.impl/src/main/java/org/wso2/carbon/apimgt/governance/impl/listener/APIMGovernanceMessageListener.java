@@ -22,16 +22,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.governance.api.error.APIMGovernanceException;
 import org.wso2.carbon.apimgt.governance.impl.ComplianceManager;
 import org.wso2.carbon.apimgt.governance.impl.PolicyManager;
 import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.notifier.NotificationEventBatch;
 import org.wso2.carbon.apimgt.impl.notifier.events.LabelEvent;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Set;
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -75,8 +74,11 @@ public class APIMGovernanceMessageListener implements MessageListener {
                             if (log.isDebugEnabled()) {
                                 log.debug("Event received from the topic of " + jmsDestination.getTopicName());
                             }
-                            handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                            NotificationEventBatch.forEachEvent(payloadData.get(APIConstants.EVENT_TYPE).asText(),
+                                    payloadData.path(APIConstants.EVENT_TIMESTAMP).asLong(),
+                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText(),
+                                    (eventType, timestamp, eventJson) -> handleNotificationMessage(eventType,
+                                            eventJson));
                         }
                     }
                 } else {
@@ -87,21 +89,16 @@ public class APIMGovernanceMessageListener implements MessageListener {
             }
         } catch (JMSException | JsonProcessingException e) {
             log.error("JMSException occurred when processing the received message ", e);
-        } catch (InterruptedException e) {
-            log.error("Error occurred while waiting to retrieve artifacts from event hub", e);
         }
     }
 
     /**
      * This method will handle the notification message received from the JMS Event Receiver
      *
-     * @param eventType    Type of the event
-     * @param eventEncoded Encoded event data
-     * @throws InterruptedException If an error occurs while waiting to retrieve artifacts from event hub
+     * @param eventType Type of the event
+     * @param eventJson JSON of the event
      */
-    private void handleNotificationMessage(String eventType, String eventEncoded) throws InterruptedException {
-        byte[] eventDecoded = Base64.decodeBase64(eventEncoded);
-        String eventJson = new String(eventDecoded, StandardCharsets.UTF_8);
+    private void handleNotificationMessage(String eventType, String eventJson) {
 
         if (APIConstants.EventType.LABEL_DELETE.toString().equals(eventType)) {
             LabelEvent event = new Gson().fromJson(eventJson, LabelEvent.class);
@@ -1480,6 +1480,7 @@ public final class APIConstants {
         public static final String APIS = "/apis";
         public static final String APPLICATIONS = "/applications";
         public static final String SUBSCRIPTIONS = "/subscriptions";
+        public static final String SUBSCRIPTION_CHANGES = "/subscription-changes";
         public static final String SUBSCRIBERS = "/subscribers";
         public static final String SUBSCRIBE_INTERNAL = "/subscribe-internal";
         public static final String APPLICATION_KEY_MAPPINGS = "/application-key-mappings";
@@ -1611,6 +1612,7 @@ public final class APIConstants {
     public static final String OPERATION_SECURITY_DISABLED = "Disabled";
     public static final String GRAPHQL_PAYLOAD = "GRAPHQL_PAYLOAD";
     public static final String GRAPHQL_SCHEMA = "GRAPHQL_SCHEMA";
+    public static final String GRAPHQL_PARSED_QUERY = "GRAPHQL_PARSED_QUERY";
     public static final String GRAPHQL_ACCESS_CONTROL_POLICY = "WSO2GraphQLAccessControlPolicy";
     public static final String QUERY_ANALYSIS_COMPLEXITY = "complexity";
     public static final String GRAPHQL_ADDITIONAL_TYPE_PREFIX = "WSO2";
@@ -1747,6 +1749,8 @@ public final class APIConstants {
     public static final String CONFIG_REDIS_MIN_GATEWAY_COUNT = "MinGatewayCount";
 
     public static final String CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT = "KeyLockRetrievalTimeout";
+    public static final String CONFIG_REDIS_SCRIPTED_COUNTER_OPERATIONS = "ScriptedCounterOperations";
+    public static final String CONFIG_REDIS_COUNTER_BATCH_WINDOW = "CounterBatchWindow";
     public static final String HYBRID_THROTTLE_PROCESSOR_TYPE_START_TIME_BASED = "start_time_based";
 
     // Distributed Throttle Configuration constants
@@ -2385,6 +2389,12 @@ public final class APIConstants {
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_CORE_POOL_SIZE = "CorePoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_MAXMIMUM_POOL_SIZE = "MaxmimumPoolSize";
         public static final String DATA_PUBLISHER_THREAD_POOL_CONFIGURATION_KEEP_ALIVE_TIME = "KeepAliveTime";
+        public static final String DATA_PUBLISHER_BUFFER_CONFIGURATION = "DataPublisherBuffer";
+        public static final String DATA_PUBLISHER_BUFFER_CONFIGURATION_BUFFER_SIZE = "BufferSize";
+        public static final String DATA_PUBLISHER_BUFFER_CONFIGURATION_BATCH_SIZE = "BatchSize";
+        public static final String DATA_PUBLISHER_BUFFER_CONFIGURATION_LINGER_TIME = "LingerTime";
+        public static final String DATA_PUBLISHER_BUFFER_CONFIGURATION_DROP_POLICY = "DropPolicy";
+        public static final String DATA_PUBLISHER_BUFFER_CONFIGURATION_MAX_BLOCK_TIME = "MaxBlockTime";
         public static final String BLOCK_CONDITION_RETRIEVER_INIT_DELAY = "InitDelay";
         public static final String BLOCK_CONDITION_RETRIEVER_PERIOD = "Period";
         public static final String ENABLE_SUBSCRIPTION_SPIKE_ARREST = "EnableSubscriptionSpikeArrest";
@@ -3049,6 +3059,13 @@ public final class APIConstants {
         public static final String CERTIFICATE_TYPE_JWKS_ENDPOINT = "JWKS";
         public static final String CERTIFICATE_TYPE_PEM_FILE = "PEM";
         public static final String EVENT_PUBLISHER_CONFIGURATIONS = "EventPublisherConfiguration";
+        public static final String SUBSCRIPTION_DELTA_SYNC = "SubscriptionDeltaSync";
+        public static final String SUBSCRIPTION_DELTA_SYNC_MAX_CHANGES = "MaxChanges";
+        public static final String SUBSCRIPTION_DELTA_SYNC_CHANGE_LOG_RETENTION = "ChangeLogRetention";
+        public static final String EVENT_PROCESSING_THREADS = "EventProcessingThreads";
+        public static final String NOTIFICATION_BATCHING = "NotificationBatching";
+        public static final String NOTIFICATION_BATCHING_WINDOW = "Window";
+        public static final String NOTIFICATION_BATCHING_MAX_EVENTS = "MaxEvents";
         public static final String KEY_MANAGER_TYPE_HEADER = "X-WSO2-KEY-MANAGER";
         public static final String ACCESS_TOKEN = "accessToken";
         public static final String AUTH_CODE = "authCode";
@@ -3189,7 +3206,8 @@ public final class APIConstants {
         TENANT_UPDATE,
         TENANT_DELETE,
         TENANT_ACTIVATION,
-        TENANT_DEACTIVATION
+        TENANT_DEACTIVATION,
+        NOTIFICATION_BATCH
     }
 
     public enum EventAction {
@@ -3226,6 +3244,15 @@ public final class APIConstants {
         public static final String LABELS = "labels";
         public static final String FILE_BASED_API_CONTEXTS = "FileBasedApiContexts";
         public static final String FILE_BASED_API_CONTEXT = "FileBasedApiContext";
+        public static final String DEPLOYMENT_CONCURRENCY = "DeploymentConcurrency";
+        public static final String PRIORITY_API_CONTEXTS = "PriorityApiContexts";
+        public static final String PRIORITY_API_CONTEXT = "PriorityApiContext";
+        public static final String ARTIFACT_CACHE = "ArtifactCache";
+        public static final String ARTIFACT_CACHE_ENABLE = "Enable";
+        public static final String ARTIFACT_CACHE_DIRECTORY = "Directory";
+        public static final String RETRIEVE_API_ARTIFACTS = "/retrieve-api-artifacts";
+        public static final String SYNAPSE_TYPE = "Synapse";
+        public static final String SYNAPSE_DIGEST_TYPE = "SynapseDigest";
         public static final String EnableOnDemandLoadingAPIS = "EnableOnDemandLoadingAPIS";
         public static final String TENANT_LOADING = "TenantLoading";
         public static final String ENABLE_TENANT_LOADING = "Enable";
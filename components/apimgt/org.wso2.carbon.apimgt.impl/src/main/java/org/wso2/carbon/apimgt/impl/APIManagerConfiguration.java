@@ -474,6 +474,10 @@ public class APIManagerConfiguration {
                         new QName(APIConstants.CONFIG_REDIS_MIN_GATEWAY_COUNT));
                 OMElement keyLockRetrievalTimeout = element.getFirstChildWithName(
                         new QName(APIConstants.CONFIG_REDIS_KEY_LOCK_RETRIEVAL_TIMEOUT));
+                OMElement scriptedCounterOperations = element.getFirstChildWithName(
+                        new QName(APIConstants.CONFIG_REDIS_SCRIPTED_COUNTER_OPERATIONS));
+                OMElement counterBatchWindow = element.getFirstChildWithName(
+                        new QName(APIConstants.CONFIG_REDIS_COUNTER_BATCH_WINDOW));
                 redisConfig.setRedisEnabled(true);
                 redisConfig.setHost(redisHost.getText());
                 redisConfig.setPort(Integer.parseInt(redisPort.getText()));
@@ -489,6 +493,13 @@ public class APIManagerConfiguration {
                 if (keyLockRetrievalTimeout != null) {
                     redisConfig.setKeyLockRetrievalTimeout(Integer.parseInt(keyLockRetrievalTimeout.getText()));
                 }
+                if (scriptedCounterOperations != null) {
+                    redisConfig.setScriptedCounterOperationsEnabled(
+                            Boolean.parseBoolean(scriptedCounterOperations.getText()));
+                }
+                if (counterBatchWindow != null) {
+                    redisConfig.setCounterBatchWindow(Long.parseLong(counterBatchWindow.getText()));
+                }
                 if (redisUser != null) {
                     redisConfig.setUser(redisUser.getText());
                 }
@@ -1749,6 +1760,53 @@ public class APIManagerConfiguration {
                         }
                     }
                     throttleProperties.setDataPublisherThreadPool(dataPublisherThreadPool);
+
+                    // Data publisher ring buffer configuration
+
+                    OMElement dataPublisherBufferConfigurationElement = dataPublisherConfigurationElement
+                            .getFirstChildWithName(new QName(
+                                    APIConstants.AdvancedThrottleConstants.DATA_PUBLISHER_BUFFER_CONFIGURATION));
+                    ThrottleProperties.DataPublisherBuffer dataPublisherBuffer =
+                            new ThrottleProperties.DataPublisherBuffer();
+                    if (dataPublisherBufferConfigurationElement != null) {
+                        OMElement bufferEnabledElement = dataPublisherBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants.ENABLED));
+                        if (bufferEnabledElement != null) {
+                            dataPublisherBuffer.setEnabled(JavaUtils.isTrueExplicitly(bufferEnabledElement
+                                    .getText()));
+                        }
+                        OMElement bufferSizeElement = dataPublisherBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BUFFER_CONFIGURATION_BUFFER_SIZE));
+                        if (bufferSizeElement != null) {
+                            dataPublisherBuffer.setBufferSize(Integer.parseInt(bufferSizeElement.getText()));
+                        }
+                        OMElement batchSizeElement = dataPublisherBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BUFFER_CONFIGURATION_BATCH_SIZE));
+                        if (batchSizeElement != null) {
+                            dataPublisherBuffer.setBatchSize(Integer.parseInt(batchSizeElement.getText()));
+                        }
+                        OMElement lingerTimeElement = dataPublisherBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BUFFER_CONFIGURATION_LINGER_TIME));
+                        if (lingerTimeElement != null) {
+                            dataPublisherBuffer.setLingerTime(Long.parseLong(lingerTimeElement.getText()));
+                        }
+                        OMElement dropPolicyElement = dataPublisherBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BUFFER_CONFIGURATION_DROP_POLICY));
+                        if (dropPolicyElement != null && StringUtils.isNotEmpty(dropPolicyElement.getText())) {
+                            dataPublisherBuffer.setDropPolicy(dropPolicyElement.getText().trim());
+                        }
+                        OMElement maxBlockTimeElement = dataPublisherBufferConfigurationElement
+                                .getFirstChildWithName(new QName(APIConstants.AdvancedThrottleConstants
+                                        .DATA_PUBLISHER_BUFFER_CONFIGURATION_MAX_BLOCK_TIME));
+                        if (maxBlockTimeElement != null) {
+                            dataPublisherBuffer.setMaxBlockTime(Long.parseLong(maxBlockTimeElement.getText()));
+                        }
+                    }
+                    throttleProperties.setDataPublisherBuffer(dataPublisherBuffer);
                 }
 
                 // Configuring JMSConnectionDetails
@@ -2508,6 +2566,53 @@ public class APIManagerConfiguration {
     private void setEventHubConfiguration(OMElement omElement) {
 
         EventHubConfigurationDto eventHubConfigurationDto = new EventHubConfigurationDto();
+        // The change log is written and the notifications are published by the control plane, which does not enable
+        // the event hub, so the delta sync and batching configurations are read regardless of the Enable flag.
+        OMElement deltaSyncElement =
+                omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.SUBSCRIPTION_DELTA_SYNC));
+        if (deltaSyncElement != null) {
+            EventHubConfigurationDto.SubscriptionDeltaSync subscriptionDeltaSync =
+                    new EventHubConfigurationDto.SubscriptionDeltaSync();
+            OMElement deltaSyncEnableElement =
+                    deltaSyncElement.getFirstChildWithName(new QName(APIConstants.KeyManager.ENABLE));
+            if (deltaSyncEnableElement != null) {
+                subscriptionDeltaSync.setEnabled(Boolean.parseBoolean(deltaSyncEnableElement.getText().trim()));
+            }
+            OMElement maxChangesElement = deltaSyncElement.getFirstChildWithName(
+                    new QName(APIConstants.KeyManager.SUBSCRIPTION_DELTA_SYNC_MAX_CHANGES));
+            if (maxChangesElement != null) {
+                subscriptionDeltaSync.setMaxChanges(Integer.parseInt(maxChangesElement.getText().trim()));
+            }
+            OMElement changeLogRetentionElement = deltaSyncElement.getFirstChildWithName(
+                    new QName(APIConstants.KeyManager.SUBSCRIPTION_DELTA_SYNC_CHANGE_LOG_RETENTION));
+            if (changeLogRetentionElement != null) {
+                subscriptionDeltaSync.setChangeLogRetention(
+                        Integer.parseInt(changeLogRetentionElement.getText().trim()));
+            }
+            eventHubConfigurationDto.setSubscriptionDeltaSync(subscriptionDeltaSync);
+        }
+        OMElement batchingElement =
+                omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.NOTIFICATION_BATCHING));
+        if (batchingElement != null) {
+            EventHubConfigurationDto.NotificationBatching notificationBatching =
+                    new EventHubConfigurationDto.NotificationBatching();
+            OMElement batchingEnableElement =
+                    batchingElement.getFirstChildWithName(new QName(APIConstants.KeyManager.ENABLE));
+            if (batchingEnableElement != null) {
+                notificationBatching.setEnabled(Boolean.parseBoolean(batchingEnableElement.getText().trim()));
+            }
+            OMElement windowElement = batchingElement.getFirstChildWithName(
+                    new QName(APIConstants.KeyManager.NOTIFICATION_BATCHING_WINDOW));
+            if (windowElement != null) {
+                notificationBatching.setWindow(Long.parseLong(windowElement.getText().trim()));
+            }
+            OMElement maxEventsElement = batchingElement.getFirstChildWithName(
+                    new QName(APIConstants.KeyManager.NOTIFICATION_BATCHING_MAX_EVENTS));
+            if (maxEventsElement != null) {
+                notificationBatching.setMaxEvents(Integer.parseInt(maxEventsElement.getText().trim()));
+            }
+            eventHubConfigurationDto.setNotificationBatching(notificationBatching);
+        }
         OMElement enableElement = omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.ENABLE));
         if (enableElement != null && Boolean.parseBoolean(enableElement.getText())) {
             eventHubConfigurationDto.setEnabled(true);
@@ -2542,6 +2647,12 @@ public class APIManagerConfiguration {
                     log.debug("Event hub event waiting time not set.");
                 }
             }
+            OMElement eventProcessingThreadsElement = omElement
+                    .getFirstChildWithName(new QName(APIConstants.KeyManager.EVENT_PROCESSING_THREADS));
+            if (eventProcessingThreadsElement != null) {
+                eventHubConfigurationDto.setEventProcessingThreads(
+                        Integer.parseInt(eventProcessingThreadsElement.getText().trim()));
+            }
 
             OMElement configurationRetrieverElement =
                     omElement.getFirstChildWithName(new QName(APIConstants.KeyManager.EVENT_RECEIVER_CONFIGURATION));
@@ -2741,6 +2852,47 @@ public class APIManagerConfiguration {
             }
         }
 
+        OMElement deploymentConcurrencyElement = omElement
+                .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.DEPLOYMENT_CONCURRENCY));
+        if (deploymentConcurrencyElement != null && StringUtils.isNotEmpty(deploymentConcurrencyElement.getText())) {
+            gatewayArtifactSynchronizerProperties.setDeploymentConcurrency(
+                    Integer.parseInt(deploymentConcurrencyElement.getText().trim()));
+        } else {
+            log.debug("Deployment Concurrency Element is not set. Set to default concurrency");
+        }
+
+        OMElement priorityApiContextsElement = omElement
+                .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.PRIORITY_API_CONTEXTS));
+        if (priorityApiContextsElement != null) {
+            Iterator contextsIterator = priorityApiContextsElement
+                    .getChildrenWithLocalName(APIConstants.GatewayArtifactSynchronizer.PRIORITY_API_CONTEXT);
+            while (contextsIterator.hasNext()) {
+                OMElement contextElement = (OMElement) contextsIterator.next();
+                if (contextElement != null && StringUtils.isNotEmpty(contextElement.getText())) {
+                    gatewayArtifactSynchronizerProperties.getPriorityApiContexts().add(
+                            contextElement.getText().trim());
+                }
+            }
+        }
+
+        OMElement artifactCacheElement = omElement
+                .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.ARTIFACT_CACHE));
+        if (artifactCacheElement != null) {
+            OMElement enableArtifactCacheElement = artifactCacheElement
+                    .getFirstChildWithName(new QName(APIConstants.GatewayArtifactSynchronizer.ARTIFACT_CACHE_ENABLE));
+            if (enableArtifactCacheElement != null) {
+                gatewayArtifactSynchronizerProperties.setArtifactCacheEnabled(
+                        Boolean.parseBoolean(enableArtifactCacheElement.getText().trim()));
+            }
+            OMElement artifactCacheDirectoryElement = artifactCacheElement.getFirstChildWithName(
+                    new QName(APIConstants.GatewayArtifactSynchronizer.ARTIFACT_CACHE_DIRECTORY));
+            if (artifactCacheDirectoryElement != null
+                    && StringUtils.isNotEmpty(artifactCacheDirectoryElement.getText())) {
+                gatewayArtifactSynchronizerProperties.setArtifactCacheDirectory(
+                        APIUtil.replaceSystemProperty(artifactCacheDirectoryElement.getText().trim()));
+            }
+        }
+
         OMElement properties = omElement.getFirstChildWithName(new
                 QName(APIConstants.API_GATEWAY_ADDITIONAL_PROPERTIES));
         Map<String, String> additionalProperties = new HashMap<>();
@@ -737,6 +737,42 @@ public class GatewayArtifactsMgtDAO {
         return apiRuntimeArtifactDtoList;
     }
 
+    /**
+     * Retrieve the UUIDs of the APIs deployed in the given labels of a tenant, without their artifacts, so that the
+     * artifacts can be retrieved a chunk of APIs at a time with
+     * {@link #retrieveGatewayArtifactsByAPIIDs(List, String[], String)}.
+     *
+     * @param labels       labels of the gateway
+     * @param tenantDomain tenant domain of the APIs
+     * @return UUIDs of the deployed APIs, in ascending order
+     * @throws APIManagementException if an error occurs
+     */
+    public List<String> retrieveDeployedAPIIdsByLabel(String[] labels, String tenantDomain)
+            throws APIManagementException {
+
+        String query = SQLConstants.RETRIEVE_DEPLOYED_API_IDS_BY_LABEL;
+        query = query.replaceAll(SQLConstants.GATEWAY_LABEL_REGEX,
+                String.join(",", Collections.nCopies(labels.length, "?")));
+        List<String> apiIds = new ArrayList<>();
+        try (Connection connection = GatewayArtifactsMgtDBUtil.getArtifactSynchronizerConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            int index = 1;
+            for (String label : labels) {
+                preparedStatement.setString(index, label);
+                index++;
+            }
+            preparedStatement.setString(index, tenantDomain);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    apiIds.add(resultSet.getString("API_ID"));
+                }
+            }
+        } catch (SQLException e) {
+            handleException("Failed to retrieve deployed APIs for labels : " + StringUtils.join(",", labels), e);
+        }
+        return apiIds;
+    }
+
     public List<APIRuntimeArtifactDto> retrieveAllGatewayArtifactsByLabel(String[] labels)
             throws APIManagementException {
 
@@ -44,6 +44,7 @@ import org.wso2.carbon.apimgt.api.model.subscription.ApplicationPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.GlobalPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.Policy;
 import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionChange;
 import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.api.model.subscription.URLMapping;
 import org.wso2.carbon.apimgt.impl.APIConstants;
@@ -63,6 +64,7 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
 import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.Hashtable;
@@ -169,6 +171,7 @@ public class SubscriptionValidationDAO {
                     application.setTokenType(resultSet.getString("TOKEN_TYPE"));
                     application.setOrganization(resultSet.getString("ORGANIZATION"));
                     temp.put(appId, application);
+                    list.add(application);
                 }
                 String attributeName = resultSet.getString("ATTRIBUTE_NAME");
                 String attributeValue = resultSet.getString("ATTRIBUTE_VALUE");
@@ -180,8 +183,6 @@ public class SubscriptionValidationDAO {
                 if (StringUtils.isNotEmpty(groupId)) {
                     application.addGroupId(groupId);
                 }
-
-                list.add(application);
             }
         }
     }
@@ -621,6 +622,208 @@ public class SubscriptionValidationDAO {
         }
     }
 
+    /**
+     * Returns a page of the subscriptions of a tenant, ordered by the subscription ID. The next page is read by
+     * passing the subscription ID of the last subscription of this page as {@code after}.
+     *
+     * @param tenantDomain tenant domain
+     * @param after        subscription ID after which the page starts
+     * @param limit        maximum number of subscriptions to return
+     * @return {@link List<Subscription>}
+     * @throws APIManagementException if the subscriptions could not be retrieved
+     */
+    public List<Subscription> getSubscriptions(String tenantDomain, int after, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps =
+                     conn.prepareStatement(SubscriptionValidationSQLConstants.GET_TENANT_SUBSCRIPTIONS_PAGE_SQL)) {
+            ps.setInt(1, APIUtil.getTenantIdFromTenantDomain(tenantDomain));
+            ps.setInt(2, after);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions for tenant : " + tenantDomain, e);
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Returns a page of the subscriptions of an organization, ordered by the subscription ID.
+     *
+     * @param organization organization
+     * @param after        subscription ID after which the page starts
+     * @param limit        maximum number of subscriptions to return
+     * @return {@link List<Subscription>}
+     * @throws APIManagementException if the subscriptions could not be retrieved
+     * @see #getSubscriptions(String, int, int)
+     */
+    public List<Subscription> getSubscriptionsByOrganization(String organization, int after, int limit)
+            throws APIManagementException {
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = conn.prepareStatement(
+                     SubscriptionValidationSQLConstants.GET_ORGANIZATION_SUBSCRIPTIONS_PAGE_SQL)) {
+            ps.setString(1, organization);
+            ps.setInt(2, after);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                populateSubscriptionsList(subscriptions, resultSet);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Subscriptions for the organization : "
+                    + organization, e);
+        }
+        return subscriptions;
+    }
+
+    /**
+     * Returns a page of the applications of an organization, ordered by the application ID. The next page is read by
+     * passing the ID of the last application of this page as {@code after}.
+     *
+     * @param organization organization
+     * @param after        application ID after which the page starts
+     * @param limit        maximum number of applications to return
+     * @return {@link List<Application>}
+     * @throws APIManagementException if the applications could not be retrieved
+     */
+    public List<Application> getApplications(String organization, int after, int limit)
+            throws APIManagementException {
+
+        List<Application> applications = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            // an application spans a row per attribute and group, so the page is bounded by application IDs
+            int last = getLastIdOfPage(conn, SubscriptionValidationSQLConstants.GET_APPLICATION_IDS_BY_ORGANIZATION_SQL,
+                    organization, after, limit);
+            if (last <= after) {
+                return applications;
+            }
+            try (PreparedStatement ps = conn.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_APPLICATIONS_PAGE_BY_ORGANIZATION_SQL)) {
+                ps.setString(1, organization);
+                ps.setInt(2, after);
+                ps.setInt(3, last);
+                try (ResultSet resultSet = ps.executeQuery()) {
+                    addToApplicationList(applications, resultSet);
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Applications for organization : " + organization, e);
+        }
+        return applications;
+    }
+
+    /**
+     * Returns a page of the application key mappings of a tenant, ordered by the application ID. A page always holds
+     * all the key mappings of its applications, so it may exceed the limit by the key mappings of its last
+     * application. The next page is read by passing the application ID of the last key mapping of this page as
+     * {@code after}.
+     *
+     * @param tenantDomain tenant domain
+     * @param after        application ID after which the page starts
+     * @param limit        maximum number of key mappings to return
+     * @return {@link List<ApplicationKeyMapping>}
+     * @throws APIManagementException if the key mappings could not be retrieved
+     */
+    public List<ApplicationKeyMapping> getApplicationKeyMappings(String tenantDomain, int after, int limit)
+            throws APIManagementException {
+
+        List<ApplicationKeyMapping> keyMappings = new ArrayList<>();
+        int tenantId = APIUtil.getTenantIdFromTenantDomain(tenantDomain);
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            int last = getLastIdOfPage(conn,
+                    SubscriptionValidationSQLConstants.GET_TENANT_AM_KEY_MAPPING_APPLICATION_IDS_SQL, tenantId, after,
+                    limit);
+            if (last <= after) {
+                return keyMappings;
+            }
+            try (PreparedStatement ps = conn.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_TENANT_AM_KEY_MAPPING_PAGE_SQL)) {
+                ps.setInt(1, tenantId);
+                ps.setInt(2, after);
+                ps.setInt(3, last);
+                try (ResultSet resultSet = ps.executeQuery()) {
+                    populateApplicationKeyMappingsList(keyMappings, resultSet);
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Application key mappings for tenant : "
+                    + tenantDomain, e);
+        }
+        return keyMappings;
+    }
+
+    /**
+     * Returns a page of the application key mappings of an organization, ordered by the application ID.
+     *
+     * @param organization organization
+     * @param after        application ID after which the page starts
+     * @param limit        maximum number of key mappings to return
+     * @return {@link List<ApplicationKeyMapping>}
+     * @throws APIManagementException if the key mappings could not be retrieved
+     * @see #getApplicationKeyMappings(String, int, int)
+     */
+    public List<ApplicationKeyMapping> getApplicationKeyMappingsByOrganization(String organization, int after,
+                                                                               int limit)
+            throws APIManagementException {
+
+        List<ApplicationKeyMapping> keyMappings = new ArrayList<>();
+        try (Connection conn = APIMgtDBUtil.getConnection()) {
+            int last = getLastIdOfPage(conn,
+                    SubscriptionValidationSQLConstants.GET_ORGANIZATION_AM_KEY_MAPPING_APPLICATION_IDS_SQL,
+                    organization, after, limit);
+            if (last <= after) {
+                return keyMappings;
+            }
+            try (PreparedStatement ps = conn.prepareStatement(
+                    SubscriptionValidationSQLConstants.GET_ORGANIZATION_AM_KEY_MAPPING_PAGE_SQL)) {
+                ps.setString(1, organization);
+                ps.setInt(2, after);
+                ps.setInt(3, last);
+                try (ResultSet resultSet = ps.executeQuery()) {
+                    populateApplicationKeyMappingsList(keyMappings, resultSet);
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error in loading Application key mappings for organization : "
+                    + organization, e);
+        }
+        return keyMappings;
+    }
+
+    /**
+     * Returns the last of at most {@code limit} ordered IDs after the given ID, or {@link Integer#MAX_VALUE} if fewer
+     * IDs remain, so that the last page also covers the rows added while it is read.
+     */
+    private int getLastIdOfPage(Connection conn, String query, Object scope, int after, int limit)
+            throws SQLException {
+
+        try (PreparedStatement ps = conn.prepareStatement(query)) {
+            ps.setObject(1, scope);
+            ps.setInt(2, after);
+            ps.setMaxRows(limit);
+            ps.setFetchSize(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                int count = 0;
+                int last = after;
+                while (resultSet.next()) {
+                    last = resultSet.getInt(1);
+                    count++;
+                }
+                if (count == 0) {
+                    return after;
+                }
+                return count < limit ? Integer.MAX_VALUE : last;
+            }
+        }
+    }
+
     /*
      * @param subscriptionId : unique identifier of a subscription
      * @return {@link Subscription}
@@ -1786,4 +1989,235 @@ public class SubscriptionValidationDAO {
         subscriptionDetails.put("uuid", subscriptionUUID);
         return subscriptionDetails;
     }
+
+    /**
+     * Records a change of a subscription, application or application key mapping in the subscription change log.
+     * The changes of an organization are recorded one at a time, holding the change log state of the organization
+     * locked until the change is committed, so that they are committed in the order of their ids. A change is therefore
+     * never committed with a smaller id than a change which could already be read.
+     *
+     * @param change change to be recorded
+     * @throws APIManagementException if the change could not be recorded
+     */
+    public void addSubscriptionChange(SubscriptionChange change) throws APIManagementException {
+
+        try (Connection connection = APIMgtDBUtil.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                Timestamp changeTime = new Timestamp(System.currentTimeMillis());
+                lockSubscriptionChanges(connection, change.getOrganization(), changeTime);
+                try (PreparedStatement ps = connection.prepareStatement(
+                        SubscriptionValidationSQLConstants.ADD_SUBSCRIPTION_CHANGE_SQL)) {
+                    ps.setString(1, change.getOrganization());
+                    ps.setString(2, change.getEntityType().name());
+                    ps.setInt(3, change.getApplicationId());
+                    ps.setInt(4, change.getApiId());
+                    ps.setString(5, change.getConsumerKey());
+                    ps.setString(6, change.getKeyManager());
+                    ps.setTimestamp(7, changeTime);
+                    ps.executeUpdate();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                APIMgtDBUtil.rollbackConnection(connection, "Failed to rollback recording subscription change "
+                        + change, e);
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while recording subscription change " + change, e);
+        }
+    }
+
+    /**
+     * Locks the subscription change log state of an organization until the transaction of the connection ends. The
+     * state of an organization is created with its first change. If another node creates it at the same time, the
+     * insert fails once that node commits, and the state is locked by updating it instead.
+     */
+    private void lockSubscriptionChanges(Connection connection, String organization, Timestamp changeTime)
+            throws SQLException {
+
+        if (updateSubscriptionChangeState(connection, organization, changeTime)) {
+            return;
+        }
+        Savepoint savepoint = connection.setSavepoint();
+        try (PreparedStatement ps = connection.prepareStatement(
+                SubscriptionValidationSQLConstants.ADD_SUBSCRIPTION_CHANGE_STATE_SQL)) {
+            ps.setString(1, organization);
+            ps.setTimestamp(2, changeTime);
+            ps.executeUpdate();
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+            if (!updateSubscriptionChangeState(connection, organization, changeTime)) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean updateSubscriptionChangeState(Connection connection, String organization, Timestamp changeTime)
+            throws SQLException {
+
+        try (PreparedStatement ps = connection.prepareStatement(
+                SubscriptionValidationSQLConstants.LOCK_SUBSCRIPTION_CHANGES_SQL)) {
+            ps.setTimestamp(1, changeTime);
+            ps.setString(2, organization);
+            return ps.executeUpdate() > 0;
+        }
+    }
+
+    /**
+     * Returns the changes of an organization recorded after the given change, in the order they were recorded.
+     *
+     * @param organization organization
+     * @param after        id of the last change already known by the caller
+     * @param limit        maximum number of changes to return
+     * @return {@link List<SubscriptionChange>}
+     * @throws APIManagementException if the changes could not be retrieved
+     */
+    public List<SubscriptionChange> getSubscriptionChanges(String organization, long after, int limit)
+            throws APIManagementException {
+
+        List<SubscriptionChange> changes = new ArrayList<>();
+        try (Connection connection = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     SubscriptionValidationSQLConstants.GET_SUBSCRIPTION_CHANGES_SQL)) {
+            ps.setString(1, organization);
+            ps.setLong(2, after);
+            ps.setMaxRows(limit);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                while (resultSet.next()) {
+                    SubscriptionChange change = new SubscriptionChange();
+                    change.setChangeId(resultSet.getLong("CHANGE_ID"));
+                    change.setOrganization(resultSet.getString("ORGANIZATION"));
+                    change.setEntityType(
+                            SubscriptionChange.EntityType.valueOf(resultSet.getString("ENTITY_TYPE")));
+                    change.setApplicationId(resultSet.getInt("APPLICATION_ID"));
+                    change.setApiId(resultSet.getInt("API_ID"));
+                    change.setConsumerKey(resultSet.getString("CONSUMER_KEY"));
+                    change.setKeyManager(resultSet.getString("KEY_MANAGER"));
+                    changes.add(change);
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while retrieving subscription changes of organization "
+                    + organization, e);
+        }
+        return changes;
+    }
+
+    /**
+     * Returns the id of the latest change of an organization in the subscription change log, or 0 if there is none.
+     * The changes of an organization are committed in the order of their ids, so every change up to the returned id
+     * is committed.
+     *
+     * @param organization organization
+     * @throws APIManagementException if the change log could not be read
+     */
+    public long getLatestSubscriptionChangeId(String organization) throws APIManagementException {
+
+        return getSubscriptionChangeId(SubscriptionValidationSQLConstants.GET_LATEST_SUBSCRIPTION_CHANGE_ID_SQL,
+                organization);
+    }
+
+    /**
+     * Returns the id up to which the changes of an organization were removed from the subscription change log, or 0
+     * if none were removed.
+     *
+     * @param organization organization
+     * @throws APIManagementException if the change log could not be read
+     */
+    public long getPurgedSubscriptionChangeId(String organization) throws APIManagementException {
+
+        return getSubscriptionChangeId(SubscriptionValidationSQLConstants.GET_PURGED_SUBSCRIPTION_CHANGE_ID_SQL,
+                organization);
+    }
+
+    private long getSubscriptionChangeId(String query, String organization) throws APIManagementException {
+
+        try (Connection connection = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(query)) {
+            ps.setString(1, organization);
+            try (ResultSet resultSet = ps.executeQuery()) {
+                if (resultSet.next()) {
+                    return resultSet.getLong("CHANGE_ID");
+                }
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while reading the subscription change log of organization "
+                    + organization, e);
+        }
+        return 0;
+    }
+
+    /**
+     * Removes the changes recorded before the given time from the subscription change log, and records the id up to
+     * which the changes of each organization were removed. The latest change of each organization is always retained,
+     * so that its id can be read by gateways which synchronize fully.
+     *
+     * @param before changes recorded before this time are removed
+     * @return number of removed changes
+     * @throws APIManagementException if the changes could not be removed
+     */
+    public int removeSubscriptionChanges(Timestamp before) throws APIManagementException {
+
+        int removed = 0;
+        for (String organization : getSubscriptionChangeOrganizations()) {
+            long latestChangeId = getLatestSubscriptionChangeId(organization);
+            try (Connection connection = APIMgtDBUtil.getConnection()) {
+                connection.setAutoCommit(false);
+                try {
+                    long expiredChangeId;
+                    try (PreparedStatement ps = connection.prepareStatement(
+                            SubscriptionValidationSQLConstants.GET_EXPIRED_SUBSCRIPTION_CHANGE_ID_SQL)) {
+                        ps.setString(1, organization);
+                        ps.setTimestamp(2, before);
+                        ps.setLong(3, latestChangeId);
+                        try (ResultSet resultSet = ps.executeQuery()) {
+                            expiredChangeId = resultSet.next() ? resultSet.getLong("CHANGE_ID") : 0;
+                        }
+                    }
+                    if (expiredChangeId <= 0) {
+                        continue;
+                    }
+                    // the purged id is updated with the removal, so that a gateway reading the change log sees
+                    // either both or neither
+                    try (PreparedStatement ps = connection.prepareStatement(
+                            SubscriptionValidationSQLConstants.UPDATE_PURGED_SUBSCRIPTION_CHANGE_ID_SQL)) {
+                        ps.setLong(1, expiredChangeId);
+                        ps.setString(2, organization);
+                        ps.executeUpdate();
+                    }
+                    try (PreparedStatement ps = connection.prepareStatement(
+                            SubscriptionValidationSQLConstants.DELETE_SUBSCRIPTION_CHANGES_SQL)) {
+                        ps.setString(1, organization);
+                        ps.setLong(2, expiredChangeId);
+                        removed += ps.executeUpdate();
+                    }
+                    connection.commit();
+                } catch (SQLException e) {
+                    APIMgtDBUtil.rollbackConnection(connection, "Failed to rollback removing subscription changes "
+                            + "of organization " + organization, e);
+                }
+            } catch (SQLException e) {
+                throw new APIManagementException("Error while removing subscription changes of organization "
+                        + organization + " recorded before " + before, e);
+            }
+        }
+        return removed;
+    }
+
+    private List<String> getSubscriptionChangeOrganizations() throws APIManagementException {
+
+        List<String> organizations = new ArrayList<>();
+        try (Connection connection = APIMgtDBUtil.getConnection();
+             PreparedStatement ps = connection.prepareStatement(
+                     SubscriptionValidationSQLConstants.GET_SUBSCRIPTION_CHANGE_ORGANIZATIONS_SQL);
+             ResultSet resultSet = ps.executeQuery()) {
+            while (resultSet.next()) {
+                organizations.add(resultSet.getString("ORGANIZATION"));
+            }
+        } catch (SQLException e) {
+            throw new APIManagementException("Error while reading the organizations of the subscription change log",
+                    e);
+        }
+        return organizations;
+    }
 }
@@ -694,4 +694,70 @@ public class SubscriptionValidationSQLConstants {
                 "ON AM_API_URL_MAPPING.API_ID=AM_API.API_ID " +
             "WHERE AM_API_OPERATION_MAPPING.URL_MAPPING_ID=?";
 
+    public static final String GET_TENANT_SUBSCRIPTIONS_PAGE_SQL = GET_TENANT_SUBSCRIPTIONS_SQL +
+            " AND SUBS.SUBSCRIPTION_ID > ? ORDER BY SUBS.SUBSCRIPTION_ID";
+
+    public static final String GET_ORGANIZATION_SUBSCRIPTIONS_PAGE_SQL = GET_ORGANIZATION_SUBSCRIPTIONS_SQL +
+            " AND SUBS.SUBSCRIPTION_ID > ? ORDER BY SUBS.SUBSCRIPTION_ID";
+
+    public static final String GET_APPLICATION_IDS_BY_ORGANIZATION_SQL = "SELECT APPLICATION_ID FROM AM_APPLICATION " +
+            "WHERE ORGANIZATION = ? AND APPLICATION_ID > ? ORDER BY APPLICATION_ID";
+
+    public static final String GET_APPLICATIONS_PAGE_BY_ORGANIZATION_SQL = GET_APPLICATIONS_BY_ORGANIZATION_SQL +
+            " AND APP.APPLICATION_ID > ? AND APP.APPLICATION_ID <= ? ORDER BY APP.APPLICATION_ID";
+
+    public static final String GET_TENANT_AM_KEY_MAPPING_APPLICATION_IDS_SQL =
+            "SELECT MAPPING.APPLICATION_ID" +
+                    " FROM " +
+                    "   AM_APPLICATION_KEY_MAPPING MAPPING,AM_APPLICATION APP,AM_SUBSCRIBER SUB" +
+                    " WHERE " +
+                    "   MAPPING.APPLICATION_ID = APP.APPLICATION_ID AND APP.SUBSCRIBER_ID = SUB.SUBSCRIBER_ID AND" +
+                    "   SUB.TENANT_ID = ? AND MAPPING.APPLICATION_ID > ? ORDER BY MAPPING.APPLICATION_ID";
+
+    public static final String GET_ORGANIZATION_AM_KEY_MAPPING_APPLICATION_IDS_SQL =
+            "SELECT MAPPING.APPLICATION_ID" +
+                    " FROM " +
+                    "   AM_APPLICATION_KEY_MAPPING MAPPING,AM_APPLICATION APP" +
+                    " WHERE " +
+                    "   MAPPING.APPLICATION_ID = APP.APPLICATION_ID AND" +
+                    "   APP.ORGANIZATION = ? AND MAPPING.APPLICATION_ID > ? ORDER BY MAPPING.APPLICATION_ID";
+
+    public static final String GET_TENANT_AM_KEY_MAPPING_PAGE_SQL = GET_TENANT_AM_KEY_MAPPING_SQL +
+            " AND MAPPING.APPLICATION_ID > ? AND MAPPING.APPLICATION_ID <= ? ORDER BY MAPPING.APPLICATION_ID";
+
+    public static final String GET_ORGANIZATION_AM_KEY_MAPPING_PAGE_SQL = GET_ORGANIZATION_AM_KEY_MAPPING_SQL +
+            " AND MAPPING.APPLICATION_ID > ? AND MAPPING.APPLICATION_ID <= ? ORDER BY MAPPING.APPLICATION_ID";
+
+    public static final String ADD_SUBSCRIPTION_CHANGE_SQL = "INSERT INTO AM_SUBSCRIPTION_CHANGE_LOG " +
+            "(ORGANIZATION, ENTITY_TYPE, APPLICATION_ID, API_ID, CONSUMER_KEY, KEY_MANAGER, CHANGE_TIME) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    public static final String GET_SUBSCRIPTION_CHANGES_SQL = "SELECT CHANGE_ID, ORGANIZATION, ENTITY_TYPE, " +
+            "APPLICATION_ID, API_ID, CONSUMER_KEY, KEY_MANAGER FROM AM_SUBSCRIPTION_CHANGE_LOG " +
+            "WHERE ORGANIZATION = ? AND CHANGE_ID > ? ORDER BY CHANGE_ID";
+
+    public static final String GET_LATEST_SUBSCRIPTION_CHANGE_ID_SQL = "SELECT MAX(CHANGE_ID) AS CHANGE_ID " +
+            "FROM AM_SUBSCRIPTION_CHANGE_LOG WHERE ORGANIZATION = ?";
+
+    public static final String GET_EXPIRED_SUBSCRIPTION_CHANGE_ID_SQL = "SELECT MAX(CHANGE_ID) AS CHANGE_ID " +
+            "FROM AM_SUBSCRIPTION_CHANGE_LOG WHERE ORGANIZATION = ? AND CHANGE_TIME < ? AND CHANGE_ID < ?";
+
+    public static final String DELETE_SUBSCRIPTION_CHANGES_SQL = "DELETE FROM AM_SUBSCRIPTION_CHANGE_LOG " +
+            "WHERE ORGANIZATION = ? AND CHANGE_ID <= ?";
+
+    public static final String LOCK_SUBSCRIPTION_CHANGES_SQL = "UPDATE AM_SUBSCRIPTION_CHANGE_STATE " +
+            "SET LAST_CHANGE_TIME = ? WHERE ORGANIZATION = ?";
+
+    public static final String ADD_SUBSCRIPTION_CHANGE_STATE_SQL = "INSERT INTO AM_SUBSCRIPTION_CHANGE_STATE " +
+            "(ORGANIZATION, LAST_CHANGE_TIME, PURGED_CHANGE_ID) VALUES (?, ?, 0)";
+
+    public static final String GET_PURGED_SUBSCRIPTION_CHANGE_ID_SQL = "SELECT PURGED_CHANGE_ID AS CHANGE_ID " +
+            "FROM AM_SUBSCRIPTION_CHANGE_STATE WHERE ORGANIZATION = ?";
+
+    public static final String UPDATE_PURGED_SUBSCRIPTION_CHANGE_ID_SQL = "UPDATE AM_SUBSCRIPTION_CHANGE_STATE " +
+            "SET PURGED_CHANGE_ID = ? WHERE ORGANIZATION = ?";
+
+    public static final String GET_SUBSCRIPTION_CHANGE_ORGANIZATIONS_SQL = "SELECT ORGANIZATION " +
+            "FROM AM_SUBSCRIPTION_CHANGE_STATE";
+
 }
@@ -29,6 +29,9 @@ public class EventHubConfigurationDto {
     private EventHubReceiverConfiguration eventHubReceiverConfiguration;
     private EventHubPublisherConfiguration eventHubPublisherConfiguration ;
     private long eventWaitingTime = 0;
+    private int eventProcessingThreads = 4;
+    private SubscriptionDeltaSync subscriptionDeltaSync = new SubscriptionDeltaSync();
+    private NotificationBatching notificationBatching = new NotificationBatching();
 
     public boolean isEnabled() {
 
@@ -86,6 +89,21 @@ public class EventHubConfigurationDto {
         return eventWaitingTime > 0;
     }
 
+    /**
+     * Number of threads which process the notification events received by a gateway. The events of an API or an
+     * application are processed in order by the same thread. If 0, the events are processed one by one by the thread
+     * which receives them.
+     */
+    public int getEventProcessingThreads() {
+
+        return eventProcessingThreads;
+    }
+
+    public void setEventProcessingThreads(int eventProcessingThreads) {
+
+        this.eventProcessingThreads = eventProcessingThreads;
+    }
+
     public String getUsername() {
 
         return username;
@@ -117,6 +135,26 @@ public class EventHubConfigurationDto {
         this.eventHubPublisherConfiguration = eventHubPublisherConfiguration;
     }
 
+    public SubscriptionDeltaSync getSubscriptionDeltaSync() {
+
+        return subscriptionDeltaSync;
+    }
+
+    public void setSubscriptionDeltaSync(SubscriptionDeltaSync subscriptionDeltaSync) {
+
+        this.subscriptionDeltaSync = subscriptionDeltaSync;
+    }
+
+    public NotificationBatching getNotificationBatching() {
+
+        return notificationBatching;
+    }
+
+    public void setNotificationBatching(NotificationBatching notificationBatching) {
+
+        this.notificationBatching = notificationBatching;
+    }
+
     public static class EventHubReceiverConfiguration {
         private Properties jmsConnectionParameters = new Properties();
 
@@ -177,4 +215,98 @@ public class EventHubConfigurationDto {
         }
     }
 
+    /**
+     * Configuration of the incremental synchronization of subscriptions, applications and key mappings from the
+     * subscription change log.
+     */
+    public static class SubscriptionDeltaSync {
+
+        private boolean enabled = false;
+        private int maxChanges = 10000;
+        private int changeLogRetention = 168;
+
+        public boolean isEnabled() {
+
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+
+            this.enabled = enabled;
+        }
+
+        /**
+         * Maximum number of changes a gateway applies in one synchronization. If more changes are pending, the
+         * gateway loads a full snapshot instead.
+         */
+        public int getMaxChanges() {
+
+            return maxChanges;
+        }
+
+        public void setMaxChanges(int maxChanges) {
+
+            this.maxChanges = maxChanges;
+        }
+
+        /**
+         * Number of hours changes are retained in the change log.
+         */
+        public int getChangeLogRetention() {
+
+            return changeLogRetention;
+        }
+
+        public void setChangeLogRetention(int changeLogRetention) {
+
+            this.changeLogRetention = changeLogRetention;
+        }
+    }
+
+    /**
+     * Configuration of the batching of the notification events published by the control plane. Batched events are
+     * only understood by gateways and traffic managers of this version or later.
+     */
+    public static class NotificationBatching {
+
+        private boolean enabled = false;
+        private long window = 200;
+        private int maxEvents = 500;
+
+        public boolean isEnabled() {
+
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+
+            this.enabled = enabled;
+        }
+
+        /**
+         * Number of milliseconds the events of a tenant are held before they are published as a batch.
+         */
+        public long getWindow() {
+
+            return window;
+        }
+
+        public void setWindow(long window) {
+
+            this.window = window;
+        }
+
+        /**
+         * Maximum number of events in a batch. A batch is published as soon as it reaches this size.
+         */
+        public int getMaxEvents() {
+
+            return maxEvents;
+        }
+
+        public void setMaxEvents(int maxEvents) {
+
+            this.maxEvents = maxEvents;
+        }
+    }
 }
@@ -3,6 +3,7 @@ package org.wso2.carbon.apimgt.impl.dto;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 public class GatewayArtifactSynchronizerProperties {
@@ -22,6 +23,10 @@ public class GatewayArtifactSynchronizerProperties {
     private boolean onDemandLoading;
     private boolean tenantLoading;
     private LoadingTenants loadingTenants = new LoadingTenants();
+    private int deploymentConcurrency = Math.min(4, Runtime.getRuntime().availableProcessors());
+    private Set<String> priorityApiContexts = new LinkedHashSet<>();
+    private boolean artifactCacheEnabled = false;
+    private String artifactCacheDirectory;
 
 
     public String getSaverName() {
@@ -80,6 +85,58 @@ public class GatewayArtifactSynchronizerProperties {
         this.gatewayLabels = gatewayLabels;
     }
 
+    /**
+     * @return number of threads which prepare the artifacts of a tenant for deployment at gateway startup
+     */
+    public int getDeploymentConcurrency() {
+
+        return deploymentConcurrency;
+    }
+
+    public void setDeploymentConcurrency(int deploymentConcurrency) {
+
+        this.deploymentConcurrency = Math.max(1, deploymentConcurrency);
+    }
+
+    /**
+     * @return contexts of the APIs which are deployed first at gateway startup, in the order they are deployed
+     */
+    public Set<String> getPriorityApiContexts() {
+
+        return priorityApiContexts;
+    }
+
+    public void setPriorityApiContexts(Set<String> priorityApiContexts) {
+
+        this.priorityApiContexts = priorityApiContexts;
+    }
+
+    /**
+     * @return whether the gateway caches the runtime artifacts on disk, and retrieves only the changed artifacts
+     */
+    public boolean isArtifactCacheEnabled() {
+
+        return artifactCacheEnabled;
+    }
+
+    public void setArtifactCacheEnabled(boolean artifactCacheEnabled) {
+
+        this.artifactCacheEnabled = artifactCacheEnabled;
+    }
+
+    /**
+     * @return directory of the runtime artifact cache, or null to use the default directory
+     */
+    public String getArtifactCacheDirectory() {
+
+        return artifactCacheDirectory;
+    }
+
+    public void setArtifactCacheDirectory(String artifactCacheDirectory) {
+
+        this.artifactCacheDirectory = artifactCacheDirectory;
+    }
+
     public Set<String> getFileBasedApiContexts() {
 
         return fileBasedApiContexts;
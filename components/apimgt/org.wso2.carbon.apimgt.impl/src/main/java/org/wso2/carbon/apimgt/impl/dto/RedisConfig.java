@@ -45,6 +45,8 @@ public class RedisConfig {
     private long minGatewayCount;
     private long keyLockRetrievalTimeout;
     private String hybridThrottleProcessorType;
+    private boolean scriptedCounterOperationsEnabled;
+    private long counterBatchWindow;
     public int getMaxTotal() {
 
         return maxTotal;
@@ -262,4 +264,24 @@ public class RedisConfig {
     public String getHybridThrottleProcessorType() {
         return hybridThrottleProcessorType;
     }
+
+    public boolean isScriptedCounterOperationsEnabled() {
+        return scriptedCounterOperationsEnabled;
+    }
+
+    public void setScriptedCounterOperationsEnabled(boolean scriptedCounterOperationsEnabled) {
+        this.scriptedCounterOperationsEnabled = scriptedCounterOperationsEnabled;
+    }
+
+    /**
+     * Returns the time in milliseconds during which concurrent increments of the distributed counters are coalesced
+     * into a single pipelined round trip, or 0 if increments are not coalesced.
+     */
+    public long getCounterBatchWindow() {
+        return counterBatchWindow;
+    }
+
+    public void setCounterBatchWindow(long counterBatchWindow) {
+        this.counterBatchWindow = counterBatchWindow;
+    }
 }
@@ -30,6 +30,7 @@ public class ThrottleProperties {
     private GlobalEngineWSConnection globalEngineWSConnection;
     private DataPublisherPool dataPublisherPool;
     private DataPublisherThreadPool dataPublisherThreadPool;
+    private DataPublisherBuffer dataPublisherBuffer = new DataPublisherBuffer();
     private JMSConnectionProperties jmsConnectionProperties;
     private boolean enableUnlimitedTier;
     private String throttleDataSourceName;
@@ -71,6 +72,14 @@ public class ThrottleProperties {
         this.dataPublisherThreadPool = dataPublisherThreadPool;
     }
 
+    public DataPublisherBuffer getDataPublisherBuffer() {
+        return dataPublisherBuffer;
+    }
+
+    public void setDataPublisherBuffer(DataPublisherBuffer dataPublisherBuffer) {
+        this.dataPublisherBuffer = dataPublisherBuffer;
+    }
+
     public BlockCondition getBlockCondition() {
         return blockCondition;
     }
@@ -640,6 +649,70 @@ public class ThrottleProperties {
         }
     }
 
+    /**
+     * Configuration of the bounded ring buffer used to hand throttle events over to the data publisher. When
+     * enabled, this replaces the agent pool and the data publisher thread pool.
+     */
+    public static class DataPublisherBuffer {
+        public static final String DROP_POLICY_DROP = "Drop";
+        public static final String DROP_POLICY_BLOCK = "Block";
+
+        private boolean enabled = false;
+        private int bufferSize = 8192;
+        private int batchSize = 200;
+        private long lingerTime = 5;
+        private String dropPolicy = DROP_POLICY_DROP;
+        private long maxBlockTime = 10;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        public void setBufferSize(int bufferSize) {
+            this.bufferSize = bufferSize;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public long getLingerTime() {
+            return lingerTime;
+        }
+
+        public void setLingerTime(long lingerTime) {
+            this.lingerTime = lingerTime;
+        }
+
+        public String getDropPolicy() {
+            return dropPolicy;
+        }
+
+        public void setDropPolicy(String dropPolicy) {
+            this.dropPolicy = dropPolicy;
+        }
+
+        public long getMaxBlockTime() {
+            return maxBlockTime;
+        }
+
+        public void setMaxBlockTime(long maxBlockTime) {
+            this.maxBlockTime = maxBlockTime;
+        }
+    }
+
     public String[] getSkipRedeployingPolicies() {
         return skipRedeployingPolicies;
     }
@@ -26,6 +26,10 @@ import org.apache.commons.logging.LogFactory;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.util.EntityUtils;
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -34,15 +38,19 @@ import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
 import org.wso2.carbon.apimgt.impl.dto.GatewayArtifactSynchronizerProperties;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.APIArtifactDigestDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.exception.ArtifactSynchronizerException;
 import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
 import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 import org.wso2.carbon.context.PrivilegedCarbonContext;
+import org.wso2.carbon.utils.CarbonUtils;
 
 import java.io.IOException;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -52,12 +60,17 @@ import java.util.Set;
 public class DBRetriever implements ArtifactRetriever {
 
     private static final Log log = LogFactory.getLog(DBRetriever.class);
+    private static final String DEFAULT_ARTIFACT_CACHE_DIRECTORY = "repository/data/gateway-artifact-cache";
     protected EventHubConfigurationDto eventHubConfigurationDto = ServiceReferenceHolder.getInstance()
             .getAPIManagerConfigurationService().getAPIManagerConfiguration().getEventHubConfigurationDto();
     protected GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties =
             ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration()
                     .getGatewayArtifactSynchronizerProperties();
     private String baseURL = eventHubConfigurationDto.getServiceUrl() + APIConstants.INTERNAL_WEB_APP_EP;
+    private final LocalArtifactCache artifactCache = new LocalArtifactCache(
+            gatewayArtifactSynchronizerProperties.getArtifactCacheDirectory() != null
+                    ? Paths.get(gatewayArtifactSynchronizerProperties.getArtifactCacheDirectory())
+                    : Paths.get(CarbonUtils.getCarbonHome(), DEFAULT_ARTIFACT_CACHE_DIRECTORY));
 
     @Override
     public void init() throws ArtifactSynchronizerException {
@@ -122,22 +135,14 @@ public class DBRetriever implements ArtifactRetriever {
 
     @Override
     public List<String> retrieveAllArtifacts(String label, String tenantDomain) throws ArtifactSynchronizerException {
-        List<String> gatewayRuntimeArtifactsArray = new ArrayList<>();
         try {
-            String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
-            String path = APIConstants.GatewayArtifactSynchronizer.GATEAY_SYNAPSE_ARTIFACTS
-                    + "?gatewayLabel=" + endcodedgatewayLabel + "&type=Synapse";
-            String endpoint = baseURL + path;
-            try (CloseableHttpResponse httpResponse = invokeService(endpoint,tenantDomain)) {
-                JSONArray jsonArray = retrieveArtifact(httpResponse);
-                if (jsonArray != null) {
-                    for (int i = 0; i < jsonArray.length(); i++) {
-                        gatewayRuntimeArtifactsArray.add(jsonArray.getString(i));
-                    }
+            if (gatewayArtifactSynchronizerProperties.isArtifactCacheEnabled()) {
+                List<String> gatewayRuntimeArtifacts = retrieveAllArtifactsThroughCache(label, tenantDomain);
+                if (gatewayRuntimeArtifacts != null) {
+                    return gatewayRuntimeArtifacts;
                 }
-
             }
-            return gatewayRuntimeArtifactsArray;
+            return retrieveArtifacts(label, APIConstants.GatewayArtifactSynchronizer.SYNAPSE_TYPE, tenantDomain);
         } catch (IOException e) {
             String msg = "Error while executing the http client";
             log.error(msg, e);
@@ -149,6 +154,99 @@ public class DBRetriever implements ArtifactRetriever {
         }
     }
 
+    private List<String> retrieveArtifacts(String label, String type, String tenantDomain)
+            throws IOException, ArtifactSynchronizerException {
+
+        List<String> gatewayRuntimeArtifactsArray = new ArrayList<>();
+        String endcodedgatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
+        String path = APIConstants.GatewayArtifactSynchronizer.GATEAY_SYNAPSE_ARTIFACTS
+                + "?gatewayLabel=" + endcodedgatewayLabel + "&type=" + type;
+        String endpoint = baseURL + path;
+        try (CloseableHttpResponse httpResponse = invokeService(endpoint, tenantDomain)) {
+            JSONArray jsonArray = retrieveArtifact(httpResponse);
+            if (jsonArray != null) {
+                for (int i = 0; i < jsonArray.length(); i++) {
+                    gatewayRuntimeArtifactsArray.add(jsonArray.getString(i));
+                }
+            }
+        }
+        return gatewayRuntimeArtifactsArray;
+    }
+
+    /**
+     * Retrieves the digests of the deployed APIs, and retrieves the artifacts of only the APIs which are not in the
+     * local artifact cache.
+     *
+     * @return artifacts of the deployed APIs, or null if the digests could not be retrieved
+     */
+    private List<String> retrieveAllArtifactsThroughCache(String label, String tenantDomain)
+            throws IOException, ArtifactSynchronizerException {
+
+        List<String> digests;
+        try {
+            digests = retrieveArtifacts(label, APIConstants.GatewayArtifactSynchronizer.SYNAPSE_DIGEST_TYPE,
+                    tenantDomain);
+        } catch (IOException | ArtifactSynchronizerException e) {
+            log.warn("Error while retrieving the digests of the runtime artifacts. Retrieving all the artifacts", e);
+            return null;
+        }
+        Gson gson = new Gson();
+        List<String> gatewayRuntimeArtifacts = new ArrayList<>();
+        Map<String, String> missingApiHashes = new HashMap<>();
+        Set<String> hashes = new HashSet<>();
+        for (String digest : digests) {
+            APIArtifactDigestDto apiArtifactDigest = gson.fromJson(digest, APIArtifactDigestDto.class);
+            hashes.add(apiArtifactDigest.getHash());
+            List<String> cachedArtifacts = artifactCache.get(tenantDomain, apiArtifactDigest.getHash());
+            if (cachedArtifacts != null) {
+                gatewayRuntimeArtifacts.addAll(cachedArtifacts);
+            } else {
+                missingApiHashes.put(apiArtifactDigest.getApiId(), apiArtifactDigest.getHash());
+            }
+        }
+        if (!missingApiHashes.isEmpty()) {
+            Map<String, List<String>> retrievedArtifacts = retrieveArtifactsOfAPIs(label, missingApiHashes.keySet(),
+                    tenantDomain);
+            for (Map.Entry<String, String> missingApiHash : missingApiHashes.entrySet()) {
+                List<String> apiArtifacts = retrievedArtifacts.get(missingApiHash.getKey());
+                // APIs without artifacts are not cached, so that their artifacts are generated again next time
+                if (apiArtifacts != null) {
+                    artifactCache.put(tenantDomain, missingApiHash.getValue(), apiArtifacts);
+                    gatewayRuntimeArtifacts.addAll(apiArtifacts);
+                }
+            }
+        }
+        artifactCache.retain(tenantDomain, hashes);
+        log.info("Retrieved the runtime artifacts of " + missingApiHashes.size() + " of " + digests.size()
+                + " APIs of tenant " + tenantDomain + " from the event hub, and the rest from the artifact cache");
+        return gatewayRuntimeArtifacts;
+    }
+
+    private Map<String, List<String>> retrieveArtifactsOfAPIs(String label, Collection<String> apiIds,
+                                                              String tenantDomain)
+            throws IOException, ArtifactSynchronizerException {
+
+        String encodedGatewayLabel = URLEncoder.encode(label, APIConstants.DigestAuthConstants.CHARSET);
+        String path = APIConstants.GatewayArtifactSynchronizer.RETRIEVE_API_ARTIFACTS + "?gatewayLabel="
+                + encodedGatewayLabel + "&type=" + APIConstants.GatewayArtifactSynchronizer.SYNAPSE_TYPE;
+        HttpPost method = new HttpPost(baseURL + path);
+        JSONObject uuidList = new JSONObject();
+        uuidList.put("uuids", new JSONArray(apiIds));
+        method.setEntity(new StringEntity(uuidList.toString(), ContentType.APPLICATION_JSON));
+        Map<String, List<String>> artifactsOfAPIs = new HashMap<>();
+        try (CloseableHttpResponse httpResponse = invokeService(method, tenantDomain)) {
+            JSONArray jsonArray = retrieveArtifact(httpResponse);
+            if (jsonArray != null) {
+                for (int i = 0; i < jsonArray.length(); i++) {
+                    String artifact = jsonArray.getString(i);
+                    String apiId = new JSONObject(artifact).optString(APIConstants.GatewayArtifactSynchronizer.API_ID);
+                    artifactsOfAPIs.computeIfAbsent(apiId, id -> new ArrayList<>()).add(artifact);
+                }
+            }
+        }
+        return artifactsOfAPIs;
+    }
+
     @Override
     public Map<String, String> retrieveAttributes(String apiName, String version, String tenantDomain)
             throws ArtifactSynchronizerException {
@@ -203,8 +301,13 @@ public class DBRetriever implements ArtifactRetriever {
     private CloseableHttpResponse invokeService(String endpoint,String tenantDomain) throws IOException,
             ArtifactSynchronizerException {
 
-        HttpGet method = new HttpGet(endpoint);
-        URL url = new URL(endpoint);
+        return invokeService(new HttpGet(endpoint), tenantDomain);
+    }
+
+    private CloseableHttpResponse invokeService(HttpRequestBase method, String tenantDomain) throws IOException,
+            ArtifactSynchronizerException {
+
+        URL url = method.getURI().toURL();
         String username = eventHubConfigurationDto.getUsername();
         String password = eventHubConfigurationDto.getPassword();
         byte[] credentials = Base64.encodeBase64((username + APIConstants.DELEM_COLON + password).
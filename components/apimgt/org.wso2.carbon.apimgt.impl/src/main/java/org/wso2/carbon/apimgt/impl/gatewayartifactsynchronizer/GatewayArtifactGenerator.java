@@ -33,5 +33,16 @@ public interface GatewayArtifactGenerator {
 
     String getType();
 
+    /**
+     * Whether the generator generates a list of artifacts which can be generated a chunk of APIs at a time, instead of
+     * an artifact of all the APIs together.
+     *
+     * @return true if the artifacts can be generated in chunks
+     */
+    default boolean isChunkedGenerationSupported() {
+
+        return false;
+    }
+
 
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.reflect.TypeToken;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * On-disk cache of the Synapse artifacts of APIs, addressed by the digests of the APIs generated by
+ * {@link SynapseArtifactDigestGenerator}.
+ * <p>
+ * The artifacts of an API are kept in a file of the tenant named by the digest of the API, so a file is never updated:
+ * a changed API has a new digest and is written to a new file, and the files of digests which are no longer deployed
+ * are removed by {@link #retain(String, Set)}. The file names are the index of the cache.
+ * <p>
+ * The artifacts include the endpoint credentials of the APIs, so the directories of the cache are only accessible by
+ * the owner on file systems which support POSIX permissions.
+ */
+public class LocalArtifactCache {
+
+    private static final Log log = LogFactory.getLog(LocalArtifactCache.class);
+    private static final Pattern HASH_PATTERN = Pattern.compile("[0-9a-f]{64}");
+    private static final String FILE_EXTENSION = ".json";
+    private static final Type ARTIFACTS_TYPE = new TypeToken<List<String>>() {
+    }.getType();
+
+    private final Path directory;
+    private final Gson gson = new Gson();
+
+    public LocalArtifactCache(Path directory) {
+
+        this.directory = directory.toAbsolutePath().normalize();
+    }
+
+    /**
+     * @param tenantDomain tenant domain of the API
+     * @param hash         digest of the API
+     * @return cached artifacts of the API, or null if they are not cached
+     */
+    public List<String> get(String tenantDomain, String hash) {
+
+        Path file = getFile(tenantDomain, hash);
+        if (file == null || !Files.isRegularFile(file)) {
+            return null;
+        }
+        try {
+            return gson.fromJson(new String(Files.readAllBytes(file), StandardCharsets.UTF_8), ARTIFACTS_TYPE);
+        } catch (IOException | JsonParseException e) {
+            log.warn("Error while reading cached artifacts " + file + ". The artifacts will be retrieved again", e);
+            return null;
+        }
+    }
+
+    /**
+     * Caches the artifacts of an API. The file is written to a temporary file first and then moved, so a partially
+     * written file is never read.
+     *
+     * @param tenantDomain tenant domain of the API
+     * @param hash         digest of the API
+     * @param artifacts    artifacts of the API
+     */
+    public void put(String tenantDomain, String hash, List<String> artifacts) {
+
+        Path file = getFile(tenantDomain, hash);
+        if (file == null) {
+            return;
+        }
+        Path temporaryFile = null;
+        try {
+            createDirectory(file.getParent());
+            temporaryFile = Files.createTempFile(file.getParent(), hash, ".tmp");
+            Files.write(temporaryFile, gson.toJson(artifacts, ARTIFACTS_TYPE).getBytes(StandardCharsets.UTF_8));
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Error while caching artifacts " + file, e);
+            deleteQuietly(temporaryFile);
+        }
+    }
+
+    /**
+     * Removes the cached artifacts of the tenant other than the given digests.
+     *
+     * @param tenantDomain tenant domain of the APIs
+     * @param hashes       digests of the deployed APIs of the tenant
+     */
+    public void retain(String tenantDomain, Set<String> hashes) {
+
+        Path tenantDirectory = getTenantDirectory(tenantDomain);
+        if (tenantDirectory == null || !Files.isDirectory(tenantDirectory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(tenantDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(FILE_EXTENSION) || !hashes.contains(
+                        fileName.substring(0, fileName.length() - FILE_EXTENSION.length()))) {
+                    deleteQuietly(file);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Error while removing stale cached artifacts of tenant " + tenantDomain, e);
+        }
+    }
+
+    private void createDirectory(Path tenantDirectory) throws IOException {
+
+        if (Files.isDirectory(tenantDirectory)) {
+            return;
+        }
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            FileAttribute<Set<PosixFilePermission>> ownerOnly =
+                    PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------"));
+            Files.createDirectories(directory, ownerOnly);
+            Files.createDirectories(tenantDirectory, ownerOnly);
+        } else {
+            Files.createDirectories(tenantDirectory);
+        }
+    }
+
+    private Path getFile(String tenantDomain, String hash) {
+
+        Path tenantDirectory = getTenantDirectory(tenantDomain);
+        if (tenantDirectory == null || hash == null || !HASH_PATTERN.matcher(hash).matches()) {
+            return null;
+        }
+        return tenantDirectory.resolve(hash + FILE_EXTENSION);
+    }
+
+    private Path getTenantDirectory(String tenantDomain) {
+
+        Path tenantDirectory = directory.resolve(tenantDomain).normalize();
+        if (!directory.equals(tenantDirectory.getParent())) {
+            log.warn("Invalid tenant domain for the artifact cache: " + tenantDomain);
+            return null;
+        }
+        return tenantDirectory;
+    }
+
+    private static void deleteQuietly(Path file) {
+
+        if (file != null) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("Error while deleting " + file, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import java.io.IOException;
+
+/**
+ * Consumes the runtime artifacts generated a chunk of APIs at a time, such as by writing them to a response.
+ */
+@FunctionalInterface
+public interface RuntimeArtifactConsumer {
+
+    /**
+     * @param artifact a generated runtime artifact
+     * @throws IOException if the artifact could not be consumed
+     */
+    void accept(String artifact) throws IOException;
+}
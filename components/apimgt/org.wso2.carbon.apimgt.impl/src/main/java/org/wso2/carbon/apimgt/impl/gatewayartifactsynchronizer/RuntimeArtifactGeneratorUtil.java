@@ -25,6 +25,7 @@ import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
+import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
 import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.ApiMetadataProjectDto;
@@ -86,6 +87,94 @@ public class RuntimeArtifactGeneratorUtil {
         }
     }
 
+    /**
+     * Whether the runtime artifacts of the given type can be generated with
+     * {@link #generateRuntimeArtifactsInChunks(List, String, String, String, RuntimeArtifactConsumer)}.
+     *
+     * @param gatewayLabel base64 encoded labels of the gateway
+     * @param type         type of the gateway
+     * @return true if the artifacts can be generated in chunks
+     */
+    public static boolean isChunkedGenerationSupported(String gatewayLabel, String type) {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator =
+                ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
+        return StringUtils.isNotEmpty(gatewayLabel) && gatewayArtifactGenerator != null
+                && gatewayArtifactGenerator.isChunkedGenerationSupported();
+    }
+
+    /**
+     * Retrieves the UUIDs of the APIs deployed in the given labels of a tenant, without their artifacts, to generate
+     * their artifacts with {@link #generateRuntimeArtifactsInChunks(List, String, String, String,
+     * RuntimeArtifactConsumer)}.
+     *
+     * @param apiIds       UUIDs of the requested APIs, or an empty list for all the deployed APIs
+     * @param gatewayLabel base64 encoded labels of the gateway
+     * @param tenantDomain tenant domain of the APIs
+     * @return UUIDs of the requested APIs which are deployed, in ascending order
+     * @throws APIManagementException if the deployed APIs could not be retrieved
+     */
+    public static List<String> retrieveDeployedAPIIds(List<String> apiIds, String gatewayLabel, String tenantDomain)
+            throws APIManagementException {
+
+        List<String> deployedApiIds =
+                gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(getGatewayLabels(gatewayLabel), tenantDomain);
+        if (apiIds != null && !apiIds.isEmpty()) {
+            deployedApiIds.retainAll(new HashSet<>(apiIds));
+        }
+        return deployedApiIds;
+    }
+
+    /**
+     * Generates the runtime artifacts of the APIs deployed in the given labels of a tenant a chunk of APIs at a time,
+     * so that only the stored artifacts of one chunk are held in memory, however many APIs are deployed.
+     *
+     * @param apiIds       UUIDs of the deployed APIs, as retrieved by
+     *                     {@link #retrieveDeployedAPIIds(List, String, String)}
+     * @param gatewayLabel base64 encoded labels of the gateway
+     * @param type         type of the gateway
+     * @param tenantDomain tenant domain of the APIs
+     * @param consumer     consumer of the generated artifacts
+     * @return number of generated artifacts
+     * @throws APIManagementException if the artifacts could not be generated
+     * @throws IOException            if the consumer could not consume an artifact
+     */
+    public static int generateRuntimeArtifactsInChunks(List<String> apiIds, String gatewayLabel, String type,
+                                                       String tenantDomain, RuntimeArtifactConsumer consumer)
+            throws APIManagementException, IOException {
+
+        GatewayArtifactGenerator gatewayArtifactGenerator =
+                ServiceReferenceHolder.getInstance().getGatewayArtifactGenerator(type);
+        String[] gatewayLabels = getGatewayLabels(gatewayLabel);
+        int artifactCount = 0;
+        for (int start = 0; start < apiIds.size(); start += SQLConstants.API_ID_CHUNK_SIZE) {
+            List<String> apiIdsChunk = apiIds.subList(start,
+                    Math.min(start + SQLConstants.API_ID_CHUNK_SIZE, apiIds.size()));
+            List<APIRuntimeArtifactDto> gatewayArtifacts =
+                    gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByAPIIDs(apiIdsChunk, gatewayLabels, tenantDomain);
+            if (gatewayArtifacts.isEmpty()) {
+                continue;
+            }
+            for (APIRuntimeArtifactDto apiRuntimeArtifactDto : gatewayArtifacts) {
+                ArtifactSynchronizerUtil.setArtifactProperties(apiRuntimeArtifactDto);
+            }
+            RuntimeArtifactDto runtimeArtifactDto = gatewayArtifactGenerator.generateGatewayArtifact(gatewayArtifacts);
+            if (runtimeArtifactDto != null && runtimeArtifactDto.getArtifact() instanceof List) {
+                for (Object artifact : (List<?>) runtimeArtifactDto.getArtifact()) {
+                    consumer.accept((String) artifact);
+                    artifactCount++;
+                }
+            }
+        }
+        return artifactCount;
+    }
+
+    private static String[] getGatewayLabels(String gatewayLabel) {
+
+        byte[] decodedValue = Base64.decodeBase64(gatewayLabel.getBytes());
+        return new String(decodedValue).split("\\|");
+    }
+
     public static RuntimeArtifactDto generateMetadataArtifact(String tenantDomain, String apiId, String gatewayLabel)
             throws APIManagementException {
 
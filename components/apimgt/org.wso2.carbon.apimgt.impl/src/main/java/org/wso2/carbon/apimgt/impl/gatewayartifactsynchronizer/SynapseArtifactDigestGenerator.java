@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.apache.commons.codec.binary.Hex;
+import org.json.simple.JSONObject;
+import org.osgi.service.component.annotations.Component;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.dto.KeyManagerConfigurationDTO;
+import org.wso2.carbon.apimgt.api.model.Environment;
+import org.wso2.carbon.apimgt.api.model.graphql.queryanalysis.GraphqlComplexityInfo;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dao.ApiMgtDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.GatewayPolicyArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.APIArtifactDigestDto;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Generates the digests of the Synapse artifacts of APIs, instead of the artifacts themselves, so that gateways which
+ * cache the artifacts only retrieve the artifacts of the APIs which changed.
+ * <p>
+ * The digest of an API covers the stored revision artifact and the label, vhost and tenant of each of its deployments
+ * in the requested labels, together with the rest of what its Synapse artifacts are generated from: the version of the
+ * generator, the API templates, the configuration of the gateway environment, the tenant configuration, the key
+ * managers of the tenant and, for GraphQL APIs, the query complexity details. A change in any of these changes the
+ * digest, so the gateways retrieve the artifacts again instead of using the ones they cached.
+ */
+@Component(
+        name = "synapse.artifact.digest.generator.service",
+        immediate = true,
+        service = GatewayArtifactGenerator.class
+)
+public class SynapseArtifactDigestGenerator implements GatewayArtifactGenerator {
+
+    /**
+     * Version of the Synapse artifacts generated from the inputs of the digest. This is to be incremented when the
+     * Synapse artifact generator changes the artifacts it generates from the same inputs.
+     */
+    static final String GENERATOR_VERSION = "1";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final byte SEPARATOR = 0;
+    private static final Path API_TEMPLATES_DIRECTORY = Paths.get("repository", "resources", "api_templates");
+
+    private static volatile TemplatesDigest templatesDigest;
+
+    @Override
+    public RuntimeArtifactDto generateGatewayArtifact(List<APIRuntimeArtifactDto> apiRuntimeArtifactDtoList)
+            throws APIManagementException {
+
+        String generatorDigest = null;
+        Map<String, String> environmentDigests = new HashMap<>();
+        Map<String, List<String>> deploymentDigests = new LinkedHashMap<>();
+        for (APIRuntimeArtifactDto apiRuntimeArtifactDto : apiRuntimeArtifactDtoList) {
+            if (apiRuntimeArtifactDto.isFile()) {
+                if (generatorDigest == null) {
+                    generatorDigest = GENERATOR_VERSION + ":" + getTemplatesDigest();
+                }
+                String tenantDomain = apiRuntimeArtifactDto.getTenantDomain();
+                String label = apiRuntimeArtifactDto.getLabel();
+                String environmentDigest = environmentDigests.get(tenantDomain + "/" + label);
+                if (environmentDigest == null) {
+                    environmentDigest = digestEnvironment(tenantDomain, label);
+                    environmentDigests.put(tenantDomain + "/" + label, environmentDigest);
+                }
+                deploymentDigests.computeIfAbsent(apiRuntimeArtifactDto.getApiId(), apiId -> new ArrayList<>())
+                        .add(digestDeployment(apiRuntimeArtifactDto, generatorDigest, environmentDigest));
+            }
+        }
+        Gson gson = new Gson();
+        List<String> apiDigests = new ArrayList<>(deploymentDigests.size());
+        for (Map.Entry<String, List<String>> entry : deploymentDigests.entrySet()) {
+            // the deployments of an API are not retrieved in a fixed order
+            List<String> digests = entry.getValue();
+            Collections.sort(digests);
+            MessageDigest messageDigest = getMessageDigest();
+            for (String digest : digests) {
+                messageDigest.update(digest.getBytes(StandardCharsets.UTF_8));
+            }
+            apiDigests.add(gson.toJson(new APIArtifactDigestDto(entry.getKey(),
+                    Hex.encodeHexString(messageDigest.digest()))));
+        }
+        RuntimeArtifactDto runtimeArtifactDto = new RuntimeArtifactDto();
+        runtimeArtifactDto.setFile(false);
+        runtimeArtifactDto.setArtifact(apiDigests);
+        return runtimeArtifactDto;
+    }
+
+    private static String digestDeployment(APIRuntimeArtifactDto apiRuntimeArtifactDto, String generatorDigest,
+                                           String environmentDigest) throws APIManagementException {
+
+        MessageDigest messageDigest = getMessageDigest();
+        update(messageDigest, generatorDigest);
+        update(messageDigest, environmentDigest);
+        if (APIConstants.GRAPHQL_API.equals(apiRuntimeArtifactDto.getType())) {
+            GraphqlComplexityInfo complexityInfo =
+                    ApiMgtDAO.getInstance().getComplexityDetails(apiRuntimeArtifactDto.getApiId());
+            update(messageDigest, toCanonicalJson(new Gson().toJsonTree(complexityInfo)));
+        }
+        update(messageDigest, apiRuntimeArtifactDto.getApiId());
+        update(messageDigest, apiRuntimeArtifactDto.getRevision());
+        update(messageDigest, apiRuntimeArtifactDto.getLabel());
+        update(messageDigest, apiRuntimeArtifactDto.getVhost());
+        update(messageDigest, apiRuntimeArtifactDto.getTenantDomain());
+        try (InputStream artifact = (InputStream) apiRuntimeArtifactDto.getArtifact()) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = artifact.read(buffer)) != -1) {
+                messageDigest.update(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            throw new APIManagementException("Error while reading the artifact of API " +
+                    apiRuntimeArtifactDto.getApiId(), e);
+        }
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
+    /**
+     * Digests the configurations of a tenant which the Synapse artifacts deployed in a gateway environment of the tenant
+     * are generated with.
+     */
+    private static String digestEnvironment(String tenantDomain, String label) throws APIManagementException {
+
+        Gson gson = new Gson();
+        MessageDigest messageDigest = getMessageDigest();
+        Environment environment = APIUtil.getEnvironments(tenantDomain).get(label);
+        update(messageDigest, environment != null ? toCanonicalJson(gson.toJsonTree(environment)) : null);
+        JSONObject tenantConfig = APIUtil.getTenantConfig(tenantDomain);
+        update(messageDigest, tenantConfig != null
+                ? toCanonicalJson(JsonParser.parseString(tenantConfig.toJSONString())) : null);
+        List<KeyManagerConfigurationDTO> keyManagers =
+                ApiMgtDAO.getInstance().getKeyManagerConfigurationsByOrganization(tenantDomain);
+        List<String> keyManagerDigests = new ArrayList<>();
+        for (KeyManagerConfigurationDTO keyManager : keyManagers) {
+            JsonObject keyManagerJson = gson.toJsonTree(keyManager).getAsJsonObject();
+            // whether the key manager is used by applications does not change the artifacts
+            keyManagerJson.remove("isUsed");
+            keyManagerDigests.add(toCanonicalJson(keyManagerJson));
+        }
+        Collections.sort(keyManagerDigests);
+        for (String keyManagerDigest : keyManagerDigests) {
+            update(messageDigest, keyManagerDigest);
+        }
+        return Hex.encodeHexString(messageDigest.digest());
+    }
+
+    /**
+     * Digests the contents of the API templates, which the Synapse artifacts are generated from. The digest is only
+     * calculated again when the names, sizes or modification times of the template files change.
+     */
+    private static String getTemplatesDigest() throws APIManagementException {
+
+        Path directory = Paths.get(CarbonUtils.getCarbonHome()).resolve(API_TEMPLATES_DIRECTORY);
+        if (!Files.isDirectory(directory)) {
+            return "";
+        }
+        try {
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(directory)) {
+                files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            StringBuilder fingerprint = new StringBuilder();
+            for (Path file : files) {
+                fingerprint.append(directory.relativize(file)).append('\t').append(Files.size(file))
+                        .append('\t').append(Files.getLastModifiedTime(file).toMillis()).append('\n');
+            }
+            TemplatesDigest cachedDigest = templatesDigest;
+            if (cachedDigest != null && cachedDigest.fingerprint.equals(fingerprint.toString())) {
+                return cachedDigest.digest;
+            }
+            MessageDigest messageDigest = getMessageDigest();
+            for (Path file : files) {
+                // the modification times differ between the nodes, so only the names and contents are digested
+                update(messageDigest, directory.relativize(file).toString().replace('\\', '/'));
+                messageDigest.update(Files.readAllBytes(file));
+                messageDigest.update(SEPARATOR);
+            }
+            String digest = Hex.encodeHexString(messageDigest.digest());
+            templatesDigest = new TemplatesDigest(fingerprint.toString(), digest);
+            return digest;
+        } catch (IOException e) {
+            throw new APIManagementException("Error while reading the API templates in " + directory, e);
+        }
+    }
+
+    /**
+     * Returns the JSON with the members of the objects sorted by name, so that the same configuration is digested the
+     * same regardless of the order of its members.
+     */
+    private static String toCanonicalJson(JsonElement element) {
+
+        return canonicalize(element).toString();
+    }
+
+    private static JsonElement canonicalize(JsonElement element) {
+
+        if (element.isJsonObject()) {
+            Map<String, JsonElement> members = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+                members.put(member.getKey(), canonicalize(member.getValue()));
+            }
+            JsonObject sortedObject = new JsonObject();
+            for (Map.Entry<String, JsonElement> member : members.entrySet()) {
+                sortedObject.add(member.getKey(), member.getValue());
+            }
+            return sortedObject;
+        }
+        if (element.isJsonArray()) {
+            JsonArray array = new JsonArray();
+            for (JsonElement item : element.getAsJsonArray()) {
+                array.add(canonicalize(item));
+            }
+            return array;
+        }
+        return element;
+    }
+
+    private static void update(MessageDigest messageDigest, String value) {
+
+        if (value != null) {
+            messageDigest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        messageDigest.update(SEPARATOR);
+    }
+
+    private static MessageDigest getMessageDigest() throws APIManagementException {
+
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new APIManagementException("Error while creating the " + DIGEST_ALGORITHM + " digest", e);
+        }
+    }
+
+    /**
+     * This method is not used for digests.
+     */
+    @Override
+    public RuntimeArtifactDto generateGatewayPolicyArtifact(
+            List<GatewayPolicyArtifactDto> gatewayPolicyArtifactDtoList) {
+
+        return null;
+    }
+
+    @Override
+    public boolean isChunkedGenerationSupported() {
+
+        return true;
+    }
+
+    @Override
+    public String getType() {
+
+        return APIConstants.GatewayArtifactSynchronizer.SYNAPSE_DIGEST_TYPE;
+    }
+
+    private static final class TemplatesDigest {
+
+        private final String fingerprint;
+        private final String digest;
+
+        private TemplatesDigest(String fingerprint, String digest) {
+
+            this.fingerprint = fingerprint;
+            this.digest = digest;
+        }
+    }
+}
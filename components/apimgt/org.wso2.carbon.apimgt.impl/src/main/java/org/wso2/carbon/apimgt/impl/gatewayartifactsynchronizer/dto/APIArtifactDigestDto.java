@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto;
+
+/**
+ * APIArtifactDigestDto represents the digest of the runtime artifacts of an API.
+ * apiId: UUID of the API.
+ * hash: SHA-256 digest of the deployed revisions of the API in the requested gateway labels.
+ */
+public class APIArtifactDigestDto {
+
+    private String apiId;
+    private String hash;
+
+    public APIArtifactDigestDto() {
+
+    }
+
+    public APIArtifactDigestDto(String apiId, String hash) {
+
+        this.apiId = apiId;
+        this.hash = hash;
+    }
+
+    public String getApiId() {
+
+        return apiId;
+    }
+
+    public void setApiId(String apiId) {
+
+        this.apiId = apiId;
+    }
+
+    public String getHash() {
+
+        return hash;
+    }
+
+    public void setHash(String hash) {
+
+        this.hash = hash;
+    }
+}
@@ -354,6 +354,7 @@ public class APIManagerComponent {
             log.debug("Deactivating API manager component");
         }
 
+        AbstractNotifier.flushPendingEvents();
         registration.unregister();
         APIManagerFactory.getInstance().clearAll();
     }
@@ -32,13 +32,31 @@ import org.wso2.carbon.apimgt.impl.utils.APIUtil;
 public abstract class AbstractNotifier implements Notifier {
 
     protected void publishEventToEventHub(Event event) {
+        if (!NotificationEventCoalescer.add(event)) {
+            publishEvent(event);
+        }
+    }
+
+    /**
+     * Publishes the notification events which are held to be published in batches, such as when the server shuts
+     * down.
+     */
+    public static void flushPendingEvents() {
+        NotificationEventCoalescer.flush();
+    }
+
+    static void publishEvent(Event event) {
         byte[] bytesEncoded = Base64.encodeBase64(new Gson().toJson(event).getBytes());
-        Object[] objects = new Object[]{event.getType(), event.getTimeStamp(), new String(bytesEncoded)};
         //Decoded event string to be logged in the case of failures and debugging
-        String loggingEvent = event.toString();
+        publishNotification(event.getType(), event.getTimeStamp(), new String(bytesEncoded), event.getTenantDomain(),
+                event.toString());
+    }
+
+    static void publishNotification(String eventType, long timestamp, String payload, String orgId,
+                                    String loggingEvent) {
+        Object[] objects = new Object[]{eventType, timestamp, payload};
         EventPublisherEvent notificationEvent = new EventPublisherEvent(APIConstants.NOTIFICATION_STREAM_ID,
                 System.currentTimeMillis(), objects, loggingEvent);
-        String orgId = event.getTenantDomain();
         notificationEvent.setOrgId(orgId);
         APIUtil.publishEvent(EventPublisherType.NOTIFICATION, notificationEvent, loggingEvent);
     }
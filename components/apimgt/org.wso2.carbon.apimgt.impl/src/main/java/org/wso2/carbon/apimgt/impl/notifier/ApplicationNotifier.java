@@ -32,6 +32,7 @@ public class ApplicationNotifier extends AbstractNotifier {
     public boolean publishEvent(Event event) throws NotifierException {
 
         publishEventToEventHub(event);
+        SubscriptionChangeRecorder.record(event);
         return true;
     }
 
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import org.apache.commons.codec.binary.Base64;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Encodes and decodes the payload of the notification events.
+ * <p>
+ * A single notification carries the base64 encoded JSON of its event. A batch of notifications is published with the
+ * {@link APIConstants.EventType#NOTIFICATION_BATCH} event type, and carries a plain JSON array of the type, timestamp
+ * and JSON of each of its events, so that the consumers do not decode the events of a batch one by one from base64.
+ * The consumers of the notification topic read both formats through {@link #forEachEvent}.
+ */
+public final class NotificationEventBatch {
+
+    private static final Log log = LogFactory.getLog(NotificationEventBatch.class);
+    private static final Gson gson = new Gson();
+
+    private NotificationEventBatch() {
+    }
+
+    /**
+     * Consumer of the events of a notification.
+     */
+    @FunctionalInterface
+    public interface NotificationEventConsumer {
+
+        /**
+         * @param eventType type of the event
+         * @param timestamp time the event was created at in milliseconds
+         * @param eventJson JSON of the event
+         */
+        void accept(String eventType, long timestamp, String eventJson);
+    }
+
+    /**
+     * Passes the events of a notification to a consumer in the order they were published.
+     *
+     * @param eventType type of the notification
+     * @param timestamp timestamp of the notification
+     * @param payload   event payload of the notification
+     * @param consumer  consumer of the events
+     */
+    public static void forEachEvent(String eventType, long timestamp, String payload,
+                                    NotificationEventConsumer consumer) {
+
+        if (!APIConstants.EventType.NOTIFICATION_BATCH.name().equals(eventType)) {
+            consumer.accept(eventType, timestamp, new String(Base64.decodeBase64(payload), StandardCharsets.UTF_8));
+            return;
+        }
+        JsonArray events;
+        try {
+            events = JsonParser.parseString(payload).getAsJsonArray();
+        } catch (JsonParseException | IllegalStateException e) {
+            log.error("Dropping batch of notification events as it cannot be decoded", e);
+            return;
+        }
+        for (JsonElement element : events) {
+            String batchedEventType;
+            long batchedEventTimestamp;
+            String batchedEventJson;
+            try {
+                JsonObject event = element.getAsJsonObject();
+                batchedEventType = getMember(event, APIConstants.EVENT_TYPE).getAsString();
+                batchedEventTimestamp = getMember(event, APIConstants.EVENT_TIMESTAMP).getAsLong();
+                batchedEventJson = getMember(event, APIConstants.EVENT_PAYLOAD).toString();
+            } catch (IllegalStateException | UnsupportedOperationException | NumberFormatException e) {
+                // the other events of the batch are still consumed
+                log.error("Dropping notification event " + element + " of a batch as it cannot be decoded", e);
+                continue;
+            }
+            consumer.accept(batchedEventType, batchedEventTimestamp, batchedEventJson);
+        }
+    }
+
+    private static JsonElement getMember(JsonObject event, String name) {
+
+        JsonElement member = event.get(name);
+        if (member == null || member.isJsonNull()) {
+            throw new IllegalStateException("Notification event does not have " + name);
+        }
+        return member;
+    }
+
+    static String encode(List<Event> events) {
+
+        JsonArray batch = new JsonArray();
+        for (Event event : events) {
+            JsonObject element = new JsonObject();
+            element.addProperty(APIConstants.EVENT_TYPE, event.getType());
+            element.addProperty(APIConstants.EVENT_TIMESTAMP, event.getTimeStamp());
+            element.add(APIConstants.EVENT_PAYLOAD, gson.toJsonTree(event));
+            batch.add(element);
+        }
+        return gson.toJson(batch);
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.impl.APIConstants.EventType;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+import org.wso2.carbon.apimgt.impl.notifier.events.ScopeEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+
+/**
+ * Holds the notification events of a tenant for a short window and publishes them as one batch, coalescing the events
+ * of the same entity on the way:
+ * <ul>
+ * <li>an update replaces the pending update of the same type of its entity, and is moved to the end of the batch, so
+ * that only the latest state of the entity is published</li>
+ * <li>a delete drops the pending updates of its entity, and for subscriptions and scopes, which nothing else in a
+ * batch refers to, a delete of an entity created in the same batch drops all the events of the entity since its
+ * creation</li>
+ * </ul>
+ * The other events, such as deployments, policies and tenant events, are published as they are, in the order they
+ * were received. The batches are published by a single thread, so the batches of a tenant are published in order.
+ */
+final class NotificationEventCoalescer {
+
+    private static final Log log = LogFactory.getLog(NotificationEventCoalescer.class);
+    private static final long FLUSH_TIMEOUT_SECONDS = 10;
+    private static final Map<String, Rule> rules = new HashMap<>();
+    // batches of the tenants, guarded by itself
+    private static final Map<String, Batch> batches = new HashMap<>();
+    private static final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "NotificationBatchPublisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        addRule(APIEvent.class, APIEvent::getUuid, Operation.UPDATE, false, EventType.API_UPDATE,
+                EventType.API_LIFECYCLE_CHANGE);
+        addRule(ApplicationEvent.class, ApplicationEvent::getUuid, Operation.CREATE, false,
+                EventType.APPLICATION_CREATE);
+        addRule(ApplicationEvent.class, ApplicationEvent::getUuid, Operation.UPDATE, false,
+                EventType.APPLICATION_UPDATE);
+        addRule(ApplicationEvent.class, ApplicationEvent::getUuid, Operation.DELETE, false,
+                EventType.APPLICATION_DELETE);
+        addRule(SubscriptionEvent.class, SubscriptionEvent::getSubscriptionUUID, Operation.CREATE, true,
+                EventType.SUBSCRIPTIONS_CREATE);
+        addRule(SubscriptionEvent.class, SubscriptionEvent::getSubscriptionUUID, Operation.UPDATE, true,
+                EventType.SUBSCRIPTIONS_UPDATE);
+        addRule(SubscriptionEvent.class, SubscriptionEvent::getSubscriptionUUID, Operation.DELETE, true,
+                EventType.SUBSCRIPTIONS_DELETE);
+        addRule(ScopeEvent.class, ScopeEvent::getName, Operation.CREATE, true, EventType.SCOPE_CREATE);
+        addRule(ScopeEvent.class, ScopeEvent::getName, Operation.UPDATE, true, EventType.SCOPE_UPDATE);
+        addRule(ScopeEvent.class, ScopeEvent::getName, Operation.DELETE, true, EventType.SCOPE_DELETE);
+    }
+
+    private NotificationEventCoalescer() {
+    }
+
+    /**
+     * Adds an event to the batch of its tenant.
+     *
+     * @param event event to publish
+     * @return false if batching is disabled, in which case the event has to be published by the caller
+     */
+    static boolean add(Event event) {
+
+        EventHubConfigurationDto.NotificationBatching batchingConfiguration = getBatchingConfiguration();
+        if (batchingConfiguration == null || !batchingConfiguration.isEnabled()) {
+            return false;
+        }
+        String tenantDomain = event.getTenantDomain();
+        synchronized (batches) {
+            Batch batch = batches.get(tenantDomain);
+            if (batch == null) {
+                Batch newBatch = new Batch();
+                batches.put(tenantDomain, newBatch);
+                publisher.schedule(() -> publishIfPending(tenantDomain, newBatch), batchingConfiguration.getWindow(),
+                        TimeUnit.MILLISECONDS);
+                batch = newBatch;
+            }
+            batch.add(event);
+            if (batch.size() >= batchingConfiguration.getMaxEvents()) {
+                batches.remove(tenantDomain);
+                Batch fullBatch = batch;
+                publisher.execute(() -> publish(tenantDomain, fullBatch.getEvents()));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Publishes the pending batches of all the tenants without waiting for the end of their windows, after the
+     * batches which are already being published. The publisher thread does not keep the server from shutting down, so
+     * this is called on shutdown for the pending events not to be lost.
+     */
+    static void flush() {
+
+        Future<?> flushed = publisher.submit(() -> {
+            Map<String, Batch> pendingBatches;
+            synchronized (batches) {
+                pendingBatches = new HashMap<>(batches);
+                batches.clear();
+            }
+            pendingBatches.forEach((tenantDomain, batch) -> publish(tenantDomain, batch.getEvents()));
+        });
+        try {
+            flushed.get(FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while publishing the pending notification events");
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("Error while publishing the pending notification events", e);
+        }
+    }
+
+    private static void publishIfPending(String tenantDomain, Batch batch) {
+
+        synchronized (batches) {
+            // the batch is already published if it was filled before the end of its window
+            if (batches.get(tenantDomain) != batch) {
+                return;
+            }
+            batches.remove(tenantDomain);
+        }
+        publish(tenantDomain, batch.getEvents());
+    }
+
+    private static void publish(String tenantDomain, List<Event> events) {
+
+        try {
+            if (events.size() == 1) {
+                AbstractNotifier.publishEvent(events.get(0));
+            } else if (!events.isEmpty()) {
+                StringBuilder loggingEvent = new StringBuilder();
+                for (Event event : events) {
+                    loggingEvent.append(event).append('\n');
+                }
+                AbstractNotifier.publishNotification(EventType.NOTIFICATION_BATCH.name(),
+                        System.currentTimeMillis(), NotificationEventBatch.encode(events), tenantDomain,
+                        loggingEvent.toString());
+            }
+        } catch (RuntimeException e) {
+            log.error("Error while publishing a batch of " + events.size() + " notification events of tenant "
+                    + tenantDomain, e);
+        }
+    }
+
+    private static <T extends Event> void addRule(Class<T> eventClass, Function<T, String> entityId,
+                                                  Operation operation, boolean cancellable, EventType... eventTypes) {
+
+        for (EventType eventType : eventTypes) {
+            rules.put(eventType.name(), new Rule(eventClass.getSimpleName(), event ->
+                    eventClass.isInstance(event) ? entityId.apply(eventClass.cast(event)) : null, operation,
+                    cancellable));
+        }
+    }
+
+    private static EventHubConfigurationDto.NotificationBatching getBatchingConfiguration() {
+
+        if (ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService() == null) {
+            return null;
+        }
+        APIManagerConfiguration configuration =
+                ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration();
+        if (configuration == null || configuration.getEventHubConfigurationDto() == null) {
+            return null;
+        }
+        return configuration.getEventHubConfigurationDto().getNotificationBatching();
+    }
+
+    private enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    private static final class Rule {
+
+        private final String entityType;
+        private final Function<Event, String> entityId;
+        private final Operation operation;
+        private final boolean cancellable;
+
+        private Rule(String entityType, Function<Event, String> entityId, Operation operation, boolean cancellable) {
+
+            this.entityType = entityType;
+            this.entityId = entityId;
+            this.operation = operation;
+            this.cancellable = cancellable;
+        }
+    }
+
+    /**
+     * Events of a tenant pending publishing. The coalesced events are left as null entries, so that the positions of
+     * the other events do not change.
+     */
+    static final class Batch {
+
+        private final List<Event> events = new ArrayList<>();
+        // positions of the pending events of each entity
+        private final Map<String, List<Integer>> entityEvents = new HashMap<>();
+        private int size;
+
+        void add(Event event) {
+
+            Rule rule = rules.get(event.getType());
+            String entityId = rule == null ? null : rule.entityId.apply(event);
+            if (entityId == null) {
+                append(event, null);
+                return;
+            }
+            String entity = rule.entityType + ':' + entityId;
+            List<Integer> positions = entityEvents.get(entity);
+            if (rule.operation == Operation.UPDATE) {
+                drop(positions, position -> events.get(position).getType().equals(event.getType()));
+            } else if (rule.operation == Operation.DELETE) {
+                int created = getLastCreate(positions);
+                if (rule.cancellable && created >= 0) {
+                    // the entity is created and deleted within the batch, so none of its events since its creation
+                    // are published. The events before its creation, such as the delete of an earlier entity of the
+                    // same id, are kept
+                    drop(positions, position -> position >= created);
+                    if (positions.isEmpty()) {
+                        entityEvents.remove(entity);
+                    }
+                    return;
+                }
+                drop(positions, position -> getOperation(position) == Operation.UPDATE);
+            }
+            append(event, entity);
+        }
+
+        private void append(Event event, String entity) {
+
+            if (entity != null) {
+                entityEvents.computeIfAbsent(entity, key -> new ArrayList<>()).add(events.size());
+            }
+            events.add(event);
+            size++;
+        }
+
+        private int getLastCreate(List<Integer> positions) {
+
+            if (positions != null) {
+                for (int i = positions.size() - 1; i >= 0; i--) {
+                    if (getOperation(positions.get(i)) == Operation.CREATE) {
+                        return positions.get(i);
+                    }
+                }
+            }
+            return -1;
+        }
+
+        private Operation getOperation(int position) {
+
+            return rules.get(events.get(position).getType()).operation;
+        }
+
+        private void drop(List<Integer> positions, IntPredicate filter) {
+
+            if (positions == null) {
+                return;
+            }
+            for (Iterator<Integer> iterator = positions.iterator(); iterator.hasNext(); ) {
+                int position = iterator.next();
+                if (filter.test(position)) {
+                    events.set(position, null);
+                    iterator.remove();
+                    size--;
+                }
+            }
+        }
+
+        /**
+         * @return number of events to publish
+         */
+        int size() {
+
+            return size;
+        }
+
+        List<Event> getEvents() {
+
+            List<Event> pendingEvents = new ArrayList<>(size);
+            for (Event event : events) {
+                if (event != null) {
+                    pendingEvents.add(event);
+                }
+            }
+            return pendingEvents;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionChange;
+import org.wso2.carbon.apimgt.impl.APIManagerConfiguration;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationRegistrationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+
+import java.sql.Timestamp;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Records the subscription, application and application key mapping events in the subscription change log, from
+ * which the gateways synchronize incrementally when they reconnect to the event hub. A failure to record a change
+ * never fails the publishing of the event. A gap is recorded for the organization instead, which makes the gateways
+ * synchronizing from before it reload the organization fully. If the gap cannot be recorded either, it is recorded
+ * with the next change.
+ */
+final class SubscriptionChangeRecorder {
+
+    private static final Log log = LogFactory.getLog(SubscriptionChangeRecorder.class);
+    private static final long PURGE_INTERVAL = TimeUnit.HOURS.toMillis(1);
+    private static final AtomicLong lastPurgeTime = new AtomicLong();
+    // number of changes which could not be recorded, by organization, until a gap is recorded for them
+    private static final Map<String, Integer> unrecordedChanges = new ConcurrentHashMap<>();
+
+    private SubscriptionChangeRecorder() {
+    }
+
+    static void record(Event event) {
+
+        EventHubConfigurationDto.SubscriptionDeltaSync deltaSyncConfiguration = getDeltaSyncConfiguration();
+        if (deltaSyncConfiguration == null || !deltaSyncConfiguration.isEnabled()) {
+            return;
+        }
+        SubscriptionChange change = toSubscriptionChange(event);
+        if (change == null) {
+            return;
+        }
+        SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
+        try {
+            subscriptionValidationDAO.addSubscriptionChange(change);
+        } catch (APIManagementException e) {
+            log.error("Error while recording " + change + ". A gap is recorded for the organization instead.", e);
+            unrecordedChanges.merge(change.getOrganization(), 1, Integer::sum);
+        }
+        recordGaps(subscriptionValidationDAO);
+        purgeIfDue(subscriptionValidationDAO, deltaSyncConfiguration.getChangeLogRetention());
+    }
+
+    static SubscriptionChange toSubscriptionChange(Event event) {
+
+        SubscriptionChange change = new SubscriptionChange();
+        if (event instanceof SubscriptionEvent) {
+            SubscriptionEvent subscriptionEvent = (SubscriptionEvent) event;
+            change.setEntityType(SubscriptionChange.EntityType.SUBSCRIPTION);
+            change.setApplicationId(subscriptionEvent.getApplicationId());
+            change.setApiId(subscriptionEvent.getApiId());
+        } else if (event instanceof ApplicationEvent) {
+            change.setEntityType(SubscriptionChange.EntityType.APPLICATION);
+            change.setApplicationId(((ApplicationEvent) event).getApplicationId());
+        } else if (event instanceof ApplicationRegistrationEvent) {
+            ApplicationRegistrationEvent registrationEvent = (ApplicationRegistrationEvent) event;
+            change.setEntityType(SubscriptionChange.EntityType.KEY_MAPPING);
+            change.setApplicationId(registrationEvent.getApplicationId());
+            change.setConsumerKey(registrationEvent.getConsumerKey());
+            change.setKeyManager(registrationEvent.getKeyManager());
+        } else {
+            return null;
+        }
+        change.setOrganization(event.getTenantDomain());
+        return change;
+    }
+
+    private static void recordGaps(SubscriptionValidationDAO subscriptionValidationDAO) {
+
+        for (Map.Entry<String, Integer> entry : unrecordedChanges.entrySet()) {
+            SubscriptionChange gap = new SubscriptionChange();
+            gap.setEntityType(SubscriptionChange.EntityType.GAP);
+            gap.setOrganization(entry.getKey());
+            try {
+                subscriptionValidationDAO.addSubscriptionChange(gap);
+                // kept if another change failed meanwhile, since it may have failed after the gap was recorded
+                unrecordedChanges.remove(entry.getKey(), entry.getValue());
+            } catch (APIManagementException e) {
+                log.error("Error while recording a gap in the subscription change log of organization "
+                        + entry.getKey() + ". It is recorded with the next change.", e);
+            }
+        }
+    }
+
+    private static void purgeIfDue(SubscriptionValidationDAO subscriptionValidationDAO, int retentionHours) {
+
+        long now = System.currentTimeMillis();
+        long lastPurge = lastPurgeTime.get();
+        if (now - lastPurge < PURGE_INTERVAL || !lastPurgeTime.compareAndSet(lastPurge, now)) {
+            return;
+        }
+        try {
+            int removed = subscriptionValidationDAO.removeSubscriptionChanges(
+                    new Timestamp(now - TimeUnit.HOURS.toMillis(retentionHours)));
+            if (log.isDebugEnabled()) {
+                log.debug("Removed " + removed + " expired entries from the subscription change log");
+            }
+        } catch (APIManagementException e) {
+            log.error("Error while removing expired entries from the subscription change log", e);
+        }
+    }
+
+    private static EventHubConfigurationDto.SubscriptionDeltaSync getDeltaSyncConfiguration() {
+
+        if (ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService() == null) {
+            return null;
+        }
+        APIManagerConfiguration configuration =
+                ServiceReferenceHolder.getInstance().getAPIManagerConfigurationService().getAPIManagerConfiguration();
+        if (configuration == null || configuration.getEventHubConfigurationDto() == null) {
+            return null;
+        }
+        return configuration.getEventHubConfigurationDto().getSubscriptionDeltaSync();
+    }
+}
@@ -40,6 +40,7 @@ public class SubscriptionsNotifier extends AbstractNotifier {
             }
         }
         publishEventToEventHub(event);
+        SubscriptionChangeRecorder.record(event);
         return true;
     }
 
@@ -206,4 +206,49 @@ public class GatewayArtifactsMgtDAOTest {
         Assert.assertNotNull(artifact);
         Assert.assertEquals(context, artifacts.get(0).getContext());
     }
+
+    @Test
+    public void testRetrieveDeployedAPIIdsByLabel() throws APIManagementException {
+        String firstUuid = addDeployedAPI("deployedapi1", "/deployed1", "label3");
+        String secondUuid = addDeployedAPI("deployedapi2", "/deployed2", "label3");
+        String otherLabelUuid = addDeployedAPI("deployedapi3", "/deployed3", "label4");
+
+        List<String> apiIds = gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(new String[]{"label3"},
+                "carbon.super");
+        Assert.assertEquals(2, apiIds.size());
+        Assert.assertTrue(apiIds.contains(firstUuid));
+        Assert.assertTrue(apiIds.contains(secondUuid));
+        Assert.assertTrue(apiIds.get(0).compareTo(apiIds.get(1)) < 0);
+
+        apiIds = gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(new String[]{"label3", "label4"},
+                "carbon.super");
+        Assert.assertEquals(3, apiIds.size());
+        Assert.assertTrue(apiIds.contains(otherLabelUuid));
+        Assert.assertTrue(gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(new String[]{"label3"},
+                "wso2.com").isEmpty());
+        Assert.assertTrue(gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(new String[]{"unknown"},
+                "carbon.super").isEmpty());
+    }
+
+    private String addDeployedAPI(String name, String context, String label) throws APIManagementException {
+        String uuid = UUID.randomUUID().toString();
+        String version = "1.0.0";
+        String revision = UUID.randomUUID().toString();
+        URL resource = getClass().getClassLoader().getResource("admin-PizzaShackAPI-1.0.0.zip");
+        File file = new File(resource.getPath());
+        gatewayArtifactsMgtDAO.addGatewayAPIArtifactAndMetaData(uuid, name, version, revision, "carbon.super",
+                APIConstants.HTTP_PROTOCOL, file);
+
+        API api = new API(new APIIdentifier("test-provider", name, version));
+        api.setContext(context);
+        api.setContextTemplate(context + "/{version}");
+        api.setUUID(uuid);
+        apiMgtDAO.addAPI(api, -1234, "testOrg");
+
+        Map<String, String> gatewayVhosts = new HashMap<>();
+        gatewayVhosts.put(label, "dev.wso2.com");
+        gatewayArtifactsMgtDAO.addAndRemovePublishedGatewayLabels(uuid, revision, Collections.asSet(label),
+                gatewayVhosts);
+        return uuid;
+    }
 }
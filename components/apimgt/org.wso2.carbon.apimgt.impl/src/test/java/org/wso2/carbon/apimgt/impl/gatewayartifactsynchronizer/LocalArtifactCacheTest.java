@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class LocalArtifactCacheTest {
+
+    private static final String HASH = "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef";
+    private static final String OTHER_HASH = "fedcba9876543210fedcba9876543210fedcba9876543210fedcba9876543210";
+
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+
+        directory = Files.createTempDirectory("artifact-cache");
+    }
+
+    @After
+    public void tearDown() {
+
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+
+    @Test
+    public void testPutAndGet() {
+
+        LocalArtifactCache cache = new LocalArtifactCache(directory);
+        Assert.assertNull(cache.get("carbon.super", HASH));
+        List<String> artifacts = Arrays.asList("{\"apiId\":\"1\"}", "{\"apiId\":\"1\",\"name\":\"prod\"}");
+        cache.put("carbon.super", HASH, artifacts);
+        Assert.assertEquals(artifacts, cache.get("carbon.super", HASH));
+        Assert.assertNull(cache.get("wso2.com", HASH));
+        Assert.assertEquals(artifacts, new LocalArtifactCache(directory).get("carbon.super", HASH));
+    }
+
+    @Test
+    public void testRetain() {
+
+        LocalArtifactCache cache = new LocalArtifactCache(directory);
+        cache.put("carbon.super", HASH, Collections.singletonList("{}"));
+        cache.put("carbon.super", OTHER_HASH, Collections.singletonList("{}"));
+        cache.retain("carbon.super", Collections.singleton(OTHER_HASH));
+        Assert.assertNull(cache.get("carbon.super", HASH));
+        Assert.assertNotNull(cache.get("carbon.super", OTHER_HASH));
+    }
+
+    @Test
+    public void testInvalidKeysAreNotCached() {
+
+        LocalArtifactCache cache = new LocalArtifactCache(directory);
+        cache.put("../outside", HASH, Collections.singletonList("{}"));
+        cache.put("carbon.super", "../" + HASH, Collections.singletonList("{}"));
+        Assert.assertNull(cache.get("../outside", HASH));
+        Assert.assertFalse(Files.exists(directory.resolveSibling("outside")));
+        Assert.assertNull(cache.get("carbon.super", "../" + HASH));
+    }
+}
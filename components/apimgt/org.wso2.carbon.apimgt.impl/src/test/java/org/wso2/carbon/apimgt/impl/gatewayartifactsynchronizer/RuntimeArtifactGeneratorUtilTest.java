@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.impl.dao.GatewayArtifactsMgtDAO;
+import org.wso2.carbon.apimgt.impl.dao.constants.SQLConstants;
+import org.wso2.carbon.apimgt.impl.dto.APIArtifactPropertyValues;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.internal.ServiceReferenceHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({GatewayArtifactsMgtDAO.class, ServiceReferenceHolder.class})
+@PowerMockIgnore("javax.management.*")
+public class RuntimeArtifactGeneratorUtilTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+    private static final String TYPE = "Synapse";
+    private static final String[] LABELS = new String[]{"Production", "Sandbox"};
+    private static final String GATEWAY_LABEL =
+            Base64.encodeBase64String("Production|Sandbox".getBytes(StandardCharsets.UTF_8));
+
+    // the utilities keep the DAO they got first, so the same mock is used by all the tests
+    private static final GatewayArtifactsMgtDAO gatewayArtifactsMgtDAO = Mockito.mock(GatewayArtifactsMgtDAO.class);
+
+    private GatewayArtifactGenerator gatewayArtifactGenerator;
+
+    @Before
+    public void setUp() throws Exception {
+
+        Mockito.reset(gatewayArtifactsMgtDAO);
+        PowerMockito.mockStatic(GatewayArtifactsMgtDAO.class);
+        PowerMockito.when(GatewayArtifactsMgtDAO.getInstance()).thenReturn(gatewayArtifactsMgtDAO);
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveAPIArtifactPropertyValues(Mockito.anyString(),
+                Mockito.anyString(), Mockito.anyString())).thenReturn(new APIArtifactPropertyValues());
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByAPIIDs(Mockito.anyList(), Mockito.any(),
+                Mockito.anyString())).thenAnswer(invocation -> {
+            List<APIRuntimeArtifactDto> artifacts = new ArrayList<>();
+            for (Object apiId : (List<?>) invocation.getArgument(0)) {
+                APIRuntimeArtifactDto artifact = new APIRuntimeArtifactDto();
+                artifact.setApiId((String) apiId);
+                artifact.setLabel("Production");
+                artifact.setRevision("1");
+                artifacts.add(artifact);
+            }
+            return artifacts;
+        });
+
+        gatewayArtifactGenerator = Mockito.mock(GatewayArtifactGenerator.class);
+        Mockito.when(gatewayArtifactGenerator.isChunkedGenerationSupported()).thenReturn(true);
+        Mockito.when(gatewayArtifactGenerator.generateGatewayArtifact(Mockito.anyList())).thenAnswer(invocation -> {
+            List<String> generatedArtifacts = new ArrayList<>();
+            for (Object artifact : (List<?>) invocation.getArgument(0)) {
+                generatedArtifacts.add("artifact-" + ((APIRuntimeArtifactDto) artifact).getApiId());
+            }
+            RuntimeArtifactDto runtimeArtifactDto = new RuntimeArtifactDto();
+            runtimeArtifactDto.setArtifact(generatedArtifacts);
+            return runtimeArtifactDto;
+        });
+        PowerMockito.mockStatic(ServiceReferenceHolder.class);
+        ServiceReferenceHolder serviceReferenceHolder = Mockito.mock(ServiceReferenceHolder.class);
+        PowerMockito.when(ServiceReferenceHolder.getInstance()).thenReturn(serviceReferenceHolder);
+        Mockito.when(serviceReferenceHolder.getGatewayArtifactGenerator(TYPE)).thenReturn(gatewayArtifactGenerator);
+    }
+
+    @Test
+    public void testArtifactsAreGeneratedInChunks() throws Exception {
+
+        List<String> apiIds = apiIds(2 * SQLConstants.API_ID_CHUNK_SIZE + 1);
+        List<String> artifacts = new ArrayList<>();
+        int count = RuntimeArtifactGeneratorUtil.generateRuntimeArtifactsInChunks(apiIds, GATEWAY_LABEL, TYPE,
+                TENANT_DOMAIN, artifacts::add);
+
+        Assert.assertEquals(apiIds.size(), count);
+        Assert.assertEquals(apiIds.size(), artifacts.size());
+        for (int i = 0; i < apiIds.size(); i++) {
+            Assert.assertEquals("artifact-" + apiIds.get(i), artifacts.get(i));
+        }
+        Assert.assertEquals(Arrays.asList(SQLConstants.API_ID_CHUNK_SIZE, SQLConstants.API_ID_CHUNK_SIZE, 1),
+                getChunkSizes(3));
+    }
+
+    @Test
+    public void testFullChunkIsNotFollowedByEmptyChunk() throws Exception {
+
+        List<String> apiIds = apiIds(SQLConstants.API_ID_CHUNK_SIZE);
+        int count = RuntimeArtifactGeneratorUtil.generateRuntimeArtifactsInChunks(apiIds, GATEWAY_LABEL, TYPE,
+                TENANT_DOMAIN, artifact -> {
+                });
+
+        Assert.assertEquals(SQLConstants.API_ID_CHUNK_SIZE, count);
+        Assert.assertEquals(Collections.singletonList(SQLConstants.API_ID_CHUNK_SIZE), getChunkSizes(1));
+    }
+
+    @Test
+    public void testLabelWithoutDeployedAPIs() throws Exception {
+
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(LABELS, TENANT_DOMAIN))
+                .thenReturn(new ArrayList<>());
+        List<String> apiIds = RuntimeArtifactGeneratorUtil.retrieveDeployedAPIIds(Collections.emptyList(),
+                GATEWAY_LABEL, TENANT_DOMAIN);
+        Assert.assertTrue(apiIds.isEmpty());
+
+        List<String> artifacts = new ArrayList<>();
+        Assert.assertEquals(0, RuntimeArtifactGeneratorUtil.generateRuntimeArtifactsInChunks(apiIds, GATEWAY_LABEL,
+                TYPE, TENANT_DOMAIN, artifacts::add));
+        Assert.assertTrue(artifacts.isEmpty());
+        Mockito.verify(gatewayArtifactsMgtDAO, Mockito.never())
+                .retrieveGatewayArtifactsByAPIIDs(Mockito.anyList(), Mockito.any(), Mockito.anyString());
+        Mockito.verify(gatewayArtifactGenerator, Mockito.never()).generateGatewayArtifact(Mockito.anyList());
+    }
+
+    @Test
+    public void testDeployedAPIIdsAreFilteredByRequestedAPIs() throws Exception {
+
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveDeployedAPIIdsByLabel(LABELS, TENANT_DOMAIN))
+                .thenReturn(new ArrayList<>(Arrays.asList("api1", "api2", "api3")));
+
+        Assert.assertEquals(Arrays.asList("api1", "api2", "api3"),
+                RuntimeArtifactGeneratorUtil.retrieveDeployedAPIIds(Collections.emptyList(), GATEWAY_LABEL,
+                        TENANT_DOMAIN));
+        Assert.assertEquals(Arrays.asList("api1", "api3"),
+                RuntimeArtifactGeneratorUtil.retrieveDeployedAPIIds(Arrays.asList("api3", "api4", "api1"),
+                        GATEWAY_LABEL, TENANT_DOMAIN));
+    }
+
+    @Test
+    public void testFailureStopsGeneration() throws Exception {
+
+        List<String> apiIds = apiIds(2 * SQLConstants.API_ID_CHUNK_SIZE);
+        Mockito.when(gatewayArtifactsMgtDAO.retrieveGatewayArtifactsByAPIIDs(
+                Mockito.eq(apiIds.subList(SQLConstants.API_ID_CHUNK_SIZE, apiIds.size())), Mockito.any(),
+                Mockito.anyString())).thenThrow(new APIManagementException("Database failure"));
+        List<String> artifacts = new ArrayList<>();
+        try {
+            RuntimeArtifactGeneratorUtil.generateRuntimeArtifactsInChunks(apiIds, GATEWAY_LABEL, TYPE,
+                    TENANT_DOMAIN, artifacts::add);
+            Assert.fail("Expected the failure of the second chunk to be thrown");
+        } catch (APIManagementException e) {
+            Assert.assertEquals("Database failure", e.getMessage());
+        }
+        // the artifacts of the first chunk were already consumed
+        Assert.assertEquals(SQLConstants.API_ID_CHUNK_SIZE, artifacts.size());
+    }
+
+    private static List<String> apiIds(int count) {
+
+        List<String> apiIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            apiIds.add(String.format("api%03d", i));
+        }
+        return apiIds;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Integer> getChunkSizes(int chunks) throws APIManagementException {
+
+        ArgumentCaptor<List<String>> chunkCaptor = ArgumentCaptor.forClass(List.class);
+        Mockito.verify(gatewayArtifactsMgtDAO, Mockito.times(chunks)).retrieveGatewayArtifactsByAPIIDs(
+                chunkCaptor.capture(), Mockito.eq(LABELS), Mockito.eq(TENANT_DOMAIN));
+        List<Integer> chunkSizes = new ArrayList<>();
+        for (List<String> chunk : chunkCaptor.getAllValues()) {
+            chunkSizes.add(chunk.size());
+        }
+        return chunkSizes;
+    }
+}
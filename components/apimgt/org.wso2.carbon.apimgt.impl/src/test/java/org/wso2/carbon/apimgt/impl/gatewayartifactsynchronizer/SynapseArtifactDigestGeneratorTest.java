@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer;
+
+import com.google.gson.Gson;
+import org.apache.commons.io.FileUtils;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PowerMockIgnore;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.wso2.carbon.apimgt.api.dto.KeyManagerConfigurationDTO;
+import org.wso2.carbon.apimgt.api.model.Environment;
+import org.wso2.carbon.apimgt.api.model.graphql.queryanalysis.CustomComplexityDetails;
+import org.wso2.carbon.apimgt.api.model.graphql.queryanalysis.GraphqlComplexityInfo;
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.impl.dao.ApiMgtDAO;
+import org.wso2.carbon.apimgt.impl.dto.APIRuntimeArtifactDto;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.dto.APIArtifactDigestDto;
+import org.wso2.carbon.apimgt.impl.utils.APIUtil;
+import org.wso2.carbon.utils.CarbonUtils;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({APIUtil.class, ApiMgtDAO.class, CarbonUtils.class})
+@PowerMockIgnore("javax.management.*")
+public class SynapseArtifactDigestGeneratorTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    private Path carbonHome;
+    private Path template;
+    private Map<String, Environment> environments;
+    private JSONObject tenantConfig;
+    private List<KeyManagerConfigurationDTO> keyManagers;
+    private ApiMgtDAO apiMgtDAO;
+
+    @Before
+    public void setUp() throws Exception {
+
+        carbonHome = Files.createTempDirectory("carbon-home");
+        Path templates = carbonHome.resolve("repository").resolve("resources").resolve("api_templates");
+        Files.createDirectories(templates);
+        template = templates.resolve("velocity_template.xml");
+        Files.write(template, "template".getBytes(StandardCharsets.UTF_8));
+
+        environments = new HashMap<>();
+        environments.put("Production", environment("Production"));
+        environments.put("Sandbox", environment("Sandbox"));
+        tenantConfig = new JSONObject();
+        KeyManagerConfigurationDTO keyManager = new KeyManagerConfigurationDTO();
+        keyManager.setName("Resident Key Manager");
+        keyManagers = new ArrayList<>(Collections.singletonList(keyManager));
+
+        PowerMockito.mockStatic(CarbonUtils.class);
+        PowerMockito.when(CarbonUtils.getCarbonHome()).thenReturn(carbonHome.toString());
+        PowerMockito.mockStatic(APIUtil.class);
+        PowerMockito.when(APIUtil.getEnvironments(TENANT_DOMAIN)).thenReturn(environments);
+        PowerMockito.when(APIUtil.getTenantConfig(TENANT_DOMAIN)).thenReturn(tenantConfig);
+        PowerMockito.mockStatic(ApiMgtDAO.class);
+        apiMgtDAO = Mockito.mock(ApiMgtDAO.class);
+        PowerMockito.when(ApiMgtDAO.getInstance()).thenReturn(apiMgtDAO);
+        Mockito.when(apiMgtDAO.getKeyManagerConfigurationsByOrganization(TENANT_DOMAIN)).thenReturn(keyManagers);
+        Mockito.when(apiMgtDAO.getComplexityDetails(Mockito.anyString())).thenReturn(new GraphqlComplexityInfo());
+    }
+
+    @After
+    public void tearDown() {
+
+        FileUtils.deleteQuietly(carbonHome.toFile());
+    }
+
+    @Test
+    public void testDigestDoesNotDependOnDeploymentOrder() throws Exception {
+
+        SynapseArtifactDigestGenerator generator = new SynapseArtifactDigestGenerator();
+        List<String> digests = getDigests(generator.generateGatewayArtifact(Arrays.asList(
+                artifact("api1", "1", "Production", "content"), artifact("api1", "1", "Sandbox", "content"),
+                artifact("api2", "1", "Production", "other content"))).getArtifact());
+        List<String> reorderedDigests = getDigests(generator.generateGatewayArtifact(Arrays.asList(
+                artifact("api2", "1", "Production", "other content"), artifact("api1", "1", "Sandbox", "content"),
+                artifact("api1", "1", "Production", "content"))).getArtifact());
+        Assert.assertEquals(2, digests.size());
+        Assert.assertEquals(digests.get(0), reorderedDigests.get(1));
+        Assert.assertEquals(digests.get(1), reorderedDigests.get(0));
+
+        List<String> changedDigests = getDigests(generator.generateGatewayArtifact(Arrays.asList(
+                artifact("api1", "2", "Production", "content"), artifact("api1", "2", "Sandbox", "content")))
+                .getArtifact());
+        Assert.assertNotEquals(digests.get(0), changedDigests.get(0));
+    }
+
+    @Test
+    public void testDigestChangesWithEnvironment() throws Exception {
+
+        String digest = digest(artifact("api1", "1", "Production", "content"));
+        Assert.assertEquals(digest, digest(artifact("api1", "1", "Production", "content")));
+
+        environments.get("Production").getAdditionalProperties().put("timeout", "30");
+        Assert.assertNotEquals(digest, digest(artifact("api1", "1", "Production", "content")));
+    }
+
+    @Test
+    public void testDigestChangesWithTemplates() throws Exception {
+
+        String digest = digest(artifact("api1", "1", "Production", "content"));
+
+        Files.write(template, "changed".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(template,
+                FileTime.fromMillis(Files.getLastModifiedTime(template).toMillis() + 1000));
+        Assert.assertNotEquals(digest, digest(artifact("api1", "1", "Production", "content")));
+    }
+
+    @Test
+    public void testDigestChangesWithTenantConfigAndKeyManagers() throws Exception {
+
+        String digest = digest(artifact("api1", "1", "Production", "content"));
+
+        tenantConfig.put("EnableMonetization", true);
+        String tenantConfigDigest = digest(artifact("api1", "1", "Production", "content"));
+        Assert.assertNotEquals(digest, tenantConfigDigest);
+
+        KeyManagerConfigurationDTO keyManager = new KeyManagerConfigurationDTO();
+        keyManager.setName("External Key Manager");
+        keyManagers.add(keyManager);
+        Assert.assertNotEquals(tenantConfigDigest, digest(artifact("api1", "1", "Production", "content")));
+    }
+
+    @Test
+    public void testGraphQLDigestChangesWithComplexity() throws Exception {
+
+        APIRuntimeArtifactDto graphQLArtifact = artifact("api1", "1", "Production", "content");
+        graphQLArtifact.setType(APIConstants.GRAPHQL_API);
+        String digest = digest(graphQLArtifact);
+
+        CustomComplexityDetails complexityDetails = new CustomComplexityDetails();
+        complexityDetails.setType("Query");
+        complexityDetails.setField("books");
+        complexityDetails.setComplexityValue(5);
+        GraphqlComplexityInfo complexityInfo = new GraphqlComplexityInfo();
+        complexityInfo.setList(Collections.singletonList(complexityDetails));
+        Mockito.when(apiMgtDAO.getComplexityDetails("api1")).thenReturn(complexityInfo);
+        graphQLArtifact = artifact("api1", "1", "Production", "content");
+        graphQLArtifact.setType(APIConstants.GRAPHQL_API);
+        Assert.assertNotEquals(digest, digest(graphQLArtifact));
+    }
+
+    private static String digest(APIRuntimeArtifactDto apiRuntimeArtifactDto) throws Exception {
+
+        List<String> digests = getDigests(new SynapseArtifactDigestGenerator()
+                .generateGatewayArtifact(Collections.singletonList(apiRuntimeArtifactDto)).getArtifact());
+        Assert.assertEquals(1, digests.size());
+        return digests.get(0);
+    }
+
+    private static Environment environment(String name) {
+
+        Environment environment = new Environment();
+        environment.setName(name);
+        environment.setAdditionalProperties(new HashMap<>());
+        return environment;
+    }
+
+    private static APIRuntimeArtifactDto artifact(String apiId, String revision, String label, String content) {
+
+        APIRuntimeArtifactDto apiRuntimeArtifactDto = new APIRuntimeArtifactDto();
+        apiRuntimeArtifactDto.setApiId(apiId);
+        apiRuntimeArtifactDto.setRevision(revision);
+        apiRuntimeArtifactDto.setLabel(label);
+        apiRuntimeArtifactDto.setTenantDomain(TENANT_DOMAIN);
+        apiRuntimeArtifactDto.setFile(true);
+        apiRuntimeArtifactDto.setArtifact(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+        return apiRuntimeArtifactDto;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> getDigests(Object artifact) {
+
+        List<String> digests = new ArrayList<>();
+        for (String digest : (List<String>) artifact) {
+            APIArtifactDigestDto apiArtifactDigest = new Gson().fromJson(digest, APIArtifactDigestDto.class);
+            digests.add(apiArtifactDigest.getApiId() + ":" + apiArtifactDigest.getHash());
+        }
+        return digests;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 LLC. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.impl.notifier;
+
+import com.google.gson.Gson;
+import org.apache.commons.codec.binary.Base64;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.impl.APIConstants.EventType;
+import org.wso2.carbon.apimgt.impl.notifier.events.APIEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.Event;
+import org.wso2.carbon.apimgt.impl.notifier.events.ScopeEvent;
+import org.wso2.carbon.apimgt.impl.notifier.events.SubscriptionEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class NotificationEventCoalescerTest {
+
+    private static final String TENANT_DOMAIN = "carbon.super";
+
+    @Test
+    public void testLatestUpdateWins() {
+
+        NotificationEventCoalescer.Batch batch = new NotificationEventCoalescer.Batch();
+        batch.add(application(EventType.APPLICATION_CREATE, "app1", "Bronze"));
+        batch.add(application(EventType.APPLICATION_UPDATE, "app1", "Silver"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_CREATE, "sub1"));
+        batch.add(application(EventType.APPLICATION_UPDATE, "app1", "Gold"));
+        batch.add(application(EventType.APPLICATION_UPDATE, "app2", "Gold"));
+
+        List<Event> events = batch.getEvents();
+        Assert.assertEquals(4, batch.size());
+        Assert.assertEquals(Arrays.asList(EventType.APPLICATION_CREATE.name(), EventType.SUBSCRIPTIONS_CREATE.name(),
+                EventType.APPLICATION_UPDATE.name(), EventType.APPLICATION_UPDATE.name()), getTypes(events));
+        Assert.assertEquals("Gold", ((ApplicationEvent) events.get(2)).getApplicationPolicy());
+        Assert.assertEquals("app2", ((ApplicationEvent) events.get(3)).getUuid());
+    }
+
+    @Test
+    public void testUpdatesOfDifferentTypesKeepTheirOrder() {
+
+        NotificationEventCoalescer.Batch batch = new NotificationEventCoalescer.Batch();
+        batch.add(api(EventType.API_LIFECYCLE_CHANGE, "PUBLISHED"));
+        batch.add(api(EventType.API_UPDATE, "PUBLISHED"));
+        batch.add(api(EventType.API_LIFECYCLE_CHANGE, "RETIRED"));
+
+        List<Event> events = batch.getEvents();
+        Assert.assertEquals(Arrays.asList(EventType.API_UPDATE.name(), EventType.API_LIFECYCLE_CHANGE.name()),
+                getTypes(events));
+        Assert.assertEquals("RETIRED", ((APIEvent) events.get(1)).getApiStatus());
+    }
+
+    @Test
+    public void testCreateAndDeleteAreCancelled() {
+
+        NotificationEventCoalescer.Batch batch = new NotificationEventCoalescer.Batch();
+        batch.add(subscription(EventType.SUBSCRIPTIONS_CREATE, "sub1"));
+        batch.add(scope(EventType.SCOPE_CREATE, "read"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_UPDATE, "sub1"));
+        batch.add(api(EventType.API_DELETE, "PUBLISHED"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_DELETE, "sub1"));
+        batch.add(scope(EventType.SCOPE_DELETE, "read"));
+
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(Collections.singletonList(EventType.API_DELETE.name()), getTypes(batch.getEvents()));
+    }
+
+    @Test
+    public void testDeleteBeforeCreateIsKept() {
+
+        NotificationEventCoalescer.Batch batch = new NotificationEventCoalescer.Batch();
+        batch.add(subscription(EventType.SUBSCRIPTIONS_DELETE, "sub1"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_CREATE, "sub1"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_UPDATE, "sub1"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_DELETE, "sub1"));
+        Assert.assertEquals(Collections.singletonList(EventType.SUBSCRIPTIONS_DELETE.name()),
+                getTypes(batch.getEvents()));
+
+        batch.add(subscription(EventType.SUBSCRIPTIONS_CREATE, "sub1"));
+        Assert.assertEquals(Arrays.asList(EventType.SUBSCRIPTIONS_DELETE.name(),
+                EventType.SUBSCRIPTIONS_CREATE.name()), getTypes(batch.getEvents()));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_DELETE, "sub1"));
+        Assert.assertEquals(1, batch.size());
+        Assert.assertEquals(Collections.singletonList(EventType.SUBSCRIPTIONS_DELETE.name()),
+                getTypes(batch.getEvents()));
+    }
+
+    @Test
+    public void testDeleteDropsPendingUpdates() {
+
+        NotificationEventCoalescer.Batch batch = new NotificationEventCoalescer.Batch();
+        batch.add(subscription(EventType.SUBSCRIPTIONS_UPDATE, "sub1"));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_DELETE, "sub1"));
+        // subscriptions refer to applications, so the events of an application created in the batch are kept
+        batch.add(application(EventType.APPLICATION_CREATE, "app1", "Bronze"));
+        batch.add(application(EventType.APPLICATION_UPDATE, "app1", "Silver"));
+        batch.add(application(EventType.APPLICATION_DELETE, "app1", "Silver"));
+
+        Assert.assertEquals(Arrays.asList(EventType.SUBSCRIPTIONS_DELETE.name(), EventType.APPLICATION_CREATE.name(),
+                EventType.APPLICATION_DELETE.name()), getTypes(batch.getEvents()));
+    }
+
+    @Test
+    public void testEventsWithoutEntityArePassedThrough() {
+
+        NotificationEventCoalescer.Batch batch = new NotificationEventCoalescer.Batch();
+        batch.add(subscription(EventType.SUBSCRIPTIONS_UPDATE, null));
+        batch.add(subscription(EventType.SUBSCRIPTIONS_UPDATE, null));
+        Assert.assertEquals(2, batch.size());
+    }
+
+    @Test
+    public void testBatchFormat() {
+
+        List<Event> events = Arrays.asList(application(EventType.APPLICATION_CREATE, "app1", "Bronze"),
+                subscription(EventType.SUBSCRIPTIONS_CREATE, "sub1"));
+        List<String> types = new ArrayList<>();
+        List<String> payloads = new ArrayList<>();
+        NotificationEventBatch.forEachEvent(EventType.NOTIFICATION_BATCH.name(), 0,
+                NotificationEventBatch.encode(events), (eventType, timestamp, eventJson) -> {
+                    types.add(eventType);
+                    payloads.add(eventJson);
+                    Assert.assertEquals(1000L, timestamp);
+                });
+        Assert.assertEquals(getTypes(events), types);
+        Assert.assertEquals("app1", new Gson().fromJson(payloads.get(0), ApplicationEvent.class).getUuid());
+        Assert.assertEquals("sub1",
+                new Gson().fromJson(payloads.get(1), SubscriptionEvent.class).getSubscriptionUUID());
+
+        String json = new Gson().toJson(events.get(0));
+        NotificationEventBatch.forEachEvent(EventType.APPLICATION_CREATE.name(), 1000L,
+                new String(Base64.encodeBase64(json.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8),
+                (eventType, timestamp, eventJson) -> Assert.assertEquals(json, eventJson));
+    }
+
+    @Test
+    public void testMalformedEventsOfBatchAreSkipped() {
+
+        String batch = "[{\"eventType\":\"APPLICATION_CREATE\",\"timestamp\":1000,\"event\":{\"uuid\":\"app1\"}},"
+                + "5,{\"eventType\":\"APPLICATION_UPDATE\"},"
+                + "{\"eventType\":\"APPLICATION_UPDATE\",\"timestamp\":\"now\",\"event\":{}},"
+                + "{\"eventType\":\"APPLICATION_DELETE\",\"timestamp\":2000,\"event\":{\"uuid\":\"app1\"}}]";
+        List<String> types = new ArrayList<>();
+        NotificationEventBatch.forEachEvent(EventType.NOTIFICATION_BATCH.name(), 0, batch,
+                (eventType, timestamp, eventJson) -> types.add(eventType));
+        Assert.assertEquals(Arrays.asList(EventType.APPLICATION_CREATE.name(), EventType.APPLICATION_DELETE.name()),
+                types);
+    }
+
+    private static List<String> getTypes(List<Event> events) {
+
+        List<String> types = new ArrayList<>();
+        for (Event event : events) {
+            types.add(event.getType());
+        }
+        return types;
+    }
+
+    private static ApplicationEvent application(EventType type, String uuid, String policy) {
+
+        return new ApplicationEvent("event", 1000L, type.name(), -1234, TENANT_DOMAIN, 1, uuid, "app", "JWT",
+                policy, null, Collections.emptyMap(), "admin");
+    }
+
+    private static SubscriptionEvent subscription(EventType type, String uuid) {
+
+        return new SubscriptionEvent("event", 1000L, type.name(), -1234, TENANT_DOMAIN, 1, uuid, 1, "api1", 1,
+                "app1", "Unlimited", "UNBLOCKED", "api", "1.0.0");
+    }
+
+    private static ScopeEvent scope(EventType type, String name) {
+
+        return new ScopeEvent("event", 1000L, type.name(), -1234, TENANT_DOMAIN, name, name, null);
+    }
+
+    private static APIEvent api(EventType type, String status) {
+
+        APIEvent event = new APIEvent("api1", "api", "1.0.0", "admin", "HTTP", status, null);
+        event.setType(type.name());
+        event.setTenantDomain(TENANT_DOMAIN);
+        return event;
+    }
+}
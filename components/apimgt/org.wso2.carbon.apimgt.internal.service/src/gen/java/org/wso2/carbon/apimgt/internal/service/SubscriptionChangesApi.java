@@ -0,0 +1,50 @@
+package org.wso2.carbon.apimgt.internal.service;
+
+import org.wso2.carbon.apimgt.internal.service.dto.ErrorDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionChangeListDTO;
+import org.wso2.carbon.apimgt.internal.service.SubscriptionChangesApiService;
+import org.wso2.carbon.apimgt.internal.service.impl.SubscriptionChangesApiServiceImpl;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import javax.ws.rs.*;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.SecurityContext;
+import javax.inject.Inject;
+
+import io.swagger.annotations.*;
+import java.io.InputStream;
+
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.apache.cxf.jaxrs.ext.multipart.Attachment;
+import org.apache.cxf.jaxrs.ext.multipart.Multipart;
+
+import java.util.Map;
+import java.util.List;
+import javax.validation.constraints.*;
+@Path("/subscription-changes")
+
+@Api(description = "the subscription-changes API")
+
+
+
+
+public class SubscriptionChangesApi  {
+
+  @Context MessageContext securityContext;
+
+SubscriptionChangesApiService delegate = new SubscriptionChangesApiServiceImpl();
+
+
+    @GET
+    
+    
+    @Produces({ "application/json" })
+    @ApiOperation(value = "Get the subscription changes of a tenant", notes = "This will provide the current state of the subscriptions, applications and application key mappings which changed after the given change. Entities which no longer exist are returned as removals. ", response = SubscriptionChangeListDTO.class, tags={ "Subscription Validation" })
+    @ApiResponses(value = { 
+        @ApiResponse(code = 200, message = "The changes of the tenant after the given sequence", response = SubscriptionChangeListDTO.class),
+        @ApiResponse(code = 200, message = "Unexpected error", response = ErrorDTO.class) })
+    public Response subscriptionChangesGet( @NotNull  @ApiParam(value = "This is used to specify the tenant domain, where the resource need to be   retrieved from. " ,required=true)@HeaderParam("xWSO2Tenant") String xWSO2Tenant,  @NotNull @ApiParam(value = "Sequence of the last change already applied by the caller. A negative value only returns the latest sequence. ",required=true)  @QueryParam("after") Long after,  @ApiParam(value = "Maximum number of changes to return. If more changes are pending, a full synchronization is requested. ", defaultValue="10000") @DefaultValue("10000") @QueryParam("limit") Integer limit) throws APIManagementException{
+        return delegate.subscriptionChangesGet(xWSO2Tenant, after, limit, securityContext);
+    }
+}
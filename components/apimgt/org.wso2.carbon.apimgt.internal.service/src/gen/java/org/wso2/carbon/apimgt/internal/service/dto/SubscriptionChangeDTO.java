@@ -0,0 +1,194 @@
+package org.wso2.carbon.apimgt.internal.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.*;
+import org.wso2.carbon.apimgt.rest.api.common.annotations.Scope;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import javax.validation.Valid;
+
+
+
+public class SubscriptionChangeDTO   {
+  
+
+    @XmlType(name="EntityTypeEnum")
+    @XmlEnum(String.class)
+    public enum EntityTypeEnum {
+        SUBSCRIPTION("SUBSCRIPTION"),
+        APPLICATION("APPLICATION"),
+        KEY_MAPPING("KEY_MAPPING");
+        private String value;
+
+        EntityTypeEnum (String v) {
+            value = v;
+        }
+
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return String.valueOf(value);
+        }
+
+        @JsonCreator
+        public static EntityTypeEnum fromValue(String v) {
+            for (EntityTypeEnum b : EntityTypeEnum.values()) {
+                if (String.valueOf(b.value).equals(v)) {
+                    return b;
+                }
+            }
+return null;
+        }
+    }
+    private EntityTypeEnum entityType = null;
+    private Integer applicationId = null;
+    private Integer apiId = null;
+    private String consumerKey = null;
+    private String keyManager = null;
+
+  /**
+   **/
+  public SubscriptionChangeDTO entityType(EntityTypeEnum entityType) {
+    this.entityType = entityType;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("entityType")
+  public EntityTypeEnum getEntityType() {
+    return entityType;
+  }
+  public void setEntityType(EntityTypeEnum entityType) {
+    this.entityType = entityType;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeDTO applicationId(Integer applicationId) {
+    this.applicationId = applicationId;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("applicationId")
+  public Integer getApplicationId() {
+    return applicationId;
+  }
+  public void setApplicationId(Integer applicationId) {
+    this.applicationId = applicationId;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeDTO apiId(Integer apiId) {
+    this.apiId = apiId;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("apiId")
+  public Integer getApiId() {
+    return apiId;
+  }
+  public void setApiId(Integer apiId) {
+    this.apiId = apiId;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeDTO consumerKey(String consumerKey) {
+    this.consumerKey = consumerKey;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("consumerKey")
+  public String getConsumerKey() {
+    return consumerKey;
+  }
+  public void setConsumerKey(String consumerKey) {
+    this.consumerKey = consumerKey;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeDTO keyManager(String keyManager) {
+    this.keyManager = keyManager;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+  @JsonProperty("keyManager")
+  public String getKeyManager() {
+    return keyManager;
+  }
+  public void setKeyManager(String keyManager) {
+    this.keyManager = keyManager;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SubscriptionChangeDTO subscriptionChange = (SubscriptionChangeDTO) o;
+    return Objects.equals(entityType, subscriptionChange.entityType) &&
+        Objects.equals(applicationId, subscriptionChange.applicationId) &&
+        Objects.equals(apiId, subscriptionChange.apiId) &&
+        Objects.equals(consumerKey, subscriptionChange.consumerKey) &&
+        Objects.equals(keyManager, subscriptionChange.keyManager);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(entityType, applicationId, apiId, consumerKey, keyManager);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SubscriptionChangeDTO {\n");
+    
+    sb.append("    entityType: ").append(toIndentedString(entityType)).append("\n");
+    sb.append("    applicationId: ").append(toIndentedString(applicationId)).append("\n");
+    sb.append("    apiId: ").append(toIndentedString(apiId)).append("\n");
+    sb.append("    consumerKey: ").append(toIndentedString(consumerKey)).append("\n");
+    sb.append("    keyManager: ").append(toIndentedString(keyManager)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
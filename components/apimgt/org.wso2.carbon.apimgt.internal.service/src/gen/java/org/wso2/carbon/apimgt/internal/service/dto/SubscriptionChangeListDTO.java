@@ -0,0 +1,193 @@
+package org.wso2.carbon.apimgt.internal.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import io.swagger.annotations.ApiModel;
+import io.swagger.annotations.ApiModelProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationKeyMappingListDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationListDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionChangeDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionListDTO;
+import javax.validation.constraints.*;
+
+
+import io.swagger.annotations.*;
+import java.util.Objects;
+
+import javax.xml.bind.annotation.*;
+import org.wso2.carbon.apimgt.rest.api.common.annotations.Scope;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
+import javax.validation.Valid;
+
+
+
+public class SubscriptionChangeListDTO   {
+  
+    private Long sequence = null;
+    private Boolean fullSyncRequired = null;
+    private SubscriptionListDTO subscriptions = null;
+    private ApplicationListDTO applications = null;
+    private ApplicationKeyMappingListDTO applicationKeyMappings = null;
+    private List<SubscriptionChangeDTO> removals = new ArrayList<>();
+
+  /**
+   * Sequence of the latest change included in the response. 
+   **/
+  public SubscriptionChangeListDTO sequence(Long sequence) {
+    this.sequence = sequence;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "Sequence of the latest change included in the response. ")
+  @JsonProperty("sequence")
+  public Long getSequence() {
+    return sequence;
+  }
+  public void setSequence(Long sequence) {
+    this.sequence = sequence;
+  }
+
+  /**
+   * Whether the changes after the given sequence are no longer available or exceed the limit, so that the caller has to load all the subscriptions, applications and key mappings. 
+   **/
+  public SubscriptionChangeListDTO fullSyncRequired(Boolean fullSyncRequired) {
+    this.fullSyncRequired = fullSyncRequired;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "Whether the changes after the given sequence are no longer available or exceed the limit, so that the caller has to load all the subscriptions, applications and key mappings. ")
+  @JsonProperty("fullSyncRequired")
+  public Boolean isFullSyncRequired() {
+    return fullSyncRequired;
+  }
+  public void setFullSyncRequired(Boolean fullSyncRequired) {
+    this.fullSyncRequired = fullSyncRequired;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeListDTO subscriptions(SubscriptionListDTO subscriptions) {
+    this.subscriptions = subscriptions;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+      @Valid
+  @JsonProperty("subscriptions")
+  public SubscriptionListDTO getSubscriptions() {
+    return subscriptions;
+  }
+  public void setSubscriptions(SubscriptionListDTO subscriptions) {
+    this.subscriptions = subscriptions;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeListDTO applications(ApplicationListDTO applications) {
+    this.applications = applications;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+      @Valid
+  @JsonProperty("applications")
+  public ApplicationListDTO getApplications() {
+    return applications;
+  }
+  public void setApplications(ApplicationListDTO applications) {
+    this.applications = applications;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeListDTO applicationKeyMappings(ApplicationKeyMappingListDTO applicationKeyMappings) {
+    this.applicationKeyMappings = applicationKeyMappings;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+      @Valid
+  @JsonProperty("applicationKeyMappings")
+  public ApplicationKeyMappingListDTO getApplicationKeyMappings() {
+    return applicationKeyMappings;
+  }
+  public void setApplicationKeyMappings(ApplicationKeyMappingListDTO applicationKeyMappings) {
+    this.applicationKeyMappings = applicationKeyMappings;
+  }
+
+  /**
+   **/
+  public SubscriptionChangeListDTO removals(List<SubscriptionChangeDTO> removals) {
+    this.removals = removals;
+    return this;
+  }
+
+  
+  @ApiModelProperty(value = "")
+      @Valid
+  @JsonProperty("removals")
+  public List<SubscriptionChangeDTO> getRemovals() {
+    return removals;
+  }
+  public void setRemovals(List<SubscriptionChangeDTO> removals) {
+    this.removals = removals;
+  }
+
+
+  @Override
+  public boolean equals(java.lang.Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    SubscriptionChangeListDTO subscriptionChangeList = (SubscriptionChangeListDTO) o;
+    return Objects.equals(sequence, subscriptionChangeList.sequence) &&
+        Objects.equals(fullSyncRequired, subscriptionChangeList.fullSyncRequired) &&
+        Objects.equals(subscriptions, subscriptionChangeList.subscriptions) &&
+        Objects.equals(applications, subscriptionChangeList.applications) &&
+        Objects.equals(applicationKeyMappings, subscriptionChangeList.applicationKeyMappings) &&
+        Objects.equals(removals, subscriptionChangeList.removals);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(sequence, fullSyncRequired, subscriptions, applications, applicationKeyMappings, removals);
+  }
+
+  @Override
+  public String toString() {
+    StringBuilder sb = new StringBuilder();
+    sb.append("class SubscriptionChangeListDTO {\n");
+    
+    sb.append("    sequence: ").append(toIndentedString(sequence)).append("\n");
+    sb.append("    fullSyncRequired: ").append(toIndentedString(fullSyncRequired)).append("\n");
+    sb.append("    subscriptions: ").append(toIndentedString(subscriptions)).append("\n");
+    sb.append("    applications: ").append(toIndentedString(applications)).append("\n");
+    sb.append("    applicationKeyMappings: ").append(toIndentedString(applicationKeyMappings)).append("\n");
+    sb.append("    removals: ").append(toIndentedString(removals)).append("\n");
+    sb.append("}");
+    return sb.toString();
+  }
+
+  /**
+   * Convert the given object to string with each line indented by 4 spaces
+   * (except the first line).
+   */
+  private String toIndentedString(java.lang.Object o) {
+    if (o == null) {
+      return "null";
+    }
+    return o.toString().replace("\n", "\n    ");
+  }
+}
+
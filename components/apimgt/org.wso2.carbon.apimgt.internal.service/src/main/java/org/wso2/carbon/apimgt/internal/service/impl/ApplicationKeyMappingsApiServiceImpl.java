@@ -25,6 +25,8 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.internal.service.ApplicationKeyMappingsApiService;
 import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationKeyMappingListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.KeysetPaginationUtil;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -37,7 +39,8 @@ public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappi
 
     @Override
     public Response applicationKeyMappingsGet(String xWSO2Tenant, String consumerKey, String keymanager,
-                                              MessageContext messageContext) throws APIManagementException {
+                                              Integer after, Integer limit, MessageContext messageContext)
+            throws APIManagementException {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
         xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
@@ -53,6 +56,11 @@ public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappi
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(applicationKeyMappings)).build();
         }
+        if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
+                limit != null) {
+            return getKeyMappingPage((pageAfter, pageLimit) -> subscriptionValidationDAO
+                    .getApplicationKeyMappingsByOrganization(organization, pageAfter, pageLimit), after, limit);
+        }
         if (StringUtils.isNotEmpty(organization) && !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM))   {
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(subscriptionValidationDAO.
@@ -62,6 +70,10 @@ public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappi
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(subscriptionValidationDAO.
                             getAllApplicationKeyMappings())).build();
+        } else if (StringUtils.isNotEmpty(xWSO2Tenant) && limit != null) {
+            String tenantDomain = xWSO2Tenant;
+            return getKeyMappingPage((pageAfter, pageLimit) -> subscriptionValidationDAO
+                    .getApplicationKeyMappings(tenantDomain, pageAfter, pageLimit), after, limit);
         } else if (StringUtils.isNotEmpty(xWSO2Tenant)) {
             return Response.ok().entity(SubscriptionValidationDataUtil.
                     fromApplicationKeyMappingToApplicationKeyMappingListDTO(subscriptionValidationDAO.
@@ -70,4 +82,18 @@ public class ApplicationKeyMappingsApiServiceImpl implements ApplicationKeyMappi
         }
         return null;
     }
+
+    private Response getKeyMappingPage(KeysetPaginationUtil.PageReader<ApplicationKeyMapping> pageReader,
+                                       Integer after, Integer limit) throws APIManagementException {
+
+        int pageAfter = KeysetPaginationUtil.getAfter(after);
+        int pageLimit = KeysetPaginationUtil.getLimit(limit);
+        List<ApplicationKeyMapping> keyMappings = pageReader.read(pageAfter, pageLimit);
+        ApplicationKeyMappingListDTO applicationKeyMappingListDTO =
+                SubscriptionValidationDataUtil.fromApplicationKeyMappingToApplicationKeyMappingListDTO(keyMappings);
+        applicationKeyMappingListDTO.setPagination(KeysetPaginationUtil.getPaginationDTO(
+                APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS, pageLimit, keyMappings,
+                ApplicationKeyMapping::getApplicationId));
+        return Response.ok().entity(applicationKeyMappingListDTO).build();
+    }
 }
@@ -20,10 +20,13 @@ package org.wso2.carbon.apimgt.internal.service.impl;
 
 import org.apache.commons.lang3.StringUtils;
 import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
 import org.wso2.carbon.apimgt.api.model.subscription.Application;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.internal.service.ApplicationsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.ApplicationListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.KeysetPaginationUtil;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -34,7 +37,8 @@ import javax.ws.rs.core.Response;
 public class ApplicationsApiServiceImpl implements ApplicationsApiService {
 
     @Override
-    public Response applicationsGet(String xWSO2Tenant, Integer appId, MessageContext messageContext) {
+    public Response applicationsGet(String xWSO2Tenant, Integer appId, Integer after, Integer limit,
+                                    MessageContext messageContext) throws APIManagementException {
 
         SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
         if (appId != null && appId > 0) {
@@ -52,6 +56,11 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
             return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                     subscriptionValidationDAO.getAllApplications())).build();
         }
+        if (StringUtils.isNotEmpty(xWSO2Tenant) && limit != null) {
+            String tenantDomain = xWSO2Tenant;
+            return getApplicationPage((pageAfter, pageLimit) -> subscriptionValidationDAO
+                    .getApplications(tenantDomain, pageAfter, pageLimit), after, limit);
+        }
         if (StringUtils.isNotEmpty(xWSO2Tenant)) {
             return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                     subscriptionValidationDAO.getAllApplications(xWSO2Tenant)))
@@ -60,4 +69,18 @@ public class ApplicationsApiServiceImpl implements ApplicationsApiService {
         return Response.ok().entity(SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(
                 subscriptionValidationDAO.getAllApplications())).build();
     }
+
+    private Response getApplicationPage(KeysetPaginationUtil.PageReader<Application> pageReader, Integer after,
+                                        Integer limit) throws APIManagementException {
+
+        int pageAfter = KeysetPaginationUtil.getAfter(after);
+        int pageLimit = KeysetPaginationUtil.getLimit(limit);
+        List<Application> applications = pageReader.read(pageAfter, pageLimit);
+        ApplicationListDTO applicationListDTO =
+                SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(applications);
+        applicationListDTO.setPagination(KeysetPaginationUtil.getPaginationDTO(
+                APIConstants.SubscriptionValidationResources.APPLICATIONS, pageLimit, applications,
+                Application::getId));
+        return Response.ok().entity(applicationListDTO).build();
+    }
 }
@@ -24,9 +24,11 @@ import org.wso2.carbon.apimgt.api.ExceptionCodes;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.APIArtifactGeneratorUtil;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
 import org.wso2.carbon.apimgt.internal.service.RetrieveApiArtifactsApiService;
 import org.wso2.carbon.apimgt.internal.service.dto.SynapseArtifactListDTO;
 import org.wso2.carbon.apimgt.internal.service.dto.UUIDListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.RuntimeArtifactStreamingUtil;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
@@ -53,6 +55,10 @@ public class RetrieveApiArtifactsApiServiceImpl implements RetrieveApiArtifactsA
         if (StringUtils.isNotEmpty(organization) && organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
                 xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             runtimeArtifactDto = APIArtifactGeneratorUtil.generateAllAPIArtifact(uuidList.getUuids(), "", "", gatewayLabel, type);
+        } else if (uuidList != null && !uuidList.getUuids().isEmpty()
+                && RuntimeArtifactGeneratorUtil.isChunkedGenerationSupported(gatewayLabel, type)) {
+            return RuntimeArtifactStreamingUtil.streamRuntimeArtifacts(uuidList.getUuids(), gatewayLabel, type,
+                    xWSO2Tenant);
         } else {
             runtimeArtifactDto =  APIArtifactGeneratorUtil.generateAPIArtifact(uuidList.getUuids(), "", "", gatewayLabel, type,
                     xWSO2Tenant);
@@ -28,6 +28,7 @@ import org.wso2.carbon.apimgt.impl.dto.RuntimeArtifactDto;
 import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
 import org.wso2.carbon.apimgt.internal.service.RuntimeArtifactsApiService;
 import org.wso2.carbon.apimgt.internal.service.dto.SynapseArtifactListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.RuntimeArtifactStreamingUtil;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
@@ -37,6 +38,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.StreamingOutput;
 import java.io.File;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -57,6 +59,10 @@ public class RuntimeArtifactsApiServiceImpl implements RuntimeArtifactsApiServic
                 xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateAllRuntimeArtifact(apiId,
                     gatewayLabel, type);
+        } else if (StringUtils.isEmpty(apiId)
+                && RuntimeArtifactGeneratorUtil.isChunkedGenerationSupported(gatewayLabel, type)) {
+            return RuntimeArtifactStreamingUtil.streamRuntimeArtifacts(Collections.emptyList(), gatewayLabel, type,
+                    xWSO2Tenant);
         } else {
             runtimeArtifactDto = RuntimeArtifactGeneratorUtil.generateRuntimeArtifact(apiId,
                     gatewayLabel, type, xWSO2Tenant);
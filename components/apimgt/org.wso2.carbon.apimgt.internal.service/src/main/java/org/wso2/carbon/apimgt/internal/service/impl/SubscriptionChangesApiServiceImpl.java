@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.impl;
+
+import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.model.subscription.Application;
+import org.wso2.carbon.apimgt.api.model.subscription.ApplicationKeyMapping;
+import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
+import org.wso2.carbon.apimgt.api.model.subscription.SubscriptionChange;
+import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
+import org.wso2.carbon.apimgt.internal.service.SubscriptionChangesApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionChangeDTO;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionChangeListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.core.Response;
+
+public class SubscriptionChangesApiServiceImpl implements SubscriptionChangesApiService {
+
+    private static final int DEFAULT_LIMIT = 10000;
+
+    @Override
+    public Response subscriptionChangesGet(String xWSO2Tenant, Long after, Integer limit,
+                                           MessageContext messageContext) throws APIManagementException {
+
+        SubscriptionValidationDAO subscriptionValidationDAO = new SubscriptionValidationDAO();
+        xWSO2Tenant = SubscriptionValidationDataUtil.validateTenantDomain(xWSO2Tenant, messageContext);
+        if (limit == null || limit <= 0) {
+            limit = DEFAULT_LIMIT;
+        }
+        // read first, so that a gateway which loads the data after this request does not skip a change recorded
+        // while it loads
+        long latestChangeId = subscriptionValidationDAO.getLatestSubscriptionChangeId(xWSO2Tenant);
+        if (after == null || after < 0) {
+            return Response.ok().entity(fullSyncRequired(latestChangeId)).build();
+        }
+        List<SubscriptionChange> changes =
+                subscriptionValidationDAO.getSubscriptionChanges(xWSO2Tenant, after, limit + 1);
+        // checked after the changes are read, since the changes removed in between are not among them
+        if (changes.size() > limit || subscriptionValidationDAO.getPurgedSubscriptionChangeId(xWSO2Tenant) > after) {
+            return Response.ok().entity(fullSyncRequired(latestChangeId)).build();
+        }
+        for (SubscriptionChange change : changes) {
+            if (change.getEntityType() == SubscriptionChange.EntityType.GAP) {
+                // a change which could not be recorded precedes the gap, so the reload has to cover the gap
+                return Response.ok().entity(fullSyncRequired(changes.get(changes.size() - 1).getChangeId()))
+                        .build();
+            }
+        }
+
+        List<Subscription> subscriptions = new ArrayList<>();
+        List<Application> applications = new ArrayList<>();
+        List<ApplicationKeyMapping> keyMappings = new ArrayList<>();
+        List<SubscriptionChangeDTO> removals = new ArrayList<>();
+        // the changes of an organization are committed in the order of their ids, so none of the changes up to the
+        // last one read can be committed later
+        long sequence = changes.isEmpty() ? after : changes.get(changes.size() - 1).getChangeId();
+        for (SubscriptionChange change : getDistinctChanges(changes)) {
+            switch (change.getEntityType()) {
+                case SUBSCRIPTION:
+                    Subscription subscription =
+                            subscriptionValidationDAO.getSubscription(change.getApiId(), change.getApplicationId());
+                    if (subscription != null) {
+                        subscriptions.add(subscription);
+                    } else {
+                        removals.add(fromSubscriptionChangeToDTO(change));
+                    }
+                    break;
+                case APPLICATION:
+                    List<Application> application =
+                            subscriptionValidationDAO.getApplicationById(change.getApplicationId());
+                    if (!application.isEmpty()) {
+                        applications.addAll(application);
+                    } else {
+                        removals.add(fromSubscriptionChangeToDTO(change));
+                    }
+                    break;
+                case KEY_MAPPING:
+                    ApplicationKeyMapping keyMapping = subscriptionValidationDAO.getApplicationKeyMapping(
+                            change.getConsumerKey(), change.getKeyManager(), xWSO2Tenant);
+                    if (keyMapping != null) {
+                        keyMappings.add(keyMapping);
+                    } else {
+                        removals.add(fromSubscriptionChangeToDTO(change));
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+        SubscriptionChangeListDTO subscriptionChangeListDTO = new SubscriptionChangeListDTO();
+        subscriptionChangeListDTO.setSequence(sequence);
+        subscriptionChangeListDTO.setFullSyncRequired(false);
+        subscriptionChangeListDTO.setSubscriptions(
+                SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptions));
+        subscriptionChangeListDTO.setApplications(
+                SubscriptionValidationDataUtil.fromApplicationToApplicationListDTO(applications));
+        subscriptionChangeListDTO.setApplicationKeyMappings(
+                SubscriptionValidationDataUtil.fromApplicationKeyMappingToApplicationKeyMappingListDTO(keyMappings));
+        subscriptionChangeListDTO.setRemovals(removals);
+        return Response.ok().entity(subscriptionChangeListDTO).build();
+    }
+
+    /**
+     * Returns the latest change of each entity. The current state of an entity is resolved once, however many times
+     * it changed.
+     */
+    private static Collection<SubscriptionChange> getDistinctChanges(List<SubscriptionChange> changes) {
+
+        Map<String, SubscriptionChange> distinctChanges = new LinkedHashMap<>();
+        for (SubscriptionChange change : changes) {
+            distinctChanges.put(change.getEntityKey(), change);
+        }
+        return distinctChanges.values();
+    }
+
+    private static SubscriptionChangeListDTO fullSyncRequired(long sequence) {
+
+        SubscriptionChangeListDTO subscriptionChangeListDTO = new SubscriptionChangeListDTO();
+        subscriptionChangeListDTO.setSequence(sequence);
+        subscriptionChangeListDTO.setFullSyncRequired(true);
+        return subscriptionChangeListDTO;
+    }
+
+    private static SubscriptionChangeDTO fromSubscriptionChangeToDTO(SubscriptionChange change) {
+
+        SubscriptionChangeDTO subscriptionChangeDTO = new SubscriptionChangeDTO();
+        subscriptionChangeDTO.setEntityType(
+                SubscriptionChangeDTO.EntityTypeEnum.fromValue(change.getEntityType().name()));
+        subscriptionChangeDTO.setApplicationId(change.getApplicationId());
+        subscriptionChangeDTO.setApiId(change.getApiId());
+        subscriptionChangeDTO.setConsumerKey(change.getConsumerKey());
+        subscriptionChangeDTO.setKeyManager(change.getKeyManager());
+        return subscriptionChangeDTO;
+    }
+}
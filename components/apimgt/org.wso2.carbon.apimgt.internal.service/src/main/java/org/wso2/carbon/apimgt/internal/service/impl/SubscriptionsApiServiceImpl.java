@@ -25,6 +25,8 @@ import org.wso2.carbon.apimgt.api.model.subscription.Subscription;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dao.SubscriptionValidationDAO;
 import org.wso2.carbon.apimgt.internal.service.SubscriptionsApiService;
+import org.wso2.carbon.apimgt.internal.service.dto.SubscriptionListDTO;
+import org.wso2.carbon.apimgt.internal.service.utils.KeysetPaginationUtil;
 import org.wso2.carbon.apimgt.internal.service.utils.SubscriptionValidationDataUtil;
 import org.wso2.carbon.apimgt.rest.api.util.utils.RestApiUtil;
 import org.wso2.carbon.utils.multitenancy.MultitenantConstants;
@@ -37,8 +39,8 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
     @Override
     public Response subscriptionsGet(String xWSO2Tenant, Integer apiId, Integer appId, String apiUUID,
-                                     String applicationUUID, MessageContext messageContext) throws
-            APIManagementException {
+                                     String applicationUUID, Integer after, Integer limit,
+                                     MessageContext messageContext) throws APIManagementException {
 
         Response result;
 
@@ -60,6 +62,11 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
             }
             result = Response.ok().entity(
                     SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptionList)).build();
+        } else if (StringUtils.isNotEmpty(organization) &&
+                !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM) &&
+                limit != null) {
+            result = getSubscriptionPage((pageAfter, pageLimit) -> subscriptionValidationDAO
+                    .getSubscriptionsByOrganization(organization, pageAfter, pageLimit), after, limit);
         } else if (StringUtils.isNotEmpty(organization) &&
                 !organization.equalsIgnoreCase(APIConstants.ORG_ALL_QUERY_PARAM)) {
             result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
@@ -68,6 +75,10 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
                 xWSO2Tenant.equalsIgnoreCase(MultitenantConstants.SUPER_TENANT_DOMAIN_NAME)) {
             result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
                     subscriptionValidationDAO.getAllSubscriptions())).build();
+        } else if (StringUtils.isNotEmpty(xWSO2Tenant) && limit != null) {
+            String tenantDomain = xWSO2Tenant;
+            result = getSubscriptionPage((pageAfter, pageLimit) -> subscriptionValidationDAO
+                    .getSubscriptions(tenantDomain, pageAfter, pageLimit), after, limit);
         } else if (StringUtils.isNotEmpty(xWSO2Tenant)) {
             result = Response.ok().entity(SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(
                     subscriptionValidationDAO.getAllSubscriptions(xWSO2Tenant))).build();
@@ -78,4 +89,18 @@ public class SubscriptionsApiServiceImpl implements SubscriptionsApiService {
 
         return result;
     }
+
+    private Response getSubscriptionPage(KeysetPaginationUtil.PageReader<Subscription> pageReader, Integer after,
+                                         Integer limit) throws APIManagementException {
+
+        int pageAfter = KeysetPaginationUtil.getAfter(after);
+        int pageLimit = KeysetPaginationUtil.getLimit(limit);
+        List<Subscription> subscriptions = pageReader.read(pageAfter, pageLimit);
+        SubscriptionListDTO subscriptionListDTO =
+                SubscriptionValidationDataUtil.fromSubscriptionToSubscriptionListDTO(subscriptions);
+        subscriptionListDTO.setPagination(KeysetPaginationUtil.getPaginationDTO(
+                APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS, pageLimit, subscriptions,
+                Subscription::getSubscriptionId));
+        return Response.ok().entity(subscriptionListDTO).build();
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.utils;
+
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.internal.service.dto.PaginationDTO;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * Keyset pagination of the bulk subscription validation resources. A page is requested with the ID after which it
+ * starts and a limit, and the link to the next page is returned in the pagination, so that the control plane does
+ * not hold more than a page of the result in memory.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 10000;
+
+    private KeysetPaginationUtil() {
+    }
+
+    public static int getAfter(Integer after) {
+
+        return after == null || after < 0 ? 0 : after;
+    }
+
+    public static int getLimit(Integer limit) {
+
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    /**
+     * Builds the pagination of a page. The link to the next page is only set when the page is full, since a page
+     * with fewer entries than the limit is the last one.
+     *
+     * @param path  path of the resource
+     * @param limit limit of the page
+     * @param page  entries of the page
+     * @param idOf  returns the ID of an entry, which the next page starts after
+     * @return pagination of the page
+     */
+    public static <T> PaginationDTO getPaginationDTO(String path, int limit, List<T> page, ToIntFunction<T> idOf) {
+
+        PaginationDTO paginationDTO = new PaginationDTO();
+        paginationDTO.setLimit(limit);
+        if (page.size() >= limit) {
+            paginationDTO.setNext(path + "?after=" + idOf.applyAsInt(page.get(page.size() - 1)) + "&limit=" + limit);
+        }
+        return paginationDTO;
+    }
+
+    /**
+     * Reads a page of entries ordered by their IDs.
+     *
+     * @param <T> entry type
+     */
+    @FunctionalInterface
+    public interface PageReader<T> {
+
+        List<T> read(int after, int limit) throws APIManagementException;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.utils;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+import org.wso2.carbon.apimgt.api.ExceptionCodes;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactConsumer;
+import org.wso2.carbon.apimgt.impl.gatewayartifactsynchronizer.RuntimeArtifactGeneratorUtil;
+import org.wso2.carbon.apimgt.rest.api.common.RestApiConstants;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+
+/**
+ * Streams the runtime artifacts of APIs as a synapse artifact list, generating the artifacts a chunk of APIs at a
+ * time, so that the memory used by a request of a gateway does not grow with the number of APIs it deploys. The
+ * response is sent with chunked transfer encoding, as its length is not known upfront.
+ */
+public final class RuntimeArtifactStreamingUtil {
+
+    // the content is not closed on failure, so that an aborted list is not received as a complete one
+    private static final JsonFactory jsonFactory = new JsonFactory()
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false)
+            .configure(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT, false);
+
+    private RuntimeArtifactStreamingUtil() {
+    }
+
+    /**
+     * Streams the runtime artifacts of the deployed APIs. The deployed APIs are listed before the response is
+     * committed, so that a request for APIs none of which are deployed fails with {@code NO_API_ARTIFACT_FOUND}, as
+     * when the artifacts are not streamed.
+     *
+     * @param apiIds       UUIDs of the APIs, or an empty list for all the APIs deployed in the labels
+     * @param gatewayLabel base64 encoded labels of the gateway
+     * @param type         type of the gateway
+     * @param tenantDomain tenant domain of the APIs
+     * @return response streaming the artifacts
+     * @throws APIManagementException if the deployed APIs could not be retrieved, or none of the requested APIs are
+     *                                deployed
+     */
+    public static Response streamRuntimeArtifacts(List<String> apiIds, String gatewayLabel, String type,
+                                                  String tenantDomain) throws APIManagementException {
+
+        List<String> deployedApiIds =
+                RuntimeArtifactGeneratorUtil.retrieveDeployedAPIIds(apiIds, gatewayLabel, tenantDomain);
+        if (!apiIds.isEmpty() && deployedApiIds.isEmpty()) {
+            throw new APIManagementException("No API Artifacts", ExceptionCodes.NO_API_ARTIFACT_FOUND);
+        }
+        StreamingOutput streamingOutput = outputStream -> writeArtifactList(outputStream,
+                consumer -> RuntimeArtifactGeneratorUtil.generateRuntimeArtifactsInChunks(deployedApiIds,
+                        gatewayLabel, type, tenantDomain, consumer),
+                tenantDomain);
+        return Response.ok(streamingOutput)
+                .header(RestApiConstants.HEADER_CONTENT_TYPE, RestApiConstants.APPLICATION_JSON).build();
+    }
+
+    /**
+     * Writes the artifacts as a synapse artifact list while they are generated. On a failure the list is left
+     * unterminated.
+     *
+     * @param outputStream stream of the response
+     * @param generator    generator of the artifacts
+     * @param tenantDomain tenant domain of the APIs
+     * @throws IOException if the artifacts could not be generated or written
+     */
+    static void writeArtifactList(OutputStream outputStream, ChunkedArtifactGenerator generator,
+                                  String tenantDomain) throws IOException {
+
+        try (JsonGenerator jsonGenerator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8)) {
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeArrayFieldStart("list");
+            int count;
+            try {
+                count = generator.generate(jsonGenerator::writeString);
+            } catch (APIManagementException e) {
+                // the response is already committed, so the stream is aborted to let the gateway fail the load
+                throw new IOException("Error while generating runtime artifacts of tenant " + tenantDomain, e);
+            }
+            jsonGenerator.writeEndArray();
+            jsonGenerator.writeNumberField("count", count);
+            jsonGenerator.writeEndObject();
+        }
+    }
+
+    /**
+     * Generates runtime artifacts a chunk of APIs at a time.
+     */
+    @FunctionalInterface
+    interface ChunkedArtifactGenerator {
+
+        /**
+         * @param consumer consumer of the generated artifacts
+         * @return number of generated artifacts
+         */
+        int generate(RuntimeArtifactConsumer consumer) throws APIManagementException, IOException;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.internal.service.dto.PaginationDTO;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+public class KeysetPaginationUtilTest {
+
+    @Test
+    public void testNextPageIsLinkedOnlyForFullPages() {
+
+        PaginationDTO full = KeysetPaginationUtil.getPaginationDTO("/subscriptions", 2, Arrays.asList(4, 7),
+                Integer::intValue);
+        Assert.assertEquals(Integer.valueOf(2), full.getLimit());
+        Assert.assertEquals("/subscriptions?after=7&limit=2", full.getNext());
+
+        PaginationDTO last = KeysetPaginationUtil.getPaginationDTO("/subscriptions", 2,
+                Collections.singletonList(9), Integer::intValue);
+        Assert.assertNull(last.getNext());
+    }
+
+    @Test
+    public void testLimitIsBounded() {
+
+        Assert.assertEquals(KeysetPaginationUtil.DEFAULT_LIMIT, KeysetPaginationUtil.getLimit(null));
+        Assert.assertEquals(KeysetPaginationUtil.DEFAULT_LIMIT, KeysetPaginationUtil.getLimit(0));
+        Assert.assertEquals(KeysetPaginationUtil.MAX_LIMIT, KeysetPaginationUtil.getLimit(Integer.MAX_VALUE));
+        Assert.assertEquals(0, KeysetPaginationUtil.getAfter(-1));
+    }
+}
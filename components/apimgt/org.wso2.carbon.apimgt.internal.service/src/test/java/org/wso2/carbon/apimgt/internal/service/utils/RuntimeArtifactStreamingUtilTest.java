@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.internal.service.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.api.APIManagementException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class RuntimeArtifactStreamingUtilTest {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @Test
+    public void testArtifactListIsWritten() throws Exception {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        RuntimeArtifactStreamingUtil.writeArtifactList(outputStream, consumer -> {
+            consumer.accept("{\"name\":\"api1\"}");
+            consumer.accept("{\"name\":\"api2\"}");
+            return 2;
+        }, "carbon.super");
+
+        JsonNode artifactList = OBJECT_MAPPER.readTree(outputStream.toByteArray());
+        Assert.assertEquals(2, artifactList.get("count").asInt());
+        Assert.assertEquals(2, artifactList.get("list").size());
+        Assert.assertEquals("{\"name\":\"api1\"}", artifactList.get("list").get(0).asText());
+        Assert.assertEquals("{\"name\":\"api2\"}", artifactList.get("list").get(1).asText());
+    }
+
+    @Test
+    public void testEmptyArtifactListIsWritten() throws Exception {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        RuntimeArtifactStreamingUtil.writeArtifactList(outputStream, consumer -> 0, "carbon.super");
+
+        Assert.assertEquals("{\"list\":[],\"count\":0}",
+                new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testFailureLeavesArtifactListUnterminated() {
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try {
+            RuntimeArtifactStreamingUtil.writeArtifactList(outputStream, consumer -> {
+                consumer.accept("{\"name\":\"api1\"}");
+                throw new APIManagementException("Error while generating the second chunk");
+            }, "carbon.super");
+            Assert.fail("Expected the failure to abort the stream");
+        } catch (IOException e) {
+            Assert.assertTrue(e.getCause() instanceof APIManagementException);
+        }
+
+        String content = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertEquals("{\"list\":[\"{\\\"name\\\":\\\"api1\\\"}\"", content);
+        try {
+            OBJECT_MAPPER.readTree(content);
+            Assert.fail("Expected the aborted artifact list not to be parsed as a complete one");
+        } catch (JsonProcessingException e) {
+            // an aborted list is rejected by the gateway
+        }
+    }
+}
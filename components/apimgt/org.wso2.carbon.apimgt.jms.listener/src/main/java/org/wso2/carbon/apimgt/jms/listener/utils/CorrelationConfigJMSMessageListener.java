@@ -24,12 +24,12 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.common.jms.JMSConstants;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.correlation.CorrelationConfigManager;
+import org.wso2.carbon.apimgt.impl.notifier.NotificationEventBatch;
 import org.wso2.carbon.apimgt.impl.notifier.events.CorrelationConfigEvent;
 import javax.jms.JMSException;
 import javax.jms.Message;
@@ -66,8 +66,11 @@ public class CorrelationConfigJMSMessageListener implements MessageListener {
                             if (debugEnabled) {
                                 log.debug("Event received from the topic of " + jmsDestination.getTopicName());
                             }
-                            handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                            NotificationEventBatch.forEachEvent(payloadData.get(APIConstants.EVENT_TYPE).asText(),
+                                    payloadData.path(APIConstants.EVENT_TIMESTAMP).asLong(),
+                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText(),
+                                    (eventType, timestamp, eventJson) -> handleNotificationMessage(eventType,
+                                            eventJson));
                         }
                     }
 
@@ -83,9 +86,7 @@ public class CorrelationConfigJMSMessageListener implements MessageListener {
         }
     }
 
-    private void handleNotificationMessage(String eventType, String encodedEvent) {
-        byte[] eventDecoded = Base64.decodeBase64(encodedEvent);
-        String eventJson = new String(eventDecoded);
+    private void handleNotificationMessage(String eventType, String eventJson) {
 
         if (APIConstants.EventType.UPDATE_CORRELATION_CONFIGS.toString().equals(eventType)) {
             CorrelationConfigEvent correlationConfigEvent  =
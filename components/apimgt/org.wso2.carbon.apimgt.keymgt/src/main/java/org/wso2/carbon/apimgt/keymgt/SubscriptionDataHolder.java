@@ -22,6 +22,7 @@ import org.apache.commons.logging.LogFactory;
 import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
 import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataStoreImpl;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -83,8 +84,26 @@ public class SubscriptionDataHolder {
         return null;
     }
 
+    /**
+     * @return the subscription data stores of all the tenants
+     */
+    public Collection<SubscriptionDataStore> getTenantSubscriptionStores() {
+
+        return subscriptionStore.values();
+    }
+
     public void refreshSubscriptionStore() {
         subscriptionStore.keySet().forEach(tenant -> {
+            SubscriptionDataStore tenantStore = subscriptionStore.get(tenant);
+            if (tenantStore != null && tenantStore.syncChanges()) {
+                if (log.isDebugEnabled()) {
+                    log.debug("Synchronized subscription data store changes for tenant: " + tenant);
+                }
+                // the change log only covers subscriptions, applications and key mappings, so the events of the
+                // rest that were missed while disconnected are applied by reloading them
+                tenantStore.reloadAPIsPoliciesAndScopes();
+                return;
+            }
             // Cleaning the existing SubscriptionDataStore instance before re-population
             subscriptionStore.put(tenant, new SubscriptionDataStoreImpl(tenant));
             if (log.isDebugEnabled()) {
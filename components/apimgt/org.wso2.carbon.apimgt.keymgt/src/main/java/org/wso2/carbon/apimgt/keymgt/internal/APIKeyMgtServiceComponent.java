@@ -31,6 +31,7 @@ import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.APIManagerConfigurationService;
 import org.wso2.carbon.apimgt.impl.keymgt.KeyManagerDataService;
 import org.wso2.carbon.apimgt.keymgt.handlers.KeyValidationHandler;
+import org.wso2.carbon.apimgt.keymgt.model.impl.SubscriptionDataStoreMetrics;
 import org.wso2.carbon.apimgt.keymgt.service.KeyManagerDataServiceImpl;
 import org.wso2.carbon.apimgt.keymgt.util.APIKeyMgtDataHolder;
 import org.wso2.carbon.event.output.adapter.core.OutputEventAdapterService;
@@ -62,6 +63,7 @@ public class APIKeyMgtServiceComponent {
             // Register KeyManagerDataService
             serviceRegistration = ctxt.getBundleContext().registerService(KeyManagerDataService.class.getName(),
                     new KeyManagerDataServiceImpl(), null);
+            SubscriptionDataStoreMetrics.register();
 
             if (log.isDebugEnabled()) {
                 log.debug("Identity API Key Mgt Bundle is started.");
@@ -25,10 +25,12 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMapping;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionChangeList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * This interface abstracts Data Loading operations. Interface will be consumed by
@@ -62,6 +64,45 @@ public interface SubscriptionDataLoader {
      */
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException;
 
+    /**
+     * Loads all subscriptions of a tenant, passing them to the consumer a page at a time as they are loaded.
+     *
+     * @param tenantDomain tenant
+     * @param pageConsumer consumer of the pages of {@link Subscription}s
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllSubscriptions(String tenantDomain, Consumer<List<Subscription>> pageConsumer)
+            throws DataLoadingException {
+
+        pageConsumer.accept(loadAllSubscriptions(tenantDomain));
+    }
+
+    /**
+     * Loads all applications of a tenant, passing them to the consumer a page at a time as they are loaded.
+     *
+     * @param tenantDomain tenant
+     * @param pageConsumer consumer of the pages of {@link Application}s
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllApplications(String tenantDomain, Consumer<List<Application>> pageConsumer)
+            throws DataLoadingException {
+
+        pageConsumer.accept(loadAllApplications(tenantDomain));
+    }
+
+    /**
+     * Loads all key mappings of a tenant, passing them to the consumer a page at a time as they are loaded.
+     *
+     * @param tenantDomain tenant
+     * @param pageConsumer consumer of the pages of {@link ApplicationKeyMapping}s
+     * @throws DataLoadingException If any error
+     */
+    default void loadAllKeyMappings(String tenantDomain, Consumer<List<ApplicationKeyMapping>> pageConsumer)
+            throws DataLoadingException {
+
+        pageConsumer.accept(loadAllKeyMappings(tenantDomain));
+    }
+
     /**
      * Load all {@link API} objects owned by all Tenants.
      *
@@ -170,4 +211,17 @@ public interface SubscriptionDataLoader {
      * @param tenantDomain Tenant Domain
      */
     void subscribeToAPIInternally(API api, Application app, String tenantDomain);
+
+    /**
+     * Load the subscriptions, applications and key mappings of a tenant which changed after the given sequence of
+     * the subscription change log.
+     *
+     * @param tenantDomain tenant
+     * @param after        sequence of the last applied change, or a negative value to only get the latest sequence
+     * @param limit        maximum number of changes to apply before a full snapshot is preferred
+     * @return A {@link SubscriptionChangeList}.
+     * @throws DataLoadingException If any error
+     */
+    SubscriptionChangeList loadSubscriptionChanges(String tenantDomain, long after, int limit)
+            throws DataLoadingException;
     }
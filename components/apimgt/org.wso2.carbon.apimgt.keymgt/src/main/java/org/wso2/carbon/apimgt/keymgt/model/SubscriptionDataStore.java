@@ -221,5 +221,25 @@ public interface SubscriptionDataStore {
     void destroy();
 
     void updateAPIPropertiesFromGatewayDTO(GatewayAPIDTO gatewayAPIDTO);
+
+    /**
+     * Applies the subscriptions, applications and key mappings which changed since the store was populated or last
+     * synchronized.
+     *
+     * @return whether the store is up to date, false if it has to be populated again
+     */
+    default boolean syncChanges() {
+
+        return false;
+    }
+
+    /**
+     * Reloads the APIs, API policies, subscription policies, application policies and scopes, which are not covered
+     * by {@link #syncChanges()}. Called after the changes were synchronized, instead of populating the whole store
+     * again.
+     */
+    default void reloadAPIsPoliciesAndScopes() {
+
+    }
 }
 
@@ -26,6 +26,7 @@ public class ApplicationKeyMappingList {
 
     private Integer count = null;
     private List<ApplicationKeyMapping> list = new ArrayList<>();
+    private Pagination pagination = null;
 
     public Integer getCount() {
 
@@ -46,4 +47,14 @@ public class ApplicationKeyMappingList {
 
         this.list = list;
     }
+
+    public Pagination getPagination() {
+
+        return pagination;
+    }
+
+    public void setPagination(Pagination pagination) {
+
+        this.pagination = pagination;
+    }
 }
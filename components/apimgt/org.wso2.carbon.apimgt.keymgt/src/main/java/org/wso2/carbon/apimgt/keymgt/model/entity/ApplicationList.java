@@ -26,6 +26,7 @@ public class ApplicationList {
 
     private Integer count = null;
     private List<Application> list = new ArrayList<>();
+    private Pagination pagination = null;
 
     public Integer getCount() {
 
@@ -46,4 +47,14 @@ public class ApplicationList {
 
         this.list = list;
     }
+
+    public Pagination getPagination() {
+
+        return pagination;
+    }
+
+    public void setPagination(Pagination pagination) {
+
+        this.pagination = pagination;
+    }
 }
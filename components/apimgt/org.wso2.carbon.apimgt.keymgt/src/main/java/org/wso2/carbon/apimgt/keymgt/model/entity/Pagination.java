@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+/**
+ * Pagination of a page of subscriptions, applications or application key mappings returned by the internal API.
+ */
+public class Pagination {
+
+    private Integer limit = null;
+    private String next = null;
+
+    public Integer getLimit() {
+
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the path of the next page, or null if this is the last page.
+     */
+    public String getNext() {
+
+        return next;
+    }
+
+    public void setNext(String next) {
+
+        this.next = next;
+    }
+}
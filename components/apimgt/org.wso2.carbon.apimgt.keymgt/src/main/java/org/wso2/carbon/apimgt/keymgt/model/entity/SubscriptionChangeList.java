@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Subscriptions, applications and key mappings of a tenant which changed after a given sequence of the subscription
+ * change log.
+ */
+public class SubscriptionChangeList {
+
+    private Long sequence = null;
+    private Boolean fullSyncRequired = null;
+    private SubscriptionList subscriptions = null;
+    private ApplicationList applications = null;
+    private ApplicationKeyMappingList applicationKeyMappings = null;
+    private List<Removal> removals = new ArrayList<>();
+
+    public Long getSequence() {
+
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+
+        this.sequence = sequence;
+    }
+
+    /**
+     * Whether the changes are no longer available or too many, so that a full snapshot has to be loaded. This is
+     * also the case if the response could not be understood, e.g. when the control plane does not provide changes.
+     */
+    public boolean isFullSyncRequired() {
+
+        return sequence == null || !Boolean.FALSE.equals(fullSyncRequired);
+    }
+
+    public void setFullSyncRequired(Boolean fullSyncRequired) {
+
+        this.fullSyncRequired = fullSyncRequired;
+    }
+
+    public List<Subscription> getSubscriptions() {
+
+        return subscriptions != null ? subscriptions.getList() : new ArrayList<>();
+    }
+
+    public void setSubscriptions(SubscriptionList subscriptions) {
+
+        this.subscriptions = subscriptions;
+    }
+
+    public List<Application> getApplications() {
+
+        return applications != null ? applications.getList() : new ArrayList<>();
+    }
+
+    public void setApplications(ApplicationList applications) {
+
+        this.applications = applications;
+    }
+
+    public List<ApplicationKeyMapping> getApplicationKeyMappings() {
+
+        return applicationKeyMappings != null ? applicationKeyMappings.getList() : new ArrayList<>();
+    }
+
+    public void setApplicationKeyMappings(ApplicationKeyMappingList applicationKeyMappings) {
+
+        this.applicationKeyMappings = applicationKeyMappings;
+    }
+
+    public List<Removal> getRemovals() {
+
+        return removals != null ? removals : new ArrayList<>();
+    }
+
+    public void setRemovals(List<Removal> removals) {
+
+        this.removals = removals;
+    }
+
+    /**
+     * An entity which no longer exists.
+     */
+    public static class Removal {
+
+        public static final String SUBSCRIPTION = "SUBSCRIPTION";
+        public static final String APPLICATION = "APPLICATION";
+        public static final String KEY_MAPPING = "KEY_MAPPING";
+
+        private String entityType;
+        private int applicationId;
+        private int apiId;
+        private String consumerKey;
+        private String keyManager;
+
+        public String getEntityType() {
+
+            return entityType;
+        }
+
+        public void setEntityType(String entityType) {
+
+            this.entityType = entityType;
+        }
+
+        public int getApplicationId() {
+
+            return applicationId;
+        }
+
+        public void setApplicationId(int applicationId) {
+
+            this.applicationId = applicationId;
+        }
+
+        public int getApiId() {
+
+            return apiId;
+        }
+
+        public void setApiId(int apiId) {
+
+            this.apiId = apiId;
+        }
+
+        public String getConsumerKey() {
+
+            return consumerKey;
+        }
+
+        public void setConsumerKey(String consumerKey) {
+
+            this.consumerKey = consumerKey;
+        }
+
+        public String getKeyManager() {
+
+            return keyManager;
+        }
+
+        public void setKeyManager(String keyManager) {
+
+            this.keyManager = keyManager;
+        }
+    }
+}
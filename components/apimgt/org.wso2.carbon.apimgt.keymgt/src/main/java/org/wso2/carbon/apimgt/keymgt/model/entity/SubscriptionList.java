@@ -26,6 +26,7 @@ public class SubscriptionList {
 
     private Integer count = null;
     private List<Subscription> list = new ArrayList<>();
+    private Pagination pagination = null;
 
     public Integer getCount() {
 
@@ -46,4 +47,14 @@ public class SubscriptionList {
 
         this.list = list;
     }
+
+    public Pagination getPagination() {
+
+        return pagination;
+    }
+
+    public void setPagination(Pagination pagination) {
+
+        this.pagination = pagination;
+    }
 }
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Loads missing entries of the subscription data store from the internal API. Concurrent misses of the same key share
+ * a single in-flight load, and keys the internal API does not know about are remembered for a bounded time so that
+ * repeated lookups of unknown applications or consumer keys do not reach the control plane again.
+ *
+ * @param <K> key type
+ * @param <V> entity type
+ */
+public final class SingleFlightLoader<K, V> {
+
+    private static final Log log = LogFactory.getLog(SingleFlightLoader.class);
+    static final long DEFAULT_NEGATIVE_CACHE_TTL = TimeUnit.SECONDS.toMillis(30);
+    static final int DEFAULT_NEGATIVE_CACHE_SIZE = 10000;
+
+    private final String name;
+    private final long negativeCacheTTLNanos;
+    private final int maxNegativeCacheSize;
+    private final Map<K, CompletableFuture<V>> inFlightLoads = new ConcurrentHashMap<>();
+    private final Map<K, Long> negativeCache = new ConcurrentHashMap<>();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder negativeHitCount = new LongAdder();
+    private final LongAdder loadCount = new LongAdder();
+    private final LongAdder loadFailureCount = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+
+    public SingleFlightLoader(String name) {
+
+        this(name, DEFAULT_NEGATIVE_CACHE_TTL, DEFAULT_NEGATIVE_CACHE_SIZE);
+    }
+
+    public SingleFlightLoader(String name, long negativeCacheTTL, int maxNegativeCacheSize) {
+
+        this.name = name;
+        this.negativeCacheTTLNanos = TimeUnit.MILLISECONDS.toNanos(negativeCacheTTL);
+        this.maxNegativeCacheSize = maxNegativeCacheSize;
+    }
+
+    /**
+     * Loads the entity of the given key. Only one load per key runs at a time, the other callers wait for and share
+     * its result. A null result is remembered until the negative cache TTL elapses or the key is invalidated.
+     *
+     * @param key    key of the entity
+     * @param loader loads the entity from the internal API
+     * @return the loaded entity, or null if it does not exist
+     * @throws DataLoadingException if the entity could not be loaded
+     */
+    public V load(K key, Loader<K, V> loader) throws DataLoadingException {
+
+        missCount.increment();
+        if (isNegativelyCached(key)) {
+            negativeHitCount.increment();
+            return null;
+        }
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> inFlightLoad = inFlightLoads.putIfAbsent(key, future);
+        if (inFlightLoad != null) {
+            return await(key, inFlightLoad);
+        }
+        long invalidationCount = invalidations.get();
+        long startTime = System.nanoTime();
+        try {
+            V value = loader.load(key);
+            if (value == null && negativeCacheTTLNanos > 0 && invalidations.get() == invalidationCount) {
+                addNegativeEntry(key);
+            }
+            future.complete(value);
+            return value;
+        } catch (DataLoadingException | RuntimeException e) {
+            loadFailureCount.increment();
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            long loadTime = System.nanoTime() - startTime;
+            loadCount.increment();
+            totalLoadTime.add(loadTime);
+            inFlightLoads.remove(key, future);
+            if (log.isDebugEnabled()) {
+                log.debug("Loaded " + name + " " + key + " from the internal API in "
+                        + TimeUnit.NANOSECONDS.toMillis(loadTime) + " ms");
+            }
+        }
+    }
+
+    private V await(K key, CompletableFuture<V> inFlightLoad) throws DataLoadingException {
+
+        try {
+            return inFlightLoad.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DataLoadingException("Interrupted while waiting for " + name + " " + key + " to be loaded", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataLoadingException) {
+                throw (DataLoadingException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new DataLoadingException("Error while loading " + name + " " + key, cause);
+        }
+    }
+
+    private boolean isNegativelyCached(K key) {
+
+        Long expiry = negativeCache.get(key);
+        if (expiry == null) {
+            return false;
+        }
+        if (expiry - System.nanoTime() > 0) {
+            return true;
+        }
+        negativeCache.remove(key, expiry);
+        return false;
+    }
+
+    private void addNegativeEntry(K key) {
+
+        if (negativeCache.size() >= maxNegativeCacheSize) {
+            long now = System.nanoTime();
+            negativeCache.values().removeIf(expiry -> expiry - now <= 0);
+            if (negativeCache.size() >= maxNegativeCacheSize) {
+                negativeCache.clear();
+            }
+        }
+        negativeCache.put(key, System.nanoTime() + negativeCacheTTLNanos);
+    }
+
+    /**
+     * Records a lookup which was answered by the data store without loading.
+     */
+    public void recordHit() {
+
+        hitCount.increment();
+    }
+
+    /**
+     * Forgets that the given key is unknown. This is called when the entity of the key is added to the data store.
+     *
+     * @param key key of the entity
+     */
+    public void invalidate(K key) {
+
+        invalidations.incrementAndGet();
+        negativeCache.remove(key);
+    }
+
+    public void invalidateAll() {
+
+        invalidations.incrementAndGet();
+        negativeCache.clear();
+    }
+
+    public String getName() {
+
+        return name;
+    }
+
+    public long getHitCount() {
+
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+
+        return missCount.sum();
+    }
+
+    public long getNegativeHitCount() {
+
+        return negativeHitCount.sum();
+    }
+
+    public long getLoadCount() {
+
+        return loadCount.sum();
+    }
+
+    public long getLoadFailureCount() {
+
+        return loadFailureCount.sum();
+    }
+
+    /**
+     * Returns the average time taken to load an entity from the internal API, in milliseconds.
+     */
+    public double getAverageLoadTime() {
+
+        long loads = loadCount.sum();
+        return loads == 0 ? 0 : (double) TimeUnit.NANOSECONDS.toMicros(totalLoadTime.sum()) / loads / 1000;
+    }
+
+    public int getNegativeCacheSize() {
+
+        return negativeCache.size();
+    }
+
+    /**
+     * Loads an entity from the internal API.
+     *
+     * @param <K> key type
+     * @param <V> entity type
+     */
+    @FunctionalInterface
+    public interface Loader<K, V> {
+
+        V load(K key) throws DataLoadingException;
+    }
+}
@@ -19,9 +19,13 @@ package org.wso2.carbon.apimgt.keymgt.model.impl;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
 import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpStatus;
 import org.apache.http.client.HttpClient;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -45,15 +49,19 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMappingList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicyList;
+import org.wso2.carbon.apimgt.keymgt.model.entity.Pagination;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ScopesList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionChangeList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicyList;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.net.URL;
 import java.net.URLEncoder;
@@ -61,6 +69,8 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
 
@@ -68,6 +78,7 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     private EventHubConfigurationDto getEventHubConfigurationDto;
     private GatewayArtifactSynchronizerProperties gatewayArtifactSynchronizerProperties;
     public static final String UTF8 = "UTF-8";
+    private static final int PAGE_LIMIT = 1000;
 
     public SubscriptionDataLoaderImpl() {
 
@@ -82,60 +93,85 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
     @Override
     public List<Subscription> loadAllSubscriptions(String tenantDomain) throws DataLoadingException {
 
-        String subscriptionsEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS;
         List<Subscription> subscriptions = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(subscriptionsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + subscriptionsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            subscriptions = (new Gson().fromJson(responseString, SubscriptionList.class)).getList();
-        }
+        loadAllSubscriptions(tenantDomain, subscriptions::addAll);
         return subscriptions;
     }
 
+    @Override
+    public void loadAllSubscriptions(String tenantDomain, Consumer<List<Subscription>> pageConsumer)
+            throws DataLoadingException {
+
+        loadAllPages(APIConstants.SubscriptionValidationResources.SUBSCRIPTIONS, tenantDomain,
+                SubscriptionList.class, SubscriptionList::getList, SubscriptionList::getPagination, pageConsumer);
+    }
+
     @Override
     public List<Application> loadAllApplications(String tenantDomain) throws DataLoadingException {
 
-        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATIONS;
         List<Application> applications = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applications = (new Gson().fromJson(responseString, ApplicationList.class)).getList();
-        }
+        loadAllApplications(tenantDomain, applications::addAll);
         return applications;
     }
 
+    @Override
+    public void loadAllApplications(String tenantDomain, Consumer<List<Application>> pageConsumer)
+            throws DataLoadingException {
+
+        loadAllPages(APIConstants.SubscriptionValidationResources.APPLICATIONS, tenantDomain,
+                ApplicationList.class, ApplicationList::getList, ApplicationList::getPagination, pageConsumer);
+    }
+
     @Override
     public List<ApplicationKeyMapping> loadAllKeyMappings(String tenantDomain) throws DataLoadingException {
 
-        String applicationsEP = APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS;
         List<ApplicationKeyMapping> applicationKeyMappings = new ArrayList<>();
-        String responseString = null;
-        try {
-            responseString = invokeService(applicationsEP, tenantDomain);
-        } catch (IOException e) {
-            String msg = "Error while executing the http client " + applicationsEP;
-            log.error(msg, e);
-            throw new DataLoadingException(msg, e);
-        }
-        if (responseString != null && !responseString.isEmpty()) {
-            applicationKeyMappings = (new Gson().fromJson(responseString, ApplicationKeyMappingList.class)).getList();
-        }
+        loadAllKeyMappings(tenantDomain, applicationKeyMappings::addAll);
         return applicationKeyMappings;
     }
 
+    @Override
+    public void loadAllKeyMappings(String tenantDomain, Consumer<List<ApplicationKeyMapping>> pageConsumer)
+            throws DataLoadingException {
+
+        loadAllPages(APIConstants.SubscriptionValidationResources.APPLICATION_KEY_MAPPINGS, tenantDomain,
+                ApplicationKeyMappingList.class, ApplicationKeyMappingList::getList,
+                ApplicationKeyMappingList::getPagination, pageConsumer);
+    }
+
+    /**
+     * Loads all the entries of a bulk resource a page at a time, following the link to the next page, and passes
+     * each page to the consumer once it is loaded. Each page is parsed from the response stream, so that at most a
+     * page of the response is held in memory besides what the consumer keeps. A control plane without keyset
+     * pagination returns all the entries in the first page.
+     */
+    private <L, T> void loadAllPages(String path, String tenantDomain, Class<L> pageType,
+                                     Function<L, List<T>> entriesOf, Function<L, Pagination> paginationOf,
+                                     Consumer<List<T>> pageConsumer) throws DataLoadingException {
+
+        String pagePath = path + "?limit=" + PAGE_LIMIT;
+        while (pagePath != null) {
+            L page;
+            try {
+                page = invokeService(pagePath, tenantDomain, pageType);
+            } catch (IOException e) {
+                String msg = "Error while executing the http client " + pagePath;
+                log.error(msg, e);
+                throw new DataLoadingException(msg, e);
+            }
+            if (page == null) {
+                break;
+            }
+            List<T> pageEntries = entriesOf.apply(page);
+            if (pageEntries != null) {
+                pageConsumer.accept(pageEntries);
+            }
+            Pagination pagination = paginationOf.apply(page);
+            String nextPath = pagination != null ? pagination.getNext() : null;
+            pagePath = nextPath != null && !nextPath.isEmpty() && !nextPath.equals(pagePath) ? nextPath : null;
+        }
+    }
+
     @Override
     public List<API> loadAllApis(String tenantDomain) throws DataLoadingException {
 
@@ -474,6 +510,32 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
         }
     }
 
+    @Override
+    public SubscriptionChangeList loadSubscriptionChanges(String tenantDomain, long after, int limit)
+            throws DataLoadingException {
+
+        String subscriptionChangesEP = APIConstants.SubscriptionValidationResources.SUBSCRIPTION_CHANGES
+                + "?after=" + after + "&limit=" + limit;
+        String responseString;
+        try {
+            responseString = invokeService(subscriptionChangesEP, tenantDomain);
+        } catch (IOException e) {
+            String msg = "Error while executing the HTTP client " + subscriptionChangesEP;
+            log.error(msg, e);
+            throw new DataLoadingException(msg, e);
+        }
+        SubscriptionChangeList subscriptionChanges = null;
+        if (responseString != null && !responseString.isEmpty()) {
+            try {
+                subscriptionChanges = new Gson().fromJson(responseString, SubscriptionChangeList.class);
+            } catch (JsonSyntaxException e) {
+                throw new DataLoadingException("Error while parsing the subscription changes of tenant "
+                        + tenantDomain, e);
+            }
+        }
+        return subscriptionChanges != null ? subscriptionChanges : new SubscriptionChangeList();
+    }
+
     private String invokeService(String path, String tenantDomain) throws DataLoadingException, IOException {
 
         String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
@@ -503,6 +565,42 @@ public class SubscriptionDataLoaderImpl implements SubscriptionDataLoader {
             return responseString;
     }
 
+    private <T> T invokeService(String path, String tenantDomain, Class<T> responseType)
+            throws DataLoadingException, IOException {
+
+        String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
+        HttpGet method = new HttpGet(serviceURLStr + path);
+        URL serviceURL = new URL(serviceURLStr + path);
+        byte[] credentials = getServiceCredentials(getEventHubConfigurationDto);
+        int servicePort = serviceURL.getPort();
+        String serviceProtocol = serviceURL.getProtocol();
+        method.setHeader(APIConstants.AUTHORIZATION_HEADER_DEFAULT,
+                APIConstants.AUTHORIZATION_BASIC +
+                        new String(credentials, StandardCharsets.UTF_8));
+        if (tenantDomain != null) {
+            method.setHeader(APIConstants.HEADER_TENANT, tenantDomain);
+        }
+        HttpClient httpClient = APIUtil.getHttpClient(servicePort, serviceProtocol);
+        try (CloseableHttpResponse httpResponse = APIUtil.executeHTTPRequestWithRetries(method, httpClient)) {
+            int statusCode = httpResponse.getStatusLine().getStatusCode();
+            if (statusCode != HttpStatus.SC_OK) {
+                // a failed page must not be taken as the end of the entries
+                throw new DataLoadingException("Error while retrieving " + path + ". Status code: " + statusCode);
+            }
+            HttpEntity entity = httpResponse.getEntity();
+            if (entity == null) {
+                return null;
+            }
+            try (Reader reader = new InputStreamReader(entity.getContent(), StandardCharsets.UTF_8)) {
+                return new Gson().fromJson(reader, responseType);
+            } catch (JsonParseException e) {
+                throw new DataLoadingException("Error while parsing the response of " + path, e);
+            }
+        } catch (APIManagementException e) {
+            throw new DataLoadingException("Error while retrieving " + path, e);
+        }
+    }
+
     private void invokePostService(String path, String tenantDomain, String payload)
             throws IOException, DataLoadingException {
         String serviceURLStr = getEventHubConfigurationDto.getServiceUrl().concat(APIConstants.INTERNAL_WEB_APP_EP);
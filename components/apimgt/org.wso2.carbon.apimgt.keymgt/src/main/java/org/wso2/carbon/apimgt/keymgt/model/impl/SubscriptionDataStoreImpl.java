@@ -39,16 +39,20 @@ import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationKeyMappingCacheKey;
 import org.wso2.carbon.apimgt.keymgt.model.entity.ApplicationPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Scope;
 import org.wso2.carbon.apimgt.keymgt.model.entity.Subscription;
+import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionChangeList;
 import org.wso2.carbon.apimgt.keymgt.model.entity.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
 import org.wso2.carbon.apimgt.keymgt.model.util.SubscriptionDataStoreUtil;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.*;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -56,6 +60,11 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public static final String DELEM_PERIOD = ":";
     public static final int LOADING_POOL_SIZE = 7;
+    static final String APPLICATION_LOADER = "Application";
+    static final String KEY_MAPPING_LOADER = "KeyMapping";
+    static final String API_LOADER = "API";
+    static final String SUBSCRIPTION_LOADER = "Subscription";
+    static final String[] LOADER_NAMES = {APPLICATION_LOADER, KEY_MAPPING_LOADER, API_LOADER, SUBSCRIPTION_LOADER};
     private static final Log log = LogFactory.getLog(SubscriptionDataStoreImpl.class);
     private final EventHubConfigurationDto eventHubConfiguration;
     private boolean scopesInitialized;
@@ -76,6 +85,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private ScheduledExecutorService executorService = Executors.newScheduledThreadPool(LOADING_POOL_SIZE);
     private final ExecutorService subscriptionExecutorService = Executors.newFixedThreadPool(10,
             new InternalSubscriptionThreadFactory());
+    private final SingleFlightLoader<Integer, Application> applicationLoader =
+            new SingleFlightLoader<>(APPLICATION_LOADER);
+    private final SingleFlightLoader<ApplicationKeyMappingCacheKey, ApplicationKeyMapping> keyMappingLoader =
+            new SingleFlightLoader<>(KEY_MAPPING_LOADER);
+    private final SingleFlightLoader<String, API> apiLoader = new SingleFlightLoader<>(API_LOADER);
+    private final SingleFlightLoader<String, Subscription> subscriptionLoader =
+            new SingleFlightLoader<>(SUBSCRIPTION_LOADER);
+    // sequence of the subscription change log the store is up to date with, -1 if unknown
+    private volatile long changeSequence = -1;
+    private boolean changeSequenceLoaded;
 
     public SubscriptionDataStoreImpl(String tenantDomain) {
 
@@ -121,27 +140,15 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     @Override
     public Application getApplicationById(int appId) {
 
-        String synchronizeKey = "SubscriptionDataStoreImpl-Application-" + appId;
         Application application = applicationMap.get(appId);
         if (application == null) {
-            synchronized (synchronizeKey.intern()) {
-                application = applicationMap.get(appId);
-                if (application != null) {
-                    return application;
-                }
-            }
             try {
-                application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
+                application = applicationLoader.load(appId, this::loadApplication);
             } catch (DataLoadingException e) {
                 log.error("Error while Retrieving Application Metadata From Internal API.", e);
             }
-            if (application != null && application.getId() != null && application.getId() != 0) {
-                // load to the memory
-                log.debug("Loading Application to the in-memory datastore. applicationId = " + application.getId());
-                addOrUpdateApplication(application);
-            } else {
-                log.debug("Application not found. applicationId = " + appId);
-            }
+        } else {
+            applicationLoader.recordHit();
         }
 
         if (log.isDebugEnabled()) {
@@ -155,6 +162,23 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return application;
     }
 
+    private Application loadApplication(Integer appId) throws DataLoadingException {
+
+        Application application = applicationMap.get(appId);
+        if (application != null) {
+            return application;
+        }
+        application = new SubscriptionDataLoaderImpl().getApplicationById(appId);
+        if (application != null && application.getId() != null && application.getId() != 0) {
+            // load to the memory
+            log.debug("Loading Application to the in-memory datastore. applicationId = " + application.getId());
+            addOrUpdateApplication(application);
+            return application;
+        }
+        log.debug("Application not found. applicationId = " + appId);
+        return null;
+    }
+
     @Override
     public ApplicationKeyMapping getKeyMappingByKeyAndKeyManager(String key, String keyManager,
                                                                  boolean validationDisabled) {
@@ -176,27 +200,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey = new ApplicationKeyMappingCacheKey(key,
                 keyManager);
-        String synchronizeKey = "SubscriptionDataStoreImpl-KeyMapping-" + applicationKeyMappingCacheKey;
-
         ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
         if (applicationKeyMapping == null) {
-            synchronized (synchronizeKey.intern()) {
-                applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
-                if (applicationKeyMapping != null) {
-                    return applicationKeyMapping;
-                }
-                try {
-                    applicationKeyMapping = new SubscriptionDataLoaderImpl()
-                            .getKeyMapping(key, keyManager, tenantDomain);
-                } catch (DataLoadingException e) {
-                    log.error("Error while Loading KeyMapping Information from Internal API.", e);
-                }
-                if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
-                    // load to the memory
-                    log.debug("Loading Keymapping to the in-memory datastore.");
-                    addOrUpdateApplicationKeyMapping(applicationKeyMapping);
-                }
+            try {
+                applicationKeyMapping = keyMappingLoader.load(applicationKeyMappingCacheKey,
+                        cacheKey -> loadKeyMapping(cacheKey, key, keyManager));
+            } catch (DataLoadingException e) {
+                log.error("Error while Loading KeyMapping Information from Internal API.", e);
             }
+        } else {
+            keyMappingLoader.recordHit();
         }
 
         if (log.isDebugEnabled()) {
@@ -210,6 +223,23 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return applicationKeyMapping;
     }
 
+    private ApplicationKeyMapping loadKeyMapping(ApplicationKeyMappingCacheKey applicationKeyMappingCacheKey,
+                                                 String key, String keyManager) throws DataLoadingException {
+
+        ApplicationKeyMapping applicationKeyMapping = applicationKeyMappingMap.get(applicationKeyMappingCacheKey);
+        if (applicationKeyMapping != null) {
+            return applicationKeyMapping;
+        }
+        applicationKeyMapping = new SubscriptionDataLoaderImpl().getKeyMapping(key, keyManager, tenantDomain);
+        if (applicationKeyMapping != null && !StringUtils.isEmpty(applicationKeyMapping.getConsumerKey())) {
+            // load to the memory
+            log.debug("Loading Keymapping to the in-memory datastore.");
+            addOrUpdateApplicationKeyMapping(applicationKeyMapping);
+            return applicationKeyMapping;
+        }
+        return null;
+    }
+
     @Override
     public API getApiByContextAndVersion(String context, String version) {
 
@@ -228,25 +258,15 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
             return null;
         }
         String key = context + DELEM_PERIOD + version;
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
         API api = apiMap.get(key);
         if (api == null) {
-            synchronized (synchronizeKey.intern()) {
-                api = apiMap.get(key);
-                if (api != null) {
-                    return api;
-                }
-                try {
-                    api = new SubscriptionDataLoaderImpl().getApi(context, version);
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Data From Internal Rest API", e);
-                }
-                if (api != null && api.getApiId() != 0) {
-                    // load to the memory
-                    log.debug("Loading API to the in-memory datastore.");
-                    addOrUpdateAPI(api);
-                }
+            try {
+                api = apiLoader.load(key, apiKey -> loadApi(apiKey, context, version));
+            } catch (DataLoadingException e) {
+                log.error("Error while Retrieving Data From Internal Rest API", e);
             }
+        } else {
+            apiLoader.recordHit();
         }
         if (log.isDebugEnabled()) {
             log.debug("Retrieving API information with Context " + context + " and Version : " + version);
@@ -261,6 +281,22 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return api;
     }
 
+    private API loadApi(String key, String context, String version) throws DataLoadingException {
+
+        API api = apiMap.get(key);
+        if (api != null) {
+            return api;
+        }
+        api = new SubscriptionDataLoaderImpl().getApi(context, version);
+        if (api != null && api.getApiId() != 0) {
+            // load to the memory
+            log.debug("Loading API to the in-memory datastore.");
+            addOrUpdateAPI(api);
+            return api;
+        }
+        return null;
+    }
+
     @Override
     public API getApiByNameAndVersion(String name, String version) {
 
@@ -308,26 +344,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     public Subscription getSubscriptionById(int appId, int apiId) {
 
         String subscriptionCacheKey = SubscriptionDataStoreUtil.getSubscriptionCacheKey(appId, apiId);
-        String synchronizeKey = "SubscriptionDataStoreImpl-Subscription-" + subscriptionCacheKey;
         Subscription subscription = subscriptionMap.get(subscriptionCacheKey);
         if (subscription == null) {
-            synchronized (synchronizeKey.intern()) {
-                subscription = subscriptionMap.get(subscriptionCacheKey);
-                if (subscription != null) {
-                    return subscription;
-                }
-                try {
-                    subscription = new SubscriptionDataLoaderImpl().getSubscriptionById(Integer.toString(apiId),
-                            Integer.toString(appId));
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Subscription Data From Internal API", e);
-                }
-                if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
-                    // load to the memory
-                    log.debug("Loading Subscription to the in-memory datastore.");
-                    subscriptionMap.put(subscription.getCacheKey(), subscription);
-                }
+            try {
+                subscription = subscriptionLoader.load(subscriptionCacheKey,
+                        cacheKey -> loadSubscription(cacheKey, appId, apiId));
+            } catch (DataLoadingException e) {
+                log.error("Error while Retrieving Subscription Data From Internal API", e);
             }
+        } else {
+            subscriptionLoader.recordHit();
         }
         if (log.isDebugEnabled()) {
             log.debug("Retrieving API Subscription with Application " + appId + " and APIId : " + apiId);
@@ -342,6 +368,24 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         return subscription;
     }
 
+    private Subscription loadSubscription(String subscriptionCacheKey, int appId, int apiId)
+            throws DataLoadingException {
+
+        Subscription subscription = subscriptionMap.get(subscriptionCacheKey);
+        if (subscription != null) {
+            return subscription;
+        }
+        subscription = new SubscriptionDataLoaderImpl().getSubscriptionById(Integer.toString(apiId),
+                Integer.toString(appId));
+        if (subscription != null && !StringUtils.isEmpty(subscription.getSubscriptionId())) {
+            // load to the memory
+            log.debug("Loading Subscription to the in-memory datastore.");
+            subscriptionMap.put(subscription.getCacheKey(), subscription);
+            return subscription;
+        }
+        return null;
+    }
+
     @Override
     public ApiPolicy getApiPolicyByName(String policyName, int tenantId) {
 
@@ -352,17 +396,35 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     public void initializeLoadingTasks() {
 
+        scheduleAPIPolicyAndScopeLoadingTasks();
+        scheduleSubscriptionLoadingTasks();
+    }
+
+    @Override
+    public void reloadAPIsPoliciesAndScopes() {
+
+        scheduleAPIPolicyAndScopeLoadingTasks();
+    }
+
+    private void scheduleAPIPolicyAndScopeLoadingTasks() {
+
         Runnable apiTask = new PopulateTask<>(apiMap,
                 () -> {
                     try {
                         log.debug("Calling loadAllApis. ");
                         List<API> apiList = new SubscriptionDataLoaderImpl().loadAllApis(tenantDomain);
-                        apiByUUIDMap.clear();
+                        Set<String> apiUUIDs = new HashSet<>();
+                        Set<String> apiNameVersions = new HashSet<>();
                         for (API api : apiList) {
                             apiByUUIDMap.put(api.getUuid(), api);
                             String key = api.getApiName().concat(":").concat(api.getApiVersion());
                             apiNameVersionMap.put(key, api);
+                            apiUUIDs.add(api.getUuid());
+                            apiNameVersions.add(key);
                         }
+                        // the APIs are reloaded in place after a synchronization, so removed APIs are dropped
+                        apiByUUIDMap.keySet().retainAll(apiUUIDs);
+                        apiNameVersionMap.keySet().retainAll(apiNameVersions);
                         apisInitialized = true;
                         return apiList;
                     } catch (APIManagementException e) {
@@ -373,46 +435,6 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         executorService.schedule(apiTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
 
-        Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap,
-                () -> {
-                    try {
-                        log.debug("Calling loadAllSubscriptions.");
-                        return new SubscriptionDataLoaderImpl().loadAllSubscriptions(tenantDomain);
-                    } catch (APIManagementException e) {
-                        log.error("Exception while loading Subscriptions " + e);
-                    }
-                    return null;
-                });
-
-        executorService.schedule(subscriptionLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
-
-        Runnable applicationLoadingTask = new PopulateTask<>(applicationMap,
-                () -> {
-                    try {
-                        log.debug("Calling loadAllApplications.");
-                        return new SubscriptionDataLoaderImpl().loadAllApplications(tenantDomain);
-                    } catch (APIManagementException e) {
-                        log.error("Exception while loading Applications " + e);
-                    }
-                    return null;
-                });
-
-        executorService.schedule(applicationLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
-
-        Runnable keyMappingsTask =
-                new PopulateTask<>(applicationKeyMappingMap,
-                        () -> {
-                            try {
-                                log.debug("Calling loadAllKeyMappings.");
-                                return new SubscriptionDataLoaderImpl().loadAllKeyMappings(tenantDomain);
-                            } catch (APIManagementException e) {
-                                log.error("Exception while loading ApplicationKeyMapping " + e);
-                            }
-                            return null;
-                        });
-
-        executorService.schedule(keyMappingsTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
-
         Runnable apiPolicyLoadingTask =
                 new PopulateTask<>(apiPolicyMap,
                         () -> {
@@ -475,6 +497,144 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         executorService.schedule(scopesLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
     }
 
+    private void scheduleSubscriptionLoadingTasks() {
+
+        Runnable subscriptionLoadingTask = new PopulateTask<>(subscriptionMap,
+                pageConsumer -> {
+                    try {
+                        log.debug("Calling loadAllSubscriptions.");
+                        loadChangeSequence();
+                        new SubscriptionDataLoaderImpl().loadAllSubscriptions(tenantDomain, pageConsumer);
+                        return true;
+                    } catch (APIManagementException e) {
+                        log.error("Exception while loading Subscriptions " + e);
+                    }
+                    return false;
+                });
+
+        executorService.schedule(subscriptionLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+
+        Runnable applicationLoadingTask = new PopulateTask<>(applicationMap,
+                pageConsumer -> {
+                    try {
+                        log.debug("Calling loadAllApplications.");
+                        loadChangeSequence();
+                        new SubscriptionDataLoaderImpl().loadAllApplications(tenantDomain, pageConsumer);
+                        return true;
+                    } catch (APIManagementException e) {
+                        log.error("Exception while loading Applications " + e);
+                    }
+                    return false;
+                });
+
+        executorService.schedule(applicationLoadingTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+
+        Runnable keyMappingsTask =
+                new PopulateTask<>(applicationKeyMappingMap,
+                        pageConsumer -> {
+                            try {
+                                log.debug("Calling loadAllKeyMappings.");
+                                loadChangeSequence();
+                                new SubscriptionDataLoaderImpl().loadAllKeyMappings(tenantDomain, pageConsumer);
+                                return true;
+                            } catch (APIManagementException e) {
+                                log.error("Exception while loading ApplicationKeyMapping " + e);
+                            }
+                            return false;
+                        });
+
+        executorService.schedule(keyMappingsTask, eventHubConfiguration.getInitDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reads the latest sequence of the subscription change log before the subscriptions, applications and key
+     * mappings are loaded, so that no change made while they are loaded is missed by the next synchronization.
+     */
+    private synchronized void loadChangeSequence() {
+
+        if (changeSequenceLoaded || !eventHubConfiguration.getSubscriptionDeltaSync().isEnabled()) {
+            return;
+        }
+        changeSequenceLoaded = true;
+        try {
+            SubscriptionChangeList subscriptionChanges =
+                    new SubscriptionDataLoaderImpl().loadSubscriptionChanges(tenantDomain, -1, 0);
+            if (subscriptionChanges.getSequence() != null) {
+                changeSequence = subscriptionChanges.getSequence();
+            }
+        } catch (DataLoadingException e) {
+            log.warn("Error while loading the subscription change sequence of tenant " + tenantDomain
+                    + ". The subscription data store will be fully reloaded on the next synchronization.", e);
+        }
+    }
+
+    @Override
+    public synchronized boolean syncChanges() {
+
+        EventHubConfigurationDto.SubscriptionDeltaSync deltaSyncConfiguration =
+                eventHubConfiguration.getSubscriptionDeltaSync();
+        long sequence = changeSequence;
+        if (!deltaSyncConfiguration.isEnabled() || sequence < 0) {
+            return false;
+        }
+        SubscriptionChangeList subscriptionChanges;
+        try {
+            subscriptionChanges = new SubscriptionDataLoaderImpl().loadSubscriptionChanges(tenantDomain, sequence,
+                    deltaSyncConfiguration.getMaxChanges());
+        } catch (DataLoadingException e) {
+            log.error("Error while loading the subscription changes of tenant " + tenantDomain, e);
+            return false;
+        }
+        if (subscriptionChanges.isFullSyncRequired()) {
+            if (log.isDebugEnabled()) {
+                log.debug("Subscription changes of tenant " + tenantDomain + " after " + sequence
+                        + " are not available. Reloading the subscription data store.");
+            }
+            return false;
+        }
+        for (Subscription subscription : subscriptionChanges.getSubscriptions()) {
+            // the control plane returns the current state, which is newer than any event received earlier
+            subscriptionMap.put(subscription.getCacheKey(), subscription);
+            subscriptionLoader.invalidate(subscription.getCacheKey());
+        }
+        for (Application application : subscriptionChanges.getApplications()) {
+            addOrUpdateApplication(application);
+        }
+        for (ApplicationKeyMapping applicationKeyMapping : subscriptionChanges.getApplicationKeyMappings()) {
+            addOrUpdateApplicationKeyMapping(applicationKeyMapping);
+        }
+        for (SubscriptionChangeList.Removal removal : subscriptionChanges.getRemovals()) {
+            applyRemoval(removal);
+        }
+        changeSequence = subscriptionChanges.getSequence();
+        if (log.isDebugEnabled()) {
+            log.debug("Synchronized subscription data store of tenant " + tenantDomain + " from sequence "
+                    + sequence + " to " + changeSequence + ": " + subscriptionChanges.getSubscriptions().size()
+                    + " subscriptions, " + subscriptionChanges.getApplications().size() + " applications, "
+                    + subscriptionChanges.getApplicationKeyMappings().size() + " key mappings and "
+                    + subscriptionChanges.getRemovals().size() + " removals");
+        }
+        return true;
+    }
+
+    private void applyRemoval(SubscriptionChangeList.Removal removal) {
+
+        int applicationId = removal.getApplicationId();
+        if (SubscriptionChangeList.Removal.SUBSCRIPTION.equals(removal.getEntityType())) {
+            subscriptionMap.remove(SubscriptionDataStoreUtil.getSubscriptionCacheKey(applicationId,
+                    removal.getApiId()));
+        } else if (SubscriptionChangeList.Removal.APPLICATION.equals(removal.getEntityType())) {
+            applicationMap.remove(applicationId);
+            subscriptionMap.values().removeIf(subscription ->
+                    subscription.getAppId() != null && subscription.getAppId() == applicationId);
+            applicationKeyMappingMap.values().removeIf(applicationKeyMapping ->
+                    applicationKeyMapping.getApplicationId() == applicationId);
+        } else if (SubscriptionChangeList.Removal.KEY_MAPPING.equals(removal.getEntityType())) {
+            applicationKeyMappingMap.remove(
+                    new ApplicationKeyMappingCacheKey(removal.getConsumerKey(), removal.getKeyManager()));
+        }
+    }
+
     public boolean isApisInitialized() {
 
         return apisInitialized;
@@ -487,36 +647,34 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     @Override
     public void addOrUpdateSubscription(Subscription subscription) {
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + subscription.getCacheKey();
 
-        synchronized (synchronizeKey.intern()) {
-            Subscription retrievedSubscription = subscriptionMap.get(subscription.getCacheKey());
-            if (retrievedSubscription == null) {
-                subscriptionMap.put(subscription.getCacheKey(), subscription);
-            } else {
-                if (log.isDebugEnabled()) {
-                    log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
-                }
-                if (subscription.getTimeStamp() < retrievedSubscription.getTimeStamp()) {
+        Subscription updatedSubscription = subscriptionMap.compute(subscription.getCacheKey(),
+                (cacheKey, retrievedSubscription) -> {
+                    if (retrievedSubscription == null) {
+                        return subscription;
+                    }
                     if (log.isDebugEnabled()) {
-                        log.debug("Drop the Event " + subscription.toString() + " since the event timestamp was old");
+                        log.debug("Retrieved Subscription from Map :" + retrievedSubscription.toString());
                     }
-                } else {
-                    if (!APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
-                        subscriptionMap.put(subscription.getCacheKey(), subscription);
-                    } else {
+                    if (subscription.getTimeStamp() < retrievedSubscription.getTimeStamp()) {
                         if (log.isDebugEnabled()) {
-                            log.debug("Drop the Event " + subscription.toString() + " since the event was marked as " +
-                                    "ON_HOLD");
+                            log.debug("Drop the Event " + subscription.toString()
+                                    + " since the event timestamp was old");
                         }
+                        return retrievedSubscription;
                     }
-                }
-            }
-            if (log.isDebugEnabled()) {
-                Subscription updatedSubscription = subscriptionMap.get(subscription.getCacheKey());
-                log.debug("Updated Subscription From map :" + updatedSubscription.toString());
-            }
-
+                    if (APIConstants.SubscriptionStatus.ON_HOLD.equals(subscription.getSubscriptionState())) {
+                        if (log.isDebugEnabled()) {
+                            log.debug("Drop the Event " + subscription.toString() + " since the event was marked as "
+                                    + "ON_HOLD");
+                        }
+                        return retrievedSubscription;
+                    }
+                    return subscription;
+                });
+        subscriptionLoader.invalidate(subscription.getCacheKey());
+        if (log.isDebugEnabled()) {
+            log.debug("Updated Subscription From map :" + updatedSubscription.toString());
         }
     }
 
@@ -548,6 +706,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
         apiByUUIDMap.put(api.getUuid(), api);
         apiNameVersionMap.put(key, api);
         apiMap.put(api.getCacheKey(), api);
+        apiLoader.invalidate(api.getCacheKey());
     }
 
     @Override
@@ -560,6 +719,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
                 String key = newAPI.getApiName().concat(":").concat(newAPI.getApiVersion());
                 apiNameVersionMap.put(key, newAPI);
                 apiByUUIDMap.put(newAPI.getUuid(), newAPI);
+                apiLoader.invalidate(api.getCacheKey());
             }
         } catch (DataLoadingException e) {
             log.error("Exception while loading api for " + api.getContext() + " " + api.getApiVersion(), e);
@@ -581,6 +741,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         applicationKeyMappingMap.remove(applicationKeyMapping.getCacheKey());
         applicationKeyMappingMap.put(applicationKeyMapping.getCacheKey(), applicationKeyMapping);
+        keyMappingLoader.invalidate(applicationKeyMapping.getCacheKey());
     }
 
     @Override
@@ -620,6 +781,7 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         applicationMap.remove(application.getId());
         applicationMap.put(application.getId(), application);
+        applicationLoader.invalidate(application.getId());
     }
 
     @Override
@@ -669,6 +831,16 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
         return scopesInitialized;
     }
+
+    /**
+     * Returns the loaders used to fetch missing entries from the internal API, for
+     * {@link SubscriptionDataStoreMetrics} to read their statistics.
+     */
+    List<SingleFlightLoader<?, ?>> getLoaders() {
+
+        return Arrays.asList(applicationLoader, keyMappingLoader, apiLoader, subscriptionLoader);
+    }
+
     @Override
     public Subscription getSubscriptionBySubscriptionUUID(String subscriptionUUID) {
 
@@ -852,40 +1024,65 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
     private static class PopulateTask<K, V extends CacheableEntity<K>> implements Runnable {
 
         private Map<K, V> entityMap;
-        private Supplier<List<V>> supplier;
+        private PageLoader<V> loader;
 
         PopulateTask(Map<K, V> entityMap, Supplier<List<V>> supplier) {
 
+            this(entityMap, pageConsumer -> {
+                List<V> list = supplier.get();
+                if (list == null) {
+                    return false;
+                }
+                pageConsumer.accept(list);
+                return true;
+            });
+        }
+
+        PopulateTask(Map<K, V> entityMap, PageLoader<V> loader) {
+
             this.entityMap = entityMap;
-            this.supplier = supplier;
+            this.loader = loader;
         }
 
         public void run() {
 
-            List<V> list = supplier.get();
             HashMap<K, V> tempMap = new HashMap<>();
-
-            if (list != null) {
-                for (V v : list) {
+            // the entries are added as each page is loaded, so that the pages are not collected in a list first
+            boolean loaded = loader.load(page -> {
+                for (V v : page) {
                     tempMap.put(v.getCacheKey(), v);
                     if (log.isDebugEnabled()) {
                         log.debug(String.format("Adding entry Key : %s Value : %s", v.getCacheKey(), v));
                     }
+                }
+            });
 
-                    if (!tempMap.isEmpty()) {
-                        entityMap.clear();
-                        entityMap.putAll(tempMap);
-                    }
+            if (loaded) {
+                if (!tempMap.isEmpty()) {
+                    entityMap.clear();
+                    entityMap.putAll(tempMap);
                 }
 
             } else {
                 if (log.isDebugEnabled()) {
-                    log.debug("List is null for " + supplier.getClass());
+                    log.debug("List is null for " + loader.getClass());
                 }
             }
         }
     }
 
+    /**
+     * Loads all the entries of a type, passing them to the consumer a page at a time.
+     */
+    @FunctionalInterface
+    private interface PageLoader<V> {
+
+        /**
+         * @return whether all the entries were loaded
+         */
+        boolean load(Consumer<List<V>> pageConsumer);
+    }
+
     /**
      * Thread factory to create internal subscription threads.
      */
@@ -899,40 +1096,31 @@ public class SubscriptionDataStoreImpl implements SubscriptionDataStore {
 
     /**
      * Updates API properties in the data store using the given {@link GatewayAPIDTO}.
-     * Synchronizes on API context/version key, loads API if missing, and updates its properties.
+     * Loads the API if missing, sharing any in-flight load of the same API, and updates its properties.
      *
      * @param gatewayAPIDTO DTO with API context, version, and properties.
      */
     @Override
     public void updateAPIPropertiesFromGatewayDTO(GatewayAPIDTO gatewayAPIDTO) {
         String key = gatewayAPIDTO.getApiContext() + DELEM_PERIOD + gatewayAPIDTO.getVersion();
-        String synchronizeKey = "SubscriptionDataStoreImpl-API-" + key;
-        synchronized (synchronizeKey.intern()) {
-            // Direct map access to avoid nested synchronization
-            API subscriptionAPI = apiMap.get(key);
-            if (subscriptionAPI == null) {
-                // If API not found, try to load it without nested synchronization
-                try {
-                    subscriptionAPI = new SubscriptionDataLoaderImpl().getApi(gatewayAPIDTO.getApiContext(),
-                            gatewayAPIDTO.getVersion());
-                    if (subscriptionAPI != null && subscriptionAPI.getApiId() != 0) {
-                        // load to the memory
-                        addOrUpdateAPI(subscriptionAPI);
-                    }
-                } catch (DataLoadingException e) {
-                    log.error("Error while Retrieving Data From Internal Rest API", e);
-                }
+        API subscriptionAPI = apiMap.get(key);
+        if (subscriptionAPI == null) {
+            try {
+                subscriptionAPI = apiLoader.load(key, apiKey -> loadApi(apiKey, gatewayAPIDTO.getApiContext(),
+                        gatewayAPIDTO.getVersion()));
+            } catch (DataLoadingException e) {
+                log.error("Error while Retrieving Data From Internal Rest API", e);
             }
-            if (subscriptionAPI != null) {
-                subscriptionAPI.setApiProperties(gatewayAPIDTO.getAdditionalProperties());
-                if (log.isDebugEnabled()) {
-                    log.debug("Updated API properties in SubscriptionDataStore for API: " + subscriptionAPI.getName() +
-                            " (Context: " + subscriptionAPI.getContext() + ", Version: " +
-                            subscriptionAPI.getVersion() + ")");
-                }
-            } else if (log.isDebugEnabled()) {
-                log.debug("API not found in SubscriptionDataStore for key: " + key);
+        }
+        if (subscriptionAPI != null) {
+            subscriptionAPI.setApiProperties(gatewayAPIDTO.getAdditionalProperties());
+            if (log.isDebugEnabled()) {
+                log.debug("Updated API properties in SubscriptionDataStore for API: " + subscriptionAPI.getName() +
+                        " (Context: " + subscriptionAPI.getContext() + ", Version: " +
+                        subscriptionAPI.getVersion() + ")");
             }
+        } else if (log.isDebugEnabled()) {
+            log.debug("API not found in SubscriptionDataStore for key: " + key);
         }
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.wso2.carbon.apimgt.impl.APIConstants;
+import org.wso2.carbon.apimgt.keymgt.SubscriptionDataHolder;
+import org.wso2.carbon.apimgt.keymgt.model.SubscriptionDataStore;
+import org.wso2.carbon.metrics.manager.Gauge;
+import org.wso2.carbon.metrics.manager.Level;
+import org.wso2.carbon.metrics.manager.MetricManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the hit, miss and load latency statistics of the loaders of the subscription data stores as carbon
+ * metrics. The gauges of a loader add up the statistics of that loader in the data stores of all the tenants each
+ * time they are reported. The statistics of a tenant start again from 0 when its data store is populated again.
+ */
+public final class SubscriptionDataStoreMetrics {
+
+    private static final AtomicBoolean registered = new AtomicBoolean();
+
+    private SubscriptionDataStoreMetrics() {
+
+    }
+
+    /**
+     * Registers the gauges of the loaders of the subscription data stores, unless they are already registered.
+     */
+    public static void register() {
+
+        if (!registered.compareAndSet(false, true)) {
+            return;
+        }
+        for (String loaderName : SubscriptionDataStoreImpl.LOADER_NAMES) {
+            registerGauge(loaderName, "Hits", (Gauge<Long>) () -> (long) sum(loaderName,
+                    SingleFlightLoader::getHitCount));
+            registerGauge(loaderName, "Misses", (Gauge<Long>) () -> (long) sum(loaderName,
+                    SingleFlightLoader::getMissCount));
+            registerGauge(loaderName, "NegativeHits", (Gauge<Long>) () -> (long) sum(loaderName,
+                    SingleFlightLoader::getNegativeHitCount));
+            registerGauge(loaderName, "Loads", (Gauge<Long>) () -> (long) sum(loaderName,
+                    SingleFlightLoader::getLoadCount));
+            registerGauge(loaderName, "LoadFailures", (Gauge<Long>) () -> (long) sum(loaderName,
+                    SingleFlightLoader::getLoadFailureCount));
+            registerGauge(loaderName, "AverageLoadTime", (Gauge<Double>) () -> {
+                double loads = sum(loaderName, SingleFlightLoader::getLoadCount);
+                return loads == 0 ? 0 : sum(loaderName,
+                        loader -> loader.getAverageLoadTime() * loader.getLoadCount()) / loads;
+            });
+            registerGauge(loaderName, "NegativeCacheSize", (Gauge<Long>) () -> (long) sum(loaderName,
+                    SingleFlightLoader::getNegativeCacheSize));
+        }
+    }
+
+    private static <T> void registerGauge(String loaderName, String name, Gauge<T> gauge) {
+
+        MetricManager.gauge(Level.INFO, MetricManager.name(APIConstants.METRICS_PREFIX,
+                SubscriptionDataStore.class.getSimpleName(), loaderName, name), gauge);
+    }
+
+    private static double sum(String loaderName, ToDoubleFunction<SingleFlightLoader<?, ?>> value) {
+
+        double sum = 0;
+        for (SubscriptionDataStore subscriptionDataStore :
+                SubscriptionDataHolder.getInstance().getTenantSubscriptionStores()) {
+            if (subscriptionDataStore instanceof SubscriptionDataStoreImpl) {
+                for (SingleFlightLoader<?, ?> loader : ((SubscriptionDataStoreImpl) subscriptionDataStore)
+                        .getLoaders()) {
+                    if (loaderName.equals(loader.getName())) {
+                        sum += value.applyAsDouble(loader);
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+}
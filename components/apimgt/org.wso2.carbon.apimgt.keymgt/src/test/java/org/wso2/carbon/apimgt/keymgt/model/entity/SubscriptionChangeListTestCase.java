@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.entity;
+
+import com.google.gson.Gson;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SubscriptionChangeListTestCase {
+
+    @Test
+    public void testParseSubscriptionChanges() {
+        String response = "{\"sequence\":42,\"fullSyncRequired\":false,"
+                + "\"subscriptions\":{\"count\":1,\"list\":[{\"subscriptionId\":7,\"apiId\":3,\"appId\":5,"
+                + "\"subscriptionState\":\"BLOCKED\"}]},"
+                + "\"applications\":{\"count\":0,\"list\":[]},"
+                + "\"removals\":[{\"entityType\":\"KEY_MAPPING\",\"applicationId\":5,"
+                + "\"consumerKey\":\"ck\",\"keyManager\":\"Resident Key Manager\"}]}";
+        SubscriptionChangeList changes = new Gson().fromJson(response, SubscriptionChangeList.class);
+
+        Assert.assertFalse(changes.isFullSyncRequired());
+        Assert.assertEquals(Long.valueOf(42), changes.getSequence());
+        Assert.assertEquals(1, changes.getSubscriptions().size());
+        Assert.assertEquals("5.3", changes.getSubscriptions().get(0).getCacheKey());
+        Assert.assertTrue(changes.getApplications().isEmpty());
+        Assert.assertTrue(changes.getApplicationKeyMappings().isEmpty());
+        Assert.assertEquals(SubscriptionChangeList.Removal.KEY_MAPPING,
+                changes.getRemovals().get(0).getEntityType());
+    }
+
+    @Test
+    public void testUnexpectedResponseRequiresFullSync() {
+        SubscriptionChangeList changes =
+                new Gson().fromJson("{\"code\":404,\"message\":\"Not Found\"}", SubscriptionChangeList.class);
+
+        Assert.assertTrue(changes.isFullSyncRequired());
+        Assert.assertTrue(changes.getSubscriptions().isEmpty());
+        Assert.assertTrue(changes.getRemovals().isEmpty());
+    }
+}
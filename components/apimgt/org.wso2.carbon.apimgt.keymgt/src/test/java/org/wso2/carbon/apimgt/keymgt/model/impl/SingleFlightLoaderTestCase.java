@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) 2026, WSO2 LLC. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.apimgt.keymgt.model.impl;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.wso2.carbon.apimgt.keymgt.model.exception.DataLoadingException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SingleFlightLoaderTestCase {
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        SingleFlightLoader<String, String> loader = new SingleFlightLoader<>("Test");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loadStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(executorService.submit(() -> loader.load("key", key -> {
+                    loads.incrementAndGet();
+                    loadStarted.countDown();
+                    Assert.assertTrue(release.await(10, TimeUnit.SECONDS));
+                    return "value";
+                })));
+            }
+            Assert.assertTrue(loadStarted.await(10, TimeUnit.SECONDS));
+            // give the other callers time to join the in-flight load
+            Thread.sleep(100);
+            release.countDown();
+            for (Future<String> result : results) {
+                Assert.assertEquals("value", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(8, loader.getMissCount());
+        Assert.assertEquals(1, loader.getLoadCount());
+    }
+
+    @Test
+    public void testUnknownKeysAreNegativelyCached() throws Exception {
+        SingleFlightLoader<Integer, String> loader = new SingleFlightLoader<>("Test", 60000, 100);
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlightLoader.Loader<Integer, String> notFound = key -> {
+            loads.incrementAndGet();
+            return null;
+        };
+        Assert.assertNull(loader.load(1, notFound));
+        Assert.assertNull(loader.load(1, notFound));
+        Assert.assertEquals(1, loads.get());
+        Assert.assertEquals(1, loader.getNegativeHitCount());
+
+        loader.invalidate(1);
+        Assert.assertEquals("app", loader.load(1, key -> "app"));
+        Assert.assertEquals(0, loader.getNegativeCacheSize());
+    }
+
+    @Test
+    public void testLoadFailuresAreNotCached() {
+        SingleFlightLoader<Integer, String> loader = new SingleFlightLoader<>("Test");
+        try {
+            loader.load(1, key -> {
+                throw new DataLoadingException("Internal API is not available");
+            });
+            Assert.fail("Expected the load to fail");
+        } catch (DataLoadingException e) {
+            Assert.assertEquals("Internal API is not available", e.getMessage());
+        }
+        Assert.assertEquals(1, loader.getLoadFailureCount());
+        Assert.assertEquals(0, loader.getNegativeCacheSize());
+    }
+}
@@ -1838,4 +1838,24 @@ CREATE TABLE IF NOT EXISTS AM_API_CATEGORIES (
   UNIQUE (NAME,TENANT_ID),
   PRIMARY KEY (UUID)
 );
+
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGE_LOG (
+    CHANGE_ID BIGINT AUTO_INCREMENT,
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    ENTITY_TYPE VARCHAR(20) NOT NULL,
+    APPLICATION_ID INTEGER,
+    API_ID INTEGER,
+    CONSUMER_KEY VARCHAR(512),
+    KEY_MANAGER VARCHAR(100),
+    CHANGE_TIME TIMESTAMP NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+);
+CREATE INDEX IDX_ASCL_ORG_CID ON AM_SUBSCRIPTION_CHANGE_LOG (ORGANIZATION, CHANGE_ID);
+
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGE_STATE (
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    LAST_CHANGE_TIME TIMESTAMP NOT NULL,
+    PURGED_CHANGE_ID BIGINT NOT NULL,
+    PRIMARY KEY (ORGANIZATION)
+);
 -- End of API-MGT Tables --
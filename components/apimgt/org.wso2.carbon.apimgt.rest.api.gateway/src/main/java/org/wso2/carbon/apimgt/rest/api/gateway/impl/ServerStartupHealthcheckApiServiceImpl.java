@@ -19,10 +19,13 @@
 package org.wso2.carbon.apimgt.rest.api.gateway.impl;
 
 import org.apache.cxf.jaxrs.ext.MessageContext;
+import org.wso2.carbon.apimgt.gateway.dto.APIDeploymentProgress;
 import org.wso2.carbon.apimgt.gateway.internal.DataHolder;
 import org.wso2.carbon.apimgt.gateway.utils.GatewayUtils;
 import org.wso2.carbon.apimgt.rest.api.gateway.ServerStartupHealthcheckApiService;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.ws.rs.core.Response;
 
 
@@ -34,6 +37,16 @@ public class ServerStartupHealthcheckApiServiceImpl implements ServerStartupHeal
         if (GatewayUtils.isTenantsProvisioned() && isAllApisDeployed && isAllGatewayPoliciesDeployed) {
             return Response.status(Response.Status.OK).build();
         }
-        return Response.status(Response.Status.INTERNAL_SERVER_ERROR).build();
+        // report the progress of deploying the APIs of each tenant while they are being deployed
+        Map<String, Map<String, Integer>> deploymentProgress = new LinkedHashMap<>();
+        for (Map.Entry<String, APIDeploymentProgress> entry :
+                DataHolder.getInstance().getTenantAPIDeploymentProgress().entrySet()) {
+            Map<String, Integer> progress = new LinkedHashMap<>();
+            progress.put("total", entry.getValue().getTotalAPIs());
+            progress.put("deployed", entry.getValue().getDeployedAPIs());
+            progress.put("failed", entry.getValue().getFailedAPIs());
+            deploymentProgress.put(entry.getKey(), progress);
+        }
+        return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity(deploymentProgress).build();
     }
 }
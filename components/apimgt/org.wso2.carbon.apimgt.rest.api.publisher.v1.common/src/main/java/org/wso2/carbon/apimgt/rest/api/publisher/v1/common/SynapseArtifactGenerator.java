@@ -250,6 +250,12 @@ public class SynapseArtifactGenerator implements GatewayArtifactGenerator {
         return null;
     }
 
+    @Override
+    public boolean isChunkedGenerationSupported() {
+
+        return true;
+    }
+
     @Override
     public String getType() {
 
@@ -22,7 +22,6 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.gson.Gson;
 import org.apache.axiom.util.UIDGenerator;
-import org.apache.commons.codec.binary.Base64;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.json.simple.JSONObject;
@@ -30,6 +29,7 @@ import org.wso2.carbon.apimgt.eventing.EventPublisherEvent;
 import org.wso2.carbon.apimgt.eventing.EventPublisherType;
 import org.wso2.carbon.apimgt.impl.APIConstants;
 import org.wso2.carbon.apimgt.impl.dto.EventHubConfigurationDto;
+import org.wso2.carbon.apimgt.impl.notifier.NotificationEventBatch;
 import org.wso2.carbon.apimgt.impl.notifier.events.APIPolicyEvent;
 import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationPolicyEvent;
 import org.wso2.carbon.apimgt.impl.notifier.events.ApplicationPolicyResetEvent;
@@ -45,7 +45,6 @@ import org.wso2.carbon.apimgt.throttle.policy.deployer.dto.SubscriptionPolicy;
 import org.wso2.carbon.apimgt.throttle.policy.deployer.exception.ThrottlePolicyDeployerException;
 import org.wso2.carbon.apimgt.throttle.policy.deployer.internal.ServiceReferenceHolder;
 
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -103,8 +102,11 @@ public class ThrottlePolicyJMSMessageListener implements MessageListener {
                             if (log.isDebugEnabled()) {
                                 log.debug("Event received from the topic of " + jmsDestination.getTopicName());
                             }
-                            handleNotificationMessage(payloadData.get(APIConstants.EVENT_TYPE).asText(),
-                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText());
+                            NotificationEventBatch.forEachEvent(payloadData.get(APIConstants.EVENT_TYPE).asText(),
+                                    payloadData.path(APIConstants.EVENT_TIMESTAMP).asLong(),
+                                    payloadData.get(APIConstants.EVENT_PAYLOAD).asText(),
+                                    (eventType, timestamp, eventJson) -> handleNotificationMessage(eventType,
+                                            eventJson));
                         }
                     }
                 } else {
@@ -120,10 +122,7 @@ public class ThrottlePolicyJMSMessageListener implements MessageListener {
         }
     }
 
-    private void handleNotificationMessage(String eventType, String encodedEvent) {
-
-        byte[] eventDecoded = Base64.decodeBase64(encodedEvent);
-        String eventJson = new String(eventDecoded, StandardCharsets.UTF_8);
+    private void handleNotificationMessage(String eventType, String eventJson) {
 
         if (APIConstants.EventType.POLICY_CREATE.toString().equals(eventType)
                 || APIConstants.EventType.POLICY_UPDATE.toString().equals(eventType)
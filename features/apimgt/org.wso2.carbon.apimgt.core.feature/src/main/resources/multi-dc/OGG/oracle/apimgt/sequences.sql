@@ -1243,3 +1243,14 @@ CREATE OR REPLACE TRIGGER AM_LLM_PROVIDER_MODEL_TRIGGER
 /
 CREATE SEQUENCE AM_GW_INSTANCES_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
 /
+CREATE SEQUENCE AM_SUBSCRIPTION_CHANGE_LOG_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
+/
+CREATE OR REPLACE TRIGGER AM_SUBSCRIPTION_CHANGE_LOG_TRG
+		            BEFORE INSERT
+                    ON AM_SUBSCRIPTION_CHANGE_LOG
+                    REFERENCING NEW AS NEW
+                    FOR EACH ROW
+                    BEGIN
+                    SELECT AM_SUBSCRIPTION_CHANGE_LOG_SEQ.nextval INTO :NEW.CHANGE_ID FROM dual;
+                    END;
+/
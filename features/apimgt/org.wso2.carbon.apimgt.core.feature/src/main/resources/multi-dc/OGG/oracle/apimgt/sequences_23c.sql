@@ -1242,3 +1242,14 @@ CREATE OR REPLACE TRIGGER AM_LLM_PROVIDER_MODEL_seq_tr
 /
 CREATE SEQUENCE AM_GW_INSTANCES_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
 /
+CREATE SEQUENCE AM_SUBSCRIPTION_CHANGE_LOG_seq START WITH 1 INCREMENT BY 1 NOCACHE
+/
+CREATE OR REPLACE TRIGGER AM_SUBSCRIPTION_CHANGE_LOG_seq_tr
+                    BEFORE INSERT
+                    ON AM_SUBSCRIPTION_CHANGE_LOG
+                    FOR EACH ROW
+                    WHEN (NEW.CHANGE_ID IS NULL)
+                    BEGIN
+                    SELECT AM_SUBSCRIPTION_CHANGE_LOG_seq.NEXTVAL INTO :NEW.CHANGE_ID FROM DUAL;
+                    END;
+/
@@ -2483,6 +2483,27 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 )
 /
+CREATE TABLE AM_SUBSCRIPTION_CHANGE_LOG (
+    CHANGE_ID NUMBER(19),
+    ORGANIZATION VARCHAR2(100) NOT NULL,
+    ENTITY_TYPE VARCHAR2(20) NOT NULL,
+    APPLICATION_ID INTEGER,
+    API_ID INTEGER,
+    CONSUMER_KEY VARCHAR2(512),
+    KEY_MANAGER VARCHAR2(100),
+    CHANGE_TIME TIMESTAMP NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+)
+/
+CREATE INDEX IDX_ASCL_ORG_CID ON AM_SUBSCRIPTION_CHANGE_LOG (ORGANIZATION, CHANGE_ID)
+/
+CREATE TABLE AM_SUBSCRIPTION_CHANGE_STATE (
+    ORGANIZATION VARCHAR2(100) NOT NULL,
+    LAST_CHANGE_TIME TIMESTAMP NOT NULL,
+    PURGED_CHANGE_ID NUMBER(19) NOT NULL,
+    PRIMARY KEY (ORGANIZATION)
+)
+/
 CREATE TABLE AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,
@@ -3047,6 +3047,30 @@ CREATE TABLE IF NOT EXISTS AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 );
 
+DROP TABLE IF EXISTS AM_SUBSCRIPTION_CHANGE_LOG;
+DROP SEQUENCE IF EXISTS AM_SUBSCRIPTION_CHANGE_LOG_PK_SEQ;
+CREATE SEQUENCE AM_SUBSCRIPTION_CHANGE_LOG_PK_SEQ START 1 INCREMENT 1;
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGE_LOG (
+    CHANGE_ID BIGINT DEFAULT NEXTVAL('AM_SUBSCRIPTION_CHANGE_LOG_PK_SEQ'),
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    ENTITY_TYPE VARCHAR(20) NOT NULL,
+    APPLICATION_ID INTEGER,
+    API_ID INTEGER,
+    CONSUMER_KEY VARCHAR(512),
+    KEY_MANAGER VARCHAR(100),
+    CHANGE_TIME TIMESTAMP NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+);
+CREATE INDEX IDX_ASCL_ORG_CID ON AM_SUBSCRIPTION_CHANGE_LOG (ORGANIZATION, CHANGE_ID);
+
+DROP TABLE IF EXISTS AM_SUBSCRIPTION_CHANGE_STATE;
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGE_STATE (
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    LAST_CHANGE_TIME TIMESTAMP NOT NULL,
+    PURGED_CHANGE_ID BIGINT NOT NULL,
+    PRIMARY KEY (ORGANIZATION)
+);
+
 DROP TABLE IF EXISTS AM_LABEL;
 CREATE TABLE IF NOT EXISTS AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
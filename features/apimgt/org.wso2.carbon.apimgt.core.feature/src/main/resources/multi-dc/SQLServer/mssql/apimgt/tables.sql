@@ -2922,6 +2922,26 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
     RECORDED_TIME DATETIME NOT NULL,
     PRIMARY KEY (ID)
 );
+IF NOT EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[AM_SUBSCRIPTION_CHANGE_LOG]') AND TYPE IN (N'U'))
+CREATE TABLE AM_SUBSCRIPTION_CHANGE_LOG (
+    CHANGE_ID BIGINT IDENTITY(1,1),
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    ENTITY_TYPE VARCHAR(20) NOT NULL,
+    APPLICATION_ID INTEGER,
+    API_ID INTEGER,
+    CONSUMER_KEY VARCHAR(512),
+    KEY_MANAGER VARCHAR(100),
+    CHANGE_TIME DATETIME NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+);
+CREATE INDEX IDX_ASCL_ORG_CID ON AM_SUBSCRIPTION_CHANGE_LOG (ORGANIZATION, CHANGE_ID);
+IF NOT EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[AM_SUBSCRIPTION_CHANGE_STATE]') AND TYPE IN (N'U'))
+CREATE TABLE AM_SUBSCRIPTION_CHANGE_STATE (
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    LAST_CHANGE_TIME DATETIME NOT NULL,
+    PURGED_CHANGE_ID BIGINT NOT NULL,
+    PRIMARY KEY (ORGANIZATION)
+);
 IF NOT  EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'[DBO].[AM_LABEL]') AND TYPE IN (N'U'))
 CREATE TABLE AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
@@ -3431,6 +3431,41 @@ CREATE TABLE AM_TRANSACTION_RECORDS (
 )
 /
 
+CREATE TABLE AM_SUBSCRIPTION_CHANGE_LOG (
+    CHANGE_ID BIGINT NOT NULL,
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    ENTITY_TYPE VARCHAR(20) NOT NULL,
+    APPLICATION_ID INTEGER,
+    API_ID INTEGER,
+    CONSUMER_KEY VARCHAR(512),
+    KEY_MANAGER VARCHAR(100),
+    CHANGE_TIME TIMESTAMP NOT NULL,
+    PRIMARY KEY (CHANGE_ID)
+)
+/
+CREATE SEQUENCE AM_SUBSCRIPTION_CHANGE_LOG_SEQ START WITH 1 INCREMENT BY 1 NOCACHE
+/
+CREATE TRIGGER AM_SUBSCRIPTION_CHANGE_LOG_TRG NO CASCADE BEFORE INSERT ON AM_SUBSCRIPTION_CHANGE_LOG
+REFERENCING NEW AS NEW FOR EACH ROW MODE DB2SQL
+
+BEGIN ATOMIC
+
+    SET (NEW.CHANGE_ID)
+       = (NEXTVAL FOR AM_SUBSCRIPTION_CHANGE_LOG_SEQ);
+
+END
+/
+CREATE INDEX IDX_ASCL_ORG_CID ON AM_SUBSCRIPTION_CHANGE_LOG (ORGANIZATION, CHANGE_ID)
+/
+
+CREATE TABLE AM_SUBSCRIPTION_CHANGE_STATE (
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    LAST_CHANGE_TIME TIMESTAMP NOT NULL,
+    PURGED_CHANGE_ID BIGINT NOT NULL,
+    PRIMARY KEY (ORGANIZATION)
+)
+/
+
 CREATE TABLE AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,
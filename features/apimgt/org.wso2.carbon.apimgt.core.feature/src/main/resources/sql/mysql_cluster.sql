@@ -2805,6 +2805,26 @@ CREATE TABLE IF NOT EXISTS AM_TRANSACTION_RECORDS (
     PRIMARY KEY (ID)
 ) ENGINE=NDB;
 
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGE_LOG (
+    CHANGE_ID BIGINT NOT NULL AUTO_INCREMENT,
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    ENTITY_TYPE VARCHAR(20) NOT NULL,
+    APPLICATION_ID INTEGER,
+    API_ID INTEGER,
+    CONSUMER_KEY VARCHAR(512),
+    KEY_MANAGER VARCHAR(100),
+    CHANGE_TIME TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (CHANGE_ID),
+    INDEX IDX_ASCL_ORG_CID (ORGANIZATION, CHANGE_ID)
+) ENGINE=NDB;
+
+CREATE TABLE IF NOT EXISTS AM_SUBSCRIPTION_CHANGE_STATE (
+    ORGANIZATION VARCHAR(100) NOT NULL,
+    LAST_CHANGE_TIME TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PURGED_CHANGE_ID BIGINT NOT NULL,
+    PRIMARY KEY (ORGANIZATION)
+) ENGINE=NDB;
+
 CREATE TABLE IF NOT EXISTS AM_LABEL (
     UUID            VARCHAR(50)     NOT NULL,
     NAME            VARCHAR(255)    NOT NULL,